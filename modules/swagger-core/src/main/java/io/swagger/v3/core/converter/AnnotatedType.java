@@ -6,13 +6,8 @@ import io.swagger.v3.oas.models.media.Schema;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Objects;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 public class AnnotatedType {
     private Type type;
@@ -33,6 +28,8 @@ public class AnnotatedType {
 
     private Components components;
 
+    private AnnotatedTypeKey key;
+
     public AnnotatedType() {
     }
 
@@ -111,10 +108,12 @@ public class AnnotatedType {
 
     public void setSchemaProperty(boolean schemaProperty) {
         this.schemaProperty = schemaProperty;
+        key = null;
     }
 
     public AnnotatedType schemaProperty(boolean schemaProperty) {
         this.schemaProperty = schemaProperty;
+        key = null;
         return this;
     }
 
@@ -163,6 +162,7 @@ public class AnnotatedType {
 
     public void setCtxAnnotations(Annotation[] ctxAnnotations) {
         this.ctxAnnotations = ctxAnnotations == null ? null : Arrays.copyOf(ctxAnnotations, ctxAnnotations.length);
+        key = null;
     }
 
     public AnnotatedType ctxAnnotations(Annotation[] ctxAnnotations) {
@@ -189,6 +189,7 @@ public class AnnotatedType {
 
     public void setType(Type type) {
         this.type = type;
+        key = null;
     }
 
     public AnnotatedType type(Type type) {
@@ -202,10 +203,12 @@ public class AnnotatedType {
 
     public void setJsonViewAnnotation(JsonView jsonViewAnnotation) {
         this.jsonViewAnnotation = jsonViewAnnotation;
+        key = null;
     }
 
     public AnnotatedType jsonViewAnnotation(JsonView jsonViewAnnotation) {
         this.jsonViewAnnotation = jsonViewAnnotation;
+        key = null;
         return this;
     }
 
@@ -215,10 +218,12 @@ public class AnnotatedType {
 
     public void setIncludePropertiesWithoutJSONView(boolean includePropertiesWithoutJSONView) {
         this.includePropertiesWithoutJSONView = includePropertiesWithoutJSONView;
+        key = null;
     }
 
     public AnnotatedType includePropertiesWithoutJSONView(boolean includePropertiesWithoutJSONView) {
         this.includePropertiesWithoutJSONView = includePropertiesWithoutJSONView;
+        key = null;
         return this;
     }
 
@@ -234,6 +239,7 @@ public class AnnotatedType {
      */
     public void setPropertyName(String propertyName) {
         this.propertyName = propertyName;
+        key = null;
     }
 
     /**
@@ -241,6 +247,7 @@ public class AnnotatedType {
      */
     public AnnotatedType propertyName(String propertyName) {
         this.propertyName = propertyName;
+        key = null;
         return this;
     }
 
@@ -250,24 +257,28 @@ public class AnnotatedType {
 
     public void setSubtype(boolean isSubtype) {
         this.isSubtype = isSubtype;
+        key = null;
     }
 
     public AnnotatedType subtype(boolean isSubtype) {
         this.isSubtype = isSubtype;
+        key = null;
         return this;
     }
 
-    private List<Annotation> getProcessedAnnotations(Annotation[] annotations) {
-        if (annotations == null || annotations.length == 0) {
-            return new ArrayList<>();
+    /**
+     * Returns the immutable key identifying this type in the maps of the converter pipeline, computed once until a
+     * field compared by {@link #equals(Object)} changes.
+     *
+     * @since 2.2.43
+     */
+    public AnnotatedTypeKey key() {
+        AnnotatedTypeKey key = this.key;
+        if (key == null) {
+            key = new AnnotatedTypeKey(this, ctxAnnotations);
+            this.key = key;
         }
-        return Arrays.stream(annotations)
-                .filter(a -> {
-                    String pkg = a.annotationType().getPackage().getName();
-                    return !pkg.startsWith("java.") && !pkg.startsWith("jdk.") && !pkg.startsWith("sun.");
-                })
-                .sorted(Comparator.comparing(a -> a.annotationType().getName()))
-                .collect(Collectors.toList());
+        return key;
     }
 
     @Override
@@ -275,20 +286,11 @@ public class AnnotatedType {
         if (this == o) return true;
         if (!(o instanceof AnnotatedType)) return false;
         AnnotatedType that = (AnnotatedType) o;
-        List<Annotation> thisAnnotatinons = getProcessedAnnotations(this.ctxAnnotations);
-        List<Annotation> thatAnnotatinons = getProcessedAnnotations(that.ctxAnnotations);
-        return  includePropertiesWithoutJSONView == that.includePropertiesWithoutJSONView &&
-                schemaProperty == that.schemaProperty &&
-                isSubtype == that.isSubtype &&
-                Objects.equals(type, that.type) &&
-                Objects.equals(thisAnnotatinons, thatAnnotatinons) &&
-                Objects.equals(jsonViewAnnotation, that.jsonViewAnnotation) &&
-                (!schemaProperty || Objects.equals(propertyName, that.propertyName));
+        return key().equals(that.key());
     }
 
     @Override
     public int hashCode() {
-        List<Annotation> processedAnnotations = getProcessedAnnotations(this.ctxAnnotations);
-        return Objects.hash(type, jsonViewAnnotation, includePropertiesWithoutJSONView, processedAnnotations, schemaProperty, isSubtype, schemaProperty ? propertyName : null);
+        return key().hashCode();
     }
 }
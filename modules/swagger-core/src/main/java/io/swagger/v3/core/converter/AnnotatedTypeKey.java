@@ -0,0 +1,101 @@
+package io.swagger.v3.core.converter;
+
+import com.fasterxml.jackson.annotation.JsonView;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable identity of an {@link AnnotatedType}, holding the fields {@link AnnotatedType#equals(Object)} compares,
+ * with the context annotations normalized (JDK annotations removed, sorted by annotation type name) and the hash
+ * computed once.
+ *
+ * <p>Used as key of the maps and sets of types in the converter pipeline, so that lookups don't normalize the
+ * annotations of the type again.</p>
+ *
+ * @since 2.2.43
+ */
+public final class AnnotatedTypeKey {
+
+    private static final Comparator<Annotation> BY_TYPE_NAME = Comparator.comparing(a -> a.annotationType().getName());
+
+    private final Type type;
+    private final JsonView jsonViewAnnotation;
+    private final boolean includePropertiesWithoutJSONView;
+    private final List<Annotation> annotations;
+    private final boolean schemaProperty;
+    private final boolean subtype;
+    private final String propertyName;
+    private final int hash;
+
+    AnnotatedTypeKey(AnnotatedType source, Annotation[] ctxAnnotations) {
+        this.type = source.getType();
+        this.jsonViewAnnotation = source.getJsonViewAnnotation();
+        this.includePropertiesWithoutJSONView = source.isIncludePropertiesWithoutJSONView();
+        this.annotations = normalize(ctxAnnotations);
+        this.schemaProperty = source.isSchemaProperty();
+        this.subtype = source.isSubtype();
+        this.propertyName = schemaProperty ? source.getPropertyName() : null;
+        this.hash = Objects.hash(type, jsonViewAnnotation, includePropertiesWithoutJSONView, annotations, schemaProperty, subtype, propertyName);
+    }
+
+    /**
+     * @return the key of the given type, see {@link AnnotatedType#key()}
+     */
+    public static AnnotatedTypeKey of(AnnotatedType type) {
+        return type.key();
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the context annotations, without the JDK ones, sorted by annotation type name
+     */
+    public List<Annotation> getAnnotations() {
+        return annotations;
+    }
+
+    private static List<Annotation> normalize(Annotation[] annotations) {
+        if (annotations == null || annotations.length == 0) {
+            return Collections.emptyList();
+        }
+        List<Annotation> normalized = new ArrayList<>(annotations.length);
+        for (Annotation annotation : annotations) {
+            String name = annotation.annotationType().getName();
+            if (!name.startsWith("java.") && !name.startsWith("jdk.") && !name.startsWith("sun.")) {
+                normalized.add(annotation);
+            }
+        }
+        if (normalized.size() > 1) {
+            normalized.sort(BY_TYPE_NAME);
+        }
+        return Collections.unmodifiableList(normalized);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AnnotatedTypeKey)) return false;
+        AnnotatedTypeKey that = (AnnotatedTypeKey) o;
+        return hash == that.hash &&
+                includePropertiesWithoutJSONView == that.includePropertiesWithoutJSONView &&
+                schemaProperty == that.schemaProperty &&
+                subtype == that.subtype &&
+                Objects.equals(type, that.type) &&
+                Objects.equals(annotations, that.annotations) &&
+                Objects.equals(jsonViewAnnotation, that.jsonViewAnnotation) &&
+                Objects.equals(propertyName, that.propertyName);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
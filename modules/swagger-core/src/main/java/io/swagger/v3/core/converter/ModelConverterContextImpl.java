@@ -22,8 +22,8 @@ public class ModelConverterContextImpl implements ModelConverterContext {
 
     private final List<ModelConverter> converters;
     private final Map<String, Schema> modelByName;
-    private final HashMap<AnnotatedType, Schema> modelByType;
-    private final Set<AnnotatedType> processedTypes;
+    private final HashMap<AnnotatedTypeKey, Schema> modelByType;
+    private final Set<AnnotatedTypeKey> processedTypes;
 
     public ModelConverterContextImpl(List<ModelConverter> converters) {
         this.converters = converters;
@@ -64,7 +64,7 @@ public class ModelConverterContextImpl implements ModelConverterContext {
         }
 
         if (type != null && type.getType() != null) {
-            modelByType.put(type, model);
+            modelByType.put(type.key(), model);
         }
     }
 
@@ -81,10 +81,10 @@ public class ModelConverterContextImpl implements ModelConverterContext {
             return resolve(aType);
         }
 
-        if (processedTypes.contains(type)) {
-            return modelByType.get(type);
-        } else {
-            processedTypes.add(type);
+        SchemaResolutionScope.recordResolved(type);
+        AnnotatedTypeKey key = type.key();
+        if (!processedTypes.add(key)) {
+            return modelByType.get(key);
         }
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(String.format("resolve %s", type.getType()));
@@ -97,14 +97,14 @@ public class ModelConverterContextImpl implements ModelConverterContext {
             resolved = converter.resolve(type, this, converters);
         }
         if (resolved != null) {
-            modelByType.put(type, resolved);
+            modelByType.put(key, resolved);
 
             Schema resolvedImpl = resolved;
             if (resolvedImpl.getName() != null) {
                 modelByName.put(resolvedImpl.getName(), resolved);
             }
         } else {
-            processedTypes.remove(type);
+            processedTypes.remove(key);
         }
 
         return resolved;
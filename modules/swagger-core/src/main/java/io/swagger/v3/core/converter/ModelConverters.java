@@ -20,112 +20,227 @@ import java.util.Map.Entry;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
-
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Chain of {@link ModelConverter}s resolving types to schemas.
+ *
+ * <p>{@link #getInstance(boolean)} and its overloads return the chain {@link #bind() bound} to the current thread if
+ * its OpenAPI version matches, and otherwise a JVM wide chain created on first use. An OpenAPI context owns its own
+ * chain and binds it while reading, so that the converters it registers don't leak into other contexts.</p>
+ */
 public class ModelConverters {
-    private static ModelConverters SINGLETON = null;
-    private static ModelConverters SINGLETON31 = null;
+    private static final AtomicReference<ModelConverters> SINGLETON = new AtomicReference<>();
+    private static final AtomicReference<ModelConverters> SINGLETON31 = new AtomicReference<>();
+    private static final ThreadLocal<ModelConverters> CURRENT = new ThreadLocal<>();
     static Logger LOGGER = LoggerFactory.getLogger(ModelConverters.class);
     private final List<ModelConverter> converters;
-    private final Set<String> skippedPackages = new HashSet<>();
-    private final Set<String> skippedClasses = new HashSet<>();
+    private final Set<String> skippedPackages;
+    private final Set<String> skippedClasses;
+    private final boolean openapi31;
+    private final ModelConverter resolver;
+    private volatile int revision;
 
     public ModelConverters() {
-        converters = new CopyOnWriteArrayList<>();
-        converters.add(new ModelResolver(Json.mapper()));
+        this(false);
     }
 
     public ModelConverters(boolean openapi31) {
-        converters = new CopyOnWriteArrayList<>();
-        if (openapi31) {
-            converters.add(new ModelResolver(Json31.mapper()).openapi31(true));
-        } else {
-            converters.add(new ModelResolver(Json.mapper()));
-        }
+        this(openapi31, openapi31 ? new ModelResolver(Json31.mapper()).openapi31(true) : new ModelResolver(Json.mapper()));
     }
 
     public ModelConverters(boolean openapi31, Schema.SchemaResolution schemaResolution) {
-        converters = new CopyOnWriteArrayList<>();
-        if (openapi31) {
-            converters.add(new ModelResolver(Json31.mapper()).openapi31(true).schemaResolution(schemaResolution));
-        } else {
-            converters.add(new ModelResolver(Json.mapper()).schemaResolution(schemaResolution));
-        }
+        this(openapi31, openapi31 ?
+                new ModelResolver(Json31.mapper()).openapi31(true).schemaResolution(schemaResolution) :
+                new ModelResolver(Json.mapper()).schemaResolution(schemaResolution));
     }
 
     public ModelConverters(Configuration configuration) {
-        converters = new CopyOnWriteArrayList<>();
-        boolean openapi31 =configuration != null && configuration.isOpenAPI31() != null && configuration.isOpenAPI31();
-        if (openapi31) {
-            converters.add(new ModelResolver(Json31.mapper()).configuration(configuration));
-        } else {
-            converters.add(new ModelResolver(Json.mapper()).configuration(configuration));
+        this(configuration != null && Boolean.TRUE.equals(configuration.isOpenAPI31()),
+                configuration != null && Boolean.TRUE.equals(configuration.isOpenAPI31()) ?
+                        new ModelResolver(Json31.mapper()).configuration(configuration) :
+                        new ModelResolver(Json.mapper()).configuration(configuration));
+    }
+
+    private ModelConverters(boolean openapi31, ModelConverter resolver) {
+        this.converters = new CopyOnWriteArrayList<>();
+        this.converters.add(resolver);
+        this.skippedPackages = new HashSet<>();
+        this.skippedClasses = new HashSet<>();
+        this.openapi31 = openapi31;
+        this.resolver = resolver;
+    }
+
+    private ModelConverters(ModelConverters source, ModelConverter resolver) {
+        this.converters = new CopyOnWriteArrayList<>(source.converters);
+        int index = this.converters.indexOf(source.resolver);
+        if (index >= 0) {
+            this.converters.set(index, resolver);
         }
+        this.skippedPackages = new HashSet<>(source.skippedPackages);
+        this.skippedClasses = new HashSet<>(source.skippedClasses);
+        this.openapi31 = source.openapi31;
+        this.resolver = resolver;
     }
 
     public Set<String> getSkippedPackages() {
         return skippedPackages;
     }
 
-    public static ModelConverters getInstance(boolean openapi31) {
-        if (openapi31) {
-            if (SINGLETON31 == null) {
-                SINGLETON31 = new ModelConverters(openapi31);
-                init(SINGLETON31);
-            }
-            return SINGLETON31;
+    /**
+     * @return whether this chain resolves OpenAPI 3.1 schemas
+     * @since 2.2.43
+     */
+    public boolean isOpenAPI31() {
+        return openapi31;
+    }
+
+    /**
+     * Returns a new chain holding the converters and skipped packages and classes of this chain; converters added to
+     * or removed from either chain afterwards don't affect the other one.
+     *
+     * @return the copy of this chain
+     * @since 2.2.43
+     */
+    public ModelConverters copy() {
+        return new ModelConverters(this, resolver);
+    }
+
+    /**
+     * Returns a copy of this chain, as {@link #copy()}, whose {@link ModelResolver} created along with this chain is
+     * replaced by one resolving with the given configuration, as {@link #ModelConverters(Configuration)} creates it.
+     * Converters added to this chain are kept.
+     *
+     * @param configuration the configuration of the resolver, e.g. its groups validation strategy
+     * @return the copy of this chain
+     * @since 2.2.43
+     */
+    public ModelConverters copy(Configuration configuration) {
+        if (openapi31 && !isSchemaResolutionApplied()) {
+            // on a copy, the configuration of the caller being possibly shared, e.g. by another context
+            configuration = copyOf(configuration).schemaResolution(Schema.SchemaResolution.DEFAULT);
         }
-        if (SINGLETON == null) {
-            SINGLETON = new ModelConverters(openapi31);
-            init(SINGLETON);
+        return new ModelConverters(this, openapi31 ?
+                new ModelResolver(Json31.mapper()).configuration(configuration) :
+                new ModelResolver(Json.mapper()).configuration(configuration));
+    }
+
+    private static Configuration copyOf(Configuration configuration) {
+        return new Configuration()
+                .userDefinedOptions(configuration.getUserDefinedOptions())
+                .openAPI(configuration.getOpenAPI())
+                .modelConverterClasses(configuration.getModelConverterClasses())
+                .objectMapperProcessorClass(configuration.getObjectMapperProcessorClass())
+                .openAPI31(configuration.isOpenAPI31())
+                .schemaResolution(configuration.getSchemaResolution())
+                .openAPIVersion(configuration.getOpenAPIVersion())
+                .groupsValidationStrategy(configuration.getGroupsValidationStrategy())
+                .validatorProcessorClass(configuration.getValidatorProcessorClass());
+    }
+
+    /**
+     * Binds this chain to the current thread, so that {@link #getInstance(boolean)} and its overloads return it for
+     * its OpenAPI version until the returned binding is closed; any previously bound chain is restored on close.
+     *
+     * <pre>
+     * try (ModelConverters.Binding binding = converters.bind()) {
+     *     ...
+     * }
+     * </pre>
+     *
+     * @return the binding, to close once done
+     * @since 2.2.43
+     */
+    public Binding bind() {
+        Binding binding = new Binding(CURRENT.get());
+        CURRENT.set(this);
+        return binding;
+    }
+
+    /**
+     * @return the chain bound to the current thread, or null if none
+     * @since 2.2.43
+     */
+    public static ModelConverters current() {
+        return CURRENT.get();
+    }
+
+    private static ModelConverters current(boolean openapi31) {
+        ModelConverters current = CURRENT.get();
+        return current != null && current.openapi31 == openapi31 ? current : null;
+    }
+
+    public static ModelConverters getInstance(boolean openapi31) {
+        ModelConverters current = current(openapi31);
+        if (current != null) {
+            return current;
         }
-        return SINGLETON;
+        AtomicReference<ModelConverters> singleton = openapi31 ? SINGLETON31 : SINGLETON;
+        ModelConverters instance = singleton.get();
+        return instance != null ? instance : initSingleton(singleton, () -> new ModelConverters(openapi31));
     }
 
     public static void reset() {
-        synchronized (ModelConverters.class) {
-            SINGLETON = null;
-            SINGLETON31 = null;
-        }
+        SINGLETON.set(null);
+        SINGLETON31.set(null);
     }
 
     public static ModelConverters getInstance(boolean openapi31, Schema.SchemaResolution schemaResolution) {
-        synchronized (ModelConverters.class) {
-            if (openapi31) {
-                if (SINGLETON31 == null) {
-                    boolean applySchemaResolution = Boolean.parseBoolean(System.getProperty(Schema.APPLY_SCHEMA_RESOLUTION_PROPERTY, "false")) || Boolean.parseBoolean(System.getenv(Schema.APPLY_SCHEMA_RESOLUTION_PROPERTY));
-                    SINGLETON31 = new ModelConverters(openapi31, applySchemaResolution ? schemaResolution : Schema.SchemaResolution.DEFAULT);
-                    init(SINGLETON31);
-                }
-                return SINGLETON31;
-            }
-            if (SINGLETON == null) {
-                SINGLETON = new ModelConverters(openapi31, schemaResolution);
-                init(SINGLETON);
-            }
-            return SINGLETON;
+        ModelConverters current = current(openapi31);
+        if (current != null) {
+            return current;
         }
+        if (openapi31) {
+            ModelConverters instance = SINGLETON31.get();
+            return instance != null ? instance : initSingleton(SINGLETON31, () -> {
+                boolean applySchemaResolution = isSchemaResolutionApplied();
+                return new ModelConverters(openapi31, applySchemaResolution ? schemaResolution : Schema.SchemaResolution.DEFAULT);
+            });
+        }
+        ModelConverters instance = SINGLETON.get();
+        return instance != null ? instance : initSingleton(SINGLETON, () -> new ModelConverters(openapi31, schemaResolution));
     }
 
     public static ModelConverters getInstance(Configuration configuration) {
-        synchronized (ModelConverters.class) {
-            boolean openapi31 = configuration != null && configuration.isOpenAPI31() != null && configuration.isOpenAPI31();
-            if (openapi31) {
-                if (SINGLETON31 == null) {
-                    boolean applySchemaResolution = Boolean.parseBoolean(System.getProperty(Schema.APPLY_SCHEMA_RESOLUTION_PROPERTY, "false")) || Boolean.parseBoolean(System.getenv(Schema.APPLY_SCHEMA_RESOLUTION_PROPERTY));
-                    if (!applySchemaResolution) {
-                        configuration.schemaResolution(Schema.SchemaResolution.DEFAULT);
-                    }
-                    SINGLETON31 = new ModelConverters(configuration);
-                    init(SINGLETON31);
+        boolean openapi31 = configuration != null && configuration.isOpenAPI31() != null && configuration.isOpenAPI31();
+        ModelConverters current = current(openapi31);
+        if (current != null) {
+            return current;
+        }
+        if (openapi31) {
+            ModelConverters instance = SINGLETON31.get();
+            return instance != null ? instance : initSingleton(SINGLETON31, () -> {
+                boolean applySchemaResolution = isSchemaResolutionApplied();
+                if (!applySchemaResolution) {
+                    configuration.schemaResolution(Schema.SchemaResolution.DEFAULT);
                 }
-                return SINGLETON31;
-            }
-            if (SINGLETON == null) {
-                SINGLETON = new ModelConverters(configuration);
-                init(SINGLETON);
-            }
-            return SINGLETON;
+                return new ModelConverters(configuration);
+            });
         }
+        ModelConverters instance = SINGLETON.get();
+        return instance != null ? instance : initSingleton(SINGLETON, () -> new ModelConverters(configuration));
+    }
+
+    private static boolean isSchemaResolutionApplied() {
+        return Boolean.parseBoolean(System.getProperty(Schema.APPLY_SCHEMA_RESOLUTION_PROPERTY, "false")) || Boolean.parseBoolean(System.getenv(Schema.APPLY_SCHEMA_RESOLUTION_PROPERTY));
+    }
+
+    /**
+     * Sets the singleton if still unset, without locking: a thread losing the race discards the chain it created and
+     * returns the one of the winner.
+     */
+    private static ModelConverters initSingleton(AtomicReference<ModelConverters> singleton, Supplier<ModelConverters> factory) {
+        ModelConverters instance;
+        do {
+            instance = singleton.get();
+            if (instance != null) {
+                return instance;
+            }
+            instance = factory.get();
+            init(instance);
+        } while (!singleton.compareAndSet(null, instance));
+        return instance;
     }
 
     private static void init(ModelConverters converter) {
@@ -152,10 +267,19 @@ public class ModelConverters {
 
     public void addConverter(ModelConverter converter) {
         converters.add(0, converter);
+        revision++;
     }
 
     public void removeConverter(ModelConverter converter) {
         converters.remove(converter);
+        revision++;
+    }
+
+    /**
+     * @return a counter incremented on each change of the converter chain
+     */
+    int getRevision() {
+        return revision;
     }
 
     public List<ModelConverter> getConverters() {
@@ -218,6 +342,14 @@ public class ModelConverters {
     }
 
     public ResolvedSchema resolveAsResolvedSchema(AnnotatedType type) {
+        SchemaResolutionScope scope = SchemaResolutionScope.current();
+        if (scope != null) {
+            return scope.resolve(this, type, openapi31, this::doResolveAsResolvedSchema);
+        }
+        return doResolveAsResolvedSchema(type);
+    }
+
+    private ResolvedSchema doResolveAsResolvedSchema(AnnotatedType type) {
         ModelConverterContextImpl context = new ModelConverterContextImpl(
                 converters);
 
@@ -245,4 +377,32 @@ public class ModelConverters {
         }
         return !skippedClasses.contains(className);
     }
+
+    /**
+     * Binding of a chain to the current thread, see {@link #bind()}.
+     *
+     * @since 2.2.43
+     */
+    public static final class Binding implements AutoCloseable {
+        private ModelConverters previous;
+        private boolean open = true;
+
+        private Binding(ModelConverters previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (!open) {
+                return;
+            }
+            open = false;
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+            previous = null;
+        }
+    }
 }
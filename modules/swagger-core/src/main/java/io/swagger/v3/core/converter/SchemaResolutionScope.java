@@ -0,0 +1,320 @@
+package io.swagger.v3.core.converter;
+
+import com.fasterxml.jackson.databind.JavaType;
+import io.swagger.v3.core.util.AnnotationsUtils;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Memoizes {@link ResolvedSchema} instances produced by {@link ModelConverters#resolveAsResolvedSchema(AnnotatedType)}
+ * while the scope is bound to the current thread, so that a type used by many operations is introspected once per
+ * scan pass.
+ *
+ * <p>A scope is typically opened by a reader at the beginning of a scan and closed at its end:</p>
+ *
+ * <pre>
+ * SchemaResolutionScope scope = SchemaResolutionScope.open();
+ * try {
+ *     ...
+ * } finally {
+ *     scope.close();
+ * }
+ * </pre>
+ *
+ * <p>An open scope can also be {@link #join() joined} by other threads, e.g. the threads of a parallel scan, sharing
+ * its cache; a binding records the classes of the types resolved while it is open, cache hits included.</p>
+ *
+ * <p>Only top level resolutions (no parent schema, no unwrapped handler) are cached, keyed by type and resolution
+ * settings, so that readers with their own components share the cache. Cache hits return a copy of the resolved
+ * schema, while referenced schemas are shared as they are meant to be added to components; the schemas added to the
+ * {@link AnnotatedType#getComponents() components} of the type while resolving it are added to the components of the
+ * types hitting the cache as well, unless already defined.</p>
+ *
+ * @since 2.2.43
+ */
+public class SchemaResolutionScope implements AutoCloseable {
+
+    private static final ThreadLocal<SchemaResolutionScope> CURRENT = new ThreadLocal<>();
+    // classes of the types resolved on the current thread, if recorded
+    private static final ThreadLocal<Set<Class<?>>> RESOLVED_CLASSES = new ThreadLocal<>();
+
+    private final Map<Key, Entry> resolved = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private SchemaResolutionScope previous;
+    private boolean open;
+
+    /**
+     * Creates a new scope and binds it to the current thread; any previously bound scope is restored on {@link #close()}.
+     *
+     * @return the new scope
+     */
+    public static SchemaResolutionScope open() {
+        SchemaResolutionScope scope = new SchemaResolutionScope();
+        scope.previous = CURRENT.get();
+        scope.open = true;
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * @return the scope bound to the current thread, or null if none
+     */
+    public static SchemaResolutionScope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds this scope to the current thread as well, so that the thread shares its cache, until the returned binding
+     * is closed; any previously bound scope is restored on close. The scope itself stays bound to the thread which
+     * opened it. The binding records the classes of the types resolved meanwhile, see
+     * {@link Binding#getResolvedClasses()}.
+     *
+     * <pre>
+     * try (SchemaResolutionScope.Binding binding = scope.join()) {
+     *     ...
+     * }
+     * </pre>
+     *
+     * @return the binding, to close once done
+     */
+    public Binding join() {
+        Binding binding = new Binding(CURRENT.get());
+        CURRENT.set(this);
+        return binding;
+    }
+
+    @Override
+    public void close() {
+        if (!open) {
+            return;
+        }
+        open = false;
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+        previous = null;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        return resolved.size();
+    }
+
+    ResolvedSchema resolve(ModelConverters converters, AnnotatedType type, boolean openapi31, Function<AnnotatedType, ResolvedSchema> resolver) {
+        if (!isCacheable(type)) {
+            return resolver.apply(type);
+        }
+        Key key = new Key(converters, type);
+        Set<Class<?>> recording = RESOLVED_CLASSES.get();
+        Entry cached = resolved.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            if (recording != null) {
+                recording.addAll(cached.classes);
+            }
+            Components components = type.getComponents();
+            if (components != null) {
+                cached.componentSchemas.forEach((name, schema) -> {
+                    if (components.getSchemas() == null || !components.getSchemas().containsKey(name)) {
+                        components.addSchemas(name, schema);
+                    }
+                });
+            }
+            ResolvedSchema copy = new ResolvedSchema();
+            copy.schema = cached.schema.schema == null ? null : AnnotationsUtils.clone(cached.schema.schema, openapi31);
+            copy.referencedSchemas = cached.schema.referencedSchemas;
+            return copy;
+        }
+        misses.incrementAndGet();
+        // the classes resolved are kept along with the schema, so that cache hits record them as well
+        Set<Class<?>> classes = new HashSet<>();
+        RESOLVED_CLASSES.set(classes);
+        // so are the schemas added to the components meanwhile, resolution only adding to them
+        Components components = type.getComponents();
+        Map<String, Schema> componentSchemasBefore = components == null || components.getSchemas() == null ?
+                Collections.emptyMap() : new HashMap<>(components.getSchemas());
+        ResolvedSchema resolvedSchema;
+        try {
+            resolvedSchema = resolver.apply(type);
+        } finally {
+            if (recording != null) {
+                RESOLVED_CLASSES.set(recording);
+                recording.addAll(classes);
+            } else {
+                RESOLVED_CLASSES.remove();
+            }
+        }
+        if (resolvedSchema != null) {
+            ResolvedSchema entry = new ResolvedSchema();
+            entry.schema = resolvedSchema.schema == null ? null : AnnotationsUtils.clone(resolvedSchema.schema, openapi31);
+            entry.referencedSchemas = resolvedSchema.referencedSchemas;
+            Map<String, Schema> componentSchemas = new LinkedHashMap<>();
+            if (components != null && components.getSchemas() != null) {
+                components.getSchemas().forEach((name, schema) -> {
+                    if (componentSchemasBefore.get(name) != schema) {
+                        componentSchemas.put(name, schema);
+                    }
+                });
+            }
+            resolved.put(key, new Entry(entry, classes, componentSchemas));
+        }
+        return resolvedSchema;
+    }
+
+    /**
+     * Records the class of the given type as resolved by the current thread, if recorded.
+     */
+    static void recordResolved(AnnotatedType type) {
+        Set<Class<?>> recording = RESOLVED_CLASSES.get();
+        if (recording == null) {
+            return;
+        }
+        Type resolvedType = type.getType();
+        if (resolvedType instanceof JavaType) {
+            recording.add(((JavaType) resolvedType).getRawClass());
+        } else if (resolvedType instanceof Class) {
+            recording.add((Class<?>) resolvedType);
+        } else if (resolvedType instanceof ParameterizedType && ((ParameterizedType) resolvedType).getRawType() instanceof Class) {
+            recording.add((Class<?>) ((ParameterizedType) resolvedType).getRawType());
+        }
+    }
+
+    private static boolean isCacheable(AnnotatedType type) {
+        return type != null &&
+                type.getType() != null &&
+                type.getParent() == null &&
+                type.getJsonUnwrappedHandler() == null;
+    }
+
+    /**
+     * Binding of a scope to a thread joining it, see {@link #join()}.
+     */
+    public static final class Binding implements AutoCloseable {
+        private SchemaResolutionScope previous;
+        private final Set<Class<?>> previousResolvedClasses;
+        private final Set<Class<?>> resolvedClasses = new HashSet<>();
+        private boolean open = true;
+
+        private Binding(SchemaResolutionScope previous) {
+            this.previous = previous;
+            this.previousResolvedClasses = RESOLVED_CLASSES.get();
+            RESOLVED_CLASSES.set(resolvedClasses);
+        }
+
+        /**
+         * @return the classes of the types resolved on the thread while bound, e.g. the models of the operations read
+         */
+        public Set<Class<?>> getResolvedClasses() {
+            return Collections.unmodifiableSet(resolvedClasses);
+        }
+
+        @Override
+        public void close() {
+            if (!open) {
+                return;
+            }
+            open = false;
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+            previous = null;
+            if (previousResolvedClasses != null) {
+                RESOLVED_CLASSES.set(previousResolvedClasses);
+                previousResolvedClasses.addAll(resolvedClasses);
+            } else {
+                RESOLVED_CLASSES.remove();
+            }
+        }
+    }
+
+    private static final class Entry {
+        final ResolvedSchema schema;
+        final Set<Class<?>> classes;
+        final Map<String, Schema> componentSchemas;
+
+        Entry(ResolvedSchema schema, Set<Class<?>> classes, Map<String, Schema> componentSchemas) {
+            this.schema = schema;
+            this.classes = classes;
+            this.componentSchemas = componentSchemas;
+        }
+    }
+
+    private static final class Key {
+        private final ModelConverters converters;
+        private final int revision;
+        private final AnnotatedTypeKey type;
+        private final Annotation[] ctxAnnotations;
+        private final String name;
+        private final boolean resolveAsRef;
+        private final boolean resolveEnumAsRef;
+        private final boolean skipOverride;
+        private final boolean skipSchemaName;
+        private final boolean skipJsonIdentity;
+        private final int hash;
+
+        Key(ModelConverters converters, AnnotatedType source) {
+            this.converters = converters;
+            this.revision = converters.getRevision();
+            this.type = source.key();
+            this.ctxAnnotations = source.getCtxAnnotations();
+            this.name = source.getName();
+            this.resolveAsRef = source.isResolveAsRef();
+            this.resolveEnumAsRef = source.isResolveEnumAsRef();
+            this.skipOverride = source.isSkipOverride();
+            this.skipSchemaName = source.isSkipSchemaName();
+            this.skipJsonIdentity = source.isSkipJsonIdentity();
+            this.hash = Objects.hash(System.identityHashCode(converters), revision, type, name,
+                    resolveAsRef, resolveEnumAsRef, skipOverride, skipSchemaName, skipJsonIdentity);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key that = (Key) o;
+            return converters == that.converters &&
+                    revision == that.revision &&
+                    resolveAsRef == that.resolveAsRef &&
+                    resolveEnumAsRef == that.resolveEnumAsRef &&
+                    skipOverride == that.skipOverride &&
+                    skipSchemaName == that.skipSchemaName &&
+                    skipJsonIdentity == that.skipJsonIdentity &&
+                    Objects.equals(name, that.name) &&
+                    type.equals(that.type) &&
+                    Arrays.equals(ctxAnnotations, that.ctxAnnotations);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -78,4 +78,15 @@ public interface OpenAPISpecFilter {
     default boolean isOpenAPI31Filter() {
         return false;
     }
+
+    /**
+     * Declares the request inputs (headers, query parameters and cookies) the output of this filter depends on, so
+     * that the filtered document can be cached per distinct value of these inputs.
+     *
+     * @return the inputs the filter depends on, or null if the output may depend on any input (no caching)
+     * @since 2.2.43
+     */
+    default SpecFilterInputs getRequestInputs() {
+        return null;
+    }
 }
@@ -0,0 +1,121 @@
+package io.swagger.v3.core.filter;
+
+import io.swagger.v3.core.util.RefUtils;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Reference graph of component schemas, used to compute the schemas reachable from a set of references in time
+ * linear in the size of the reachable schemas.
+ *
+ * <p>Schema names are interned to integer ids; the outgoing edges of a schema are resolved once, the first time the
+ * schema is reached, and stored as an array of ids. Reachability is computed with a worklist over a {@link BitSet}.</p>
+ *
+ * @since 2.2.43
+ */
+final class SchemaReferenceGraph {
+
+    private static final int[] NO_EDGES = new int[0];
+
+    private final Map<String, Integer> ids;
+    private final Schema[] schemas;
+    private final int[][] edges;
+    private final Map<String, Integer> refIds = new HashMap<>();
+    private final BiConsumer<Schema, Set<String>> refCollector;
+
+    /**
+     * @param schemas      the component schemas by name
+     * @param refCollector collects the references of a schema, not following them
+     */
+    SchemaReferenceGraph(Map<String, Schema> schemas, BiConsumer<Schema, Set<String>> refCollector) {
+        this.ids = new HashMap<>(schemas.size() * 2);
+        this.schemas = new Schema[schemas.size()];
+        this.edges = new int[schemas.size()][];
+        this.refCollector = refCollector;
+        int id = 0;
+        for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+            ids.put(entry.getKey(), id);
+            this.schemas[id] = entry.getValue();
+            id++;
+        }
+    }
+
+    /**
+     * @param name a schema name
+     * @return the id of the schema, or -1 if there is no schema with this name
+     */
+    int idOf(String name) {
+        Integer id = ids.get(name);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Computes the schemas reachable from the given references, including the referenced schemas themselves.
+     *
+     * @param refs references as found in the document, e.g. "#/components/schemas/Pet"
+     * @return the ids of the reachable schemas
+     */
+    BitSet reachableFrom(Collection<String> refs) {
+        BitSet reachable = new BitSet(schemas.length);
+        int[] worklist = new int[schemas.length];
+        int size = 0;
+        for (String ref : refs) {
+            int id = refId(ref);
+            if (id >= 0 && !reachable.get(id)) {
+                reachable.set(id);
+                worklist[size++] = id;
+            }
+        }
+        while (size > 0) {
+            int id = worklist[--size];
+            for (int target : edges(id)) {
+                if (!reachable.get(target)) {
+                    reachable.set(target);
+                    worklist[size++] = target;
+                }
+            }
+        }
+        return reachable;
+    }
+
+    private int[] edges(int id) {
+        int[] targets = edges[id];
+        if (targets == null) {
+            Schema schema = schemas[id];
+            if (schema == null) {
+                targets = NO_EDGES;
+            } else {
+                Set<String> refs = new LinkedHashSet<>();
+                refCollector.accept(schema, refs);
+                int[] resolved = new int[refs.size()];
+                int count = 0;
+                for (String ref : refs) {
+                    int target = refId(ref);
+                    if (target >= 0) {
+                        resolved[count++] = target;
+                    }
+                }
+                targets = count == resolved.length ? resolved : Arrays.copyOf(resolved, count);
+            }
+            edges[id] = targets;
+        }
+        return targets;
+    }
+
+    private int refId(String ref) {
+        Integer id = refIds.get(ref);
+        if (id == null) {
+            id = idOf((String) RefUtils.extractSimpleName(ref).getLeft());
+            refIds.put(ref, id);
+        }
+        return id;
+    }
+}
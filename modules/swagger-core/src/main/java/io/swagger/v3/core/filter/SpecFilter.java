@@ -1,9 +1,8 @@
 package io.swagger.v3.core.filter;
 
 import io.swagger.v3.core.model.ApiDescription;
-import io.swagger.v3.core.util.Json;
-import io.swagger.v3.core.util.Json31;
 import io.swagger.v3.core.util.RefUtils;
+import io.swagger.v3.core.util.SchemaCloner;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -22,8 +21,8 @@ import io.swagger.v3.oas.models.responses.ApiResponses;
 import io.swagger.v3.oas.models.tags.Tag;
 import org.apache.commons.lang3.StringUtils;
 
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -32,7 +31,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.stream.Collectors;
 
 public class SpecFilter {
 
@@ -268,30 +266,20 @@ public class SpecFilter {
                     }
                 }
 
-                try {
-                    // TODO solve this, and generally handle clone and passing references
-                    Schema clonedModel;
-                    if (filter.isOpenAPI31Filter())  {
-                        clonedModel = Json31.mapper().readValue(Json31.pretty(definition), Schema.class);
-                    } else {
-                        clonedModel = Json.mapper().readValue(Json.pretty(definition), Schema.class);
-                    }
-                    if (clonedModel.getProperties() != null) {
-                        clonedModel.getProperties().clear();
-                    }
-                    if (!clonedProperties.isEmpty()) {
-                        clonedModel.setProperties(clonedProperties);
-                    }
-                    if(clonedModel.getPatternProperties() != null) {
-                        clonedModel.getPatternProperties().clear();
-                    }
-                    if(!clonedPatternProperties.isEmpty()) {
-                        clonedModel.setPatternProperties(clonedPatternProperties);
-                    }
-                    clonedComponentsSchema.put(key, clonedModel);
-
-                } catch (IOException e) {
+                Schema clonedModel = SchemaCloner.clone(definition, filter.isOpenAPI31Filter());
+                if (clonedModel.getProperties() != null) {
+                    clonedModel.getProperties().clear();
                 }
+                if (!clonedProperties.isEmpty()) {
+                    clonedModel.setProperties(clonedProperties);
+                }
+                if(clonedModel.getPatternProperties() != null) {
+                    clonedModel.getPatternProperties().clear();
+                }
+                if(!clonedPatternProperties.isEmpty()) {
+                    clonedModel.setPatternProperties(clonedPatternProperties);
+                }
+                clonedComponentsSchema.put(key, clonedModel);
             }
         }
         return clonedComponentsSchema;
@@ -473,7 +461,7 @@ public class SpecFilter {
         if (openApi == null || openApi.getComponents() == null || openApi.getComponents().getSchemas() == null) {
             return openApi;
         }
-        Set<String> referencedDefinitions = new TreeSet<>();
+        Set<String> referencedDefinitions = new HashSet<>();
 
         if (openApi.getPaths() != null) {
             for (String resourcePath : openApi.getPaths().keySet()) {
@@ -492,16 +480,24 @@ public class SpecFilter {
             addComponentsSchemaRef(components, referencedDefinitions);
         }
 
-        referencedDefinitions.addAll(resolveAllNestedRefs(referencedDefinitions, referencedDefinitions, openApi));
-        openApi.getComponents()
-                .getSchemas()
-                .keySet()
-                .retainAll(referencedDefinitions.stream()
-                        .map(s -> (String) RefUtils.extractSimpleName(s).getLeft())
-                        .collect(Collectors.toSet()));
+        retainReachableSchemas(openApi.getComponents().getSchemas(), referencedDefinitions);
         return openApi;
     }
 
+    /**
+     * Removes from the given component schemas the ones not reachable from the given references.
+     */
+    void retainReachableSchemas(Map<String, Schema> schemas, Set<String> refs) {
+        SchemaReferenceGraph graph = new SchemaReferenceGraph(schemas, this::addSchemaRef);
+        BitSet reachable = graph.reachableFrom(refs);
+        schemas.keySet().removeIf(name -> !reachable.get(graph.idOf(name)));
+    }
+
+    /**
+     * Resolves the references nested in the given references, one discovery wave per invocation; no longer used by
+     * {@link #removeBrokenReferenceDefinitions(OpenAPI)}, which computes reachable schemas on a
+     * {@link SchemaReferenceGraph}.
+     */
     protected Set<String> resolveAllNestedRefs(Set<String> refs, Set<String> accumulatedRefs, OpenAPI openApi) {
         Set<String> justDiscoveredReferencedDefinitions = new TreeSet<>();
         for (String ref : refs) {
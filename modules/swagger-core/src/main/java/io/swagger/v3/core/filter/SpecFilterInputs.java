@@ -0,0 +1,119 @@
+package io.swagger.v3.core.filter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The request inputs an {@link OpenAPISpecFilter} depends on, see {@link OpenAPISpecFilter#getRequestInputs()}.
+ *
+ * <pre>
+ * public SpecFilterInputs getRequestInputs() {
+ *     return SpecFilterInputs.none().header("X-Tenant").queryParam("group");
+ * }
+ * </pre>
+ *
+ * @since 2.2.43
+ */
+public class SpecFilterInputs {
+
+    private final Set<String> headers;
+    private final Set<String> queryParams;
+    private final Set<String> cookies;
+
+    private SpecFilterInputs(Set<String> headers, Set<String> queryParams, Set<String> cookies) {
+        this.headers = headers;
+        this.queryParams = queryParams;
+        this.cookies = cookies;
+    }
+
+    /**
+     * @return inputs for a filter whose output does not depend on the request
+     */
+    public static SpecFilterInputs none() {
+        return new SpecFilterInputs(Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+    }
+
+    /**
+     * @param name the header name, matched case insensitively
+     * @return new inputs, including the given header
+     */
+    public SpecFilterInputs header(String name) {
+        return new SpecFilterInputs(add(headers, name.toLowerCase()), queryParams, cookies);
+    }
+
+    /**
+     * @param name the query parameter name
+     * @return new inputs, including the given query parameter
+     */
+    public SpecFilterInputs queryParam(String name) {
+        return new SpecFilterInputs(headers, add(queryParams, name), cookies);
+    }
+
+    /**
+     * @param name the cookie name
+     * @return new inputs, including the given cookie
+     */
+    public SpecFilterInputs cookie(String name) {
+        return new SpecFilterInputs(headers, queryParams, add(cookies, name));
+    }
+
+    public Set<String> getHeaders() {
+        return headers;
+    }
+
+    public Set<String> getQueryParams() {
+        return queryParams;
+    }
+
+    public Set<String> getCookies() {
+        return cookies;
+    }
+
+    /**
+     * Extracts the values of the declared inputs from a request; requests with equal keys get the same filter output.
+     *
+     * @param params  the query parameters of the request
+     * @param cookies the cookies of the request
+     * @param headers the headers of the request
+     * @return the key of the request, to be compared with equals
+     */
+    public List<Object> key(Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+        List<Object> key = new ArrayList<>(this.headers.size() + this.queryParams.size() + this.cookies.size());
+        for (String header : this.headers) {
+            key.add(copy(headerValues(headers, header)));
+        }
+        for (String param : this.queryParams) {
+            key.add(params == null ? null : copy(params.get(param)));
+        }
+        for (String cookie : this.cookies) {
+            key.add(cookies == null ? null : cookies.get(cookie));
+        }
+        return key;
+    }
+
+    private static List<String> headerValues(Map<String, List<String>> headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            if (name.equalsIgnoreCase(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static List<String> copy(List<String> values) {
+        return values == null ? null : new ArrayList<>(values);
+    }
+
+    private static Set<String> add(Set<String> names, String name) {
+        Set<String> result = new LinkedHashSet<>(names);
+        result.add(name);
+        return Collections.unmodifiableSet(result);
+    }
+}
@@ -0,0 +1,326 @@
+package io.swagger.v3.core.jackson;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of the bean descriptions Jackson introspects for serialization and deserialization, which it does not
+ * cache itself, so that resolving models introspects each type once per mapper rather than for every property, view
+ * and {@code @JsonSerialize(as)} lookup.
+ *
+ * <p>Descriptions are cached by type and mapper identity, without keeping mappers reachable, and evicted oldest first
+ * past {@link #getMaxSize() the maximum size}; the descriptions of collected mappers are removed on the next
+ * insertion, so that they don't keep the classes they describe, and their class loaders, reachable. Lookups don't
+ * lock, and don't allocate when made with the same mapper as the previous one. A
+ * description is only served for the configuration it was introspected with: registering modules or adding mix-ins
+ * to a mapper introspects its types again. Callers changing a mapper otherwise, e.g. an
+ * {@code ObjectMapperProcessor}, {@link #invalidate(ObjectMapper) invalidate} its descriptions.</p>
+ *
+ * <p>Cached descriptions are shared: their properties must not be modified.</p>
+ *
+ * @since 2.2.43
+ */
+public final class BeanDescriptionCache {
+
+    public static final int DEFAULT_MAX_SIZE = 2048;
+
+    private static final ConcurrentMap<Object, MapperDescriptions> MAPPERS = new ConcurrentHashMap<>();
+    // descriptions of the mapper looked up last, sparing the map lookup as most lookups are made with the same mapper
+    private static volatile MapperDescriptions last;
+    // keys whose mapper has been collected
+    private static final ReferenceQueue<ObjectMapper> COLLECTED = new ReferenceQueue<>();
+    // cached entries, oldest first; entries no longer cached are skipped when evicting
+    private static final Queue<Entry> INSERTION_ORDER = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger size = new AtomicInteger();
+
+    private static volatile int maxSize = DEFAULT_MAX_SIZE;
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+
+    private BeanDescriptionCache() {
+    }
+
+    /**
+     * @return the description of the type the mapper serializes, as {@code mapper.getSerializationConfig().introspect(type)}
+     */
+    public static BeanDescription forSerialization(ObjectMapper mapper, JavaType type) {
+        return get(mapper, type, false);
+    }
+
+    /**
+     * @return the description of the type the mapper deserializes, as {@code mapper.getDeserializationConfig().introspect(type)}
+     */
+    public static BeanDescription forDeserialization(ObjectMapper mapper, JavaType type) {
+        return get(mapper, type, true);
+    }
+
+    private static BeanDescription get(ObjectMapper mapper, JavaType type, boolean deserialization) {
+        final MapperConfig<?> config = deserialization ? mapper.getDeserializationConfig() : mapper.getSerializationConfig();
+        final int mixInCount = mapper.mixInCount();
+        MapperDescriptions descriptions = descriptions(mapper);
+        final Entry entry = descriptions == null ? null : descriptions.get(deserialization).get(type);
+        if (entry != null && entry.config == config && entry.mixInCount == mixInCount) {
+            hits.increment();
+            return entry.description;
+        }
+        misses.increment();
+
+        final BeanDescription description = deserialization
+                ? mapper.getDeserializationConfig().introspect(type)
+                : mapper.getSerializationConfig().introspect(type);
+        // collects the properties before sharing the description, as Jackson does it lazily without synchronizing
+        description.findProperties();
+
+        expungeCollected();
+        if (descriptions == null) {
+            final MapperDescriptions created = new MapperDescriptions(mapper);
+            descriptions = MAPPERS.putIfAbsent(created.key, created);
+            if (descriptions == null) {
+                descriptions = created;
+            }
+            last = descriptions;
+        }
+        final Entry inserted = new Entry(descriptions, type, deserialization, config, mixInCount, description);
+        final Entry previous = descriptions.get(deserialization).put(type, inserted);
+        if (previous == null) {
+            size.incrementAndGet();
+        } else {
+            // introspected with another configuration; rare, so the linear removal is fine
+            INSERTION_ORDER.remove(previous);
+        }
+        INSERTION_ORDER.add(inserted);
+        evict();
+        return description;
+    }
+
+    /**
+     * @return the descriptions of the given mapper, or null if none is cached
+     */
+    private static MapperDescriptions descriptions(ObjectMapper mapper) {
+        MapperDescriptions descriptions = last;
+        if (descriptions != null && descriptions.key.get() == mapper && !descriptions.removed) {
+            return descriptions;
+        }
+        descriptions = MAPPERS.get(new Lookup(mapper));
+        if (descriptions != null) {
+            last = descriptions;
+        }
+        return descriptions;
+    }
+
+    private static void evict() {
+        while (size.get() > maxSize) {
+            final Entry eldest = INSERTION_ORDER.poll();
+            if (eldest == null) {
+                return;
+            }
+            if (eldest.owner.get(eldest.deserialization).remove(eldest.type, eldest)) {
+                size.decrementAndGet();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes the descriptions of the mappers which have been collected.
+     */
+    private static void expungeCollected() {
+        Reference<? extends ObjectMapper> reference;
+        while ((reference = COLLECTED.poll()) != null) {
+            remove(((MapperKey) reference).descriptions);
+        }
+    }
+
+    private static void remove(MapperDescriptions descriptions) {
+        if (MAPPERS.remove(descriptions.key, descriptions)) {
+            descriptions.removed = true;
+            if (last == descriptions) {
+                last = null;
+            }
+            size.addAndGet(-(descriptions.serialization.size() + descriptions.deserialization.size()));
+            INSERTION_ORDER.removeIf(entry -> entry.owner == descriptions);
+        }
+    }
+
+    /**
+     * Removes the descriptions introspected by the given mapper, e.g. once it is configured again.
+     */
+    public static void invalidate(ObjectMapper mapper) {
+        expungeCollected();
+        final MapperDescriptions descriptions = MAPPERS.get(new Lookup(mapper));
+        if (descriptions != null) {
+            remove(descriptions);
+        }
+    }
+
+    /**
+     * Removes all descriptions and resets the statistics.
+     */
+    public static void clear() {
+        MAPPERS.clear();
+        last = null;
+        INSERTION_ORDER.clear();
+        size.set(0);
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    public static int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum number of cached descriptions, {@value #DEFAULT_MAX_SIZE} by default.
+     */
+    public static void setMaxSize(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+        }
+        BeanDescriptionCache.maxSize = maxSize;
+        evict();
+    }
+
+    public static int getSize() {
+        return size.get();
+    }
+
+    /**
+     * @return the number of descriptions served from the cache
+     */
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of descriptions introspected, not found in the cache or introspected with another
+     * configuration
+     */
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of descriptions evicted past the maximum size
+     */
+    public static long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the ratio of descriptions served from the cache, or 0 if none was requested
+     */
+    public static double getHitRate() {
+        final long hitCount = hits.sum();
+        final long requestCount = hitCount + misses.sum();
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * The descriptions of a mapper, by type.
+     */
+    private static final class MapperDescriptions {
+        final MapperKey key;
+        final ConcurrentMap<JavaType, Entry> serialization = new ConcurrentHashMap<>();
+        final ConcurrentMap<JavaType, Entry> deserialization = new ConcurrentHashMap<>();
+        // set once invalidated, so that a lookup racing with the invalidation doesn't keep serving them
+        volatile boolean removed;
+
+        MapperDescriptions(ObjectMapper mapper) {
+            this.key = new MapperKey(mapper, this);
+        }
+
+        ConcurrentMap<JavaType, Entry> get(boolean deserialization) {
+            return deserialization ? this.deserialization : serialization;
+        }
+    }
+
+    /**
+     * Weak, identity hashed, key of the descriptions of a mapper, enqueued once the mapper is collected; a key whose
+     * mapper is collected is only equal to itself, so it is removed by identity.
+     */
+    private static final class MapperKey extends WeakReference<ObjectMapper> {
+        final int hash;
+        final MapperDescriptions descriptions;
+
+        MapperKey(ObjectMapper mapper, MapperDescriptions descriptions) {
+            super(mapper, COLLECTED);
+            this.hash = System.identityHashCode(mapper);
+            this.descriptions = descriptions;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            final ObjectMapper referent = get();
+            if (referent == null) {
+                return false;
+            }
+            if (o instanceof MapperKey) {
+                return referent == ((MapperKey) o).get();
+            }
+            return o instanceof Lookup && referent == ((Lookup) o).mapper;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Strong key looking up the descriptions of a mapper, equal to its {@link MapperKey}.
+     */
+    private static final class Lookup {
+        final ObjectMapper mapper;
+
+        Lookup(ObjectMapper mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof MapperKey ? o.equals(this) : o instanceof Lookup && mapper == ((Lookup) o).mapper;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(mapper);
+        }
+    }
+
+    private static final class Entry {
+        final MapperDescriptions owner;
+        final JavaType type;
+        final boolean deserialization;
+        final MapperConfig<?> config;
+        final int mixInCount;
+        final BeanDescription description;
+
+        Entry(MapperDescriptions owner, JavaType type, boolean deserialization, MapperConfig<?> config, int mixInCount,
+              BeanDescription description) {
+            this.owner = owner;
+            this.type = type;
+            this.deserialization = deserialization;
+            this.config = config;
+            this.mixInCount = mixInCount;
+            this.description = description;
+        }
+    }
+}
@@ -34,11 +34,11 @@ import io.swagger.v3.core.converter.ModelConverterContext;
 import io.swagger.v3.core.util.AnnotationsUtils;
 import io.swagger.v3.core.util.Configuration;
 import io.swagger.v3.core.util.Constants;
-import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.ObjectMapperFactory;
 import io.swagger.v3.core.util.ReferenceTypeUtils;
 import io.swagger.v3.core.util.PrimitiveType;
 import io.swagger.v3.core.util.ReflectionUtils;
+import io.swagger.v3.core.util.SchemaCloner;
 import io.swagger.v3.core.util.ValidatorProcessor;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -96,6 +96,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -141,7 +142,13 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
 
     protected ValidatorProcessor validatorProcessor;
 
-    protected Set<AnnotatedType> typesBeingResolved = new HashSet<>();
+    /**
+     * Array types whose schema implementation is being resolved, guarding against cycles; the default set is a view
+     * of the current thread's types, as a resolver is shared by the readers of a parallel scan.
+     */
+    protected Set<AnnotatedType> typesBeingResolved = new PerThreadTypes();
+
+    private volatile SubtypeIndex subtypeIndex;
 
     public ModelResolver(ObjectMapper mapper) {
         super(mapper);
@@ -192,7 +199,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
 
         final BeanDescription beanDesc;
         {
-            BeanDescription recurBeanDesc = _mapper.getSerializationConfig().introspect(type);
+            BeanDescription recurBeanDesc = BeanDescriptionCache.forSerialization(_mapper, type);
 
             HashSet<String> visited = new HashSet<>();
             JsonSerialize jsonSerialize = recurBeanDesc.getClassAnnotations().get(JsonSerialize.class);
@@ -201,7 +208,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
                 if (visited.contains(asName)) break;
                 visited.add(asName);
 
-                recurBeanDesc = _mapper.getSerializationConfig().introspect(
+                recurBeanDesc = BeanDescriptionCache.forSerialization(_mapper,
                         _mapper.constructType(jsonSerialize.as())
                 );
                 jsonSerialize = recurBeanDesc.getClassAnnotations().get(JsonSerialize.class);
@@ -471,7 +478,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
             JavaType valueType = type.getContentType();
             String pName = null;
             if (valueType != null) {
-                BeanDescription valueTypeBeanDesc = _mapper.getSerializationConfig().introspect(valueType);
+                BeanDescription valueTypeBeanDesc = BeanDescriptionCache.forSerialization(_mapper, valueType);
                 pName = _typeName(valueType, valueTypeBeanDesc);
             }
             List<Annotation> strippedCtxAnnotations = new ArrayList<>();
@@ -652,7 +659,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
         List<Schema> props = new ArrayList<>();
         Map<String, Schema> modelProps = new LinkedHashMap<>();
 
-        List<BeanPropertyDefinition> properties = beanDesc.findProperties();
+        List<BeanPropertyDefinition> properties = new ArrayList<>(beanDesc.findProperties());
         List<String> ignoredProps = getIgnoredProperties(beanDesc);
         properties.removeIf(p -> ignoredProps.contains(p.getName()));
         for (BeanPropertyDefinition propDef : properties) {
@@ -662,7 +669,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
 
             AnnotatedMember member = propDef.getPrimaryMember();
             if (member == null) {
-                final BeanDescription deserBeanDesc = _mapper.getDeserializationConfig().introspect(type);
+                final BeanDescription deserBeanDesc = BeanDescriptionCache.forDeserialization(_mapper, type);
                 List<BeanPropertyDefinition> deserProperties = deserBeanDesc.findProperties();
                 for (BeanPropertyDefinition prop : deserProperties) {
                     if (StringUtils.isNotBlank(prop.getInternalName()) && prop.getInternalName().equals(propDef.getInternalName())) {
@@ -876,7 +883,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
                             }
                         }
                     }
-                    final BeanDescription propBeanDesc = _mapper.getSerializationConfig().introspect(propType);
+                    final BeanDescription propBeanDesc = BeanDescriptionCache.forSerialization(_mapper, propType);
                     if (property != null && !propType.isContainerType()) {
                         if (isObjectSchema(property)) {
                             // create a reference for the property
@@ -1309,11 +1316,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
     }
 
     private boolean isSubtype(AnnotatedClass childClass, Class<?> parentClass) {
-        final BeanDescription parentDesc = _mapper.getSerializationConfig().introspectClassAnnotations(parentClass);
-        List<NamedType> subTypes = _intr().findSubtypes(parentDesc.getClassInfo());
-        if (subTypes == null) {
-            return false;
-        }
+        List<NamedType> subTypes = subtypeIndex().getDeclaredSubtypes(parentClass);
         for (NamedType subtype : subTypes) {
             final Class<?> subtypeType = subtype.getType();
             if (childClass.getRawType().isAssignableFrom(subtypeType)) {
@@ -1488,14 +1491,9 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
             }
             if (innerModel.getProperties() != null) {
                 for (Schema prop : (Collection<Schema>) innerModel.getProperties().values()) {
-                    try {
-                        Schema clonedProp = Json.mapper().readValue(Json.pretty(prop), Schema.class);
-                        clonedProp.setName(prefix + prop.getName() + suffix);
-                        props.add(clonedProp);
-                    } catch (IOException e) {
-                        LOGGER.error("Exception cloning property", e);
-                        return;
-                    }
+                    Schema clonedProp = SchemaCloner.clone(prop, false);
+                    clonedProp.setName(prefix + prop.getName() + suffix);
+                    props.add(clonedProp);
                 }
             }
         }
@@ -1544,7 +1542,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
                 } else {
                     javaType = mapper.constructType(type.getType());
                 }
-                final BeanDescription beanDesc = mapper.getSerializationConfig().introspect(javaType);
+                final BeanDescription beanDesc = BeanDescriptionCache.forSerialization(mapper, javaType);
                 for (BeanPropertyDefinition def : beanDesc.findProperties()) {
                     final String name = def.getName();
                     if (name != null && name.equals(propertyName)) {
@@ -2092,32 +2090,15 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
     }
 
     private boolean resolveSubtypes(Schema model, BeanDescription bean, ModelConverterContext context, JsonView jsonViewAnnotation) {
-        final List<NamedType> types = _intr().findSubtypes(bean.getClassInfo());
-        if (types == null) {
-            return false;
-        }
-
-        /**
-         * Remove the current class from the child classes. This happens if @JsonSubTypes references
-         * the annotated class as a subtype.
-         */
-        removeSelfFromSubTypes(types, bean);
-
         /**
-         * As the introspector will find @JsonSubTypes for a child class that are present on its super classes, the
-         * code segment below will also run the introspector on the parent class, and then remove any sub-types that are
-         * found for the parent from the sub-types found for the child. The same logic all applies to implemented
-         * interfaces, and is accounted for below.
+         * The subtypes found for the class, except the class itself, which @JsonSubTypes may reference, and the
+         * subtypes the introspector finds for the class as they are present on its super classes and interfaces.
          */
-        removeSuperClassAndInterfaceSubTypes(types, bean);
+        final List<NamedType> types = subtypeIndex().getEffectiveSubtypes(bean.getClassInfo());
 
         int count = 0;
-        final Class<?> beanClass = bean.getClassInfo().getAnnotated();
         for (NamedType subtype : types) {
             final Class<?> subtypeType = subtype.getType();
-            if (!beanClass.isAssignableFrom(subtypeType)) {
-                continue;
-            }
 
             final Schema subtypeModel = context.resolve(new AnnotatedType()
                     .type(subtypeType)
@@ -2168,35 +2149,17 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
         return count != 0;
     }
 
-    private void removeSelfFromSubTypes(List<NamedType> types, BeanDescription bean) {
-        Class<?> beanClass = bean.getType().getRawClass();
-        types.removeIf(type -> beanClass.equals(type.getType()));
-    }
-
-    private void removeSuperClassAndInterfaceSubTypes(List<NamedType> types, BeanDescription bean) {
-        Class<?> beanClass = bean.getType().getRawClass();
-        Class<?> superClass = beanClass.getSuperclass();
-        if (superClass != null && !superClass.equals(Object.class)) {
-            removeSuperSubTypes(types, superClass);
-        }
-        if (!types.isEmpty()) {
-            Class<?>[] superInterfaces = beanClass.getInterfaces();
-            for (Class<?> superInterface : superInterfaces) {
-                removeSuperSubTypes(types, superInterface);
-                if (types.isEmpty()) {
-                    break;
-                }
-            }
-        }
-    }
-
-    private void removeSuperSubTypes(List<NamedType> resultTypes, Class<?> superClass) {
-        JavaType superType = _mapper.constructType(superClass);
-        BeanDescription superBean = _mapper.getSerializationConfig().introspect(superType);
-        final List<NamedType> superTypes = _intr().findSubtypes(superBean.getClassInfo());
-        if (superTypes != null) {
-            resultTypes.removeAll(superTypes);
+    /**
+     * @return the index of the subtypes found by the annotation introspector, shared by the resolvers using the same
+     * mapper and built again when the configuration of the mapper changes
+     */
+    private SubtypeIndex subtypeIndex() {
+        SubtypeIndex index = subtypeIndex;
+        if (index == null || !index.isFor(_mapper)) {
+            index = SubtypeIndex.of(_mapper);
+            subtypeIndex = index;
         }
+        return index;
     }
 
     private void removeParentProperties(Schema child, Schema parent) {
@@ -2511,7 +2474,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
         boolean hasField = propDef.hasField();
 
         if (access == null) {
-            final BeanDescription beanDesc = _mapper.getDeserializationConfig().introspect(type);
+            final BeanDescription beanDesc = BeanDescriptionCache.forDeserialization(_mapper, type);
             List<BeanPropertyDefinition> properties = beanDesc.findProperties();
             for (BeanPropertyDefinition prop : properties) {
                 if (StringUtils.isNotBlank(prop.getInternalName()) && prop.getInternalName().equals(propDef.getInternalName())) {
@@ -3148,7 +3111,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
                                 ((io.swagger.v3.oas.annotations.media.ArraySchema) resolvedSchemaOrArrayAnnotation).schema() :
                                 (io.swagger.v3.oas.annotations.media.Schema) resolvedSchemaOrArrayAnnotation;
 
-        final BeanDescription beanDesc = _mapper.getSerializationConfig().introspect(type);
+        final BeanDescription beanDesc = BeanDescriptionCache.forSerialization(_mapper, type);
         Annotated a = beanDesc.getClassInfo();
         Annotation[] annotations = annotatedType.getCtxAnnotations();
         resolveSchemaMembers(schema, a, annotations, schemaAnnotation);
@@ -3652,9 +3615,64 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
                     openapi31, property, processSchemaImplementation );
         } finally {
             if (processSchemaImplementation) {
-                    typesBeingResolved.remove(annotatedType);
-                }
+                typesBeingResolved.remove(annotatedType);
+            }
         }
         return reResolvedProperty;
     }
+
+    /**
+     * Set of the types being resolved by the current thread, dropping the thread's set once empty.
+     */
+    private static class PerThreadTypes extends AbstractSet<AnnotatedType> {
+
+        private final ThreadLocal<Set<AnnotatedType>> types = new ThreadLocal<>();
+
+        private Set<AnnotatedType> current() {
+            Set<AnnotatedType> current = types.get();
+            return current != null ? current : Collections.emptySet();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return current().contains(o);
+        }
+
+        @Override
+        public boolean add(AnnotatedType type) {
+            Set<AnnotatedType> current = types.get();
+            if (current == null) {
+                current = new HashSet<>();
+                types.set(current);
+            }
+            return current.add(type);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            Set<AnnotatedType> current = types.get();
+            if (current == null || !current.remove(o)) {
+                return false;
+            }
+            if (current.isEmpty()) {
+                types.remove();
+            }
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            types.remove();
+        }
+
+        @Override
+        public Iterator<AnnotatedType> iterator() {
+            return current().iterator();
+        }
+
+        @Override
+        public int size() {
+            return current().size();
+        }
+    }
 }
@@ -0,0 +1,122 @@
+package io.swagger.v3.core.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Index of the subtypes found by the annotation introspector on classes, e.g. declared with {@code @JsonSubTypes} or
+ * {@code @Schema(subTypes)}, built lazily per class for a mapper configuration, and shared by the resolvers using the
+ * same mapper, see {@link #of(ObjectMapper)}.
+ *
+ * <p>As the introspector finds the subtypes declared on super classes and interfaces for their subclasses, the
+ * <em>effective</em> subtypes of a class are the ones found on it, except the class itself, the subtypes found on its
+ * superclass and interfaces, and types not assignable to it. Each class is introspected once, however many classes of
+ * its hierarchy are resolved.</p>
+ */
+final class SubtypeIndex {
+
+    // the index of each mapper, without keeping mappers reachable: an index only references the mapper configuration
+    private static final Map<ObjectMapper, SubtypeIndex> INDEXES = new WeakHashMap<>();
+
+    private final SerializationConfig config;
+    private final int mixInCount;
+
+    private final ConcurrentMap<Class<?>, List<NamedType>> declared = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, List<NamedType>> effective = new ConcurrentHashMap<>();
+
+    private SubtypeIndex(ObjectMapper mapper) {
+        this.config = mapper.getSerializationConfig();
+        this.mixInCount = mapper.mixInCount();
+    }
+
+    /**
+     * @return the index of the given mapper, built again when the configuration of the mapper changes
+     */
+    static SubtypeIndex of(ObjectMapper mapper) {
+        synchronized (INDEXES) {
+            SubtypeIndex index = INDEXES.get(mapper);
+            if (index == null || !index.isFor(mapper)) {
+                index = new SubtypeIndex(mapper);
+                INDEXES.put(mapper, index);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Whether the index is valid for the current configuration of the mapper: registering modules creates a new
+     * configuration, adding mix-ins changes their count.
+     */
+    boolean isFor(ObjectMapper mapper) {
+        return config == mapper.getSerializationConfig() && mixInCount == mapper.mixInCount();
+    }
+
+    /**
+     * @return the subtypes the introspector finds on the class, including the ones declared on its super types
+     */
+    List<NamedType> getDeclaredSubtypes(Class<?> cls) {
+        List<NamedType> subtypes = declared.get(cls);
+        if (subtypes == null) {
+            subtypes = findSubtypes(config.introspectClassAnnotations(cls).getClassInfo());
+            declared.putIfAbsent(cls, subtypes);
+        }
+        return subtypes;
+    }
+
+    /**
+     * @return the subtypes declared for the class itself, in declaration order
+     */
+    List<NamedType> getEffectiveSubtypes(AnnotatedClass classInfo) {
+        final Class<?> cls = classInfo.getAnnotated();
+        List<NamedType> subtypes = effective.get(cls);
+        if (subtypes == null) {
+            subtypes = computeEffectiveSubtypes(classInfo);
+            effective.putIfAbsent(cls, subtypes);
+        }
+        return subtypes;
+    }
+
+    private List<NamedType> computeEffectiveSubtypes(AnnotatedClass classInfo) {
+        final Class<?> cls = classInfo.getAnnotated();
+        final List<NamedType> found = findSubtypes(classInfo);
+        declared.putIfAbsent(cls, found);
+        if (found.isEmpty()) {
+            return found;
+        }
+
+        final Set<NamedType> inherited = new HashSet<>();
+        final Class<?> superClass = cls.getSuperclass();
+        if (superClass != null && !superClass.equals(Object.class)) {
+            inherited.addAll(getDeclaredSubtypes(superClass));
+        }
+        for (Class<?> superInterface : cls.getInterfaces()) {
+            inherited.addAll(getDeclaredSubtypes(superInterface));
+        }
+
+        final List<NamedType> subtypes = new ArrayList<>(found.size());
+        for (NamedType subtype : found) {
+            final Class<?> subtypeClass = subtype.getType();
+            if (!cls.equals(subtypeClass) && !inherited.contains(subtype) && cls.isAssignableFrom(subtypeClass)) {
+                subtypes.add(subtype);
+            }
+        }
+        return Collections.unmodifiableList(subtypes);
+    }
+
+    private List<NamedType> findSubtypes(AnnotatedClass classInfo) {
+        final List<NamedType> subtypes = config.getAnnotationIntrospector().findSubtypes(classInfo);
+        return subtypes == null || subtypes.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(subtypes));
+    }
+}
@@ -1574,18 +1574,7 @@ public abstract class AnnotationsUtils {
     public static Schema clone(Schema schema, boolean openapi31) {
         if(schema == null)
             return schema;
-        try {
-            String cloneName = schema.getName();
-            if(openapi31) {
-                schema = Json31.mapper().readValue(Json31.pretty(schema), Schema.class);
-            } else {
-                schema = Json.mapper().readValue(Json.pretty(schema), Schema.class);
-            }
-            schema.setName(cloneName);
-        } catch (IOException e) {
-            LOGGER.error("Could not clone schema", e);
-        }
-        return schema;
+        return SchemaCloner.cloneSchema(schema, openapi31);
     }
     public static Optional<Content> getContent(io.swagger.v3.oas.annotations.media.Content[] annotationContents, String[] classTypes, String[] methodTypes, Schema schema, Components components, JsonView jsonViewAnnotation, boolean openapi31) {
         if (annotationContents == null || annotationContents.length == 0) {
@@ -0,0 +1,286 @@
+package io.swagger.v3.core.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The tokens of a JSON object read once from a parser, for deserializers picking the type to deserialize an object
+ * as from some of its properties, without building a JsonNode tree of the whole object.
+ *
+ * <p>Properties can be <em>captured</em> as nodes, for the small values deserializers dispatch on, and
+ * <em>separated</em> from the buffered object into their own buffers, for the values deserialized apart from the
+ * object. Floating point numbers and embedded objects are buffered as they are read into a JsonNode, so that values
+ * deserialized from the buffer are the same as values converted from a tree of the object.</p>
+ */
+final class BufferedObject {
+
+    private final ObjectCodec codec;
+    private final TokenBuffer tokens;
+    private final Set<String> names = new HashSet<>();
+    private final Map<String, JsonNode> captured = new HashMap<>();
+    private final List<Separated> separated = new ArrayList<>();
+    private int propertyCount;
+    private boolean textStable = true;
+
+    private BufferedObject(ObjectCodec codec) {
+        this.codec = codec;
+        this.tokens = new TokenBuffer(codec, false);
+    }
+
+    /**
+     * Whether the context reads trees with features changing the values read, e.g. numbers read as
+     * {@code BigDecimal}, in which case deserializers read trees rather than tokens to get the same results.
+     */
+    static boolean requiresTree(DeserializationContext ctxt) {
+        return ctxt.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                || ctxt.isEnabled(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS)
+                || ctxt.isEnabled(DeserializationFeature.USE_LONG_FOR_INTS)
+                || ctxt.isEnabled(DeserializationFeature.FAIL_ON_READING_DUP_TREE_KEY);
+    }
+
+    /**
+     * Whether the current token of the parser starts or continues an object which can be buffered.
+     */
+    static boolean isObject(JsonParser p) {
+        return p.hasToken(JsonToken.START_OBJECT) || p.hasToken(JsonToken.FIELD_NAME) || p.hasToken(JsonToken.END_OBJECT);
+    }
+
+    /**
+     * Reads the object the parser is positioned at, leaving the parser at its closing token.
+     *
+     * @param codec          the mapper deserializing the buffered values
+     * @param capturedNames  properties whose values are captured as nodes; they are buffered as well unless separated
+     * @param separatedNames properties buffered apart from the object
+     */
+    static BufferedObject read(JsonParser p, DeserializationContext ctxt, ObjectCodec codec,
+                               Set<String> capturedNames, Set<String> separatedNames) throws IOException {
+        BufferedObject object = new BufferedObject(codec);
+        object.tokens.writeStartObject();
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = p.nextToken();
+        }
+        for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+            String name = p.currentName();
+            p.nextToken();
+            object.names.add(name);
+            TokenBuffer out = object.tokens;
+            if (separatedNames.contains(name)) {
+                out = new TokenBuffer(codec, false);
+                object.separated.add(new Separated(object.propertyCount, name, out));
+            } else {
+                out.writeFieldName(name);
+                object.propertyCount++;
+            }
+            if (capturedNames.contains(name)) {
+                JsonNode node = ctxt.readTree(p);
+                object.captured.put(name, node);
+                object.write(node, out);
+            } else {
+                object.copyValue(p, ctxt, out);
+            }
+        }
+        object.tokens.writeEndObject();
+        return object;
+    }
+
+    /**
+     * Copies the value the parser is positioned at, leaving the parser at its last token.
+     */
+    private void copyValue(JsonParser p, DeserializationContext ctxt, TokenBuffer out) throws IOException {
+        int depth = 0;
+        JsonToken t = p.currentToken();
+        while (true) {
+            switch (t) {
+                case START_OBJECT:
+                    out.writeStartObject();
+                    depth++;
+                    break;
+                case START_ARRAY:
+                    out.writeStartArray();
+                    depth++;
+                    break;
+                case END_OBJECT:
+                    out.writeEndObject();
+                    depth--;
+                    break;
+                case END_ARRAY:
+                    out.writeEndArray();
+                    depth--;
+                    break;
+                case VALUE_NUMBER_FLOAT:
+                case VALUE_EMBEDDED_OBJECT:
+                    // as a tree would hold them, e.g. floats as doubles rather than their text
+                    write(ctxt.readTree(p), out);
+                    break;
+                case VALUE_NUMBER_INT:
+                    if (textStable && !isCanonical(p)) {
+                        textStable = false;
+                    }
+                    out.copyCurrentEvent(p);
+                    break;
+                default:
+                    out.copyCurrentEvent(p);
+            }
+            if (depth == 0) {
+                return;
+            }
+            t = p.nextToken();
+        }
+    }
+
+    private void write(JsonNode node, TokenBuffer out) throws IOException {
+        if (node.isTextual()) {
+            out.writeString(node.textValue());
+        } else if (node.isDouble() && Double.isFinite(node.doubleValue())) {
+            out.writeNumber(node.doubleValue());
+        } else {
+            if (!node.isBoolean() && !node.isNull() && !node.isInt()) {
+                textStable = false;
+            }
+            out.writeTree(node);
+        }
+    }
+
+    /**
+     * Whether the integer the parser is positioned at has the number type JSON text of its value is read as.
+     */
+    private static boolean isCanonical(JsonParser p) throws IOException {
+        switch (p.getNumberType()) {
+            case INT:
+                return true;
+            case LONG:
+                long value = p.getLongValue();
+                return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE;
+            default:
+                return p.getBigIntegerValue().bitLength() > 63;
+        }
+    }
+
+    boolean has(String name) {
+        return names.contains(name);
+    }
+
+    /**
+     * @return the last value of a captured property, or null if missing
+     */
+    JsonNode get(String name) {
+        return captured.get(name);
+    }
+
+    /**
+     * @return the first token of the last value of a separated property, or null if missing
+     */
+    JsonToken firstToken(String name) {
+        Separated value = getSeparated(name);
+        return value == null ? null : value.tokens.firstToken();
+    }
+
+    /**
+     * @return a parser of the last value of a separated property, or null if missing
+     */
+    JsonParser separatedParser(String name) {
+        Separated value = getSeparated(name);
+        return value == null ? null : value.tokens.asParser(codec);
+    }
+
+    private Separated getSeparated(String name) {
+        for (int i = separated.size() - 1; i >= 0; i--) {
+            if (separated.get(i).name.equals(name)) {
+                return separated.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether the buffered object, without the separated properties, reads back the same values from its JSON text,
+     * i.e. holds no embedded objects, big decimals, non finite floats or integers of non canonical types.
+     */
+    boolean isTextStable() {
+        return textStable;
+    }
+
+    /**
+     * @return the tokens of the buffered object, without the separated properties
+     */
+    TokenBuffer asTokens() {
+        return tokens;
+    }
+
+    /**
+     * @return a parser of the buffered object, without the separated properties
+     */
+    JsonParser asParser() {
+        return tokens.asParser(codec);
+    }
+
+    /**
+     * @return a parser of the buffered object including the separated properties, in the order they were read
+     */
+    JsonParser asParserWithSeparated() throws IOException {
+        if (separated.isEmpty()) {
+            return asParser();
+        }
+        TokenBuffer merged = new TokenBuffer(codec, false);
+        try (JsonParser p = asParser()) {
+            p.nextToken();
+            merged.writeStartObject();
+            int index = 0;
+            int next = 0;
+            while (true) {
+                while (next < separated.size() && separated.get(next).index == index) {
+                    Separated value = separated.get(next++);
+                    merged.writeFieldName(value.name);
+                    try (JsonParser valueParser = value.tokens.asParser(codec)) {
+                        valueParser.nextToken();
+                        merged.copyCurrentStructure(valueParser);
+                    }
+                }
+                if (p.nextToken() != JsonToken.FIELD_NAME) {
+                    break;
+                }
+                merged.writeFieldName(p.currentName());
+                p.nextToken();
+                merged.copyCurrentStructure(p);
+                index++;
+            }
+            merged.writeEndObject();
+        }
+        return merged.asParser(codec);
+    }
+
+    /**
+     * @return a tree of the buffered object including the separated properties
+     */
+    JsonNode asTree() throws IOException {
+        try (JsonParser p = asParserWithSeparated()) {
+            return codec.readTree(p);
+        }
+    }
+
+    private static class Separated {
+        final int index;
+        final String name;
+        final TokenBuffer tokens;
+
+        Separated(int index, String name, TokenBuffer tokens) {
+            this.index = index;
+            this.name = name;
+            this.tokens = tokens;
+        }
+    }
+}
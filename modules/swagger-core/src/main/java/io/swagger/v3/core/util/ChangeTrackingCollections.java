@@ -0,0 +1,174 @@
+package io.swagger.v3.core.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Concurrent sets and maps running a callback after every mutation, for settings whose derived state must be
+ * invalidated when changed.
+ *
+ * <p>A version bumped by setters is not enough for these settings: they have no setters, but are exposed as mutable
+ * collections by public accessors, e.g. {@link PrimitiveType#customClasses()}, which callers change in place. Only the
+ * primitive mutators are tracked, the other ones (bulk and compound operations, key and value views, clear) being
+ * implemented on top of them, or of the tracked iterators and entries, by {@link AbstractSet} and {@link AbstractMap};
+ * compound operations are therefore not atomic, which is fine for settings.</p>
+ */
+final class ChangeTrackingCollections {
+
+    private ChangeTrackingCollections() {
+    }
+
+    static <E> Set<E> newSet(Runnable onChange) {
+        return new TrackingSet<>(ConcurrentHashMap.newKeySet(), onChange);
+    }
+
+    static <K, V> Map<K, V> newMap(Runnable onChange) {
+        return new TrackingMap<>(new ConcurrentHashMap<>(), onChange);
+    }
+
+    private static final class TrackingSet<E> extends AbstractSet<E> {
+        private final Set<E> delegate;
+        private final Runnable onChange;
+
+        TrackingSet(Set<E> delegate, Runnable onChange) {
+            this.delegate = delegate;
+            this.onChange = onChange;
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return delegate.contains(o);
+        }
+
+        @Override
+        public boolean add(E e) {
+            boolean changed = delegate.add(e);
+            onChange.run();
+            return changed;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            boolean changed = delegate.remove(o);
+            onChange.run();
+            return changed;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new TrackingIterator<>(delegate.iterator(), onChange);
+        }
+    }
+
+    private static final class TrackingMap<K, V> extends AbstractMap<K, V> {
+        private final Map<K, V> delegate;
+        private final Runnable onChange;
+
+        TrackingMap(Map<K, V> delegate, Runnable onChange) {
+            this.delegate = delegate;
+            this.onChange = onChange;
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return delegate.containsKey(key);
+        }
+
+        @Override
+        public V get(Object key) {
+            return delegate.get(key);
+        }
+
+        @Override
+        public V put(K key, V value) {
+            V previous = delegate.put(key, value);
+            onChange.run();
+            return previous;
+        }
+
+        @Override
+        public V remove(Object key) {
+            V previous = delegate.remove(key);
+            onChange.run();
+            return previous;
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return new AbstractSet<Entry<K, V>>() {
+                @Override
+                public int size() {
+                    return delegate.size();
+                }
+
+                @Override
+                public Iterator<Entry<K, V>> iterator() {
+                    Iterator<Entry<K, V>> entries = new TrackingIterator<>(delegate.entrySet().iterator(), onChange);
+                    return new Iterator<Entry<K, V>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return entries.hasNext();
+                        }
+
+                        @Override
+                        public Entry<K, V> next() {
+                            Entry<K, V> entry = entries.next();
+                            return new SimpleEntry<K, V>(entry) {
+                                @Override
+                                public V setValue(V value) {
+                                    put(getKey(), value);
+                                    return super.setValue(value);
+                                }
+                            };
+                        }
+
+                        @Override
+                        public void remove() {
+                            entries.remove();
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    private static final class TrackingIterator<E> implements Iterator<E> {
+        private final Iterator<E> delegate;
+        private final Runnable onChange;
+
+        TrackingIterator(Iterator<E> delegate, Runnable onChange) {
+            this.delegate = delegate;
+            this.onChange = onChange;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public E next() {
+            return delegate.next();
+        }
+
+        @Override
+        public void remove() {
+            delegate.remove();
+            onChange.run();
+        }
+    }
+}
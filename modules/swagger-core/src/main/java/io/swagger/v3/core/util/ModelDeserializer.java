@@ -1,6 +1,7 @@
 package io.swagger.v3.core.util;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -27,8 +28,11 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class ModelDeserializer extends JsonDeserializer<Schema> {
@@ -42,12 +46,194 @@ public class ModelDeserializer extends JsonDeserializer<Schema> {
         }
     }
 
+    private static final Set<String> CAPTURED = new HashSet<>(Arrays.asList("type", "format", "$ref"));
+    private static final Set<String> SEPARATED_31 = new HashSet<>(Arrays.asList("type", "additionalProperties"));
+    private static final Set<String> ADDITIONAL_PROPERTIES = Collections.singleton("additionalProperties");
+    private static final List<String> COMPOSED = Arrays.asList("allOf", "anyOf", "oneOf");
+
     protected boolean openapi31 = false;
+
+    /**
+     * Reads objects once into a token buffer, picking the schema type from the buffered properties, and deserializes
+     * the schema from the buffer; results are the same as deserializing a tree of the object.
+     */
     @Override
     public Schema deserialize(JsonParser jp, DeserializationContext ctxt)
             throws IOException {
-        JsonNode node = jp.getCodec().readTree(jp);
+        if (!BufferedObject.isObject(jp) || BufferedObject.requiresTree(ctxt)) {
+            return deserialize(jp.getCodec().readTree(jp));
+        }
+        if (openapi31) {
+            return deserializeJsonSchema(BufferedObject.read(jp, ctxt, Json31.mapper(), CAPTURED, SEPARATED_31));
+        }
+        BufferedObject object = BufferedObject.read(jp, ctxt, Json.mapper(), CAPTURED, ADDITIONAL_PROPERTIES);
+
+        boolean composed = COMPOSED.stream().anyMatch(object::has);
+        JsonNode type = object.get("type");
+        JsonNode formatNode = object.get("format");
+        Object additionalProperties = null;
+        if (!composed) {
+            if ((type != null && !type.isTextual()) || (formatNode != null && !formatNode.isTextual())) {
+                return deserialize(object.asTree());
+            }
+            if ((type == null || "object".equals(type.textValue())) && object.has("additionalProperties")) {
+                JsonToken token = object.firstToken("additionalProperties");
+                if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+                    additionalProperties = token == JsonToken.VALUE_TRUE;
+                } else if (token == JsonToken.START_OBJECT) {
+                    additionalProperties = token;
+                } else {
+                    return deserialize(object.asTree());
+                }
+            }
+        }
+        String format = formatNode == null ? "" : formatNode.textValue();
+
+        Class<? extends Schema> schemaClass = schemaClass(composed, type == null ? null : type.textValue(), format,
+                object.has("$ref"), additionalProperties);
+        if (schemaClass == null) {
+            return null;
+        }
+        if (schemaClass == Schema.class) {
+            return new Schema().$ref(object.get("$ref").asText());
+        }
+        if (isObjectSchemaClass(schemaClass)) {
+            Schema schema = Json.mapper().readValue(object.asParser(), schemaClass);
+            if (additionalProperties instanceof Boolean) {
+                schema.setAdditionalProperties(additionalProperties);
+            } else if (additionalProperties != null) {
+                schema.setAdditionalProperties(Json.mapper().readValue(object.separatedParser("additionalProperties"), Schema.class));
+            }
+            schema.jsonSchema(jsonSchemaAsMap(object));
+            return schema;
+        }
+        Schema schema = Json.mapper().readValue(object.asParserWithSeparated(), schemaClass);
+        if (schema instanceof IntegerSchema && StringUtils.isBlank(format)) {
+            schema.setFormat(null);
+        }
+        return schema;
+    }
+
+    /**
+     * Picks the type an OpenAPI 3.0 schema is deserialized to from its properties; used by both the tree and the
+     * buffered deserialization, and by {@link SchemaCloner}.
+     *
+     * @param composed             whether the schema has allOf, anyOf or oneOf
+     * @param type                 the type of the schema, or null
+     * @param format               the format of the schema, or null
+     * @param ref                  whether the schema has a $ref
+     * @param additionalProperties null if the schema has no additionalProperties, a Boolean, or any other value if
+     *                             additionalProperties is a schema
+     * @return the schema type, {@code Schema.class} for a reference, or null if the type is not supported
+     * @since 2.2.43
+     */
+    static Class<? extends Schema> schemaClass(boolean composed, String type, String format, boolean ref, Object additionalProperties) {
+        if (composed) {
+            return ComposedSchema.class;
+        }
+        if (type == null) {
+            return ref ? Schema.class : objectSchemaClass(additionalProperties, false);
+        }
+        switch (type) {
+            case "array":
+                return ArraySchema.class;
+            case "integer":
+                return IntegerSchema.class;
+            case "number":
+                return NumberSchema.class;
+            case "boolean":
+                return BooleanSchema.class;
+            case "string":
+                return stringSchemaClass(format);
+            case "object":
+                return objectSchemaClass(additionalProperties, true);
+            default:
+                return null;
+        }
+    }
+
+    private static Class<? extends Schema> objectSchemaClass(Object additionalProperties, boolean alwaysObject) {
+        if (additionalProperties instanceof Boolean) {
+            return Boolean.TRUE.equals(additionalProperties) ? MapSchema.class : ObjectSchema.class;
+        }
+        if (additionalProperties != null) {
+            return MapSchema.class;
+        }
+        if (!Boolean.TRUE.equals(useArbitrarySchema) || alwaysObject) {
+            return ObjectSchema.class;
+        }
+        return ArbitrarySchema.class;
+    }
+
+    private static boolean isObjectSchemaClass(Class<? extends Schema> schemaClass) {
+        return schemaClass == ObjectSchema.class || schemaClass == MapSchema.class || schemaClass == ArbitrarySchema.class;
+    }
+
+    /**
+     * @return the buffered object without additionalProperties as a map, read from the buffer unless the values
+     * read back from its JSON text would differ
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> jsonSchemaAsMap(BufferedObject object) throws IOException {
+        if (!object.isTextStable()) {
+            return Json31.jsonSchemaAsMap(Json31.mapper().writeValueAsString(object.asTokens()));
+        }
+        try (JsonParser p = object.asParser()) {
+            return Json31.mapper().readValue(p, Map.class);
+        }
+    }
 
+    private Schema deserializeJsonSchema(BufferedObject object) throws IOException {
+        Schema schema = Json31.mapper().readValue(object.asParser(), JsonSchema.class);
+        setTypes(schema, object.get("type"));
+        JsonToken additionalProperties = object.firstToken("additionalProperties");
+        if (additionalProperties == JsonToken.VALUE_TRUE || additionalProperties == JsonToken.VALUE_FALSE) {
+            schema.setAdditionalProperties(additionalProperties == JsonToken.VALUE_TRUE);
+        } else if (additionalProperties != null) {
+            try {
+                if (additionalProperties == JsonToken.START_OBJECT) {
+                    schema.setAdditionalProperties(Json31.mapper().readValue(object.separatedParser("additionalProperties"), Schema.class));
+                } else {
+                    JsonNode node = Json31.mapper().readTree(object.separatedParser("additionalProperties"));
+                    schema.setAdditionalProperties(deserializeJsonSchema(node));
+                }
+            } catch (Exception e) {
+                JsonNode node = Json31.mapper().readTree(object.separatedParser("additionalProperties"));
+                Boolean additionalPropsBoolean = Json31.mapper().convertValue(node, Boolean.class);
+                schema.setAdditionalProperties(additionalPropsBoolean);
+            }
+        }
+        return schema;
+    }
+
+    private static Class<? extends Schema> stringSchemaClass(String format) {
+        if ("date".equals(format)) {
+            return DateSchema.class;
+        } else if ("date-time".equals(format)) {
+            return DateTimeSchema.class;
+        } else if ("email".equals(format)) {
+            return EmailSchema.class;
+        } else if ("password".equals(format)) {
+            return PasswordSchema.class;
+        } else if ("uuid".equals(format)) {
+            return UUIDSchema.class;
+        }
+        return StringSchema.class;
+    }
+
+    private static void setTypes(Schema schema, JsonNode type) {
+        if (type instanceof TextNode) {
+            schema.types(new LinkedHashSet<>(Arrays.asList(type.textValue())));
+        } else if (type instanceof ArrayNode){
+            Set<String> types = new LinkedHashSet<>();
+            ((ArrayNode)type).elements().forEachRemaining( n -> {
+                types.add(n.textValue());
+            });
+            schema.types(types);
+        }
+    }
+
+    private Schema deserialize(JsonNode node) {
         Schema schema = null;
 
         if (openapi31) {
@@ -58,84 +244,44 @@ public class ModelDeserializer extends JsonDeserializer<Schema> {
             return new Schema().booleanSchemaValue(node.booleanValue());
         }
 
-        List<String> composed = Arrays.asList("allOf", "anyOf", "oneOf");
-        for (String field: composed) {
-            if (node.get(field) != null) {
-                return Json.mapper().convertValue(node, ComposedSchema.class);
-            }
-        }
-
+        boolean composed = COMPOSED.stream().anyMatch(field -> node.get(field) != null);
         JsonNode type = node.get("type");
         String format = node.get("format") == null ? "" : node.get("format").textValue();
+        JsonNode additionalProperties = node.get("additionalProperties");
 
-        if (type != null && "array".equals(((TextNode) type).textValue())) {
-            schema = Json.mapper().convertValue(node, ArraySchema.class);
-        } else if (type != null) {
-            if (type.textValue().equals("integer")) {
-                schema = Json.mapper().convertValue(node, IntegerSchema.class);
-                if (StringUtils.isBlank(format)) {
-                    schema.setFormat(null);
-                }
-            } else if (type.textValue().equals("number")) {
-                schema = Json.mapper().convertValue(node, NumberSchema.class);
-            } else if (type.textValue().equals("boolean")) {
-                schema = Json.mapper().convertValue(node, BooleanSchema.class);
-            } else if (type.textValue().equals("string")) {
-                if ("date".equals(format)) {
-                    schema = Json.mapper().convertValue(node, DateSchema.class);
-                } else if ("date-time".equals(format)) {
-                    schema = Json.mapper().convertValue(node, DateTimeSchema.class);
-                } else if ("email".equals(format)) {
-                    schema = Json.mapper().convertValue(node, EmailSchema.class);
-                } else if ("password".equals(format)) {
-                    schema = Json.mapper().convertValue(node, PasswordSchema.class);
-                } else if ("uuid".equals(format)) {
-                    schema = Json.mapper().convertValue(node, UUIDSchema.class);
-                } else {
-                    schema = Json.mapper().convertValue(node, StringSchema.class);
-                }
-            } else if (type.textValue().equals("object")) {
-                schema = deserializeArbitraryOrObjectSchema(node, true);
-            }
-        } else if (node.get("$ref") != null) {
-            schema = new Schema().$ref(node.get("$ref").asText());
-        } else {
-            schema = deserializeArbitraryOrObjectSchema(node, false);
+        Class<? extends Schema> schemaClass = schemaClass(composed, type == null ? null : ((TextNode) type).textValue(), format,
+                node.get("$ref") != null, additionalProperties == null || !additionalProperties.isBoolean() ?
+                        additionalProperties : additionalProperties.booleanValue());
+        if (schemaClass == null) {
+            return null;
+        }
+        if (schemaClass == Schema.class) {
+            return new Schema().$ref(node.get("$ref").asText());
+        }
+        if (isObjectSchemaClass(schemaClass)) {
+            return deserializeObjectSchema(node, schemaClass);
+        }
+        schema = Json.mapper().convertValue(node, schemaClass);
+        if (schema instanceof IntegerSchema && StringUtils.isBlank(format)) {
+            schema.setFormat(null);
         }
-
         return schema;
     }
 
-    private Schema deserializeArbitraryOrObjectSchema(JsonNode node, boolean alwaysObject) {
+    private Schema deserializeObjectSchema(JsonNode node, Class<? extends Schema> schemaClass) {
         JsonNode additionalProperties = node.get("additionalProperties");
-        Schema schema = null;
+        Schema schema;
         if (additionalProperties != null) {
-            if (additionalProperties.isBoolean()) {
-                Boolean additionalPropsBoolean = Json.mapper().convertValue(additionalProperties, Boolean.class);
-                ((ObjectNode)node).remove("additionalProperties");
-                if (additionalPropsBoolean) {
-                    schema = Json.mapper().convertValue(node, MapSchema.class);
-                } else {
-                    schema = Json.mapper().convertValue(node, ObjectSchema.class);
-                }
-                schema.setAdditionalProperties(additionalPropsBoolean);
-            } else {
-                Schema innerSchema = Json.mapper().convertValue(additionalProperties, Schema.class);
-                ((ObjectNode)node).remove("additionalProperties");
-                MapSchema ms = Json.mapper().convertValue(node, MapSchema.class);
-                ms.setAdditionalProperties(innerSchema);
-                schema = ms;
-            }
+            Object value = additionalProperties.isBoolean() ?
+                    additionalProperties.booleanValue() :
+                    Json.mapper().convertValue(additionalProperties, Schema.class);
+            ((ObjectNode)node).remove("additionalProperties");
+            schema = Json.mapper().convertValue(node, schemaClass);
+            schema.setAdditionalProperties(value);
         } else {
-            if (!Boolean.TRUE.equals(useArbitrarySchema) || alwaysObject) {
-                schema = Json.mapper().convertValue(node, ObjectSchema.class);
-            } else {
-                schema = Json.mapper().convertValue(node, ArbitrarySchema.class);
-            }
-        }
-        if (schema != null) {
-            schema.jsonSchema(Json31.jsonSchemaAsMap(node));
+            schema = Json.mapper().convertValue(node, schemaClass);
         }
+        schema.jsonSchema(Json31.jsonSchemaAsMap(node));
         return schema;
     }
 
@@ -155,15 +301,7 @@ public class ModelDeserializer extends JsonDeserializer<Schema> {
                 ((ObjectNode)node).remove("additionalProperties");
             }
             schema = Json31.mapper().convertValue(node, JsonSchema.class);
-            if (type instanceof TextNode) {
-                schema.types(new LinkedHashSet<>(Arrays.asList(type.textValue())));
-            } else if (type instanceof ArrayNode){
-                Set<String> types = new LinkedHashSet<>();
-                ((ArrayNode)type).elements().forEachRemaining( n -> {
-                    types.add(n.textValue());
-                });
-                schema.types(types);
-            }
+            setTypes(schema, type);
             if (additionalProperties != null) {
                 try {
                     if (additionalProperties.isBoolean()) {
@@ -4,16 +4,68 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.models.SpecVersion;
 import io.swagger.v3.oas.models.media.Schema;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 
 public class OpenAPISchema2JsonSchema {
 
     protected final ObjectMapper converterMapper = Json31.converterMapper();
 
+    // stands for a nested schema while converting its parent, the map of the nested schema replacing its own
+    private static final Schema<?> PLACEHOLDER = new Schema<>();
+
+    /**
+     * Converts the given schema and its nested schemas ({@code additionalProperties}, {@code allOf}, {@code anyOf},
+     * {@code oneOf}, {@code properties} and {@code items}) to OpenAPI 3.1.
+     *
+     * <p>The schema tree is converted to JSON Schema maps in a single bottom-up pass: each schema is converted once,
+     * with its nested schemas replaced by empty placeholders, whose maps are then replaced by the maps of the nested
+     * schemas, converted before. A schema instance occurring more than once in the tree is processed once.</p>
+     */
     public void process(Schema<?> schema) {
+        process(schema, new IdentityHashMap<>());
+    }
+
+    /**
+     * @return the JSON Schema map of the given schema, or null if it is being processed, i.e. refers to itself
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> process(Schema<?> schema, Map<Schema<?>, Map<String, Object>> processed) {
+        if (processed.containsKey(schema)) {
+            return processed.get(schema);
+        }
+        processed.put(schema, null);
+
+        Map<String, Object> additionalProperties = schema.getAdditionalProperties() instanceof Schema ?
+                process((Schema<?>) schema.getAdditionalProperties(), processed) : null;
+        List<Map<String, Object>> allOf = processAll(schema.getAllOf(), processed);
+        List<Map<String, Object>> anyOf = processAll(schema.getAnyOf(), processed);
+        List<Map<String, Object>> oneOf = processAll(schema.getOneOf(), processed);
+        Map<String, Map<String, Object>> properties = null;
+        if (schema.getProperties() != null) {
+            properties = new LinkedHashMap<>();
+            for (Map.Entry<String, Schema> property : schema.getProperties().entrySet()) {
+                properties.put(property.getKey(), process(property.getValue(), processed));
+            }
+        }
+        Map<String, Object> items = schema.getItems() != null ? process(schema.getItems(), processed) : null;
+
         schema.specVersion(SpecVersion.V31);
-        Map<String, Object> jsonSchema = converterMapper.convertValue(schema, Map.class);
+        Map<String, Object> jsonSchema = convertWithPlaceholders(schema);
+        replace(jsonSchema, "additionalProperties", additionalProperties);
+        replaceAll(jsonSchema.get("allOf"), allOf);
+        replaceAll(jsonSchema.get("anyOf"), anyOf);
+        replaceAll(jsonSchema.get("oneOf"), oneOf);
+        if (properties != null && jsonSchema.get("properties") instanceof Map) {
+            Map<String, Object> convertedProperties = (Map<String, Object>) jsonSchema.get("properties");
+            properties.forEach((name, property) -> replace(convertedProperties, name, property));
+        }
+        replace(jsonSchema, "items", items);
 
         // handle nullable
         if (schema.getType() != null || Boolean.TRUE.equals(schema.getNullable())) {
@@ -36,24 +88,78 @@ public class OpenAPISchema2JsonSchema {
         }
 
         schema.jsonSchema(jsonSchema);
+        processed.put(schema, jsonSchema);
+        return jsonSchema;
+    }
 
-        if (schema.getAdditionalProperties() instanceof Schema) {
-            process((Schema<?>) schema.getAdditionalProperties());
+    private List<Map<String, Object>> processAll(List<Schema> schemas, Map<Schema<?>, Map<String, Object>> processed) {
+        if (schemas == null) {
+            return null;
         }
-        if (schema.getAllOf() != null) {
-            schema.getAllOf().forEach(this::process);
+        List<Map<String, Object>> jsonSchemas = new ArrayList<>(schemas.size());
+        for (Schema<?> schema : schemas) {
+            jsonSchemas.add(process(schema, processed));
         }
-        if (schema.getAnyOf() != null) {
-            schema.getAnyOf().forEach(this::process);
+        return jsonSchemas;
+    }
+
+    /**
+     * Converts the given schema with its nested schemas replaced by placeholders, so that they are not converted again.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> convertWithPlaceholders(Schema<?> schema) {
+        Object additionalProperties = schema.getAdditionalProperties();
+        List<Schema> allOf = schema.getAllOf();
+        List<Schema> anyOf = schema.getAnyOf();
+        List<Schema> oneOf = schema.getOneOf();
+        Map<String, Schema> properties = schema.getProperties();
+        Schema<?> items = schema.getItems();
+        try {
+            if (additionalProperties instanceof Schema) {
+                schema.setAdditionalProperties(PLACEHOLDER);
+            }
+            schema.setAllOf(placeholders(allOf));
+            schema.setAnyOf(placeholders(anyOf));
+            schema.setOneOf(placeholders(oneOf));
+            if (properties != null) {
+                Map<String, Schema> placeholders = new LinkedHashMap<>();
+                properties.keySet().forEach(name -> placeholders.put(name, PLACEHOLDER));
+                schema.setProperties(placeholders);
+            }
+            if (items != null) {
+                schema.setItems(PLACEHOLDER);
+            }
+            return converterMapper.convertValue(schema, Map.class);
+        } finally {
+            schema.setAdditionalProperties(additionalProperties);
+            schema.setAllOf(allOf);
+            schema.setAnyOf(anyOf);
+            schema.setOneOf(oneOf);
+            schema.setProperties(properties);
+            schema.setItems(items);
         }
-        if (schema.getOneOf() != null) {
-            schema.getOneOf().forEach(this::process);
+    }
+
+    private static List<Schema> placeholders(List<Schema> schemas) {
+        return schemas == null ? null : new ArrayList<>(Collections.nCopies(schemas.size(), PLACEHOLDER));
+    }
+
+    private static void replace(Map<String, Object> jsonSchema, String key, Map<String, Object> nested) {
+        if (nested != null && jsonSchema.containsKey(key)) {
+            jsonSchema.put(key, nested);
         }
-        if (schema.getProperties() != null) {
-            schema.getProperties().values().forEach(this::process);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void replaceAll(Object converted, List<Map<String, Object>> nested) {
+        if (!(converted instanceof List) || nested == null) {
+            return;
         }
-        if (schema.getItems() != null) {
-            process(schema.getItems());
+        List<Object> convertedSchemas = (List<Object>) converted;
+        for (int i = 0; i < nested.size() && i < convertedSchemas.size(); i++) {
+            if (nested.get(i) != null) {
+                convertedSchemas.set(i, nested.get(i));
+            }
         }
     }
 }
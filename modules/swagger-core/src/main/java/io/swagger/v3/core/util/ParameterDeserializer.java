@@ -14,17 +14,80 @@ import io.swagger.v3.oas.models.parameters.PathParameter;
 import io.swagger.v3.oas.models.parameters.QueryParameter;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 public class ParameterDeserializer extends JsonDeserializer<Parameter> {
 
     protected boolean openapi31;
 
+    private static final Set<String> CAPTURED = new HashSet<>(Arrays.asList("$ref", "in", "description"));
+
+    /**
+     * Reads objects once into a token buffer, picking the parameter type from the buffered {@code in} property, and
+     * deserializes the parameter from the buffer; results are the same as deserializing a tree of the object.
+     */
     @Override
     public Parameter deserialize(JsonParser jp, DeserializationContext ctxt)
             throws IOException {
+        if (!BufferedObject.isObject(jp) || BufferedObject.requiresTree(ctxt)) {
+            return deserialize(jp.getCodec().readTree(jp));
+        }
+        BufferedObject object = BufferedObject.read(jp, ctxt, openapi31 ? Json31.mapper() : Json.mapper(), CAPTURED, Collections.emptySet());
+        JsonNode sub = object.get("$ref");
+        JsonNode inNode = object.get("in");
+        JsonNode desc = object.get("description");
+
+        if (sub != null) {
+            Parameter result = new Parameter().$ref(sub.asText());
+            if (desc != null && openapi31) {
+                result.description(desc.asText());
+            }
+            return result;
+        }
+        ObjectReader reader = inNode == null ? null : getReader(inNode.asText());
+        if (reader != null) {
+            try (JsonParser parser = object.asParser()) {
+                return reader.readValue(parser);
+            }
+        }
+        return null;
+    }
+
+    private ObjectReader getReader(String in) {
+        Class<? extends Parameter> parameterClass = parameterClass(in);
+        if (parameterClass == null) {
+            return null;
+        }
+        ObjectMapper mapper = openapi31 ? Json31.mapper() : Json.mapper();
+        return mapper.readerFor(parameterClass).with(DeserializationFeature.READ_ENUMS_USING_TO_STRING);
+    }
+
+    /**
+     * Picks the type a parameter is deserialized to from its location; used by both the tree and the buffered
+     * deserialization, and by {@link SchemaCloner}.
+     *
+     * @return the parameter type, or null if the location is not supported
+     * @since 2.2.43
+     */
+    static Class<? extends Parameter> parameterClass(String in) {
+        if ("query".equals(in)) {
+            return QueryParameter.class;
+        } else if ("header".equals(in)) {
+            return HeaderParameter.class;
+        } else if ("path".equals(in)) {
+            return PathParameter.class;
+        } else if ("cookie".equals(in)) {
+            return CookieParameter.class;
+        }
+        return null;
+    }
+
+    private Parameter deserialize(JsonNode node) throws IOException {
         Parameter result = null;
 
-        JsonNode node = jp.getCodec().readTree(jp);
         JsonNode sub = node.get("$ref");
         JsonNode inNode = node.get("in");
         JsonNode desc = node.get("description");
@@ -36,28 +99,9 @@ public class ParameterDeserializer extends JsonDeserializer<Parameter> {
             }
 
         } else if (inNode != null) {
-            String in = inNode.asText();
-
-            ObjectReader reader = null;
-            ObjectMapper mapper = null;
-            if (openapi31) {
-                mapper = Json31.mapper();
-            } else {
-                mapper = Json.mapper();
-            }
-
-
-            if ("query".equals(in)) {
-                reader = mapper.readerFor(QueryParameter.class);
-            } else if ("header".equals(in)) {
-                reader = mapper.readerFor(HeaderParameter.class);
-            } else if ("path".equals(in)) {
-                reader = mapper.readerFor(PathParameter.class);
-            } else if ("cookie".equals(in)) {
-                reader = mapper.readerFor(CookieParameter.class);
-            }
+            ObjectReader reader = getReader(inNode.asText());
             if (reader != null) {
-                result = reader.with(DeserializationFeature.READ_ENUMS_USING_TO_STRING).readValue(node);
+                result = reader.readValue(node);
             }
         }
 
@@ -1,6 +1,7 @@
 package io.swagger.v3.core.util;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -18,6 +19,9 @@ public class PathsDeserializer extends JsonDeserializer<Paths> {
 
     protected boolean openapi31;
 
+    /**
+     * Deserializes the children straight from the parser, without reading a tree of the whole object first.
+     */
     @Override
     public Paths deserialize(JsonParser jp, DeserializationContext ctxt)
             throws IOException {
@@ -28,10 +32,35 @@ public class PathsDeserializer extends JsonDeserializer<Paths> {
         } else {
             mapper = Json.mapper();
         }
+        if (!BufferedObject.isObject(jp) || BufferedObject.requiresTree(ctxt)) {
+            return deserialize(jp.getCodec().readTree(jp), mapper);
+        }
+
+        Paths result = new Paths();
+        Map<String, Object> extensions = new LinkedHashMap<>();
+        JsonToken t = jp.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = jp.nextToken();
+        }
+        for (; t == JsonToken.FIELD_NAME; t = jp.nextToken()) {
+            String childName = jp.currentName();
+            jp.nextToken();
+            // if name start with `x-` consider it an extesion
+            if (childName.startsWith("x-")) {
+                extensions.put(childName, mapper.readValue(jp, Object.class));
+            } else {
+                result.put(childName, mapper.readValue(jp, PathItem.class));
+            }
+        }
+        if (!extensions.isEmpty()) {
+            result.setExtensions(extensions);
+        }
+        return result;
+    }
 
+    private Paths deserialize(JsonNode node, ObjectMapper mapper) {
         Paths result = new Paths();
-        JsonNode node = jp.getCodec().readTree(jp);
-        ObjectNode objectNode = (ObjectNode)node;
+        ObjectNode objectNode = (ObjectNode) node;
         Map<String, Object> extensions = new LinkedHashMap<>();
         for (Iterator<String> it = objectNode.fieldNames(); it.hasNext(); ) {
             String childName = it.next();
@@ -1,5 +1,6 @@
 package io.swagger.v3.core.util;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import io.swagger.v3.oas.models.media.BinarySchema;
 import io.swagger.v3.oas.models.media.BooleanSchema;
@@ -23,7 +24,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The <code>PrimitiveType</code> enumeration defines a mapping of limited set
@@ -253,36 +254,52 @@ public enum PrimitiveType {
      */
     private static final Map<String, PrimitiveType> EXTERNAL_CLASSES;
 
+    /**
+     * Incremented on every change of the custom, excluded and system classes settings, invalidating the memoized
+     * lookups of classes resolved before the change
+     */
+    private static final AtomicInteger configVersion = new AtomicInteger();
+
+    /**
+     * Memoized {@link #fromType(Type)} and {@link #isSystemType(Class)} lookups, by raw class
+     */
+    private static final ClassValue<Memo> MEMOS = new ClassValue<Memo>() {
+        @Override
+        protected Memo computeValue(Class<?> type) {
+            return new Memo();
+        }
+    };
+
     /**
      * Allows to exclude specific classes from KEY_CLASSES mappings to primitive
      *
      */
-    private static Set<String> customExcludedClasses = ConcurrentHashMap.newKeySet();
+    private static final Set<String> customExcludedClasses = ChangeTrackingCollections.newSet(PrimitiveType::configChanged);
 
     /**
      * Allows to exclude specific classes from EXTERNAL_CLASSES mappings to primitive
      *
      */
-    private static Set<String> customExcludedExternalClasses = ConcurrentHashMap.newKeySet();
+    private static final Set<String> customExcludedExternalClasses = ChangeTrackingCollections.newSet(PrimitiveType::configChanged);
 
 
     /**
      * Adds support for custom mapping of classes to primitive types
      */
-    private static Map<String, PrimitiveType> customClasses = new ConcurrentHashMap<>();
+    private static final Map<String, PrimitiveType> customClasses = ChangeTrackingCollections.newMap(PrimitiveType::configChanged);
 
     /**
      * class qualified names prefixes to be considered as "system" types
      */
-    private static Set<String> systemPrefixes = ConcurrentHashMap.newKeySet();
+    private static final Set<String> systemPrefixes = ChangeTrackingCollections.newSet(PrimitiveType::configChanged);
     /**
      * class qualified names NOT to be considered as "system" types
      */
-    private static Set<String> nonSystemTypes = ConcurrentHashMap.newKeySet();
+    private static final Set<String> nonSystemTypes = ChangeTrackingCollections.newSet(PrimitiveType::configChanged);
     /**
      * package names NOT to be considered as "system" types
      */
-    private static Set<String> nonSystemTypePackages = ConcurrentHashMap.newKeySet();
+    private static final Set<String> nonSystemTypePackages = ChangeTrackingCollections.newSet(PrimitiveType::configChanged);
 
     /**
      * Alternative names for primitive types that have to be supported for
@@ -452,7 +469,7 @@ public enum PrimitiveType {
     }
 
     public static PrimitiveType fromTypeAndFormat(Type type, String format) {
-        final Class<?> raw = TypeFactory.defaultInstance().constructType(type).getRawClass();
+        final Class<?> raw = rawClass(type);
         final Collection<PrimitiveType> keys = MULTI_KEY_CLASSES.get(raw);
         if (keys == null || keys.isEmpty() || StringUtils.isBlank(format)) {
             return fromType(type);
@@ -466,7 +483,49 @@ public enum PrimitiveType {
     }
     
     public static PrimitiveType fromType(Type type) {
-        final Class<?> raw = TypeFactory.defaultInstance().constructType(type).getRawClass();
+        return resolve(rawClass(type)).type;
+    }
+
+    /**
+     * Whether a class is a "system" type, i.e. its name starts with one of the {@link #systemPrefixes()}, and it is
+     * neither one of the {@link #nonSystemTypes()} nor in one of the {@link #nonSystemTypePackages()}.
+     */
+    static boolean isSystemType(Class<?> raw) {
+        final Resolution resolution = resolve(raw);
+        Boolean systemType = resolution.systemType;
+        if (systemType == null) {
+            systemType = lookupSystemType(raw);
+            resolution.systemType = systemType;
+        }
+        return systemType;
+    }
+
+    private static Class<?> rawClass(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof JavaType) {
+            return ((JavaType) type).getRawClass();
+        }
+        return TypeFactory.defaultInstance().constructType(type).getRawClass();
+    }
+
+    private static Resolution resolve(Class<?> raw) {
+        final Memo memo = MEMOS.get(raw);
+        Resolution resolution = memo.resolution;
+        final int version = configVersion.get();
+        if (resolution == null || resolution.version != version) {
+            resolution = new Resolution(version, lookup(raw));
+            memo.resolution = resolution;
+        }
+        return resolution;
+    }
+
+    private static void configChanged() {
+        configVersion.incrementAndGet();
+    }
+
+    private static PrimitiveType lookup(Class<?> raw) {
         final PrimitiveType key = KEY_CLASSES.get(raw);
         if (key != null) {
             if (!customExcludedClasses.contains(raw.getName())) {
@@ -503,6 +562,20 @@ public enum PrimitiveType {
         return null;
     }
 
+    private static boolean lookupSystemType(Class<?> raw) {
+        // used while resolving container types to skip resolving system types; possibly extend by checking classloader
+        // and/or other packages
+        for (String systemPrefix : systemPrefixes) {
+            if (raw.getName().startsWith(systemPrefix)) {
+                if (!nonSystemTypes.contains(raw.getName()) &&
+                        !nonSystemTypePackages.contains(raw.getPackage().getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     public static PrimitiveType fromName(String name) {
         if (name == null) {
             return null;
@@ -572,6 +645,21 @@ public enum PrimitiveType {
         }
     }
 
+    private static final class Memo {
+        volatile Resolution resolution;
+    }
+
+    private static final class Resolution {
+        final int version;
+        final PrimitiveType type;
+        volatile Boolean systemType;
+
+        Resolution(int version, PrimitiveType type) {
+            this.version = version;
+            this.type = type;
+        }
+    }
+
     private static class DateStub {
         private DateStub() {
         }
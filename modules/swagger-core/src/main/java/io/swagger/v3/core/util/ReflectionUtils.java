@@ -2,7 +2,6 @@ package io.swagger.v3.core.util;
 
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
-import org.apache.commons.lang3.ArrayUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,12 +19,27 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ReflectionUtils {
     private static final Logger LOGGER = LoggerFactory.getLogger(ReflectionUtils.class);
 
+    private static final Object NONE = new Object();
+
+    /**
+     * Annotation lookups of each class and of the methods it declares. Held by the class itself, so they don't
+     * prevent it from being unloaded.
+     */
+    private static final ClassValue<ClassEntry> CLASS_ENTRIES = new ClassValue<ClassEntry>() {
+        @Override
+        protected ClassEntry computeValue(Class<?> type) {
+            return new ClassEntry();
+        }
+    };
+
     public static Type typeFromString(String type) {
         final PrimitiveType primitive = PrimitiveType.fromName(type);
         if (primitive != null) {
@@ -280,6 +294,22 @@ public class ReflectionUtils {
      * @return annotation if it is found
      */
     public static <A extends Annotation> A getAnnotation(Method method, Class<A> annotationClass) {
+        if (!isCacheable(method.getDeclaringClass(), annotationClass)) {
+            return findAnnotation(method, annotationClass);
+        }
+        Map<Class<?>, Object> cache = methodEntry(method).annotations;
+        Object annotation = cache.get(annotationClass);
+        if (annotation == null) {
+            annotation = findAnnotation(method, annotationClass);
+            if (annotation == null) {
+                annotation = NONE;
+            }
+            cache.putIfAbsent(annotationClass, annotation);
+        }
+        return annotation == NONE ? null : annotationClass.cast(annotation);
+    }
+
+    private static <A extends Annotation> A findAnnotation(Method method, Class<A> annotationClass) {
         A annotation = method.getAnnotation(annotationClass);
         if (annotation == null) {
             for (Annotation metaAnnotation : method.getAnnotations()) {
@@ -288,7 +318,7 @@ public class ReflectionUtils {
                     return annotation;
                 }
             }
-            Method superclassMethod = getOverriddenMethod(method);
+            Method superclassMethod = overriddenMethod(method);
             if (superclassMethod != null) {
                 annotation = getAnnotation(superclassMethod, annotationClass);
             }
@@ -296,7 +326,31 @@ public class ReflectionUtils {
         return annotation;
     }
 
+    /**
+     * Returns an annotation by type from a class, its meta-annotations, superclasses and interfaces.
+     *
+     * @param cls             is the class to find
+     * @param annotationClass is the type of annotation
+     * @param <A>             is the type of annotation
+     * @return annotation if it is found
+     */
     public static <A extends Annotation> A getAnnotation(Class<?> cls, Class<A> annotationClass) {
+        if (!isCacheable(cls, annotationClass)) {
+            return findAnnotation(cls, annotationClass);
+        }
+        Map<Class<?>, Object> cache = CLASS_ENTRIES.get(cls).annotations;
+        Object annotation = cache.get(annotationClass);
+        if (annotation == null) {
+            annotation = findAnnotation(cls, annotationClass);
+            if (annotation == null) {
+                annotation = NONE;
+            }
+            cache.putIfAbsent(annotationClass, annotation);
+        }
+        return annotation == NONE ? null : annotationClass.cast(annotation);
+    }
+
+    private static <A extends Annotation> A findAnnotation(Class<?> cls, Class<A> annotationClass) {
         A annotation = cls.getAnnotation(annotationClass);
         if (annotation == null) {
             for (Annotation metaAnnotation : cls.getAnnotations()) {
@@ -335,7 +389,24 @@ public class ReflectionUtils {
      * @param <A>             is the type of annotation
      * @return List of repeatable annotations if it is found
      */
+    @SuppressWarnings("unchecked")
     public static <A extends Annotation> List<A> getRepeatableAnnotations(Method method, Class<A> annotationClass) {
+        if (!isCacheable(method.getDeclaringClass(), annotationClass)) {
+            return findRepeatableAnnotations(method, annotationClass);
+        }
+        Map<Class<?>, Object> cache = methodEntry(method).repeatableAnnotations;
+        Object annotations = cache.get(annotationClass);
+        if (annotations == null) {
+            annotations = findRepeatableAnnotations(method, annotationClass);
+            if (annotations == null) {
+                annotations = NONE;
+            }
+            cache.putIfAbsent(annotationClass, annotations);
+        }
+        return annotations == NONE ? null : new ArrayList<>((List<A>) annotations);
+    }
+
+    private static <A extends Annotation> List<A> findRepeatableAnnotations(Method method, Class<A> annotationClass) {
         Set<A> annotationsSet = new LinkedHashSet<>();
         A[] annotations = method.getAnnotationsByType(annotationClass);
         if (annotations != null) {
@@ -347,7 +418,7 @@ public class ReflectionUtils {
                 annotationsSet.addAll(Arrays.asList(annotations));
             }
         }
-        Method superclassMethod = getOverriddenMethod(method);
+        Method superclassMethod = overriddenMethod(method);
         if (superclassMethod != null) {
             List<A> superAnnotations = getRepeatableAnnotations(superclassMethod, annotationClass);
             if (superAnnotations != null) {
@@ -368,7 +439,24 @@ public class ReflectionUtils {
         return Arrays.asList(annotations);
     }
 
+    @SuppressWarnings("unchecked")
     public static <A extends Annotation> A[] getRepeatableAnnotationsArray(Class<?> cls, Class<A> annotationClass) {
+        if (!isCacheable(cls, annotationClass)) {
+            return findRepeatableAnnotationsArray(cls, annotationClass);
+        }
+        Map<Class<?>, Object> cache = CLASS_ENTRIES.get(cls).repeatableAnnotations;
+        Object annotations = cache.get(annotationClass);
+        if (annotations == null) {
+            annotations = findRepeatableAnnotationsArray(cls, annotationClass);
+            if (annotations == null) {
+                annotations = NONE;
+            }
+            cache.putIfAbsent(annotationClass, annotations);
+        }
+        return annotations == NONE ? null : ((A[]) annotations).clone();
+    }
+
+    private static <A extends Annotation> A[] findRepeatableAnnotationsArray(Class<?> cls, Class<A> annotationClass) {
         A[] annotations = cls.getAnnotationsByType(annotationClass);
         if (annotations == null || annotations.length == 0) {
             for (Annotation metaAnnotation : cls.getAnnotations()) {
@@ -399,33 +487,106 @@ public class ReflectionUtils {
         return annotations;
     }
 
+    /**
+     * Returns the parameter annotations of a method, merged with the annotations of the overridden methods whose type
+     * isn't already present on the parameter.
+     *
+     * @param method is the method
+     * @return the parameter annotations, a new array on each call
+     */
     public static Annotation[][] getParameterAnnotations(Method method) {
-        Annotation[][] methodAnnotations = method.getParameterAnnotations();
-        Method overriddenmethod = getOverriddenMethod(method);
-
-        while (overriddenmethod != null) {
-            Annotation[][] overriddenAnnotations = overriddenmethod
-                    .getParameterAnnotations();
+        MethodEntry entry = methodEntry(method);
+        Annotation[][] parameterAnnotations = entry.parameterAnnotations;
+        if (parameterAnnotations == null) {
+            parameterAnnotations = findParameterAnnotations(method);
+            entry.parameterAnnotations = parameterAnnotations;
+        }
+        Annotation[][] copy = new Annotation[parameterAnnotations.length][];
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            copy[i] = parameterAnnotations[i].clone();
+        }
+        return copy;
+    }
 
+    private static Annotation[][] findParameterAnnotations(Method method) {
+        Annotation[][] methodAnnotations = method.getParameterAnnotations();
+        Method overriddenMethod = overriddenMethod(method);
+        if (overriddenMethod == null) {
+            return methodAnnotations;
+        }
+        List<List<Annotation>> merged = new ArrayList<>(methodAnnotations.length);
+        List<Set<Class<? extends Annotation>>> types = new ArrayList<>(methodAnnotations.length);
+        for (Annotation[] annotations : methodAnnotations) {
+            List<Annotation> parameterAnnotations = new ArrayList<>(Arrays.asList(annotations));
+            Set<Class<? extends Annotation>> parameterTypes = new HashSet<>();
+            for (Annotation annotation : annotations) {
+                parameterTypes.add(annotation.annotationType());
+            }
+            merged.add(parameterAnnotations);
+            types.add(parameterTypes);
+        }
+        List<Annotation> added = new ArrayList<>();
+        while (overriddenMethod != null) {
+            Annotation[][] overriddenAnnotations = overriddenMethod.getParameterAnnotations();
             for (int i = 0; i < methodAnnotations.length; i++) {
-                List<Type> types = new ArrayList<>();
-                for (int j = 0; j < methodAnnotations[i].length; j++) {
-                    types.add(methodAnnotations[i][j].annotationType());
-                }
-                for (int j = 0; j < overriddenAnnotations[i].length; j++) {
-                    if (!types.contains(overriddenAnnotations[i][j]
-                            .annotationType())) {
-                        methodAnnotations[i] = ArrayUtils.add(
-                                methodAnnotations[i],
-                                overriddenAnnotations[i][j]);
+                added.clear();
+                for (Annotation annotation : overriddenAnnotations[i]) {
+                    if (!types.get(i).contains(annotation.annotationType())) {
+                        added.add(annotation);
                     }
                 }
+                for (Annotation annotation : added) {
+                    merged.get(i).add(annotation);
+                    types.get(i).add(annotation.annotationType());
+                }
+            }
+            overriddenMethod = overriddenMethod(overriddenMethod);
+        }
+        for (int i = 0; i < methodAnnotations.length; i++) {
+            methodAnnotations[i] = merged.get(i).toArray(new Annotation[0]);
+        }
+        return methodAnnotations;
+    }
 
+    private static Method overriddenMethod(Method method) {
+        MethodEntry entry = methodEntry(method);
+        Object overridden = entry.overriddenMethod;
+        if (overridden == null) {
+            overridden = getOverriddenMethod(method);
+            entry.overriddenMethod = overridden == null ? NONE : overridden;
+        }
+        return overridden == NONE ? null : (Method) overridden;
+    }
+
+    private static MethodEntry methodEntry(Method method) {
+        Map<Method, MethodEntry> methods = CLASS_ENTRIES.get(method.getDeclaringClass()).methods;
+        MethodEntry entry = methods.get(method);
+        if (entry == null) {
+            entry = new MethodEntry();
+            MethodEntry existing = methods.putIfAbsent(method, entry);
+            if (existing != null) {
+                entry = existing;
             }
+        }
+        return entry;
+    }
 
-            overriddenmethod = getOverriddenMethod(overriddenmethod);
+    /**
+     * Whether the lookups of the given annotation type on the given class can be cached on the class: the annotation
+     * type must be visible from the class loader of the class, otherwise the cache would keep the annotation type, and
+     * its class loader, reachable as long as the class.
+     */
+    private static boolean isCacheable(Class<?> cls, Class<?> annotationClass) {
+        ClassLoader annotationLoader = annotationClass.getClassLoader();
+        if (annotationLoader == null) {
+            return true;
         }
-        return methodAnnotations;
+        for (ClassLoader loader = cls.getClassLoader(); loader != null; loader = loader.getParent()) {
+            if (loader == annotationLoader) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -444,17 +605,7 @@ public class ReflectionUtils {
     }
 
     public static boolean isSystemTypeNotArray(JavaType type) {
-        // used while resolving container types to skip resolving system types; possibly extend by checking classloader
-        // and/or other packages
-        for (String systemPrefix: PrimitiveType.systemPrefixes()) {
-            if (type.getRawClass().getName().startsWith(systemPrefix)) {
-                if (    !PrimitiveType.nonSystemTypes().contains(type.getRawClass().getName()) &&
-                        !PrimitiveType.nonSystemTypePackages().contains(type.getRawClass().getPackage().getName())) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return PrimitiveType.isSystemType(type.getRawClass());
     }
 
     /**
@@ -488,4 +639,17 @@ public class ReflectionUtils {
         }
 
     }
+
+    private static final class ClassEntry {
+        final Map<Class<?>, Object> annotations = new ConcurrentHashMap<>();
+        final Map<Class<?>, Object> repeatableAnnotations = new ConcurrentHashMap<>();
+        final Map<Method, MethodEntry> methods = new ConcurrentHashMap<>();
+    }
+
+    private static final class MethodEntry {
+        final Map<Class<?>, Object> annotations = new ConcurrentHashMap<>();
+        final Map<Class<?>, Object> repeatableAnnotations = new ConcurrentHashMap<>();
+        volatile Object overriddenMethod;
+        volatile Annotation[][] parameterAnnotations;
+    }
 }
@@ -0,0 +1,331 @@
+package io.swagger.v3.core.util;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.DeepCopier;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.info.License;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.JsonSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Clones models with a structural copy ({@link DeepCopier}), producing the same result as serializing them with
+ * {@link Json} (or {@link Json31}) and deserializing them back: each copied schema gets the concrete type
+ * {@link ModelDeserializer} would resolve and loses the properties which are not serialized for the spec version;
+ * parameters and security schemes are normalized as {@link ParameterDeserializer} and
+ * {@link SecuritySchemeDeserializer} do, and binary examples and defaults become base64 strings.
+ *
+ * <p>The concrete types are picked by the same helpers as the deserializers. Unlike deserialization,
+ * {@link Schema#getJsonSchema()} is copied as is rather than rebuilt from the serialized tree.</p>
+ *
+ * @since 2.2.43
+ */
+public class SchemaCloner {
+
+    private static final Field[] SCHEMA_FIELDS = declaredFields(Schema.class);
+    private static final Field[] PARAMETER_FIELDS = declaredFields(Parameter.class);
+
+    /**
+     * The immutable non null values assigned to the fields of a class by its default constructor.
+     */
+    private static final ClassValue<Map<Field, Object>> DEFAULTS = new ClassValue<Map<Field, Object>>() {
+        @Override
+        protected Map<Field, Object> computeValue(Class<?> type) {
+            Map<Field, Object> defaults = new HashMap<>();
+            Object instance;
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                instance = constructor.newInstance();
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return defaults;
+            }
+            for (Class<?> cls = type; cls != null && !cls.getName().startsWith("java."); cls = cls.getSuperclass()) {
+                for (Field field : declaredFields(cls)) {
+                    try {
+                        Object value = field.get(instance);
+                        if (value instanceof String || value instanceof Boolean || value instanceof Number || value instanceof Enum) {
+                            defaults.put(field, value);
+                        }
+                    } catch (IllegalAccessException e) {
+                        // not a default
+                    }
+                }
+            }
+            return defaults;
+        }
+    };
+
+    private static final Set<String> IGNORED_FIELDS_30 = new HashSet<>(Arrays.asList(
+            "name", "exampleSetFlag", "specVersion", "booleanSchemaValue",
+            "exclusiveMinimumValue", "exclusiveMaximumValue", "contains", "$id", "$anchor", "$schema", "types",
+            "patternProperties", "prefixItems", "contentEncoding", "contentMediaType", "contentSchema", "propertyNames",
+            "unevaluatedProperties", "maxContains", "minContains", "additionalItems", "unevaluatedItems",
+            "_if", "_else", "then", "dependentSchemas", "dependentRequired", "$comment", "examples", "_const"));
+
+    private static final Set<String> IGNORED_FIELDS_31 = new HashSet<>(Arrays.asList(
+            "name", "exampleSetFlag", "specVersion", "booleanSchemaValue",
+            "nullable", "exclusiveMinimum", "exclusiveMaximum", "type"));
+
+    private SchemaCloner() {
+        // utility class
+    }
+
+    /**
+     * Clones the given model (e.g. a Schema or a MediaType), normalizing all schemas it contains.
+     *
+     * @param source    the model to clone
+     * @param openapi31 whether to normalize according to OpenAPI 3.1 serialization
+     * @param <T>       the type of the model
+     * @return the clone, or null if source is null
+     */
+    public static <T> T clone(T source, boolean openapi31) {
+        return DeepCopier.copy(source, normalizer(openapi31));
+    }
+
+    /**
+     * Clones the given schema, normalizing it and all its nested schemas; the name of the schema is retained.
+     *
+     * @param schema    the schema to clone
+     * @param openapi31 whether to normalize according to OpenAPI 3.1 serialization
+     * @return the clone, or null if schema is null
+     */
+    public static Schema cloneSchema(Schema schema, boolean openapi31) {
+        if (schema == null) {
+            return null;
+        }
+        Schema clone = clone(schema, openapi31);
+        if (clone != null) {
+            clone.setName(schema.getName());
+        }
+        return clone;
+    }
+
+    private static UnaryOperator<Object> normalizer(boolean openapi31) {
+        return copied -> {
+            if (copied instanceof Schema) {
+                return openapi31 ? normalize31((Schema) copied) : normalize30((Schema) copied);
+            }
+            if (copied instanceof Parameter) {
+                return normalize((Parameter) copied, openapi31);
+            }
+            if (copied instanceof SecurityScheme) {
+                return normalize((SecurityScheme) copied);
+            }
+            restoreDefaults(copied);
+            if (!openapi31) {
+                dropOpenAPI31Properties(copied);
+            } else if (copied instanceof OpenAPI) {
+                ((OpenAPI) copied).setSpecVersion(SpecVersion.V31);
+            }
+            return copied;
+        };
+    }
+
+    /**
+     * Null properties are not serialized, so deserialized objects keep the values their constructor assigns.
+     */
+    private static void restoreDefaults(Object copied) {
+        try {
+            for (Map.Entry<Field, Object> entry : DEFAULTS.get(copied.getClass()).entrySet()) {
+                if (entry.getKey().get(copied) == null) {
+                    entry.getKey().set(copied, entry.getValue());
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Could not restore defaults of " + copied.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Clears the properties ignored by the OpenAPI 3.0 mixins.
+     */
+    private static void dropOpenAPI31Properties(Object copied) {
+        if (copied instanceof OpenAPI) {
+            OpenAPI openAPI = (OpenAPI) copied;
+            openAPI.setWebhooks(null);
+            openAPI.setSpecVersion(SpecVersion.V30);
+        } else if (copied instanceof Info) {
+            ((Info) copied).setSummary(null);
+        } else if (copied instanceof License) {
+            ((License) copied).setIdentifier(null);
+        } else if (copied instanceof Components) {
+            ((Components) copied).setPathItems(null);
+        } else if (copied instanceof Discriminator) {
+            ((Discriminator) copied).setExtensions(null);
+        }
+    }
+
+    private static Parameter normalize(Parameter parameter, boolean openapi31) {
+        if (parameter.get$ref() != null) {
+            Parameter ref = new Parameter().$ref(parameter.get$ref());
+            if (openapi31) {
+                ref.setDescription(parameter.getDescription());
+            }
+            return ref;
+        }
+        Class<? extends Parameter> parameterClass = ParameterDeserializer.parameterClass(parameter.getIn());
+        if (parameterClass == null) {
+            return null;
+        }
+        Parameter target = newInstance(parameterClass);
+        try {
+            for (Field field : PARAMETER_FIELDS) {
+                // subclasses hold their own location field
+                if ("in".equals(field.getName())) {
+                    continue;
+                }
+                Object value = field.get(parameter);
+                if (value != null) {
+                    field.set(target, value);
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Could not copy parameter", e);
+        }
+        if (target.getExample() instanceof byte[]) {
+            target.setExample(encode(target.getExample()));
+        }
+        return target;
+    }
+
+    private static SecurityScheme normalize(SecurityScheme securityScheme) {
+        if (securityScheme.getType() == null) {
+            return null;
+        }
+        SecurityScheme target;
+        try {
+            target = SecuritySchemeDeserializer.securityScheme(securityScheme.getType().toString(),
+                    field -> fieldText(securityScheme, field), securityScheme::getFlows);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not copy security scheme", e);
+        }
+        if (securityScheme.getExtensions() != null) {
+            for (Map.Entry<String, Object> extension : securityScheme.getExtensions().entrySet()) {
+                target.addExtension(extension.getKey(), extension.getValue());
+            }
+        }
+        return target;
+    }
+
+    /**
+     * @return the serialized text of a property of the security scheme
+     */
+    private static String fieldText(SecurityScheme securityScheme, String field) {
+        switch (field) {
+            case "description":
+                return securityScheme.getDescription();
+            case "scheme":
+                return securityScheme.getScheme();
+            case "bearerFormat":
+                return securityScheme.getBearerFormat();
+            case "name":
+                return securityScheme.getName();
+            case "in":
+                return securityScheme.getIn() == null ? null : securityScheme.getIn().toString();
+            case "openIdConnectUrl":
+                return securityScheme.getOpenIdConnectUrl();
+            default:
+                return null;
+        }
+    }
+
+    private static Schema normalize30(Schema schema) {
+        if (StringUtils.isNotBlank(schema.get$ref())) {
+            return new Schema().$ref(schema.get$ref());
+        }
+        boolean composed = schema.getAllOf() != null || schema.getAnyOf() != null || schema.getOneOf() != null;
+        Class<? extends Schema> schemaClass = ModelDeserializer.schemaClass(composed, schema.getType(), schema.getFormat(),
+                false, schema.getAdditionalProperties());
+        if (schemaClass == null) {
+            return null;
+        }
+        Schema target = copyFields(schema, newInstance(schemaClass), IGNORED_FIELDS_30);
+        if (target instanceof IntegerSchema && StringUtils.isBlank(schema.getFormat())) {
+            target.setFormat(null);
+        }
+        return target;
+    }
+
+    private static Schema normalize31(Schema schema) {
+        if (schema.getBooleanSchemaValue() != null) {
+            return new Schema().booleanSchemaValue(schema.getBooleanSchemaValue());
+        }
+        return copyFields(schema, new JsonSchema(), IGNORED_FIELDS_31);
+    }
+
+    private static <T> T newInstance(Class<T> type) {
+        try {
+            return type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Copies the non null fields of source not in ignored into target, as deserialization sets the serialized
+     * properties on a newly created instance.
+     */
+    private static Schema copyFields(Schema source, Schema target, Set<String> ignored) {
+        try {
+            for (Field field : SCHEMA_FIELDS) {
+                if (ignored.contains(field.getName())) {
+                    continue;
+                }
+                Object value = field.get(source);
+                if (value != null) {
+                    field.set(target, value);
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Could not copy schema", e);
+        }
+        if (source.getExample() != null || source.getExampleSetFlag()) {
+            target.setExampleSetFlag(true);
+        }
+        if (target.getExample() instanceof byte[]) {
+            target.setExample(encode(target.getExample()));
+        }
+        if (target.getDefault() instanceof byte[]) {
+            target.setDefault(encode(target.getDefault()));
+        }
+        return target;
+    }
+
+    private static String encode(Object bytes) {
+        return Base64.getEncoder().encodeToString((byte[]) bytes);
+    }
+
+    private static Field[] declaredFields(Class<?> cls) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : cls.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                continue;
+            }
+            field.setAccessible(true);
+            fields.add(field);
+        }
+        return fields.toArray(new Field[0]);
+    }
+}
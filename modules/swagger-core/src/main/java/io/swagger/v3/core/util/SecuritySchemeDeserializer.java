@@ -2,6 +2,7 @@ package io.swagger.v3.core.util;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -11,25 +12,63 @@ import io.swagger.v3.oas.models.security.SecurityScheme;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
-import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
 public class SecuritySchemeDeserializer extends JsonDeserializer<SecurityScheme> {
 
     protected boolean openapi31;
 
+    private static final Set<String> CAPTURED = new HashSet<>(Arrays.asList(
+            "type", "description", "scheme", "bearerFormat", "name", "in", "openIdConnectUrl"));
+    private static final Set<String> SEPARATED = Collections.singleton("flows");
+
+    /**
+     * Reads objects once into a token buffer, and deserializes the flows from the buffer if the scheme is an OAuth2
+     * one; results are the same as deserializing a tree of the object.
+     */
     @Override
     public SecurityScheme deserialize(JsonParser jp, DeserializationContext ctxt)
             throws IOException {
-        ObjectMapper mapper = null;
-        if (openapi31) {
-            mapper = Json31.mapper();
-        } else {
-            mapper = Json.mapper();
+        ObjectMapper mapper = openapi31 ? Json31.mapper() : Json.mapper();
+        if (!BufferedObject.isObject(jp) || BufferedObject.requiresTree(ctxt)) {
+            return deserialize(jp, jp.getCodec().readTree(jp), mapper);
         }
-        SecurityScheme result = null;
+        BufferedObject object = BufferedObject.read(jp, ctxt, mapper, CAPTURED, SEPARATED);
 
-        JsonNode node = jp.getCodec().readTree(jp);
+        JsonNode inNode = object.get("type");
+        if (inNode == null) {
+            return null;
+        }
+        String type = inNode.asText();
+        if (Arrays.stream(SecurityScheme.Type.values()).noneMatch(t -> t.toString().equals(type))) {
+            // wrong type, throw exception
+            throw new JsonParseException(jp, String.format("SecurityScheme type %s not allowed", type));
+        }
+        SecurityScheme result = securityScheme(type, field -> getFieldText(field, object), () -> {
+            JsonParser flows = object.separatedParser("flows");
+            return flows == null ? null : mapper.readValue(flows, OAuthFlows.class);
+        });
+        try (JsonParser parser = object.asParser()) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.currentName();
+                parser.nextToken();
+                if (fieldName.startsWith("x-")) {
+                    result.addExtension(fieldName, Json.mapper().readValue(parser, Object.class));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return result;
+    }
+
+    private SecurityScheme deserialize(JsonParser jp, JsonNode node, ObjectMapper mapper) throws IOException {
+        SecurityScheme result = null;
 
         JsonNode inNode = node.get("type");
 
@@ -39,31 +78,8 @@ public class SecuritySchemeDeserializer extends JsonDeserializer<SecurityScheme>
                 // wrong type, throw exception
                 throw new JsonParseException(jp, String.format("SecurityScheme type %s not allowed", type));
             }
-            result = new SecurityScheme()
-                    .description(getFieldText("description", node));
-
-            if ("http".equals(type)) {
-                result
-                        .type(SecurityScheme.Type.HTTP)
-                        .scheme(getFieldText("scheme", node))
-                        .bearerFormat(getFieldText("bearerFormat", node));
-            } else if ("apiKey".equals(type)) {
-                result
-                        .type(SecurityScheme.Type.APIKEY)
-                        .name(getFieldText("name", node))
-                        .in(getIn(getFieldText("in", node)));
-            } else if ("openIdConnect".equals(type)) {
-                result
-                        .type(SecurityScheme.Type.OPENIDCONNECT)
-                        .openIdConnectUrl(getFieldText("openIdConnectUrl", node));
-            } else if ("oauth2".equals(type)) {
-                result
-                        .type(SecurityScheme.Type.OAUTH2)
-                        .flows(mapper.convertValue(node.get("flows"), OAuthFlows.class));
-            } else if ("mutualTLS".equals(type)) {
-                result
-                        .type(SecurityScheme.Type.MUTUALTLS);
-            }
+            result = securityScheme(type, field -> getFieldText(field, node),
+                    () -> mapper.convertValue(node.get("flows"), OAuthFlows.class));
             final Iterator<String> fieldNames = node.fieldNames();
             while(fieldNames.hasNext()) {
                 final String fieldName = fieldNames.next();
@@ -78,10 +94,67 @@ public class SecuritySchemeDeserializer extends JsonDeserializer<SecurityScheme>
         return result;
     }
 
-    private SecurityScheme.In getIn(String value) {
+    /**
+     * Reads the flows of an OAuth2 security scheme, see {@link #securityScheme(String, Function, FlowsReader)}.
+     *
+     * @since 2.2.43
+     */
+    @FunctionalInterface
+    interface FlowsReader {
+        OAuthFlows read() throws IOException;
+    }
+
+    /**
+     * Builds a security scheme from the properties its type supports, without extensions; used by both the tree and
+     * the buffered deserialization, and by {@link SchemaCloner}.
+     *
+     * @param type      the type of the security scheme
+     * @param fieldText returns the text of a property, or null if absent
+     * @param flows     reads the flows, only called for an OAuth2 security scheme
+     * @return the security scheme
+     * @since 2.2.43
+     */
+    static SecurityScheme securityScheme(String type, Function<String, String> fieldText, FlowsReader flows) throws IOException {
+        SecurityScheme result = new SecurityScheme()
+                .description(fieldText.apply("description"));
+
+        if ("http".equals(type)) {
+            result
+                    .type(SecurityScheme.Type.HTTP)
+                    .scheme(fieldText.apply("scheme"))
+                    .bearerFormat(fieldText.apply("bearerFormat"));
+        } else if ("apiKey".equals(type)) {
+            result
+                    .type(SecurityScheme.Type.APIKEY)
+                    .name(fieldText.apply("name"))
+                    .in(getIn(fieldText.apply("in")));
+        } else if ("openIdConnect".equals(type)) {
+            result
+                    .type(SecurityScheme.Type.OPENIDCONNECT)
+                    .openIdConnectUrl(fieldText.apply("openIdConnectUrl"));
+        } else if ("oauth2".equals(type)) {
+            result
+                    .type(SecurityScheme.Type.OAUTH2)
+                    .flows(flows.read());
+        } else if ("mutualTLS".equals(type)) {
+            result
+                    .type(SecurityScheme.Type.MUTUALTLS);
+        }
+        return result;
+    }
+
+    private static SecurityScheme.In getIn(String value) {
         return Arrays.stream(SecurityScheme.In.values()).filter(i -> i.toString().equals(value)).findFirst().orElse(null);
     }
 
+    private String getFieldText(String fieldName, BufferedObject object) {
+        JsonNode inNode = object.get(fieldName);
+        if (inNode != null) {
+            return inNode.asText();
+        }
+        return null;
+    }
+
     private String getFieldText(String fieldName, JsonNode node) {
         JsonNode inNode = node.get(fieldName);
         if (inNode != null) {
@@ -1,6 +1,7 @@
 package io.swagger.v3.core.converting;
 
 import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.AnnotatedTypeKey;
 import io.swagger.v3.core.converter.ModelConverter;
 import io.swagger.v3.core.converter.ModelConverterContext;
 import io.swagger.v3.core.converter.ModelConverterContextImpl;
@@ -63,9 +64,9 @@ public class AnnotatedTypeCachingTest {
         assertNotNull(userSchema);
         Field processedTypesField = ModelConverterContextImpl.class.getDeclaredField("processedTypes");
         processedTypesField.setAccessible(true);
-        Set<AnnotatedType> processedTypes = (Set<AnnotatedType>) processedTypesField.get(context);
+        Set<AnnotatedTypeKey> processedTypes = (Set<AnnotatedTypeKey>) processedTypesField.get(context);
         long stringTypeCount = processedTypes.stream()
-                .filter(annotatedType -> annotatedType.getType().equals(String.class))
+                .filter(key -> key.getType().equals(String.class))
                 .count();
         assertEquals(stringTypeCount, 1, "With the correct equals/hashCode, String type should be added to the cache only once.");
     }
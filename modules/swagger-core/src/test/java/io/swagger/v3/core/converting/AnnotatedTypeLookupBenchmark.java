@@ -0,0 +1,178 @@
+package io.swagger.v3.core.converting;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.AnnotatedTypeKey;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the lookups done by {@code ModelConverterContextImpl.resolve} for each resolved type (processed types
+ * set, then model by type map), keyed by {@link AnnotatedTypeKey} against the previous keys normalizing the context
+ * annotations on every {@code hashCode} and {@code equals}.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.swagger.v3.core.converting.AnnotatedTypeLookupBenchmark} from the swagger-core module.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnnotatedTypeLookupBenchmark {
+
+    private final Set<AnnotatedTypeKey> processedKeys = new HashSet<>();
+    private final Map<AnnotatedTypeKey, Object> modelByKey = new HashMap<>();
+    private final Set<LegacyKey> processedLegacyKeys = new HashSet<>();
+    private final Map<LegacyKey, Object> modelByLegacyKey = new HashMap<>();
+    private List<Field> fields;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        fields = Arrays.asList(Model.class.getDeclaredFields());
+        for (Field field : fields) {
+            AnnotatedType type = typeOf(field);
+            processedKeys.add(type.key());
+            modelByKey.put(type.key(), field);
+            LegacyKey legacyKey = new LegacyKey(typeOf(field));
+            processedLegacyKeys.add(legacyKey);
+            modelByLegacyKey.put(legacyKey, field);
+        }
+    }
+
+    @Benchmark
+    public void canonicalKey(Blackhole blackhole) {
+        for (Field field : fields) {
+            AnnotatedType type = typeOf(field);
+            AnnotatedTypeKey key = type.key();
+            if (!processedKeys.add(key)) {
+                blackhole.consume(modelByKey.get(key));
+            }
+        }
+    }
+
+    @Benchmark
+    public void normalizingKey(Blackhole blackhole) {
+        for (Field field : fields) {
+            LegacyKey key = new LegacyKey(typeOf(field));
+            if (processedLegacyKeys.contains(key)) {
+                blackhole.consume(modelByLegacyKey.get(key));
+            } else {
+                processedLegacyKeys.add(key);
+            }
+        }
+    }
+
+    private static AnnotatedType typeOf(Field field) {
+        return new AnnotatedType()
+                .type(field.getGenericType())
+                .ctxAnnotations(field.getAnnotations())
+                .schemaProperty(true)
+                .propertyName(field.getName());
+    }
+
+    /**
+     * The equality of {@link AnnotatedType} before {@link AnnotatedTypeKey}.
+     */
+    private static final class LegacyKey {
+        private final AnnotatedType type;
+
+        LegacyKey(AnnotatedType type) {
+            this.type = type;
+        }
+
+        private static List<Annotation> processed(Annotation[] annotations) {
+            if (annotations == null || annotations.length == 0) {
+                return new ArrayList<>();
+            }
+            return Arrays.stream(annotations)
+                    .filter(a -> {
+                        String pkg = a.annotationType().getPackage().getName();
+                        return !pkg.startsWith("java.") && !pkg.startsWith("jdk.") && !pkg.startsWith("sun.");
+                    })
+                    .sorted(Comparator.comparing(a -> a.annotationType().getName()))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof LegacyKey)) return false;
+            AnnotatedType that = ((LegacyKey) o).type;
+            return type.isIncludePropertiesWithoutJSONView() == that.isIncludePropertiesWithoutJSONView() &&
+                    type.isSchemaProperty() == that.isSchemaProperty() &&
+                    type.isSubtype() == that.isSubtype() &&
+                    Objects.equals(type.getType(), that.getType()) &&
+                    Objects.equals(processed(type.getCtxAnnotations()), processed(that.getCtxAnnotations())) &&
+                    Objects.equals(type.getJsonViewAnnotation(), that.getJsonViewAnnotation()) &&
+                    (!type.isSchemaProperty() || Objects.equals(type.getPropertyName(), that.getPropertyName()));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type.getType(), type.getJsonViewAnnotation(), type.isIncludePropertiesWithoutJSONView(),
+                    processed(type.getCtxAnnotations()), type.isSchemaProperty(), type.isSubtype(),
+                    type.isSchemaProperty() ? type.getPropertyName() : null);
+        }
+    }
+
+    static class Model {
+        @Schema(description = "the id")
+        @JsonProperty("id")
+        @NotNull
+        public Long id;
+        @Schema(description = "the name", maxLength = 64)
+        @Size(max = 64)
+        @Deprecated
+        public String name;
+        @Schema(description = "the tags")
+        @JsonProperty("tags")
+        public List<String> tags;
+        @Schema(description = "the attributes")
+        public Map<String, Integer> attributes;
+        @JsonProperty("parent")
+        @NotNull
+        public Model parent;
+        @Schema(description = "the children")
+        @Size(min = 1)
+        public List<Model> children;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AnnotatedTypeLookupBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -1,6 +1,7 @@
 package io.swagger.v3.core.converting;
 
 import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.AnnotatedTypeKey;
 import org.testng.annotations.Test;
 
 import java.lang.annotation.Annotation;
@@ -14,6 +15,8 @@ import java.util.Set;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 public class AnnotatedTypeTest {
@@ -148,4 +151,22 @@ public class AnnotatedTypeTest {
         assertEquals(complexPropA.hashCode(), complexPropC.hashCode(),
                 "When schemaProperty is true, hash codes must be equal if propertyNames are the same.");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testKey_shouldBeMemoizedUntilTypeChanges() {
+        Annotation annA = getAnnotationInstance(TestAnnA.class);
+        AnnotatedType type = new AnnotatedType(String.class).ctxAnnotations(new Annotation[]{annA});
+        AnnotatedTypeKey key = type.key();
+        assertSame(type.key(), key, "The key should be computed once.");
+        assertEquals(key, new AnnotatedType(String.class).ctxAnnotations(new Annotation[]{annA}).key());
+
+        type.name("other").resolveAsRef(true);
+        assertSame(type.key(), key, "Fields not compared by equals should not change the key.");
+
+        type.schemaProperty(true).propertyName("fieldA");
+        assertNotEquals(type.key(), key, "The key should be recomputed when a compared field changes.");
+        type.schemaProperty(false).propertyName(null);
+        assertEquals(type.key(), key);
+        assertNotSame(type.key(), key);
+    }
+}
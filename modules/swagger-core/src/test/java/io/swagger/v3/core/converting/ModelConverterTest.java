@@ -3,7 +3,9 @@ package io.swagger.v3.core.converting;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.collect.ImmutableSet;
+import io.swagger.v3.core.converter.ModelConverter;
 import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.jackson.ModelResolver;
 import io.swagger.v3.core.matchers.SerializationMatchers;
 import io.swagger.v3.core.oas.models.Cat;
 import io.swagger.v3.core.oas.models.ClientOptInput;
@@ -24,6 +26,7 @@ import io.swagger.v3.core.oas.models.Person;
 import io.swagger.v3.core.oas.models.composition.AbstractModelWithApiModel;
 import io.swagger.v3.core.oas.models.composition.ModelWithUrlProperty;
 import io.swagger.v3.core.oas.models.composition.Pet;
+import io.swagger.v3.core.util.Configuration;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.ResourceUtils;
 import io.swagger.v3.core.util.Yaml;
@@ -43,6 +46,7 @@ import java.net.URL;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeSet;
 import java.util.UUID;
@@ -50,7 +54,9 @@ import java.util.UUID;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -400,6 +406,60 @@ public class ModelConverterTest {
 
     }
 
+    @Test(description = "it should return the chain bound to the current thread for its OpenAPI version")
+    public void bindConverters() {
+        ModelConverters global = ModelConverters.getInstance();
+        ModelConverters chain = global.copy();
+        assertNotSame(chain, global);
+        assertEquals(chain.getConverters(), global.getConverters());
+
+        try (ModelConverters.Binding binding = chain.bind()) {
+            assertSame(ModelConverters.current(), chain);
+            assertSame(ModelConverters.getInstance(), chain);
+            assertSame(ModelConverters.getInstance(false, Schema.SchemaResolution.DEFAULT), chain);
+            assertNotSame(ModelConverters.getInstance(true), chain);
+            try (ModelConverters.Binding nested = global.copy().bind()) {
+                assertNotSame(ModelConverters.getInstance(), chain);
+            }
+            assertSame(ModelConverters.getInstance(), chain);
+        }
+        assertNull(ModelConverters.current());
+        assertSame(ModelConverters.getInstance(), global);
+
+        chain.addConverter(new ModelResolver(Json.mapper()));
+        assertEquals(chain.getConverters().size(), global.getConverters().size() + 1);
+    }
+
+    @Test(description = "it should copy a chain with a resolver built from the configuration")
+    public void copyConvertersWithConfiguration() {
+        ModelConverters global = ModelConverters.getInstance().copy();
+        ModelConverter added = new ModelResolver(Json.mapper());
+        global.addConverter(added);
+        Configuration configuration = new Configuration().groupsValidationStrategy(Configuration.GroupsValidationStrategy.NEVER);
+
+        ModelConverters chain = global.copy(configuration);
+        List<ModelConverter> converters = chain.getConverters();
+        assertEquals(converters.size(), global.getConverters().size());
+        assertSame(converters.get(0), added);
+        ModelResolver resolver = (ModelResolver) converters.get(converters.size() - 1);
+        assertNotSame(resolver, global.getConverters().get(converters.size() - 1));
+        assertSame(resolver.getConfiguration(), configuration);
+
+        ModelConverters copy = chain.copy(new Configuration());
+        assertEquals(copy.getConverters().size(), converters.size());
+        assertNotSame(copy.getConverters().get(converters.size() - 1), resolver);
+    }
+
+    @Test(description = "it should copy an OpenAPI 3.1 chain without changing the given configuration")
+    public void copyConverters31KeepsConfiguration() {
+        Configuration configuration = new Configuration().openAPI31(true).schemaResolution(Schema.SchemaResolution.INLINE);
+
+        ModelConverters chain = ModelConverters.getInstance(true).copy(configuration);
+        assertEquals(configuration.getSchemaResolution(), Schema.SchemaResolution.INLINE);
+        ModelResolver resolver = (ModelResolver) chain.getConverters().get(chain.getConverters().size() - 1);
+        assertEquals(resolver.getConfiguration().getSchemaResolution(), Schema.SchemaResolution.DEFAULT);
+    }
+
     @JsonSerialize(as = AnnotatedImplementationClass.class)
     abstract class BaseClass {
         public abstract String field();
@@ -0,0 +1,104 @@
+package io.swagger.v3.core.deserialization;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.core.util.ObjectMapperFactory;
+import io.swagger.v3.core.util.ResourceUtils;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.core.util.Yaml31;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.HeaderParameter;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * The deserializers read tokens rather than trees; documents deserialize the same as when converted from a tree.
+ */
+public class StreamingDeserializationTest {
+
+    @DataProvider
+    public Object[][] specs() {
+        return new Object[][]{
+                {"specFiles/petstore-3.0-v2.json", Json.mapper()},
+                {"specFiles/compositionTest-3.0.json", Json.mapper()},
+                {"specFiles/additionalpropsmodel.json", Json.mapper()},
+                {"specFiles/propertiesWithConstraints.json", Json.mapper()},
+                {"specFiles/securityDefinitions.json", Json.mapper()},
+                {"specFiles/petstore-3.0.yaml", Yaml.mapper()},
+                {"specFiles/3.1.0/petstore-3.1_refs_siblings.yaml", Yaml31.mapper()},
+        };
+    }
+
+    @Test(dataProvider = "specs")
+    public void shouldDeserializeAsConvertedFromTree(String resource, ObjectMapper mapper) throws Exception {
+        String spec = ResourceUtils.loadClassResource(getClass(), resource);
+        OpenAPI streamed = mapper.readValue(spec, OpenAPI.class);
+        OpenAPI converted = mapper.convertValue(mapper.readTree(spec), OpenAPI.class);
+        assertEquals(streamed, converted);
+        assertEquals(Json.pretty(streamed), Json.pretty(converted));
+    }
+
+    @Test
+    public void shouldKeepNumbersAsReadIntoTrees() throws Exception {
+        Schema schema = Json.mapper().readValue("{\"type\":\"number\",\"minimum\":1.10,\"maximum\":1e2,\"x-n\":2.50}", Schema.class);
+        assertEquals(schema.getMinimum(), new BigDecimal("1.1"));
+        assertEquals(schema.getMaximum(), new BigDecimal("100.0"));
+        assertEquals(schema.getExtensions().get("x-n"), 2.5d);
+
+        ObjectMapper bigDecimals = ObjectMapperFactory.createJson();
+        bigDecimals.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        schema = bigDecimals.readValue("{\"type\":\"number\",\"minimum\":1.10}", Schema.class);
+        assertEquals(schema.getMinimum(), new BigDecimal("1.1"));
+    }
+
+    @Test
+    public void shouldDeserializeAdditionalProperties() throws Exception {
+        Schema map = Json.mapper().readValue("{\"properties\":{\"a\":{\"type\":\"string\"}},\"additionalProperties\":{\"type\":\"integer\"}}", Schema.class);
+        assertTrue(map instanceof MapSchema);
+        assertEquals(((Schema) map.getAdditionalProperties()).getType(), "integer");
+        assertFalse(map.getJsonSchema().containsKey("additionalProperties"));
+        assertTrue(map.getJsonSchema().containsKey("properties"));
+
+        Schema closed = Json.mapper().readValue("{\"type\":\"object\",\"additionalProperties\":false}", Schema.class);
+        assertTrue(closed instanceof ObjectSchema);
+        assertEquals(closed.getAdditionalProperties(), Boolean.FALSE);
+
+        String array = "{\"x-a\":1,\"additionalProperties\":false,\"type\":\"array\",\"items\":{\"type\":\"integer\"}}";
+        Schema arraySchema = Json.mapper().readValue(array, Schema.class);
+        assertEquals(arraySchema, Json.mapper().convertValue(Json.mapper().readTree(array), Schema.class));
+        assertEquals(arraySchema.getAdditionalProperties(), Boolean.FALSE);
+
+        Schema schema31 = Json31.mapper().readValue("{\"type\":[\"object\",\"null\"],\"additionalProperties\":{\"type\":\"string\",\"minLength\":1}}", Schema.class);
+        assertEquals(schema31.getTypes(), new LinkedHashSet<>(Arrays.asList("object", "null")));
+        assertEquals(((Schema) schema31.getAdditionalProperties()).getMinLength(), Integer.valueOf(1));
+        assertNull(schema31.getType());
+    }
+
+    @Test
+    public void shouldPickTypeFromBufferedProperties() throws Exception {
+        Parameter parameter = Json.mapper().readValue("{\"name\":\"h\",\"style\":\"simple\",\"in\":\"header\"}", Parameter.class);
+        assertTrue(parameter instanceof HeaderParameter);
+        assertEquals(parameter.getStyle(), Parameter.StyleEnum.SIMPLE);
+
+        SecurityScheme scheme = Json.mapper().readValue("{\"x-a\":1,\"flows\":{\"implicit\":{\"authorizationUrl\":\"http://a\",\"scopes\":{}}},\"type\":\"oauth2\"}", SecurityScheme.class);
+        assertEquals(scheme.getType(), SecurityScheme.Type.OAUTH2);
+        assertEquals(scheme.getFlows().getImplicit().getAuthorizationUrl(), "http://a");
+        assertEquals(scheme.getExtensions().get("x-a"), 1);
+    }
+}
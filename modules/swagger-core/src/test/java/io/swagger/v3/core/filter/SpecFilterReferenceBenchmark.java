@@ -0,0 +1,114 @@
+package io.swagger.v3.core.filter;
+
+import io.swagger.v3.core.util.RefUtils;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the reference graph used by {@link SpecFilter#removeBrokenReferenceDefinitions(OpenAPI)} with the previous
+ * recursive discovery ({@link SpecFilter#resolveAllNestedRefs(Set, Set, OpenAPI)}) on a document with many deeply
+ * nested component schemas.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.swagger.v3.core.filter.SpecFilterReferenceBenchmark} from the swagger-core module.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpecFilterReferenceBenchmark {
+
+    @Param({"6000"})
+    public int schemaCount;
+
+    private final SpecFilter specFilter = new SpecFilter();
+    private Map<String, Schema> schemas;
+    private Set<String> roots;
+    private OpenAPI openAPI;
+
+    @Setup(Level.Trial)
+    public void createSchemas() {
+        schemas = new LinkedHashMap<>();
+        for (int i = 0; i < schemaCount; i++) {
+            // schemas beyond 90% are referenced only by each other, and get removed
+            int bound = i < schemaCount * 9 / 10 ? schemaCount * 9 / 10 : schemaCount;
+            Schema nested = new ObjectSchema()
+                    .addProperty("deep", new ObjectSchema()
+                            .addProperty("ref", ref((i * 7 + 3) % bound)));
+            schemas.put(name(i), new ObjectSchema()
+                    .addProperty("next", ref((i + 1) % bound))
+                    .addProperty("list", new ArraySchema().items(ref((i * 2) % bound)))
+                    .addProperty("nested", nested)
+                    .addProperty("id", new Schema().type("string")));
+        }
+        roots = new TreeSet<>();
+        for (int i = 0; i < 10; i++) {
+            roots.add("#/components/schemas/" + name(i * 31));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copySchemas() {
+        openAPI = new OpenAPI().components(new Components().schemas(new LinkedHashMap<>(schemas)));
+    }
+
+    @Benchmark
+    public Map<String, Schema> referenceGraph() {
+        Map<String, Schema> components = openAPI.getComponents().getSchemas();
+        specFilter.retainReachableSchemas(components, roots);
+        return components;
+    }
+
+    @Benchmark
+    public Map<String, Schema> recursiveDiscovery() {
+        Set<String> referencedDefinitions = new TreeSet<>(roots);
+        referencedDefinitions.addAll(specFilter.resolveAllNestedRefs(referencedDefinitions, referencedDefinitions, openAPI));
+        Map<String, Schema> components = openAPI.getComponents().getSchemas();
+        components.keySet().retainAll(referencedDefinitions.stream()
+                .map(s -> (String) RefUtils.extractSimpleName(s).getLeft())
+                .collect(Collectors.toSet()));
+        return components;
+    }
+
+    private static String name(int i) {
+        return "Model" + i;
+    }
+
+    private static Schema ref(int i) {
+        return new Schema().$ref("#/components/schemas/" + name(i));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SpecFilterReferenceBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -23,8 +23,12 @@ import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
 import io.swagger.v3.oas.models.tags.Tag;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -318,6 +322,30 @@ public class SpecFilterTest {
         assertNotNull(filtered.getComponents().getSchemas().get("Category"));
     }
 
+    @Test
+    public void shouldRemoveUnreferencedSchemasInCyclesAndLongChains() throws IOException {
+        final OpenAPI openAPI = new OpenAPI()
+                .path("/chain", new PathItem().get(new Operation().responses(new ApiResponses()
+                        .addApiResponse("200", new ApiResponse()
+                                .content(new Content().addMediaType("application/json",
+                                        new MediaType().schema(new Schema().$ref("#/components/schemas/Chain0"))))))))
+                .components(new Components());
+        final int length = 2000;
+        for (int i = 0; i < length; i++) {
+            openAPI.getComponents().addSchemas("Chain" + i, new Schema().addProperty("next", new Schema().$ref("#/components/schemas/Chain" + (i + 1))));
+        }
+        openAPI.getComponents().addSchemas("Chain" + length, new Schema().addProperty("back", new Schema().$ref("#/components/schemas/Chain0")));
+        openAPI.getComponents().addSchemas("UnusedA", new Schema().addProperty("b", new Schema().$ref("#/components/schemas/UnusedB")));
+        openAPI.getComponents().addSchemas("UnusedB", new Schema().addProperty("a", new Schema().$ref("#/components/schemas/UnusedA")));
+
+        final OpenAPI filtered = new SpecFilter().filter(openAPI, new RemoveUnreferencedDefinitionsFilter(), null, null, null);
+
+        assertEquals(filtered.getComponents().getSchemas().size(), length + 1);
+        assertNotNull(filtered.getComponents().getSchemas().get("Chain" + length));
+        assertNull(filtered.getComponents().getSchemas().get("UnusedA"));
+        assertNull(filtered.getComponents().getSchemas().get("UnusedB"));
+    }
+
     @Test(description = "it should filter any Pet Ref in Schemas")
     public void filterAwayPetRefInSchemas() throws IOException {
         final OpenAPI openAPI = getOpenAPI(RESOURCE_PATH);
@@ -0,0 +1,133 @@
+package io.swagger.v3.core.resolving;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.ModelConverterContextImpl;
+import io.swagger.v3.core.jackson.BeanDescriptionCache;
+import io.swagger.v3.core.jackson.ModelResolver;
+import io.swagger.v3.oas.models.media.Schema;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class BeanDescriptionCacheTest {
+
+    @AfterMethod
+    public void tearDown() {
+        BeanDescriptionCache.setMaxSize(BeanDescriptionCache.DEFAULT_MAX_SIZE);
+    }
+
+    @Test(description = "descriptions are introspected once per mapper and type")
+    public void shouldServeCachedDescriptions() {
+        final ObjectMapper mapper = new ObjectMapper();
+        final JavaType type = mapper.constructType(Order.class);
+
+        final long misses = BeanDescriptionCache.getMissCount();
+        final long hits = BeanDescriptionCache.getHitCount();
+        final BeanDescription description = BeanDescriptionCache.forSerialization(mapper, type);
+        assertSame(BeanDescriptionCache.forSerialization(mapper, type), description);
+        assertEquals(BeanDescriptionCache.getMissCount() - misses, 1);
+        assertEquals(BeanDescriptionCache.getHitCount() - hits, 1);
+
+        assertNotSame(BeanDescriptionCache.forDeserialization(mapper, type), description);
+        assertNotSame(BeanDescriptionCache.forSerialization(new ObjectMapper(), type), description);
+    }
+
+    @Test(description = "descriptions are introspected again when the mapper is configured again or invalidated")
+    public void shouldIntrospectAgainOnMapperChange() {
+        final ObjectMapper mapper = new ObjectMapper();
+        final JavaType type = mapper.constructType(Order.class);
+        final BeanDescription description = BeanDescriptionCache.forSerialization(mapper, type);
+        assertEquals(description.findProperties().size(), 3);
+
+        mapper.addMixIn(Order.class, OrderMixIn.class);
+        final BeanDescription mixedIn = BeanDescriptionCache.forSerialization(mapper, type);
+        assertNotSame(mixedIn, description);
+        assertEquals(mixedIn.findProperties().size(), 2);
+
+        BeanDescriptionCache.invalidate(mapper);
+        assertNotSame(BeanDescriptionCache.forSerialization(mapper, type), mixedIn);
+    }
+
+    @Test(description = "the least recently used descriptions are evicted past the maximum size")
+    public void shouldEvictPastMaxSize() {
+        final ObjectMapper mapper = new ObjectMapper();
+        BeanDescriptionCache.setMaxSize(1);
+        final BeanDescription order = BeanDescriptionCache.forSerialization(mapper, mapper.constructType(Order.class));
+        final long evictions = BeanDescriptionCache.getEvictionCount();
+        BeanDescriptionCache.forSerialization(mapper, mapper.constructType(Item.class));
+        assertEquals(BeanDescriptionCache.getSize(), 1);
+        assertEquals(BeanDescriptionCache.getEvictionCount() - evictions, 1);
+        assertNotSame(BeanDescriptionCache.forSerialization(mapper, mapper.constructType(Order.class)), order);
+    }
+
+    @Test(description = "the descriptions of collected mappers are removed on the next insertion")
+    public void shouldRemoveDescriptionsOfCollectedMappers() throws Exception {
+        BeanDescriptionCache.clear();
+        ObjectMapper collected = new ObjectMapper();
+        BeanDescriptionCache.forSerialization(collected, collected.constructType(Order.class));
+        BeanDescriptionCache.forDeserialization(collected, collected.constructType(Order.class));
+        assertEquals(BeanDescriptionCache.getSize(), 2);
+
+        final WeakReference<ObjectMapper> reference = new WeakReference<>(collected);
+        collected = null;
+        for (int i = 0; i < 100 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+        // the collected keys are enqueued by the reference handler thread
+        Thread.sleep(100);
+
+        final ObjectMapper mapper = new ObjectMapper();
+        BeanDescriptionCache.forSerialization(mapper, mapper.constructType(Item.class));
+        assertEquals(BeanDescriptionCache.getSize(), 1);
+    }
+
+    @Test(description = "resolving again serves descriptions from the cache with the same components")
+    public void shouldResolveSameModelsFromCachedDescriptions() {
+        final ModelResolver modelResolver = new ModelResolver(new ObjectMapper());
+        final Map<String, Schema> first = resolve(modelResolver);
+        final long hits = BeanDescriptionCache.getHitCount();
+        final long misses = BeanDescriptionCache.getMissCount();
+
+        assertEquals(resolve(modelResolver), first);
+        assertTrue(BeanDescriptionCache.getHitCount() > hits);
+        assertEquals(BeanDescriptionCache.getMissCount(), misses);
+        assertEquals(first.get("Order").getProperties().keySet().toString(), "[id, items]");
+    }
+
+    private static Map<String, Schema> resolve(ModelResolver modelResolver) {
+        final ModelConverterContextImpl context = new ModelConverterContextImpl(modelResolver);
+        context.resolve(new AnnotatedType(Order.class));
+        return context.getDefinedModels();
+    }
+
+    @JsonIgnoreProperties("internal")
+    public static class Order {
+        public long id;
+        public Item[] items;
+        public String internal;
+    }
+
+    public static class Item {
+        public String name;
+    }
+
+    public static abstract class OrderMixIn {
+        @JsonIgnore
+        public long id;
+    }
+}
@@ -0,0 +1,125 @@
+package io.swagger.v3.core.resolving;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.ModelConverterContextImpl;
+import io.swagger.v3.core.jackson.ModelResolver;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class SubtypeIndexTest extends SwaggerTestBase {
+
+    @Test(description = "subtypes indexed by a resolver give the same components across contexts")
+    public void shouldResolveSameSubtypesAcrossContexts() {
+        final ModelResolver modelResolver = new ModelResolver(new ObjectMapper());
+
+        final Map<String, Schema> first = resolve(modelResolver, Animal.class);
+        final Map<String, Schema> second = resolve(modelResolver, Animal.class);
+        final Map<String, Schema> fromSubtype = resolve(modelResolver, Mammal.class);
+
+        assertEquals(second, first);
+        assertEquals(resolve(new ModelResolver(new ObjectMapper()), Animal.class), first);
+        assertEquals(resolve(new ModelResolver(new ObjectMapper()), Mammal.class), fromSubtype);
+        assertEquals(first.keySet().size(), 5);
+        assertTrue(first.get("Dog") instanceof ComposedSchema);
+    }
+
+    @Test(description = "subtypes declared by mix-ins added after resolving are found")
+    public void shouldIndexAgainWhenMixInsChange() {
+        final ObjectMapper mapper = new ObjectMapper();
+        final ModelResolver modelResolver = new ModelResolver(mapper);
+        assertFalse(resolve(modelResolver, Vehicle.class).containsKey("Car"));
+
+        mapper.addMixIn(Vehicle.class, VehicleMixIn.class);
+        final Map<String, Schema> models = resolve(modelResolver, Vehicle.class);
+        assertTrue(models.containsKey("Car"));
+        assertEquals(((ComposedSchema) models.get("Car")).getAllOf().get(0).get$ref(), "#/components/schemas/Vehicle");
+    }
+
+    @Test(description = "resolvers sharing a mapper find the subtypes declared by mix-ins added after resolving")
+    public void shouldIndexAgainForResolversSharingMapper() {
+        final ObjectMapper mapper = new ObjectMapper();
+        final ModelResolver first = new ModelResolver(mapper);
+        final ModelResolver second = new ModelResolver(mapper);
+        assertFalse(resolve(first, Vehicle.class).containsKey("Car"));
+        assertFalse(resolve(second, Vehicle.class).containsKey("Car"));
+
+        mapper.addMixIn(Vehicle.class, VehicleMixIn.class);
+        assertTrue(resolve(first, Vehicle.class).containsKey("Car"));
+        assertEquals(resolve(second, Vehicle.class), resolve(first, Vehicle.class));
+    }
+
+    private static Map<String, Schema> resolve(ModelResolver modelResolver, Class<?> cls) {
+        final ModelConverterContextImpl context = new ModelConverterContextImpl(modelResolver);
+        context.resolve(new AnnotatedType(cls));
+        return context.getDefinedModels();
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "kind")
+    @JsonSubTypes({@JsonSubTypes.Type(Mammal.class), @JsonSubTypes.Type(Bird.class)})
+    public interface Animal {
+        String getName();
+    }
+
+    public interface Pet {
+        String getOwner();
+    }
+
+    @JsonSubTypes({@JsonSubTypes.Type(Dog.class), @JsonSubTypes.Type(Cat.class)})
+    public static abstract class Mammal implements Animal, Pet {
+        public int legs;
+    }
+
+    public static class Dog extends Mammal {
+        public boolean barks;
+
+        public String getName() {
+            return "dog";
+        }
+
+        public String getOwner() {
+            return null;
+        }
+    }
+
+    public static class Cat extends Mammal {
+        public int lives;
+
+        public String getName() {
+            return "cat";
+        }
+
+        public String getOwner() {
+            return null;
+        }
+    }
+
+    public static class Bird implements Animal {
+        public double wingspan;
+
+        public String getName() {
+            return "bird";
+        }
+    }
+
+    public static class Vehicle {
+        public int wheels;
+    }
+
+    public static class Car extends Vehicle {
+        public int doors;
+    }
+
+    @JsonSubTypes({@JsonSubTypes.Type(Car.class)})
+    public static abstract class VehicleMixIn {
+    }
+}
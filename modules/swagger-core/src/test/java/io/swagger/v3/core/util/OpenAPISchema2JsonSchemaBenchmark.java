@@ -0,0 +1,101 @@
+package io.swagger.v3.core.util;
+
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link OpenAPISchema2JsonSchema#process(Schema)} on a deep tree (objects nested {@code size} levels, each
+ * with a few scalar properties and an array) and on a wide tree (one object with {@code size} object properties),
+ * against the previous conversion turning each nested schema to a map again.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.swagger.v3.core.util.OpenAPISchema2JsonSchemaBenchmark} from the swagger-core module.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OpenAPISchema2JsonSchemaBenchmark {
+
+    @Param({"deep", "wide"})
+    public String shape;
+
+    @Param({"50"})
+    public int size;
+
+    private final OpenAPISchema2JsonSchema converter = new OpenAPISchema2JsonSchema();
+    private final OpenAPISchema2JsonSchema legacyConverter = new OpenAPISchema2JsonSchemaTest.LegacyConverter();
+    private Schema<?> schema;
+
+    @Setup(Level.Invocation)
+    public void createSchema() {
+        schema = "deep".equals(shape) ? deep(size) : wide(size);
+    }
+
+    @Benchmark
+    public Schema<?> singlePass() {
+        converter.process(schema);
+        return schema;
+    }
+
+    @Benchmark
+    public Schema<?> convertEachNode() {
+        legacyConverter.process(schema);
+        return schema;
+    }
+
+    private static Schema<?> deep(int depth) {
+        Schema<?> schema = leaf(0);
+        for (int i = 1; i < depth; i++) {
+            schema = leaf(i)
+                    .addProperty("child", schema)
+                    .addProperty("children", new ArraySchema().items(new StringSchema().nullable(true)));
+        }
+        return schema;
+    }
+
+    private static Schema<?> wide(int width) {
+        ObjectSchema schema = new ObjectSchema();
+        for (int i = 0; i < width; i++) {
+            schema.addProperty("property" + i, leaf(i));
+        }
+        return schema;
+    }
+
+    private static Schema<?> leaf(int i) {
+        return new ObjectSchema()
+                .description("Model number " + i)
+                .addProperty("id", new IntegerSchema().format("int64"))
+                .addProperty("name", new StringSchema().maxLength(64).nullable(true))
+                .addProperty("tags", new ArraySchema().items(new StringSchema()));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OpenAPISchema2JsonSchemaBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,179 @@
+package io.swagger.v3.core.util;
+
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.ModelConverterContextImpl;
+import io.swagger.v3.core.jackson.ModelResolver;
+import io.swagger.v3.core.resolving.v31.model.AnnotatedPet;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+
+public class OpenAPISchema2JsonSchemaTest {
+
+    @Test(description = "it should convert nested schemas as converting each schema on its own does")
+    public void processNestedSchemas() throws Exception {
+        assertSameAsLegacy(() -> new ObjectSchema()
+                .description("root")
+                .nullable(true)
+                .addProperty("id", new IntegerSchema().format("int64").minimum(BigDecimal.ONE).exclusiveMinimum(true))
+                .addProperty("tags", new ArraySchema().items(new StringSchema().nullable(true).maxLength(10)))
+                .addProperty("attributes", new MapSchema().additionalProperties(new ArraySchema()
+                        .items(new IntegerSchema().maximum(BigDecimal.TEN).exclusiveMaximum(true))))
+                .addProperty("choice", new ComposedSchema()
+                        .addOneOfItem(new StringSchema())
+                        .addOneOfItem(new ObjectSchema().addProperty("nested", new StringSchema().nullable(true)))
+                        .addAnyOfItem(new Schema().$ref("#/components/schemas/Other"))
+                        .addAllOfItem(new ObjectSchema().addProperty("deep", new ArraySchema()
+                                .items(new ArraySchema().items(new ObjectSchema()
+                                        .addProperty("leaf", new IntegerSchema().nullable(true))))))));
+    }
+
+    @Test(description = "it should convert resolved models as converting each schema on its own does")
+    public void processResolvedModels() throws Exception {
+        assertSameAsLegacy(() -> {
+            ModelConverterContextImpl context = new ModelConverterContextImpl(new ModelResolver(Json.mapper()));
+            context.resolve(new AnnotatedType(AnnotatedPet.class));
+            ObjectSchema schemas = new ObjectSchema();
+            context.getDefinedModels().forEach(schemas::addProperty);
+            return schemas;
+        });
+    }
+
+    @Test(description = "it should process a schema occurring twice in the tree once")
+    public void processSharedSchema() {
+        StringSchema shared = new StringSchema();
+        Schema<?> schema = new ObjectSchema()
+                .addProperty("first", shared)
+                .addProperty("second", new ArraySchema().items(shared));
+
+        new OpenAPISchema2JsonSchema().process(schema);
+
+        assertEquals(shared.getTypes().iterator().next(), "string");
+        assertEquals(shared.getJsonSchema().get("type"), "string");
+    }
+
+    @Test(description = "it should convert a schema referring to itself")
+    public void processSelfReferencingSchema() {
+        ObjectSchema node = new ObjectSchema();
+        node.addProperty("name", new StringSchema());
+        node.addProperty("parent", node);
+
+        new OpenAPISchema2JsonSchema().process(node);
+
+        Map<?, ?> properties = (Map<?, ?>) node.getJsonSchema().get("properties");
+        assertEquals(((Map<?, ?>) properties.get("name")).get("type"), "string");
+        assertEquals(properties.get("parent"), Collections.emptyMap());
+    }
+
+    private static void assertSameAsLegacy(Supplier<Schema<?>> schemas) throws Exception {
+        Schema<?> expected = schemas.get();
+        new LegacyConverter().process(expected);
+        Schema<?> actual = schemas.get();
+        new OpenAPISchema2JsonSchema().process(actual);
+
+        List<Schema<?>> expectedNodes = new ArrayList<>();
+        List<Schema<?>> actualNodes = new ArrayList<>();
+        collect(expected, expectedNodes);
+        collect(actual, actualNodes);
+        assertEquals(actualNodes.size(), expectedNodes.size());
+        for (int i = 0; i < expectedNodes.size(); i++) {
+            Schema<?> expectedNode = expectedNodes.get(i);
+            Schema<?> actualNode = actualNodes.get(i);
+            assertNotNull(actualNode.getJsonSchema());
+            assertEquals(Json.mapper().writeValueAsString(actualNode.getJsonSchema()),
+                    Json.mapper().writeValueAsString(expectedNode.getJsonSchema()));
+            assertEquals(actualNode.getTypes(), expectedNode.getTypes());
+            assertEquals(actualNode.getType(), expectedNode.getType());
+            assertEquals(actualNode.getNullable(), expectedNode.getNullable());
+            assertEquals(actualNode.getExclusiveMinimumValue(), expectedNode.getExclusiveMinimumValue());
+            assertEquals(actualNode.getExclusiveMaximumValue(), expectedNode.getExclusiveMaximumValue());
+            assertEquals(actualNode.getSpecVersion(), expectedNode.getSpecVersion());
+        }
+    }
+
+    private static void collect(Schema<?> schema, List<Schema<?>> nodes) {
+        nodes.add(schema);
+        if (schema.getAdditionalProperties() instanceof Schema) {
+            collect((Schema<?>) schema.getAdditionalProperties(), nodes);
+        }
+        if (schema.getAllOf() != null) {
+            schema.getAllOf().forEach(s -> collect(s, nodes));
+        }
+        if (schema.getAnyOf() != null) {
+            schema.getAnyOf().forEach(s -> collect(s, nodes));
+        }
+        if (schema.getOneOf() != null) {
+            schema.getOneOf().forEach(s -> collect(s, nodes));
+        }
+        if (schema.getProperties() != null) {
+            schema.getProperties().values().forEach(s -> collect(s, nodes));
+        }
+        if (schema.getItems() != null) {
+            collect(schema.getItems(), nodes);
+        }
+    }
+
+    /**
+     * The conversion before single pass, converting each nested schema to a map again.
+     */
+    static class LegacyConverter extends OpenAPISchema2JsonSchema {
+        @Override
+        public void process(Schema<?> schema) {
+            schema.specVersion(SpecVersion.V31);
+            Map<String, Object> jsonSchema = converterMapper.convertValue(schema, Map.class);
+            if (schema.getType() != null || Boolean.TRUE.equals(schema.getNullable())) {
+                schema.types(new LinkedHashSet<>());
+            }
+            if (schema.getType() != null) {
+                schema.getTypes().add(schema.getType());
+            }
+            schema.type(null);
+            if (Boolean.TRUE.equals(schema.getNullable())) {
+                schema.nullable(null);
+                schema.getTypes().add("null");
+            }
+            if (schema.getMinimum() != null && Boolean.TRUE.equals(schema.getExclusiveMinimum())) {
+                schema.setExclusiveMinimumValue(schema.getMinimum());
+            }
+            if (schema.getMaximum() != null && Boolean.TRUE.equals(schema.getExclusiveMaximum())) {
+                schema.setExclusiveMaximumValue(schema.getMaximum());
+            }
+            schema.jsonSchema(jsonSchema);
+            if (schema.getAdditionalProperties() instanceof Schema) {
+                process((Schema<?>) schema.getAdditionalProperties());
+            }
+            if (schema.getAllOf() != null) {
+                schema.getAllOf().forEach(this::process);
+            }
+            if (schema.getAnyOf() != null) {
+                schema.getAnyOf().forEach(this::process);
+            }
+            if (schema.getOneOf() != null) {
+                schema.getOneOf().forEach(this::process);
+            }
+            if (schema.getProperties() != null) {
+                schema.getProperties().values().forEach(this::process);
+            }
+            if (schema.getItems() != null) {
+                process(schema.getItems());
+            }
+        }
+    }
+}
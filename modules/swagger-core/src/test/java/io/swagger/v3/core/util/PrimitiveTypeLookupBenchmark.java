@@ -0,0 +1,160 @@
+package io.swagger.v3.core.util;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PrimitiveType#fromType(Type)} and {@link ReflectionUtils#isSystemTypeNotArray(JavaType)} on a mix
+ * of types resolving a model sees: scalars, dates, containers and user classes (which match no primitive type and took
+ * the slowest path, through every lookup and the base classes), memoized per class against the previous lookups.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.swagger.v3.core.util.PrimitiveTypeLookupBenchmark} from the swagger-core module.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrimitiveTypeLookupBenchmark {
+
+    private final Type[] types = {
+            String.class, Integer.class, Long.class, Boolean.class, BigDecimal.class, UUID.class, byte[].class,
+            Date.class, GregorianCalendar.class, LocalDate.class, OffsetDateTime.class,
+            List.class, Map.class, Set.class, Collection.class,
+            Pet.class, Owner.class, Address.class, Tag.class, Category.class, Status.class
+    };
+
+    private final JavaType[] javaTypes = new JavaType[types.length];
+
+    {
+        for (int i = 0; i < types.length; i++) {
+            javaTypes[i] = TypeFactory.defaultInstance().constructType(types[i]);
+        }
+    }
+
+    @Benchmark
+    public void memoizedLookups(Blackhole blackhole) {
+        for (int i = 0; i < types.length; i++) {
+            blackhole.consume(PrimitiveType.fromType(types[i]));
+            blackhole.consume(ReflectionUtils.isSystemTypeNotArray(javaTypes[i]));
+        }
+    }
+
+    @Benchmark
+    public void legacyLookups(Blackhole blackhole) {
+        for (int i = 0; i < types.length; i++) {
+            blackhole.consume(Legacy.fromType(types[i]));
+            blackhole.consume(Legacy.isSystemTypeNotArray(javaTypes[i]));
+        }
+    }
+
+    public static class Pet {
+    }
+
+    public static class Owner {
+    }
+
+    public static class Address {
+    }
+
+    public static class Tag {
+    }
+
+    public static class Category {
+    }
+
+    public enum Status {
+        AVAILABLE, SOLD
+    }
+
+    /**
+     * The lookups of {@link PrimitiveType} and {@link ReflectionUtils} before memoizing, going through the public
+     * settings and the primitive types of the well-known classes.
+     */
+    static final class Legacy {
+
+        private static final Class<?>[] BASE_CLASSES = {Date.class, java.util.Calendar.class};
+        private static final Map<Class<?>, PrimitiveType> KEY_CLASSES = new HashMap<>();
+
+        static {
+            for (PrimitiveType type : PrimitiveType.values()) {
+                if (type.getKeyClass() != null) {
+                    KEY_CLASSES.put(type.getKeyClass(), type);
+                }
+            }
+        }
+
+        static PrimitiveType fromType(Type type) {
+            final Class<?> raw = TypeFactory.defaultInstance().constructType(type).getRawClass();
+            if (raw == byte[].class) {
+                return PrimitiveType.customExcludedClasses().contains(raw.getName()) ? null : PrimitiveType.BYTE;
+            }
+            final PrimitiveType key = KEY_CLASSES.get(raw);
+            if (key != null && !PrimitiveType.customExcludedClasses().contains(raw.getName())) {
+                return key;
+            }
+            final PrimitiveType custom = PrimitiveType.customClasses().get(raw.getName());
+            if (custom != null) {
+                return custom;
+            }
+            final PrimitiveType external = PrimitiveType.fromName(raw.getName());
+            if (external != null && !PrimitiveType.customExcludedExternalClasses().contains(raw.getName())) {
+                return external;
+            }
+            for (Class<?> base : BASE_CLASSES) {
+                if (base.isAssignableFrom(raw)) {
+                    return PrimitiveType.DATE_TIME;
+                }
+            }
+            return null;
+        }
+
+        static boolean isSystemTypeNotArray(JavaType type) {
+            for (String systemPrefix : PrimitiveType.systemPrefixes()) {
+                if (type.getRawClass().getName().startsWith(systemPrefix)) {
+                    if (!PrimitiveType.nonSystemTypes().contains(type.getRawClass().getName()) &&
+                            !PrimitiveType.nonSystemTypePackages().contains(type.getRawClass().getPackage().getName())) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PrimitiveTypeLookupBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,84 @@
+package io.swagger.v3.core.util;
+
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.GregorianCalendar;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class PrimitiveTypeTest {
+
+    @AfterMethod
+    public void tearDown() {
+        PrimitiveType.customClasses().remove(Model.class.getName());
+        PrimitiveType.customExcludedClasses().remove(URI.class.getName());
+        PrimitiveType.customExcludedExternalClasses().remove(LocalDate.class.getName());
+        PrimitiveType.systemPrefixes().remove("io.swagger.v3.core.util.PrimitiveTypeTest");
+        PrimitiveType.nonSystemTypes().remove(List.class.getName());
+    }
+
+    @Test(description = "memoized lookups are invalidated when custom classes change")
+    public void shouldInvalidateLookupsOnCustomClassesChange() {
+        assertNull(PrimitiveType.fromType(Model.class));
+        PrimitiveType.customClasses().put(Model.class.getName(), PrimitiveType.STRING);
+        assertEquals(PrimitiveType.fromType(Model.class), PrimitiveType.STRING);
+        assertEquals(PrimitiveType.fromType(TypeFactory.defaultInstance().constructType(Model.class)), PrimitiveType.STRING);
+
+        for (Map.Entry<String, PrimitiveType> entry : PrimitiveType.customClasses().entrySet()) {
+            if (entry.getKey().equals(Model.class.getName())) {
+                entry.setValue(PrimitiveType.INT);
+            }
+        }
+        assertEquals(PrimitiveType.fromType(Model.class), PrimitiveType.INT);
+
+        PrimitiveType.customClasses().merge(Model.class.getName(), PrimitiveType.LONG, (previous, value) -> value);
+        assertEquals(PrimitiveType.fromType(Model.class), PrimitiveType.LONG);
+
+        PrimitiveType.customClasses().keySet().removeIf(name -> name.equals(Model.class.getName()));
+        assertNull(PrimitiveType.fromType(Model.class));
+    }
+
+    @Test(description = "memoized lookups are invalidated when excluded classes change")
+    public void shouldInvalidateLookupsOnExcludedClassesChange() {
+        assertEquals(PrimitiveType.fromType(URI.class), PrimitiveType.URI);
+        PrimitiveType.customExcludedClasses().add(URI.class.getName());
+        assertNull(PrimitiveType.fromType(URI.class));
+        PrimitiveType.customExcludedClasses().remove(URI.class.getName());
+        assertEquals(PrimitiveType.fromType(URI.class), PrimitiveType.URI);
+
+        assertEquals(PrimitiveType.fromType(LocalDate.class), PrimitiveType.DATE);
+        PrimitiveType.customExcludedExternalClasses().add(LocalDate.class.getName());
+        assertNull(PrimitiveType.fromType(LocalDate.class));
+        assertEquals(PrimitiveType.fromType(GregorianCalendar.class), PrimitiveType.DATE_TIME);
+    }
+
+    @Test(description = "memoized system types are invalidated when system prefixes and types change")
+    public void shouldInvalidateSystemTypesOnChange() {
+        assertTrue(ReflectionUtils.isSystemTypeNotArray(TypeFactory.defaultInstance().constructType(List.class)));
+        PrimitiveType.nonSystemTypes().add(List.class.getName());
+        assertFalse(ReflectionUtils.isSystemTypeNotArray(TypeFactory.defaultInstance().constructType(List.class)));
+
+        assertFalse(ReflectionUtils.isSystemTypeNotArray(TypeFactory.defaultInstance().constructType(Model.class)));
+        PrimitiveType.systemPrefixes().add("io.swagger.v3.core.util.PrimitiveTypeTest");
+        assertTrue(ReflectionUtils.isSystemTypeNotArray(TypeFactory.defaultInstance().constructType(Model.class)));
+        for (Iterator<String> it = PrimitiveType.systemPrefixes().iterator(); it.hasNext(); ) {
+            if (it.next().startsWith("io.swagger")) {
+                it.remove();
+            }
+        }
+        assertFalse(ReflectionUtils.isSystemTypeNotArray(TypeFactory.defaultInstance().constructType(Model.class)));
+    }
+
+    static class Model {
+    }
+}
@@ -0,0 +1,267 @@
+package io.swagger.v3.core.util;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.apache.commons.lang3.ArrayUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the annotation lookups a reader does for a resource class implementing an annotated interface (class
+ * path and tags, then for each method its operation, path, responses, tags and merged parameter annotations), served
+ * from the lookups cached on each class against the previous lookups walking meta-annotations, superclasses,
+ * interfaces and overridden methods on every call.
+ *
+ * <p>Every walk does several reflection calls, most of them copying annotation or method arrays, so allocation per
+ * operation, as reported by the GC profiler, follows the number of reflection calls.</p>
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.swagger.v3.core.util.ReflectionLookupBenchmark} from the swagger-core module.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReflectionLookupBenchmark {
+
+    private final Method[] methods = PetResourceImpl.class.getDeclaredMethods();
+
+    @Benchmark
+    public void cachedLookups(Blackhole blackhole) {
+        blackhole.consume(ReflectionUtils.getAnnotation(PetResourceImpl.class, Path.class));
+        blackhole.consume(ReflectionUtils.getRepeatableAnnotationsArray(PetResourceImpl.class, Tag.class));
+        for (Method method : methods) {
+            blackhole.consume(ReflectionUtils.getAnnotation(method, Operation.class));
+            blackhole.consume(ReflectionUtils.getAnnotation(method, Path.class));
+            blackhole.consume(ReflectionUtils.getRepeatableAnnotations(method, ApiResponse.class));
+            blackhole.consume(ReflectionUtils.getRepeatableAnnotations(method, Tag.class));
+            blackhole.consume(ReflectionUtils.getParameterAnnotations(method));
+        }
+    }
+
+    @Benchmark
+    public void walkingLookups(Blackhole blackhole) {
+        blackhole.consume(Legacy.getAnnotation(PetResourceImpl.class, Path.class));
+        blackhole.consume(Legacy.getRepeatableAnnotationsArray(PetResourceImpl.class, Tag.class));
+        for (Method method : methods) {
+            blackhole.consume(Legacy.getAnnotation(method, Operation.class));
+            blackhole.consume(Legacy.getAnnotation(method, Path.class));
+            blackhole.consume(Legacy.getRepeatableAnnotations(method, ApiResponse.class));
+            blackhole.consume(Legacy.getRepeatableAnnotations(method, Tag.class));
+            blackhole.consume(Legacy.getParameterAnnotations(method));
+        }
+    }
+
+    @Path("/pets")
+    @Tag(name = "pets")
+    public interface PetResource {
+        @GET
+        @Path("/{id}")
+        @Operation(summary = "Find a pet")
+        @ApiResponse(responseCode = "200", description = "the pet")
+        @ApiResponse(responseCode = "404", description = "not found")
+        String get(@Parameter(description = "the id") @PathParam("id") String id);
+
+        @GET
+        @Operation(summary = "List pets")
+        @ApiResponse(responseCode = "200", description = "the pets")
+        List<String> list(@QueryParam("limit") int limit, @QueryParam("offset") int offset);
+
+        @GET
+        @Path("/{id}/tags")
+        @Tag(name = "tags")
+        List<String> tags(@PathParam("id") String id);
+    }
+
+    public static class BasePetResource {
+        public String get(@Parameter(description = "the base id") String id) {
+            return id;
+        }
+    }
+
+    public static class PetResourceImpl extends BasePetResource implements PetResource {
+        @Override
+        public String get(String id) {
+            return id;
+        }
+
+        @Override
+        public List<String> list(int limit, int offset) {
+            return null;
+        }
+
+        @Override
+        public List<String> tags(String id) {
+            return null;
+        }
+    }
+
+    /**
+     * The lookups of {@link ReflectionUtils} before caching.
+     */
+    static final class Legacy {
+
+        static <A extends Annotation> A getAnnotation(Method method, Class<A> annotationClass) {
+            A annotation = method.getAnnotation(annotationClass);
+            if (annotation == null) {
+                for (Annotation metaAnnotation : method.getAnnotations()) {
+                    annotation = metaAnnotation.annotationType().getAnnotation(annotationClass);
+                    if (annotation != null) {
+                        return annotation;
+                    }
+                }
+                Method superclassMethod = ReflectionUtils.getOverriddenMethod(method);
+                if (superclassMethod != null) {
+                    annotation = getAnnotation(superclassMethod, annotationClass);
+                }
+            }
+            return annotation;
+        }
+
+        static <A extends Annotation> A getAnnotation(Class<?> cls, Class<A> annotationClass) {
+            A annotation = cls.getAnnotation(annotationClass);
+            if (annotation == null) {
+                for (Annotation metaAnnotation : cls.getAnnotations()) {
+                    annotation = metaAnnotation.annotationType().getAnnotation(annotationClass);
+                    if (annotation != null) {
+                        return annotation;
+                    }
+                }
+                Class<?> superClass = cls.getSuperclass();
+                if (superClass != null && !(superClass.equals(Object.class))) {
+                    annotation = getAnnotation(superClass, annotationClass);
+                }
+            }
+            if (annotation == null) {
+                for (Class<?> anInterface : cls.getInterfaces()) {
+                    for (Annotation metaAnnotation : anInterface.getAnnotations()) {
+                        annotation = metaAnnotation.annotationType().getAnnotation(annotationClass);
+                        if (annotation != null) {
+                            return annotation;
+                        }
+                    }
+                    annotation = getAnnotation(anInterface, annotationClass);
+                    if (annotation != null) {
+                        return annotation;
+                    }
+                }
+            }
+            return annotation;
+        }
+
+        static <A extends Annotation> List<A> getRepeatableAnnotations(Method method, Class<A> annotationClass) {
+            Set<A> annotationsSet = new LinkedHashSet<>();
+            A[] annotations = method.getAnnotationsByType(annotationClass);
+            if (annotations != null) {
+                annotationsSet.addAll(Arrays.asList(annotations));
+            }
+            for (Annotation metaAnnotation : method.getAnnotations()) {
+                annotations = metaAnnotation.annotationType().getAnnotationsByType(annotationClass);
+                if (annotations != null && annotations.length > 0) {
+                    annotationsSet.addAll(Arrays.asList(annotations));
+                }
+            }
+            Method superclassMethod = ReflectionUtils.getOverriddenMethod(method);
+            if (superclassMethod != null) {
+                List<A> superAnnotations = getRepeatableAnnotations(superclassMethod, annotationClass);
+                if (superAnnotations != null) {
+                    annotationsSet.addAll(superAnnotations);
+                }
+            }
+            if (annotationsSet.isEmpty()) {
+                return null;
+            }
+            return new ArrayList<>(annotationsSet);
+        }
+
+        static <A extends Annotation> A[] getRepeatableAnnotationsArray(Class<?> cls, Class<A> annotationClass) {
+            A[] annotations = cls.getAnnotationsByType(annotationClass);
+            if (annotations == null || annotations.length == 0) {
+                for (Annotation metaAnnotation : cls.getAnnotations()) {
+                    annotations = metaAnnotation.annotationType().getAnnotationsByType(annotationClass);
+                    if (annotations != null && annotations.length > 0) {
+                        return annotations;
+                    }
+                }
+                Class<?> superClass = cls.getSuperclass();
+                if (superClass != null && !(superClass.equals(Object.class))) {
+                    annotations = getRepeatableAnnotationsArray(superClass, annotationClass);
+                }
+            }
+            if (annotations == null || annotations.length == 0) {
+                for (Class<?> anInterface : cls.getInterfaces()) {
+                    for (Annotation metaAnnotation : anInterface.getAnnotations()) {
+                        annotations = metaAnnotation.annotationType().getAnnotationsByType(annotationClass);
+                        if (annotations != null && annotations.length > 0) {
+                            return annotations;
+                        }
+                    }
+                    annotations = getRepeatableAnnotationsArray(anInterface, annotationClass);
+                    if (annotations != null) {
+                        return annotations;
+                    }
+                }
+            }
+            return annotations;
+        }
+
+        static Annotation[][] getParameterAnnotations(Method method) {
+            Annotation[][] methodAnnotations = method.getParameterAnnotations();
+            Method overriddenmethod = ReflectionUtils.getOverriddenMethod(method);
+            while (overriddenmethod != null) {
+                Annotation[][] overriddenAnnotations = overriddenmethod.getParameterAnnotations();
+                for (int i = 0; i < methodAnnotations.length; i++) {
+                    List<Type> types = new ArrayList<>();
+                    for (int j = 0; j < methodAnnotations[i].length; j++) {
+                        types.add(methodAnnotations[i][j].annotationType());
+                    }
+                    for (int j = 0; j < overriddenAnnotations[i].length; j++) {
+                        if (!types.contains(overriddenAnnotations[i][j].annotationType())) {
+                            methodAnnotations[i] = ArrayUtils.add(methodAnnotations[i], overriddenAnnotations[i][j]);
+                        }
+                    }
+                }
+                overriddenmethod = ReflectionUtils.getOverriddenMethod(overriddenmethod);
+            }
+            return methodAnnotations;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ReflectionLookupBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,262 @@
+package io.swagger.v3.core.util;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArbitrarySchema;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.BinarySchema;
+import io.swagger.v3.oas.models.media.BooleanSchema;
+import io.swagger.v3.oas.models.media.ByteArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.DateSchema;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.EmailSchema;
+import io.swagger.v3.oas.models.media.FileSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.JsonSchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.NumberSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.PasswordSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.media.UUIDSchema;
+import io.swagger.v3.oas.models.parameters.CookieParameter;
+import io.swagger.v3.oas.models.parameters.HeaderParameter;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.security.OAuthFlow;
+import io.swagger.v3.oas.models.security.OAuthFlows;
+import io.swagger.v3.oas.models.security.Scopes;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class SchemaClonerTest {
+
+    @Test(description = "it should clone a schema as the json round trip does")
+    public void cloneSchema() throws Exception {
+        Schema schema = new ObjectSchema()
+                .name("Pet")
+                .description("a pet")
+                .addRequiredItem("id")
+                .addProperty("id", new IntegerSchema().format("int64").minimum(BigDecimal.ONE))
+                .addProperty("email", new Schema().type("string").format("email"))
+                .addProperty("tags", new ArraySchema().items(new StringSchema()._enum(Arrays.asList("a", "b"))))
+                .addProperty("untyped", new Schema().description("no type"))
+                .addProperty("category", new Schema().$ref("#/components/schemas/Category").description("ignored"))
+                .addProperty("attributes", new MapSchema().additionalProperties(new StringSchema()))
+                .discriminator(new Discriminator().propertyName("type"))
+                .example(Collections.singletonMap("id", 1));
+
+        Schema clone = SchemaCloner.cloneSchema(schema, false);
+        Schema expected = Json.mapper().readValue(Json.pretty(schema), Schema.class);
+
+        assertEquals(Json.pretty(clone), Json.pretty(expected));
+        assertEquals(clone.getName(), "Pet");
+        assertNotSame(clone.getProperties(), schema.getProperties());
+        assertNotSame(clone.getProperties().get("id"), schema.getProperties().get("id"));
+        assertEquals(clone.getClass(), expected.getClass());
+        for (Object key : schema.getProperties().keySet()) {
+            assertEquals(clone.getProperties().get(key).getClass(), expected.getProperties().get(key).getClass(), key.toString());
+        }
+    }
+
+    @Test(description = "it should clone an OpenAPI 3.1 schema as the json round trip does")
+    public void cloneSchema31() throws Exception {
+        Schema schema = new Schema()
+                .types(Collections.singleton("object"))
+                .addProperty("id", new Schema().types(Collections.singleton("integer")).exclusiveMinimumValue(BigDecimal.ZERO))
+                .addProperty("anything", new Schema().booleanSchemaValue(true))
+                .addProperty("const", new Schema()._const("value").$comment("comment"));
+
+        Schema clone = SchemaCloner.cloneSchema(schema, true);
+        Schema expected = Json31.mapper().readValue(Json31.pretty(schema), Schema.class);
+
+        assertEquals(Json31.pretty(clone), Json31.pretty(expected));
+        assertEquals(clone.getClass(), expected.getClass());
+        assertEquals(((Schema) clone.getProperties().get("anything")).getBooleanSchemaValue(), Boolean.TRUE);
+    }
+
+    @Test(description = "it should encode binary examples as the json round trip does")
+    public void cloneBinaryExample() throws Exception {
+        Schema schema = new Schema().type("string").format("byte");
+        schema.setExample("hello".getBytes());
+
+        Schema clone = SchemaCloner.cloneSchema(schema, false);
+        Schema expected = Json.mapper().readValue(Json.pretty(schema), Schema.class);
+
+        assertEquals(clone.getExample(), expected.getExample());
+    }
+
+    @Test(description = "it should preserve shared schemas in the clone")
+    public void cloneMediaType() throws Exception {
+        Schema shared = new StringSchema();
+        MediaType mediaType = new MediaType()
+                .schema(new ObjectSchema().addProperty("a", shared).addProperty("b", shared))
+                .example("example");
+        Content content = new Content().addMediaType("application/json", mediaType);
+
+        Content clone = SchemaCloner.clone(content, false);
+        Content expected = Json.mapper().readValue(Json.pretty(content), Content.class);
+
+        assertEquals(Json.pretty(clone), Json.pretty(expected));
+        MediaType clonedMediaType = clone.get("application/json");
+        assertNotSame(clonedMediaType, mediaType);
+        assertSame(clonedMediaType.getSchema().getProperties().get("a"), clonedMediaType.getSchema().getProperties().get("b"));
+        assertNotSame(clonedMediaType.getSchema().getProperties().get("a"), shared);
+    }
+
+    @Test(description = "it should clone an OpenAPI as the json round trip does")
+    public void cloneOpenAPI() throws Exception {
+        OpenAPI openAPI = new OpenAPI()
+                .openapi(null)
+                .info(new Info().title("title").summary("3.1 only"))
+                .components(new Components()
+                        .addSecuritySchemes("oauth", new SecurityScheme()
+                                .type(SecurityScheme.Type.OAUTH2)
+                                .name("ignored")
+                                .in(SecurityScheme.In.HEADER))
+                        .addSecuritySchemes("key", new SecurityScheme()
+                                .type(SecurityScheme.Type.APIKEY)
+                                .name("api_key")
+                                .in(SecurityScheme.In.HEADER)
+                                .extensions(Collections.singletonMap("x-ext", "value")))
+                        .addParameters("limit", new Parameter().in("query").name("limit").schema(new IntegerSchema()))
+                        .addParameters("ref", new Parameter().$ref("#/components/parameters/limit").description("ignored"))
+                        .addSchemas("Pet", new ObjectSchema().addProperty("name", new StringSchema())));
+
+        OpenAPI clone = SchemaCloner.clone(openAPI, false);
+        OpenAPI expected = Json.mapper().readValue(Json.pretty(openAPI), OpenAPI.class);
+
+        assertEquals(Json.pretty(clone), Json.pretty(expected));
+        assertEquals(clone, expected);
+        assertFalse(clone == openAPI);
+        assertTrue(openAPI.getInfo().getSummary() != null);
+        assertEquals(clone.getOpenapi(), "3.0.1");
+    }
+
+    @Test(description = "it should keep the json schema of a schema")
+    public void cloneJsonSchema() throws Exception {
+        Map<String, Object> jsonSchema = new LinkedHashMap<>();
+        jsonSchema.put("type", "object");
+        jsonSchema.put("properties", Collections.singletonMap("id", Collections.singletonMap("type", "integer")));
+        Schema schema = new ObjectSchema().addProperty("id", new IntegerSchema()).jsonSchema(jsonSchema);
+
+        for (boolean openapi31 : new boolean[]{false, true}) {
+            Schema clone = SchemaCloner.cloneSchema(schema, openapi31);
+            assertEquals(clone.getJsonSchema(), jsonSchema);
+            assertNotSame(clone.getJsonSchema(), jsonSchema);
+        }
+    }
+
+    @DataProvider
+    public Object[][] schemas() {
+        return new Object[][]{
+                {new ArbitrarySchema()},
+                {new ArraySchema().items(new StringSchema())},
+                {new BinarySchema()},
+                {new BooleanSchema()},
+                {new ByteArraySchema()},
+                {new ComposedSchema().addAllOfItem(new StringSchema())},
+                {new DateSchema()},
+                {new DateTimeSchema()},
+                {new EmailSchema()},
+                {new FileSchema()},
+                {new IntegerSchema()},
+                {new IntegerSchema().format(null)},
+                {new JsonSchema().types(Collections.singleton("string"))},
+                {new MapSchema().additionalProperties(new StringSchema())},
+                {new MapSchema().additionalProperties(true)},
+                {new NumberSchema()},
+                {new ObjectSchema()},
+                {new ObjectSchema().additionalProperties(false)},
+                {new PasswordSchema()},
+                {new StringSchema()},
+                {new UUIDSchema()},
+                {new Schema()},
+                {new Schema().$ref("#/components/schemas/Pet")},
+        };
+    }
+
+    @Test(dataProvider = "schemas", description = "it should clone each schema type as the json round trip does")
+    public void cloneSchemaTypes(Schema schema) throws Exception {
+        Schema clone = SchemaCloner.cloneSchema(schema, false);
+        Schema expected = Json.mapper().readValue(Json.pretty(schema), Schema.class);
+        assertEquals(clone.getClass(), expected.getClass());
+        assertEquals(Json.pretty(clone), Json.pretty(expected));
+
+        Schema clone31 = SchemaCloner.cloneSchema(schema, true);
+        Schema expected31 = Json31.mapper().readValue(Json31.pretty(schema), Schema.class);
+        assertEquals(clone31.getClass(), expected31.getClass());
+        assertEquals(Json31.pretty(clone31), Json31.pretty(expected31));
+    }
+
+    @DataProvider
+    public Object[][] parameters() {
+        return new Object[][]{
+                {new Parameter().in("query").name("limit").schema(new IntegerSchema())},
+                {new QueryParameter().name("limit").style(Parameter.StyleEnum.FORM)},
+                {new HeaderParameter().name("X-Request-Id").required(true)},
+                {new PathParameter().name("id")},
+                {new CookieParameter().name("session")},
+                {new Parameter().in("body").name("unsupported")},
+                {new Parameter().$ref("#/components/parameters/limit").description("a reference")},
+        };
+    }
+
+    @Test(dataProvider = "parameters", description = "it should clone each parameter type as the json round trip does")
+    public void cloneParameterTypes(Parameter parameter) throws Exception {
+        Parameter clone = SchemaCloner.clone(parameter, false);
+        Parameter expected = Json.mapper().readValue(Json.pretty(parameter), Parameter.class);
+        assertEquals(clone == null ? null : clone.getClass(), expected == null ? null : expected.getClass());
+        assertEquals(Json.pretty(clone), Json.pretty(expected));
+
+        Parameter clone31 = SchemaCloner.clone(parameter, true);
+        Parameter expected31 = Json31.mapper().readValue(Json31.pretty(parameter), Parameter.class);
+        assertEquals(clone31 == null ? null : clone31.getClass(), expected31 == null ? null : expected31.getClass());
+        assertEquals(Json31.pretty(clone31), Json31.pretty(expected31));
+    }
+
+    @DataProvider
+    public Object[][] securitySchemes() {
+        return new Object[][]{
+                {new SecurityScheme().type(SecurityScheme.Type.APIKEY).name("api_key").in(SecurityScheme.In.QUERY).scheme("ignored")},
+                {new SecurityScheme().type(SecurityScheme.Type.HTTP).scheme("bearer").bearerFormat("JWT").name("ignored")},
+                {new SecurityScheme().type(SecurityScheme.Type.OAUTH2).description("oauth")
+                        .flows(new OAuthFlows().implicit(new OAuthFlow().authorizationUrl("https://example.com/auth").scopes(new Scopes().addString("read", "read access"))))},
+                {new SecurityScheme().type(SecurityScheme.Type.OPENIDCONNECT).openIdConnectUrl("https://example.com/.well-known")},
+                {new SecurityScheme().type(SecurityScheme.Type.MUTUALTLS).description("mtls").extensions(Collections.singletonMap("x-ext", "value"))},
+        };
+    }
+
+    @Test(dataProvider = "securitySchemes", description = "it should clone each security scheme type as the json round trip does")
+    public void cloneSecuritySchemeTypes(SecurityScheme securityScheme) throws Exception {
+        SecurityScheme clone = SchemaCloner.clone(securityScheme, false);
+        SecurityScheme expected = Json.mapper().readValue(Json.pretty(securityScheme), SecurityScheme.class);
+        assertEquals(clone, expected);
+        assertEquals(Json.pretty(clone), Json.pretty(expected));
+
+        SecurityScheme clone31 = SchemaCloner.clone(securityScheme, true);
+        SecurityScheme expected31 = Json31.mapper().readValue(Json31.pretty(securityScheme), SecurityScheme.class);
+        assertEquals(clone31, expected31);
+        assertEquals(Json31.pretty(clone31), Json31.pretty(expected31));
+    }
+}
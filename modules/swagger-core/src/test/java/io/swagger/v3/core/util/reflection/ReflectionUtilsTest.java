@@ -28,6 +28,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 
 import static java.lang.annotation.ElementType.PARAMETER;
 import static org.testng.Assert.assertTrue;
@@ -192,6 +193,41 @@ public class ReflectionUtilsTest {
         assertEquals(((AnnotationInterface)parameterAnnotations[0][0]).value(), "level4");
     }
 
+    @Test
+    public void cachedLookupsShouldReturnCopies() throws NoSuchMethodException {
+        Method method = ThirdLevelSubClass.class.getMethod("method", String.class);
+        Annotation[][] parameterAnnotations = ReflectionUtils.getParameterAnnotations(method);
+        parameterAnnotations[0][0] = null;
+        parameterAnnotations[0] = new Annotation[0];
+        assertEquals(ReflectionUtils.getParameterAnnotations(method)[0].length, 1);
+        assertNotNull(ReflectionUtils.getParameterAnnotations(method)[0][0]);
+
+        Tag[] tags = ReflectionUtils.getRepeatableAnnotationsArray(InheritingClass.class, Tag.class);
+        tags[0] = null;
+        assertNotNull(ReflectionUtils.getRepeatableAnnotationsArray(InheritingClass.class, Tag.class)[0]);
+
+        assertSame(ReflectionUtils.getAnnotation(Child.class, javax.ws.rs.Path.class),
+                ReflectionUtils.getAnnotation(Child.class, javax.ws.rs.Path.class));
+        assertNull(ReflectionUtils.getAnnotation(Child.class, Tag.class));
+        assertNull(ReflectionUtils.getAnnotation(Child.class, Tag.class));
+        assertNull(ReflectionUtils.getRepeatableAnnotations(method, Tag.class));
+        assertNull(ReflectionUtils.getRepeatableAnnotations(method, Tag.class));
+        assertNull(ReflectionUtils.getRepeatableAnnotations(Child.class, ApiResponse.class));
+        assertNull(ReflectionUtils.getRepeatableAnnotations(Child.class, ApiResponse.class));
+    }
+
+    @Test
+    public void getParameterAnnotationsShouldMergeOverriddenMethods() throws NoSuchMethodException {
+        Method method = MergingSubClass.class.getMethod("method", String.class, String.class);
+        Annotation[][] parameterAnnotations = ReflectionUtils.getParameterAnnotations(method);
+        assertEquals(parameterAnnotations.length, 2);
+        assertEquals(parameterAnnotations[0].length, 2);
+        assertEquals(((AnnotationInterface) parameterAnnotations[0][0]).value(), "sub");
+        assertTrue(parameterAnnotations[0][1] instanceof Deprecated);
+        assertEquals(parameterAnnotations[1].length, 1);
+        assertEquals(((AnnotationInterface) parameterAnnotations[1][0]).value(), "base");
+    }
+
     @Tag(name = "inherited tag")
     private interface AnnotatedInterface {}
 
@@ -217,6 +253,15 @@ public class ReflectionUtilsTest {
         public void method(String example){}
     }
 
+    private static class MergingBaseClass {
+        public void method(@AnnotationInterface("base") @Deprecated String first, @AnnotationInterface("base") String second) {}
+    }
+
+    private static class MergingSubClass extends MergingBaseClass {
+        @Override
+        public void method(@AnnotationInterface("sub") String first, String second) {}
+    }
+
     private static class ThirdLevelSubClass extends SecondLevelSubClass {
         @Override
         public void method(@AnnotationInterface("level4") String example){}
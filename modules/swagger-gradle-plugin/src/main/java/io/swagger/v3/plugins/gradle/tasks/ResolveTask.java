@@ -10,28 +10,34 @@ import org.gradle.api.provider.Property;
 import org.gradle.api.provider.Provider;
 import org.gradle.api.provider.SetProperty;
 import org.gradle.api.tasks.*;
+import org.gradle.workers.WorkQueue;
+import org.gradle.workers.WorkerExecutor;
 import org.jetbrains.annotations.Nullable;
 
+import javax.inject.Inject;
 import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.Method;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLClassLoader;
-import java.nio.charset.Charset;
 import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @CacheableTask
-public class ResolveTask extends DefaultTask {
+public abstract class ResolveTask extends DefaultTask {
 
     public enum Format {JSON, YAML, JSONANDYAML}
 
+    /**
+     * How specifications are resolved: in the Gradle daemon with an isolated class loader of the resolve classpath
+     * ({@code CLASSLOADER}), or in a worker daemon kept by Gradle for subsequent builds ({@code PROCESS}); either way
+     * Gradle owns the class loader, isolating the build from the resolve classpath.
+     *
+     * @since 2.2.43
+     */
+    public enum WorkerIsolation {CLASSLOADER, PROCESS}
+
     @Input
     @Optional
     public final Property<String> outputFileName = getProject().getObjects().property(String.class);
@@ -137,6 +143,17 @@ public class ResolveTask extends DefaultTask {
     @Optional
     public final Property<String> defaultResponseCode = getProject().getObjects().property(String.class);
 
+    /**
+     * Directory the scan index of the resolved classpath is written to, see
+     * {@code io.swagger.v3.jaxrs2.integration.JaxrsScanIndex}; when included in the runtime classpath, it spares
+     * scanning the classpath at runtime.
+     *
+     * @since 2.2.43
+     */
+    @OutputDirectory
+    @Optional
+    public final DirectoryProperty scanIndexDir = getProject().getObjects().directoryProperty();
+
     @Input
     @Optional
     public final Property<String> validatorProcessorClass = getProject().getObjects().property(String.class);
@@ -145,6 +162,12 @@ public class ResolveTask extends DefaultTask {
     @Optional
     public final Property<String> groupsValidationStrategy = getProject().getObjects().property(String.class);
 
+    /**
+     * @since 2.2.43
+     */
+    @Internal
+    public final Property<WorkerIsolation> workerIsolation = getProject().getObjects().property(WorkerIsolation.class);
+
     public Property<String> getOutputFileName() {
         return outputFileName;
     }
@@ -450,6 +473,38 @@ public class ResolveTask extends DefaultTask {
         this.openAPIVersion.set(openAPIVersion);
     }
 
+    public DirectoryProperty getScanIndexDir() {
+        return scanIndexDir;
+    }
+
+    public void setScanIndexDir(String scanIndexDir) {
+        this.scanIndexDir.set(getProject().file(scanIndexDir));
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public Property<WorkerIsolation> getWorkerIsolation() {
+        return workerIsolation;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public void setWorkerIsolation(String workerIsolation) {
+        this.workerIsolation.set(WorkerIsolation.valueOf(workerIsolation));
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public void setWorkerIsolation(WorkerIsolation workerIsolation) {
+        this.workerIsolation.set(workerIsolation);
+    }
+
+    @Inject
+    protected abstract WorkerExecutor getWorkerExecutor();
+
     @TaskAction
     public void resolve() throws GradleException {
         if (skip.getOrElse(false)) {
@@ -458,161 +513,76 @@ public class ResolveTask extends DefaultTask {
             return;
         }
         getLogger().info("Resolving OpenAPI specification..");
-        Stream<URL> classpathStream = classpath.getFiles().stream().map(f -> {
-            try {
-                return f.toURI().toURL();
-            } catch (MalformedURLException e) {
-                throw new GradleException(
-                        String.format("Could not create classpath for annotations task %s.", getName()), e);
-            }
-        });
-
-
-        Stream<URL> buildClasspathStream = buildClasspath.getFiles().stream().map(f -> {
-            try {
-                return f.toURI().toURL();
-            } catch (MalformedURLException e) {
-                throw new GradleException(
-                        String.format("Could not create classpath for annotations task %s.", getName()), e);
-            }
-        });
 
-        URL[] urls = Stream.concat(classpathStream, buildClasspathStream)
-                .distinct()
-                .toArray(URL[]::new);
-
-        //ClassLoader classLoader = new URLClassLoader(urls.toArray(new URL[urls.size()]), Thread.currentThread().getContextClassLoader());
-
-        try (URLClassLoader classLoader = new URLClassLoader(urls)) {
-            Class<?> swaggerLoaderClass = classLoader.loadClass("io.swagger.v3.jaxrs2.integration.SwaggerLoader");
-            Object swaggerLoader = swaggerLoaderClass.newInstance();
-
-            Method method = null;
-            method = swaggerLoaderClass.getDeclaredMethod("setOutputFormat", String.class);
-            method.invoke(swaggerLoader, outputFormat.get().name());
-
-            if (openApiFile.isPresent()) {
-                final File openApiFileHandle = openApiFile.get().getAsFile();
-                if (openApiFileHandle.exists() && openApiFileHandle.isFile()) {
+        if (openAPI31.isPresent() && !openAPI31.get() && convertToOpenAPI31.get()) {
+            throw new GradleException("`convertToOpenAPI31` can't be enabled when `openAPI31` support is explicity disabled");
+        }
+        Map<String, String> settings = new LinkedHashMap<>();
+        settings.put("outputFormat", outputFormat.get().name());
+        if (openApiFile.isPresent()) {
+            final File openApiFileHandle = openApiFile.get().getAsFile();
+            if (openApiFileHandle.exists() && openApiFileHandle.isFile()) {
+                try {
                     String openapiFileContent = new String(Files.readAllBytes(openApiFileHandle.toPath()), encoding.get());
                     if (StringUtils.isNotBlank(openapiFileContent)) {
-                        method = swaggerLoaderClass.getDeclaredMethod("setOpenapiAsString", String.class);
-                        method.invoke(swaggerLoader, openapiFileContent);
+                        settings.put("openapiAsString", openapiFileContent);
                     }
+                } catch (IOException e) {
+                    throw new GradleException("Failed to read OpenAPI input file: " + e.getMessage(), e);
                 }
             }
+        }
+        putJoined(settings, "resourcePackages", resourcePackages);
+        putJoined(settings, "resourceClasses", resourceClasses);
+        putJoined(settings, "modelConverterClasses", modelConverterClasses);
+        putJoined(settings, "ignoredRoutes", ignoredRoutes);
+        putNotBlank(settings, "filterClass", filterClass);
+        putNotBlank(settings, "readerClass", readerClass);
+        putNotBlank(settings, "scannerClass", scannerClass);
+        putNotBlank(settings, "contextId", contextId);
+        putNotBlank(settings, "objectMapperProcessorClass", objectMapperProcessorClass);
+        putNotBlank(settings, "defaultResponseCode", defaultResponseCode);
+        putNotBlank(settings, "validatorProcessorClass", validatorProcessorClass);
+        putNotBlank(settings, "groupsValidationStrategy", groupsValidationStrategy);
+        putPresent(settings, "prettyPrint", prettyPrint);
+        putPresent(settings, "sortOutput", sortOutput);
+        putPresent(settings, "alwaysResolveAppPath", alwaysResolveAppPath);
+        putPresent(settings, "skipResolveAppPath", skipResolveAppPath);
+        putPresent(settings, "readAllResources", readAllResources);
+        putPresent(settings, "openAPI31", openAPI31);
+        putPresent(settings, "convertToOpenAPI31", convertToOpenAPI31);
+        putPresent(settings, "schemaResolution", schemaResolution);
+        putPresent(settings, "openAPIVersion", openAPIVersion);
+        if (scanIndexDir.isPresent()) {
+            settings.put("scanIndexDirectory", scanIndexDir.get().getAsFile().getAbsolutePath());
+        }
 
-            if (resourcePackages.isPresent() && !resourcePackages.get().isEmpty()) {
-                method = swaggerLoaderClass.getDeclaredMethod("setResourcePackages", String.class);
-                method.invoke(swaggerLoader, resourcePackages.get().stream().map(Object::toString).collect(Collectors.joining(",")));
-            }
-            if (resourceClasses.isPresent() && !resourceClasses.get().isEmpty()) {
-                method = swaggerLoaderClass.getDeclaredMethod("setResourceClasses", String.class);
-                method.invoke(swaggerLoader, resourceClasses.get().stream().map(Object::toString).collect(Collectors.joining(",")));
-            }
-            if (modelConverterClasses.isPresent() && !modelConverterClasses.get().isEmpty()) {
-                method = swaggerLoaderClass.getDeclaredMethod("setModelConverterClasses", String.class);
-                method.invoke(swaggerLoader, modelConverterClasses.get().stream().map(Object::toString).collect(Collectors.joining(",")));
-            }
-            if (ignoredRoutes.isPresent() && !ignoredRoutes.get().isEmpty()) {
-                method = swaggerLoaderClass.getDeclaredMethod("setIgnoredRoutes", String.class);
-                method.invoke(swaggerLoader, ignoredRoutes.get().stream().map(Object::toString).collect(Collectors.joining(",")));
-            }
-
-            if (filterClass.isPresent() && StringUtils.isNotBlank(filterClass.get())) {
-                method = swaggerLoaderClass.getDeclaredMethod("setFilterClass", String.class);
-                method.invoke(swaggerLoader, filterClass.get());
-            }
-
-            if (readerClass.isPresent() && StringUtils.isNotBlank(readerClass.get())) {
-                method = swaggerLoaderClass.getDeclaredMethod("setReaderClass", String.class);
-                method.invoke(swaggerLoader, readerClass.get());
-            }
-
-            if (scannerClass.isPresent() && StringUtils.isNotBlank(scannerClass.get())) {
-                method = swaggerLoaderClass.getDeclaredMethod("setScannerClass", String.class);
-                method.invoke(swaggerLoader, scannerClass.get());
-            }
-
-            if (contextId.isPresent() && StringUtils.isNotBlank(contextId.get())) {
-                method = swaggerLoaderClass.getDeclaredMethod("setContextId", String.class);
-                method.invoke(swaggerLoader, contextId.get());
-            }
-
-            if (objectMapperProcessorClass.isPresent() && StringUtils.isNotBlank(objectMapperProcessorClass.get())) {
-                method = swaggerLoaderClass.getDeclaredMethod("setObjectMapperProcessorClass", String.class);
-                method.invoke(swaggerLoader, objectMapperProcessorClass.get());
-            }
-
-            if (defaultResponseCode.isPresent() && StringUtils.isNotBlank(defaultResponseCode.get())) {
-                method = swaggerLoaderClass.getDeclaredMethod("setDefaultResponseCode", String.class);
-                method.invoke(swaggerLoader, defaultResponseCode.get());
-            }
-
-            if (validatorProcessorClass.isPresent() && StringUtils.isNotBlank(validatorProcessorClass.get())) {
-                method = swaggerLoaderClass.getDeclaredMethod("setValidatorProcessorClass", String.class);
-                method.invoke(swaggerLoader, validatorProcessorClass.get());
-            }
-
-            if (groupsValidationStrategy.isPresent() && StringUtils.isNotBlank(groupsValidationStrategy.get())) {
-                method = swaggerLoaderClass.getDeclaredMethod("setGroupsValidationStrategy", String.class);
-                method.invoke(swaggerLoader, groupsValidationStrategy.get());
-            }
-
-            method = swaggerLoaderClass.getDeclaredMethod("setPrettyPrint", Boolean.class);
-            method.invoke(swaggerLoader, prettyPrint.get());
-
-            method = swaggerLoaderClass.getDeclaredMethod("setSortOutput", Boolean.class);
-            method.invoke(swaggerLoader, sortOutput.get());
-
-            method = swaggerLoaderClass.getDeclaredMethod("setAlwaysResolveAppPath", Boolean.class);
-            method.invoke(swaggerLoader, alwaysResolveAppPath.get());
-
-            method = swaggerLoaderClass.getDeclaredMethod("setSkipResolveAppPath", Boolean.class);
-            method.invoke(swaggerLoader, skipResolveAppPath.get());
-
-            method = swaggerLoaderClass.getDeclaredMethod("setReadAllResources", Boolean.class);
-            method.invoke(swaggerLoader, readAllResources.get());
-
-            if (openAPI31.isPresent() && !openAPI31.get() && convertToOpenAPI31.get()) {
-                throw new GradleException("`convertToOpenAPI31` can't be enabled when `openAPI31` support is explicity disabled");
-            }
-            if (openAPI31.isPresent()) {
-                method = swaggerLoaderClass.getDeclaredMethod("setOpenAPI31", Boolean.class);
-                method.invoke(swaggerLoader, openAPI31.get());
-            }
+        WorkQueue workQueue = WorkerIsolation.PROCESS.equals(workerIsolation.getOrElse(WorkerIsolation.CLASSLOADER)) ?
+                getWorkerExecutor().processIsolation(spec -> spec.getClasspath().from(classpath, buildClasspath)) :
+                getWorkerExecutor().classLoaderIsolation(spec -> spec.getClasspath().from(classpath, buildClasspath));
+        workQueue.submit(ResolveWorkAction.class, parameters -> {
+            parameters.getSettings().set(settings);
+            parameters.getOutputDir().set(outputDir);
+            parameters.getOutputFileName().set(outputFileName);
+            parameters.getEncoding().set(encoding);
+        });
+    }
 
-            if (convertToOpenAPI31.isPresent()) {
-                method = swaggerLoaderClass.getDeclaredMethod("setConvertToOpenAPI31", Boolean.class);
-                method.invoke(swaggerLoader, convertToOpenAPI31.get());
-            }
-            if (schemaResolution.isPresent()) {
-                method = swaggerLoaderClass.getDeclaredMethod("setSchemaResolution", String.class);
-                method.invoke(swaggerLoader, schemaResolution.get());
-            }
-            if (openAPIVersion.isPresent()) {
-                method = swaggerLoaderClass.getDeclaredMethod("setOpenAPIVersion", String.class);
-                method.invoke(swaggerLoader, openAPIVersion.get());
-            }
+    private static void putJoined(Map<String, String> settings, String name, SetProperty<String> values) {
+        if (values.isPresent() && !values.get().isEmpty()) {
+            settings.put(name, values.get().stream().map(Object::toString).collect(Collectors.joining(",")));
+        }
+    }
 
-            method = swaggerLoaderClass.getDeclaredMethod("resolve");
-            Map<String, String> specs = (Map<String, String>) method.invoke(swaggerLoader);
+    private static void putNotBlank(Map<String, String> settings, String name, Property<String> value) {
+        if (value.isPresent() && StringUtils.isNotBlank(value.get())) {
+            settings.put(name, value.get());
+        }
+    }
 
-            final Path outputFile = outputDir.getAsFile().get().toPath();
-            if (specs.get("JSON") != null) {
-                Path path = outputFile.resolve(String.format("%s.json", outputFileName.get()));
-                Files.write(path, specs.get("JSON").getBytes(Charset.forName(encoding.get())));
-                getLogger().debug("Saved openapi to {}", path.toAbsolutePath());
-            }
-            if (specs.get("YAML") != null) {
-                Path path = outputFile.resolve(String.format("%s.yaml", outputFileName.get()));
-                Files.write(path, specs.get("YAML").getBytes(Charset.forName(encoding.get())));
-                getLogger().debug("Saved openapi to {}", path.toAbsolutePath());
-            }
-        } catch (IOException e) {
-            throw new GradleException("Failed to write API definition: " + e.getMessage(), e);
-        } catch (Exception e) {
-            throw new GradleException(e.getMessage(), e);
+    private static void putPresent(Map<String, String> settings, String name, Property<?> value) {
+        if (value.isPresent()) {
+            settings.put(name, value.get().toString());
         }
     }
 }
@@ -0,0 +1,88 @@
+package io.swagger.v3.plugins.gradle.tasks;
+
+import org.gradle.api.GradleException;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.provider.MapProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Resolves the specification with {@code io.swagger.v3.jaxrs2.integration.SwaggerLoader}, loaded by the isolated
+ * class loader of the resolve classpath the action runs in, and writes it to the output directory.
+ */
+public abstract class ResolveWorkAction implements WorkAction<ResolveWorkAction.Parameters> {
+
+    public interface Parameters extends WorkParameters {
+
+        /**
+         * @return the values of the {@code SwaggerLoader} properties, by property name
+         */
+        MapProperty<String, String> getSettings();
+
+        DirectoryProperty getOutputDir();
+
+        Property<String> getOutputFileName();
+
+        Property<String> getEncoding();
+    }
+
+    @Override
+    public void execute() {
+        Parameters parameters = getParameters();
+        try {
+            Class<?> swaggerLoaderClass = getClass().getClassLoader().loadClass("io.swagger.v3.jaxrs2.integration.SwaggerLoader");
+            Object swaggerLoader = swaggerLoaderClass.getDeclaredConstructor().newInstance();
+            for (Map.Entry<String, String> setting : parameters.getSettings().get().entrySet()) {
+                set(swaggerLoaderClass, swaggerLoader, setting.getKey(), setting.getValue());
+            }
+
+            Method method = swaggerLoaderClass.getDeclaredMethod("resolve");
+            @SuppressWarnings("unchecked")
+            Map<String, String> specs = (Map<String, String>) method.invoke(swaggerLoader);
+
+            Charset charset = Charset.forName(parameters.getEncoding().get());
+            Path outputDir = parameters.getOutputDir().getAsFile().get().toPath();
+            if (specs.get("JSON") != null) {
+                Path path = outputDir.resolve(String.format("%s.json", parameters.getOutputFileName().get()));
+                Files.write(path, specs.get("JSON").getBytes(charset));
+            }
+            if (specs.get("YAML") != null) {
+                Path path = outputDir.resolve(String.format("%s.yaml", parameters.getOutputFileName().get()));
+                Files.write(path, specs.get("YAML").getBytes(charset));
+            }
+        } catch (IOException e) {
+            throw new GradleException("Failed to write API definition: " + e.getMessage(), e);
+        } catch (InvocationTargetException e) {
+            throw new GradleException(e.getCause().getMessage(), e.getCause());
+        } catch (Exception e) {
+            throw new GradleException(e.getMessage(), e);
+        }
+    }
+
+    private static void set(Class<?> swaggerLoaderClass, Object swaggerLoader, String name, String value) throws Exception {
+        String setter = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (Method method : swaggerLoaderClass.getDeclaredMethods()) {
+            if (method.getName().equals(setter) && method.getParameterCount() == 1) {
+                Class<?> type = method.getParameterTypes()[0];
+                if (type == String.class) {
+                    method.invoke(swaggerLoader, value);
+                    return;
+                }
+                if (type == Boolean.class) {
+                    method.invoke(swaggerLoader, value == null ? null : Boolean.valueOf(value));
+                    return;
+                }
+            }
+        }
+        throw new GradleException("Unknown setting of the OpenAPI specification resolution: " + name);
+    }
+}
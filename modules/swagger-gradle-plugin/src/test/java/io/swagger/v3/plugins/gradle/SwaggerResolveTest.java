@@ -1,7 +1,9 @@
 package io.swagger.v3.plugins.gradle;
 
 import static java.lang.String.format;
+import static org.gradle.testkit.runner.TaskOutcome.FROM_CACHE;
 import static org.gradle.testkit.runner.TaskOutcome.SUCCESS;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
 import java.io.BufferedWriter;
@@ -203,6 +205,81 @@ public class SwaggerResolveTest {
         assertTrue(strContent.contains("\"openapi\" : \"3.0.1\""));
     }
 
+    @Test
+    public void testSwaggerResolveInWorkerProcessFromBuildCache() throws IOException {
+        outputDir = testProjectDir.toString() + "/target";
+        String resolveTask = "resolve";
+
+        String buildFileContent =
+                "plugins {\n" +
+                "    id 'java'\n" +
+                "    id 'io.swagger.core.v3.swagger-gradle-plugin'\n" +
+                "}\n" +
+                "sourceSets {\n" +
+                "    test {\n" +
+                "        java {\n" +
+                "            srcDirs('" + toNormalizedPath(new File("src/test/java").getAbsolutePath()) + "')\n" +
+                "            exclude('**/*Test.java')\n" +
+                "        }\n" +
+                "    }\n" +
+                "}\n" +
+                "repositories {\n" +
+                "    mavenLocal()\n" +
+                "    mavenCentral()\n" +
+                "}\n" +
+                "dependencies {  \n" +
+                "    implementation 'io.swagger.core.v3:swagger-jaxrs2:2.2.43-SNAPSHOT'\n" +
+                "    implementation 'javax.ws.rs:javax.ws.rs-api:2.1'\n" +
+                "    implementation 'javax.servlet:javax.servlet-api:3.1.0'\n" +
+                "    testImplementation 'com.github.tomakehurst:wiremock:2.27.2'\n" +
+                "    testImplementation 'org.testng:testng:7.10.2'\n" +
+                "}\n" +
+                resolveTask + " {\n" +
+                "    outputFileName = 'PetStoreAPI'\n" +
+                "    outputFormat = 'JSON'\n" +
+                "    prettyPrint = 'TRUE'\n" +
+                "    classpath = sourceSets.test.runtimeClasspath\n" +
+                "    resourcePackages = ['io.swagger.v3.plugins.gradle.petstore']\n" +
+                "    outputPath = \'" + toNormalizedPath(outputDir) + "\'\n" +
+                "    workerIsolation = 'PROCESS'\n" +
+                "    openApiFile = file(\'" + toNormalizedPath(openapiInputFile.toAbsolutePath().toString()) + "\')\n" +
+                "}";
+
+        String settingsFileContent = "pluginManagement {\n" +
+                "    repositories {\n" +
+                "        maven {\n" +
+                "            url mavenLocal().url\n" +
+                "        }\n" +
+                "        mavenCentral()\n" +
+                "        gradlePluginPortal()\n" +
+                "    }\n" +
+                "}\n" +
+                "buildCache {\n" +
+                "    local {\n" +
+                "        directory = file(\'" + toNormalizedPath(testProjectDir.resolve("build-cache").toString()) + "\')\n" +
+                "    }\n" +
+                "}\n" +
+                "rootProject.name = 'gradle-test'\n" +
+                "\n";
+        writeFile(buildFile, buildFileContent);
+        writeFile(settingsFile, settingsFileContent);
+
+        GradleRunner runner = GradleRunner.create()
+                .withPluginClasspath()
+                .withProjectDir(testProjectDir.toFile())
+                .withArguments(resolveTask, "--build-cache", "--stacktrace")
+                .forwardOutput();
+
+        BuildResult result = runner.build();
+        assertTrue(result.taskPaths(SUCCESS).contains(format(":%s", resolveTask)));
+        String resolved = new String(Files.readAllBytes(Paths.get(outputDir, "PetStoreAPI.json")), StandardCharsets.UTF_8);
+
+        Files.delete(Paths.get(outputDir, "PetStoreAPI.json"));
+        result = runner.build();
+        assertTrue(result.taskPaths(FROM_CACHE).contains(format(":%s", resolveTask)));
+        assertEquals(new String(Files.readAllBytes(Paths.get(outputDir, "PetStoreAPI.json")), StandardCharsets.UTF_8), resolved);
+    }
+
     private static void writeFile(Path destination, String content) throws IOException {
         try (BufferedWriter output = new BufferedWriter(new FileWriter(destination.toFile()))) {
             output.write(content);
@@ -0,0 +1,112 @@
+package io.swagger.v3.oas.integration;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contributions of each class to the OpenAPI built by a reader, kept by a context across reads so that a reader
+ * supporting them, see {@link io.swagger.v3.oas.integration.api.OpenApiReader#setClassContributions(ClassContributions)},
+ * reads again only the classes which are new or have been {@link #invalidate(Collection) invalidated} since, and
+ * merges the contributions of the other ones.
+ *
+ * <p>Contributions are keyed by class name and returned only for the same class, so that a class reloaded by another
+ * class loader is read again; the contribution of the previous class is dropped once the reader
+ * {@link #retainAll(Collection) retains} the classes it has read. A contribution may also be put along with the
+ * classes it depends on, e.g. the models resolved reading its class, so that it is invalidated by their changes as
+ * well.</p>
+ *
+ * @since 2.2.43
+ */
+public class ClassContributions {
+
+    private final ConcurrentHashMap<String, Entry> contributions = new ConcurrentHashMap<>();
+    private final AtomicLong reuseCount = new AtomicLong();
+    private final AtomicLong readCount = new AtomicLong();
+
+    /**
+     * @return the contribution of the given class, or null if the class has not been read or has been invalidated
+     */
+    public <C> C get(Class<?> cls, Class<C> type) {
+        Entry entry = contributions.get(cls.getName());
+        if (entry == null || entry.cls != cls || !type.isInstance(entry.contribution)) {
+            readCount.incrementAndGet();
+            return null;
+        }
+        reuseCount.incrementAndGet();
+        return type.cast(entry.contribution);
+    }
+
+    public void put(Class<?> cls, Object contribution) {
+        put(cls, contribution, Collections.emptySet());
+    }
+
+    /**
+     * Puts the contribution of the given class, invalidated as well by changes of the given classes it depends on.
+     */
+    public void put(Class<?> cls, Object contribution, Collection<Class<?>> dependencies) {
+        Set<String> dependencyNames = new HashSet<>();
+        for (Class<?> dependency : dependencies) {
+            dependencyNames.add(dependency.getName());
+        }
+        contributions.put(cls.getName(), new Entry(cls, contribution, dependencyNames));
+    }
+
+    /**
+     * Drops the contributions of the given classes, or of the classes with the same names, and the contributions
+     * depending on them, so that they are read again.
+     */
+    public void invalidate(Collection<Class<?>> classes) {
+        Set<String> names = new HashSet<>();
+        for (Class<?> cls : classes) {
+            names.add(cls.getName());
+            contributions.remove(cls.getName());
+        }
+        contributions.values().removeIf(entry -> !Collections.disjoint(entry.dependencyNames, names));
+    }
+
+    public void invalidateAll() {
+        contributions.clear();
+    }
+
+    /**
+     * Drops the contributions of the classes which are not in the given ones, e.g. removed or reloaded classes.
+     */
+    public void retainAll(Collection<Class<?>> classes) {
+        Set<Class<?>> retained = new HashSet<>(classes);
+        contributions.values().removeIf(entry -> !retained.contains(entry.cls));
+    }
+
+    public int size() {
+        return contributions.size();
+    }
+
+    /**
+     * @return the number of times a contribution has been reused instead of reading its class
+     */
+    public long getReuseCount() {
+        return reuseCount.get();
+    }
+
+    /**
+     * @return the number of times a class had to be read, having no contribution
+     */
+    public long getReadCount() {
+        return readCount.get();
+    }
+
+    private static final class Entry {
+        final Class<?> cls;
+        final Object contribution;
+        final Set<String> dependencyNames;
+
+        Entry(Class<?> cls, Object contribution, Set<String> dependencyNames) {
+            this.cls = cls;
+            this.contribution = contribution;
+            this.dependencyNames = dependencyNames;
+        }
+    }
+}
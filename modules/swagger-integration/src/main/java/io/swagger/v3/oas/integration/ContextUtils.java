@@ -9,11 +9,17 @@ public class ContextUtils {
 
     private static Logger LOGGER = LoggerFactory.getLogger(ContextUtils.class);
 
-    // TODO implement proper clone see #2227
     public static OpenAPIConfiguration deepCopy(OpenAPIConfiguration config) {
         if (config == null) {
             return null;
         }
+        if (config instanceof SwaggerConfiguration) {
+            try {
+                return ((SwaggerConfiguration) config).copy();
+            } catch (Exception e) {
+                LOGGER.debug("Exception copying config, falling back to serialization: " + e.getMessage(), e);
+            }
+        }
         try {
             return Json.mapper().readValue(Json.pretty(config), SwaggerConfiguration.class);
         } catch (Exception e) {
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -13,7 +14,10 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.swagger.v3.core.converter.ModelConverter;
 import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.filter.OpenAPI31SpecFilter;
+import io.swagger.v3.core.filter.OpenAPISpecFilter;
 import io.swagger.v3.core.filter.SpecFilter;
+import io.swagger.v3.core.filter.SpecFilterInputs;
+import io.swagger.v3.core.jackson.BeanDescriptionCache;
 import io.swagger.v3.core.jackson.ModelResolver;
 import io.swagger.v3.core.jackson.PathsSerializer;
 import io.swagger.v3.core.jackson.mixin.Schema31Mixin;
@@ -37,14 +41,26 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class GenericOpenApiContext<T extends GenericOpenApiContext> implements OpenApiContext {
 
@@ -63,12 +79,37 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
 
     private ObjectMapperProcessor objectMapperProcessor;
     private Set<ModelConverter> modelConverters;
+    private volatile ModelConverters modelConverterChain;
 
     private ObjectMapper outputJsonMapper;
     private ObjectMapper outputYamlMapper;
 
     private ConcurrentHashMap<String, Cache> cache = new ConcurrentHashMap<>();
 
+    private final AtomicLong cacheVersion = new AtomicLong();
+
+    private final Object cacheLock = new Object();
+    // serializes the builds, the reader not being thread safe; taken before cacheLock, never while holding it
+    private final Object buildLock = new Object();
+    // guarded by cacheLock, bumped by destroy() so that builds started before are not published
+    private long cacheGeneration;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private Executor rebuildExecutor;
+
+    private final AtomicLong rebuildCount = new AtomicLong();
+    private final AtomicLong rebuildFailureCount = new AtomicLong();
+    private final AtomicLong rebuildTimeNanos = new AtomicLong();
+    private final AtomicLong lastRebuildTimeNanos = new AtomicLong();
+    private final AtomicLong staleReadCount = new AtomicLong();
+
+    private volatile CountDownLatch warmUp;
+
+    private volatile FilterHolder specFilter;
+    private int filteredCacheSize = 100;
+
+    private boolean incrementalRebuild;
+    private final ClassContributions classContributions = new ClassContributions();
+
     // 0 doesn't cache
     // -1 perpetual
     private long cacheTTL = -1;
@@ -94,6 +135,258 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         return (T) this;
     }
 
+    /**
+     * @since 2.2.43
+     */
+    public Executor getRebuildExecutor() {
+        return rebuildExecutor;
+    }
+
+    /**
+     * Sets the executor rebuilding the cached OpenAPI once it is stale; while the rebuild runs, callers keep getting
+     * the stale OpenAPI. It also runs the {@link OpenAPIConfiguration#isWarmUp() warm up} if configured. Defaults to
+     * a shared pool of daemon threads; pass {@code Runnable::run} to rebuild in the calling thread.
+     *
+     * @since 2.2.43
+     */
+    public void setRebuildExecutor(Executor rebuildExecutor) {
+        this.rebuildExecutor = rebuildExecutor;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public T rebuildExecutor(Executor rebuildExecutor) {
+        this.rebuildExecutor = rebuildExecutor;
+        return (T) this;
+    }
+
+    /**
+     * @return the number of times the cached OpenAPI has been built, including the initial build
+     * @since 2.2.43
+     */
+    public long getRebuildCount() {
+        return rebuildCount.get();
+    }
+
+    /**
+     * @return the number of failed rebuilds; the previous OpenAPI is kept when a rebuild fails
+     * @since 2.2.43
+     */
+    public long getRebuildFailureCount() {
+        return rebuildFailureCount.get();
+    }
+
+    /**
+     * @return the total time spent building the cached OpenAPI, in milliseconds
+     * @since 2.2.43
+     */
+    public long getRebuildTimeMillis() {
+        return rebuildTimeNanos.get() / 1_000_000;
+    }
+
+    /**
+     * @return the time spent by the last build of the cached OpenAPI, in milliseconds
+     * @since 2.2.43
+     */
+    public long getLastRebuildTimeMillis() {
+        return lastRebuildTimeNanos.get() / 1_000_000;
+    }
+
+    /**
+     * @return the number of reads served with a stale OpenAPI while a rebuild was pending
+     * @since 2.2.43
+     */
+    public long getStaleReadCount() {
+        return staleReadCount.get();
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public int getFilteredCacheSize() {
+        return filteredCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of filtered documents cached per version of the OpenAPI, for filters declaring their
+     * {@link OpenAPISpecFilter#getRequestInputs() request inputs}; least recently used documents are evicted first.
+     * 0 disables caching of filtered documents.
+     *
+     * @since 2.2.43
+     */
+    public void setFilteredCacheSize(int filteredCacheSize) {
+        this.filteredCacheSize = filteredCacheSize;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public T filteredCacheSize(int filteredCacheSize) {
+        this.filteredCacheSize = filteredCacheSize;
+        return (T) this;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public boolean isIncrementalRebuild() {
+        return incrementalRebuild;
+    }
+
+    /**
+     * Enables incremental rebuilds: the reader keeps the contribution of each class (paths, tags and components) in
+     * {@link #getClassContributions()}, and a rebuild, e.g. after {@link #invalidate(Collection)}, reads again only
+     * the changed, added or reloaded classes. Ignored if the reader doesn't support it, or if the OpenAPI is converted
+     * to 3.1, as the conversion changes the schemas read.
+     *
+     * @since 2.2.43
+     */
+    public void setIncrementalRebuild(boolean incrementalRebuild) {
+        this.incrementalRebuild = incrementalRebuild;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public T incrementalRebuild(boolean incrementalRebuild) {
+        this.incrementalRebuild = incrementalRebuild;
+        return (T) this;
+    }
+
+    /**
+     * @return the contributions of the classes read so far, when {@link #isIncrementalRebuild() incremental rebuild}
+     * is enabled
+     * @since 2.2.43
+     */
+    public ClassContributions getClassContributions() {
+        return classContributions;
+    }
+
+    /**
+     * Rebuilds the cached OpenAPI after the given classes changed, if it has been built already. With
+     * {@link #isIncrementalRebuild() incremental rebuild} enabled, only these classes, the classes whose models include
+     * them and the classes not read before are read again, the contributions of the other classes being merged as they are. The serialized documents
+     * cached so far are serialized again from the rebuilt OpenAPI; if the rebuild fails, the previous OpenAPI is kept.
+     *
+     * @param changedClasses the changed resource or model classes, or classes with the same names
+     * @since 2.2.43
+     */
+    public void invalidate(Collection<Class<?>> changedClasses) {
+        classContributions.invalidate(changedClasses);
+        Cache previous = cache.get("openapi");
+        if (previous == null || cacheTTL == 0) {
+            return;
+        }
+        Cache rebuilt;
+        try {
+            rebuilt = buildCache();
+        } catch (RuntimeException e) {
+            rebuildFailureCount.incrementAndGet();
+            LOGGER.error("error rebuilding OpenAPI, serving previous version: " + e.getMessage(), e);
+            return;
+        }
+        for (String key : previous.serialized.keySet()) {
+            SerializedOpenApi.Format format = SerializedOpenApi.Format.valueOf(StringUtils.substringBefore(key, "."));
+            boolean pretty = key.endsWith(".pretty");
+            try {
+                rebuilt.serialized.put(key, SerializedOpenApi.serialize(rebuilt.openApi, getOutputMapper(format), format, pretty, rebuilt.version));
+            } catch (JsonProcessingException e) {
+                LOGGER.warn("error serializing rebuilt OpenAPI, serializing it on next read: " + e.getMessage(), e);
+            }
+        }
+        publishCache(rebuilt);
+    }
+
+    /**
+     * Releases the cached OpenAPI, its serialized documents and the class contributions kept for incremental
+     * rebuilds; they are built again if the context is read after being destroyed.
+     *
+     * @since 2.2.43
+     */
+    @Override
+    public void destroy() {
+        synchronized (cacheLock) {
+            cacheGeneration++;
+            cache.clear();
+        }
+        classContributions.invalidateAll();
+    }
+
+    /**
+     * Returns an estimate of the heap retained by the cached documents: the bytes of the serialized and filtered
+     * documents, plus the size of the compact JSON serialization of the cached OpenAPI as an approximation of its
+     * object tree, computed once per cached version.
+     *
+     * @return the estimated footprint in bytes, 0 if nothing is cached
+     * @since 2.2.43
+     */
+    @Override
+    public long getMemoryFootprint() {
+        Cache cached = cache.get("openapi");
+        if (cached == null || cached.openApi == null) {
+            return 0;
+        }
+        long footprint = cached.getTreeFootprint(getOutputJsonMapper());
+        for (SerializedOpenApi serialized : cached.serialized.values()) {
+            footprint += serialized.getRetainedSize();
+        }
+        synchronized (cached.filtered) {
+            for (SerializedOpenApi serialized : cached.filtered.values()) {
+                footprint += serialized.getRetainedSize();
+            }
+        }
+        return footprint;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    @Override
+    public boolean isReady() {
+        CountDownLatch latch = warmUp;
+        return latch == null || latch.getCount() == 0;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    @Override
+    public boolean awaitReady(long timeout, TimeUnit unit) throws InterruptedException {
+        CountDownLatch latch = warmUp;
+        return latch == null || latch.await(timeout, unit);
+    }
+
+    /**
+     * Returns an instance of the filter configured in {@link OpenAPIConfiguration#getFilterClass()}. A new instance is
+     * created for each call, i.e. each request, unless the filter declares its
+     * {@link OpenAPISpecFilter#getRequestInputs() request inputs}, its output then depending on these inputs only: such
+     * an instance is created once and shared by all requests, and is therefore expected to be thread safe.
+     *
+     * @return the filter, or null if none is configured or it can't be loaded
+     * @since 2.2.43
+     */
+    public OpenAPISpecFilter getSpecFilter() {
+        String filterClass = openApiConfiguration == null ? null : openApiConfiguration.getFilterClass();
+        if (filterClass == null) {
+            return null;
+        }
+        FilterHolder holder = specFilter;
+        try {
+            if (holder == null || !holder.filterClass.equals(filterClass)) {
+                Class<?> type = Class.forName(filterClass);
+                OpenAPISpecFilter filter = (OpenAPISpecFilter) type.newInstance();
+                holder = new FilterHolder(filterClass, type, filter.getRequestInputs() != null ? filter : null);
+                specFilter = holder;
+                return filter;
+            }
+            return holder.filter != null ? holder.filter : (OpenAPISpecFilter) holder.type.newInstance();
+        } catch (Exception e) {
+            LOGGER.error("failed to load filter", e);
+            return null;
+        }
+    }
+
     public OpenApiReader getOpenApiReader() {
         return openApiReader;
     }
@@ -227,6 +520,10 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
     }
 
     /**
+     * Sets the converters added to the {@link #getModelConverterChain() converter chain} of this context. Since 2.2.43
+     * they are no longer registered in the JVM wide chain, so they are not returned by
+     * {@link ModelConverters#getInstance()} and don't apply to other contexts.
+     *
      * @since 2.0.6
      */
     @Override
@@ -242,6 +539,22 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         return (T) this;
     }
 
+    /**
+     * Returns the converter chain of this context, holding the converters registered in the JVM wide chain when the
+     * context was initialized, the {@link #getModelConverters() model converters} of this context, and the resolver
+     * using the mapper of the {@link #getObjectMapperProcessor() object mapper processor} if any. It is bound to the
+     * thread reading the OpenAPI, see {@link ModelConverters#bind()}.
+     *
+     * <p>The chain is a copy: converters registered in the JVM wide chain after the context is initialized don't apply
+     * to this context, unless it is initialized again.</p>
+     *
+     * @return the converter chain, or null if the context isn't initialized
+     * @since 2.2.43
+     */
+    public ModelConverters getModelConverterChain() {
+        return modelConverterChain;
+    }
+
     /**
      * @since 2.1.6
      */
@@ -255,13 +568,14 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
     @Override
     public void setOutputJsonMapper(ObjectMapper outputJsonMapper) {
         this.outputJsonMapper = outputJsonMapper;
+        clearSerialized();
     }
 
     /**
      * @since 2.1.6
      */
     public final T outputJsonMapper(ObjectMapper outputJsonMapper) {
-        this.outputJsonMapper = outputJsonMapper;
+        setOutputJsonMapper(outputJsonMapper);
         return (T) this;
     }
 
@@ -278,13 +592,14 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
     @Override
     public void setOutputYamlMapper(ObjectMapper outputYamlMapper) {
         this.outputYamlMapper = outputYamlMapper;
+        clearSerialized();
     }
 
     /**
      * @since 2.1.6
      */
     public final T outputYamlMapper(ObjectMapper outputYamlMapper) {
-        this.outputYamlMapper = outputYamlMapper;
+        setOutputYamlMapper(outputYamlMapper);
         return (T) this;
     }
 
@@ -577,11 +892,18 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         }
 
 
+        // the converters of this context are added to its own copy of the JVM wide chain, holding the converters
+        // registered so far, so that they don't leak into other contexts; its resolver applies the configuration of
+        // this context, e.g. its groups validation strategy, as the reader would get it from an unbound chain
+        ModelConverters chain = ModelConverters.getInstance(Boolean.TRUE.equals(openApiConfiguration.isOpenAPI31()), openApiConfiguration.getSchemaResolution())
+                .copy(openApiConfiguration.toConfiguration());
         try {
             if (objectMapperProcessor != null) {
                 ObjectMapper mapper = IntegrationObjectMapperFactory.createJson();
                 objectMapperProcessor.processJsonObjectMapper(mapper);
-                ModelConverters.getInstance(Boolean.TRUE.equals(openApiConfiguration.isOpenAPI31()), openApiConfiguration.getSchemaResolution()).addConverter(new ModelResolver(mapper));
+                // descriptions introspected while the processor configured the mapper are stale
+                BeanDescriptionCache.invalidate(mapper);
+                chain.addConverter(new ModelResolver(mapper));
 
                 objectMapperProcessor.processOutputJsonObjectMapper(outputJsonMapper);
                 objectMapperProcessor.processOutputYamlObjectMapper(outputYamlMapper);
@@ -594,13 +916,14 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         try {
             if (modelConverters != null && !modelConverters.isEmpty()) {
                 for (ModelConverter converter: modelConverters) {
-                    ModelConverters.getInstance(Boolean.TRUE.equals(openApiConfiguration.isOpenAPI31())).addConverter(converter);
+                    chain.addConverter(converter);
                 }
             }
         } catch (Exception e) {
             LOGGER.error("error configuring model converters: " + e.getMessage(), e);
             throw new OpenApiConfigurationException("error configuring model converters: " + e.getMessage(), e);
         }
+        modelConverterChain = chain;
 
         // set cache TTL if present in configuration
         if (openApiConfiguration.getCacheTTL() != null) {
@@ -620,6 +943,10 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
             this.schemaResolution = openApiConfiguration.getSchemaResolution();
         }
         register();
+
+        if (Boolean.TRUE.equals(openApiConfiguration.isWarmUp())) {
+            startWarmUp();
+        }
         return (T) this;
     }
 
@@ -703,6 +1030,26 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
             merged.setValidatorProcessorClass(parentConfig.getValidatorProcessorClass());
         }
 
+        if (merged.getReadParallelism() == null) {
+            merged.setReadParallelism(parentConfig.getReadParallelism());
+        }
+
+        if (merged.isStreamOutput() == null) {
+            merged.setStreamOutput(parentConfig.isStreamOutput());
+        }
+
+        if (merged.isUseScanIndex() == null) {
+            merged.setUseScanIndex(parentConfig.isUseScanIndex());
+        }
+
+        if (merged.isWarmUp() == null) {
+            merged.setWarmUp(parentConfig.isWarmUp());
+        }
+
+        if (merged.getWarmUpTimeout() == null) {
+            merged.setWarmUpTimeout(parentConfig.getWarmUpTimeout());
+        }
+
         if (merged.getGroupsValidationStrategy() == null || merged.getGroupsValidationStrategy().equals(Configuration.GroupsValidationStrategy.DEFAULT)) {
             merged.setGroupsValidationStrategy(parentConfig.getGroupsValidationStrategy());
         }
@@ -714,26 +1061,253 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
     public OpenAPI read() {
 
         if (cacheTTL == 0) {
-            resetReader();
-            OpenAPI openAPI = getOpenApiReader().read(getOpenApiScanner().classes(), getOpenApiScanner().resources());
-            if (Boolean.TRUE.equals(convertToOpenAPI31)) {
-                openAPI = new SpecFilter().filter(openAPI, new OpenAPI31SpecFilter(), null, null, null);
+            return readOpenAPI();
+        }
+        return getCache().openApi;
+    }
+
+    /**
+     * Returns the serialized OpenAPI, which is cached along with the OpenAPI itself and rebuilt only when the cached
+     * OpenAPI expires.
+     *
+     * @since 2.2.43
+     */
+    @Override
+    public SerializedOpenApi readSerialized(SerializedOpenApi.Format format, boolean pretty) throws JsonProcessingException {
+        if (cacheTTL == 0) {
+            return SerializedOpenApi.serialize(readOpenAPI(), getOutputMapper(format), format, pretty, 0);
+        }
+        Cache cached = getCache();
+        if (cached.openApi == null) {
+            return null;
+        }
+        String key = format.name() + (pretty ? ".pretty" : "");
+        SerializedOpenApi serialized = cached.serialized.get(key);
+        if (serialized == null) {
+            serialized = SerializedOpenApi.serialize(cached.openApi, getOutputMapper(format), format, pretty, cached.version);
+            SerializedOpenApi existing = cached.serialized.putIfAbsent(key, serialized);
+            if (existing != null) {
+                serialized = existing;
+            }
+        }
+        return serialized;
+    }
+
+    /**
+     * Returns the OpenAPI filtered for the given request by the {@link #getSpecFilter() configured filter}. If the
+     * filter declares its {@link OpenAPISpecFilter#getRequestInputs() request inputs}, the serialized result is cached
+     * per distinct value of these inputs, along with the OpenAPI it is filtered from.
+     *
+     * @since 2.2.43
+     */
+    @Override
+    public SerializedOpenApi readSerialized(SerializedOpenApi.Format format,
+                                            boolean pretty,
+                                            Map<String, List<String>> params,
+                                            Map<String, String> cookies,
+                                            Map<String, List<String>> headers) throws JsonProcessingException {
+        OpenAPISpecFilter filter = getSpecFilter();
+        if (filter == null) {
+            return readSerialized(format, pretty);
+        }
+        SpecFilterInputs inputs = filter.getRequestInputs();
+        if (inputs == null || cacheTTL == 0 || filteredCacheSize <= 0) {
+            OpenAPI oas = read();
+            OpenAPI filtered = oas == null ? null : new SpecFilter().filter(oas, filter, params, cookies, headers);
+            return SerializedOpenApi.serialize(filtered, getOutputMapper(format), format, pretty, 0);
+        }
+        Cache cached = getCache();
+        if (cached.openApi == null) {
+            return null;
+        }
+        List<Object> key = Arrays.asList(format, pretty, inputs.key(params, cookies, headers));
+        SerializedOpenApi serialized;
+        synchronized (cached.filtered) {
+            serialized = cached.filtered.get(key);
+        }
+        if (serialized == null) {
+            OpenAPI filtered = new SpecFilter().filter(cached.openApi, filter, params, cookies, headers);
+            serialized = SerializedOpenApi.serialize(filtered, getOutputMapper(format), format, pretty, cached.version);
+            if (serialized != null) {
+                synchronized (cached.filtered) {
+                    cached.filtered.put(key, serialized);
+                    while (cached.filtered.size() > filteredCacheSize) {
+                        cached.filtered.remove(cached.filtered.keySet().iterator().next());
+                    }
+                }
             }
-            return openAPI;
+        }
+        return serialized;
+    }
 
+    /**
+     * Returns the OpenAPI filtered for the given request by the {@link #getSpecFilter() configured filter}.
+     *
+     * @since 2.2.43
+     */
+    @Override
+    public OpenAPI read(Map<String, List<String>> params,
+                        Map<String, String> cookies,
+                        Map<String, List<String>> headers) {
+        OpenAPI oas = read();
+        OpenAPISpecFilter filter = getSpecFilter();
+        if (oas == null || filter == null) {
+            return oas;
         }
+        return new SpecFilter().filter(oas, filter, params, cookies, headers);
+    }
+
+    /**
+     * Returns the cached OpenAPI, building it if missing. A stale entry is returned as is while a single rebuild is
+     * submitted to the rebuild executor.
+     */
+    private Cache getCache() {
         Cache cached = cache.get("openapi");
-        if (cached == null || cached.isStale(cacheTTL)) {
-            cached = new Cache();
+        if (cached == null) {
+            synchronized (buildLock) {
+                cached = cache.get("openapi");
+                if (cached == null) {
+                    cached = buildCache();
+                    publishCache(cached);
+                }
+            }
+            return cached;
+        }
+        if (cached.isStale(cacheTTL)) {
+            if (rebuilding.compareAndSet(false, true)) {
+                try {
+                    getOrCreateRebuildExecutor().execute(this::rebuildCache);
+                } catch (RejectedExecutionException e) {
+                    LOGGER.warn("rebuild of OpenAPI rejected, rebuilding in calling thread");
+                    rebuildCache();
+                }
+                // the executor may have rebuilt it already
+                Cache current = cache.get("openapi");
+                if (current != cached) {
+                    return current;
+                }
+            }
+            staleReadCount.incrementAndGet();
+        }
+        return cached;
+    }
+
+    private void rebuildCache() {
+        try {
+            publishCache(buildCache());
+        } catch (RuntimeException e) {
+            rebuildFailureCount.incrementAndGet();
+            LOGGER.error("error rebuilding OpenAPI, serving previous version: " + e.getMessage(), e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * Builds the OpenAPI without holding the cache lock, so that the cached OpenAPI keeps being served, and the context
+     * can be destroyed, while the classes are read; builds are serialized among themselves.
+     */
+    private Cache buildCache() {
+        synchronized (buildLock) {
+            long start = System.nanoTime();
+            Cache cached = new Cache();
             cached.createdAt = System.currentTimeMillis();
-            resetReader();
-            cached.openApi = getOpenApiReader().read(getOpenApiScanner().classes(), getOpenApiScanner().resources());
-            if (Boolean.TRUE.equals(convertToOpenAPI31)) {
-                cached.openApi = new SpecFilter().filter(cached.openApi, new OpenAPI31SpecFilter(), null, null, null);
+            synchronized (cacheLock) {
+                cached.version = cacheVersion.incrementAndGet();
+                cached.generation = cacheGeneration;
+            }
+            cached.openApi = readOpenAPI();
+            long elapsed = System.nanoTime() - start;
+            rebuildCount.incrementAndGet();
+            rebuildTimeNanos.addAndGet(elapsed);
+            lastRebuildTimeNanos.set(elapsed);
+            LOGGER.debug("built OpenAPI for context {} in {} ms", id, elapsed / 1_000_000);
+            return cached;
+        }
+    }
+
+    /**
+     * Publishes a built OpenAPI, unless a later build has been published already or the context has been destroyed
+     * since the build started.
+     */
+    private void publishCache(Cache built) {
+        synchronized (cacheLock) {
+            if (built.generation != cacheGeneration) {
+                return;
+            }
+            Cache current = cache.get("openapi");
+            if (current == null || current.version < built.version) {
+                cache.put("openapi", built);
+            }
+        }
+    }
+
+    /**
+     * Builds the OpenAPI on the rebuild executor, along with its JSON serialization unless endpoints filter or stream
+     * it; the context is {@link #isReady() ready} once done, whether it succeeded or not.
+     */
+    private void startWarmUp() {
+        CountDownLatch latch = new CountDownLatch(1);
+        warmUp = latch;
+        Runnable task = () -> {
+            long start = System.nanoTime();
+            try {
+                OpenAPI openAPI = read();
+                if (openAPI != null && cacheTTL != 0 && getSpecFilter() == null && !Boolean.TRUE.equals(openApiConfiguration.isStreamOutput())) {
+                    readSerialized(SerializedOpenApi.Format.JSON, Boolean.TRUE.equals(openApiConfiguration.isPrettyPrint()));
+                }
+                LOGGER.info("warmed up OpenAPI for context {} in {} ms", id, (System.nanoTime() - start) / 1_000_000);
+            } catch (Exception e) {
+                LOGGER.error("error warming up OpenAPI for context " + id + " after " + (System.nanoTime() - start) / 1_000_000
+                        + " ms: " + e.getMessage(), e);
+            } finally {
+                latch.countDown();
+            }
+        };
+        try {
+            getOrCreateRebuildExecutor().execute(task);
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("warm up of OpenAPI rejected, warming up in calling thread");
+            task.run();
+        }
+    }
+
+    private Executor getOrCreateRebuildExecutor() {
+        return rebuildExecutor != null ? rebuildExecutor : DefaultRebuildExecutor.INSTANCE;
+    }
+
+    private OpenAPI readOpenAPI() {
+        resetReader();
+        if (incrementalRebuild && !Boolean.TRUE.equals(convertToOpenAPI31)) {
+            getOpenApiReader().setClassContributions(classContributions);
+        }
+        OpenAPI openAPI;
+        ModelConverters chain = modelConverterChain;
+        if (chain == null) {
+            openAPI = getOpenApiReader().read(getOpenApiScanner().classes(), getOpenApiScanner().resources());
+        } else {
+            try (ModelConverters.Binding binding = chain.bind()) {
+                openAPI = getOpenApiReader().read(getOpenApiScanner().classes(), getOpenApiScanner().resources());
+            }
+        }
+        if (Boolean.TRUE.equals(convertToOpenAPI31)) {
+            openAPI = new SpecFilter().filter(openAPI, new OpenAPI31SpecFilter(), null, null, null);
+        }
+        return openAPI;
+    }
+
+    private ObjectMapper getOutputMapper(SerializedOpenApi.Format format) {
+        return format == SerializedOpenApi.Format.YAML ? getOutputYamlMapper() : getOutputJsonMapper();
+    }
+
+    private void clearSerialized() {
+        Cache cached = cache.get("openapi");
+        if (cached != null) {
+            cached.serialized.clear();
+            synchronized (cached.filtered) {
+                cached.filtered.clear();
             }
-            cache.put("openapi", cached);
         }
-        return cached.openApi;
     }
 
     protected void resetReader() {
@@ -747,13 +1321,74 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         }
     }
 
+    /**
+     * Shared pool of daemon threads rebuilding stale OpenAPI documents, created on first use.
+     */
+    private static class DefaultRebuildExecutor {
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+        static final ExecutorService INSTANCE = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "swagger-openapi-rebuild-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static class FilterHolder {
+        final String filterClass;
+        final Class<?> type;
+        // the shared instance of a filter declaring its request inputs, or null
+        final OpenAPISpecFilter filter;
+
+        FilterHolder(String filterClass, Class<?> type, OpenAPISpecFilter filter) {
+            this.filterClass = filterClass;
+            this.type = type;
+            this.filter = filter;
+        }
+    }
+
     static class Cache {
         long createdAt = 0;
+        long version;
+        long generation;
         OpenAPI openApi;
+        volatile long treeFootprint = -1;
+        final ConcurrentHashMap<String, SerializedOpenApi> serialized = new ConcurrentHashMap<>();
+        // access ordered, guarded by itself
+        final Map<List<Object>, SerializedOpenApi> filtered = new LinkedHashMap<>(16, 0.75f, true);
 
         boolean isStale(long cacheTTL) {
             return (cacheTTL > 0 && System.currentTimeMillis() - createdAt > cacheTTL);
         }
+
+        long getTreeFootprint(ObjectMapper mapper) {
+            long footprint = treeFootprint;
+            if (footprint < 0) {
+                CountingOutputStream out = new CountingOutputStream();
+                try {
+                    mapper.writer().without(SerializationFeature.INDENT_OUTPUT).writeValue(out, openApi);
+                    footprint = out.count;
+                } catch (IOException e) {
+                    LOGGER.debug("error estimating footprint of OpenAPI: " + e.getMessage(), e);
+                    footprint = 0;
+                }
+                treeFootprint = footprint;
+            }
+            return footprint;
+        }
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
     }
 
     @JsonPropertyOrder(value = {"openapi", "info", "externalDocs", "servers", "security", "tags", "paths", "components"}, alphabetic = true)
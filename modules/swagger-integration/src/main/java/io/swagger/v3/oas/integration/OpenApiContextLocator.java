@@ -1,31 +1,193 @@
 package io.swagger.v3.oas.integration;
 
 import io.swagger.v3.oas.integration.api.OpenApiContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Registry of the initialized OpenAPI contexts, by context id.
+ *
+ * <p>Lookups don't lock. Contexts are kept until {@link #removeOpenApiContext(String) removed}, e.g. by the servlet
+ * owning them when destroyed, which also {@link OpenApiContext#destroy() destroys} them, or evicted, least recently
+ * used first, once more than {@link #getMaxContexts() the maximum number of contexts} are registered. Evicted contexts
+ * are only unregistered, as their owner may still be using them.</p>
+ */
 public class OpenApiContextLocator {
 
-    private static OpenApiContextLocator instance;
+    private static final Logger LOGGER = LoggerFactory.getLogger(OpenApiContextLocator.class);
 
-    private ConcurrentMap<String, OpenApiContext> map = new ConcurrentHashMap<>();
+    // the access order is only updated past this granularity, to avoid locking and writing shared memory on every lookup
+    private static final long ACCESS_GRANULARITY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ConcurrentMap<String, Entry> map = new ConcurrentHashMap<>();
+
+    // registered contexts, least recently used first; guards the updates of the map
+    private final LinkedHashMap<String, Entry> accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+
+    private volatile int maxContexts = Integer.MAX_VALUE;
 
     private OpenApiContextLocator() {
     }
 
-    public static synchronized OpenApiContextLocator getInstance() {
-        if (instance == null) {
-            instance = new OpenApiContextLocator();
-        }
-        return instance;
+    private static class Holder {
+        static final OpenApiContextLocator INSTANCE = new OpenApiContextLocator();
+    }
+
+    public static OpenApiContextLocator getInstance() {
+        return Holder.INSTANCE;
     }
 
     public OpenApiContext getOpenApiContext(String id) {
-        return map.get(id);
+        Entry entry = map.get(id);
+        if (entry == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        if (now - entry.lastAccess > ACCESS_GRANULARITY_NANOS) {
+            entry.lastAccess = now;
+            synchronized (accessOrder) {
+                accessOrder.get(id);
+            }
+        }
+        return entry.context;
     }
 
     public void putOpenApiContext(String id, OpenApiContext openApiContext) {
-        map.put(id, openApiContext);
+        Entry entry = new Entry(openApiContext);
+        synchronized (accessOrder) {
+            map.put(id, entry);
+            accessOrder.put(id, entry);
+            evict(id);
+        }
+    }
+
+    /**
+     * Removes the context registered with the given id, and destroys it.
+     *
+     * @param id the context id
+     * @return the removed context, or null if none was registered
+     * @since 2.2.43
+     */
+    public OpenApiContext removeOpenApiContext(String id) {
+        Entry removed;
+        synchronized (accessOrder) {
+            removed = map.remove(id);
+            accessOrder.remove(id);
+        }
+        if (removed == null) {
+            return null;
+        }
+        destroy(id, removed.context);
+        return removed.context;
+    }
+
+    /**
+     * Removes the given context if it is the one registered with the given id, and destroys it. Meant for owners of
+     * a context releasing it, e.g. on servlet destroy, without removing a context registered since with the same id.
+     *
+     * @param id             the context id
+     * @param openApiContext the context to remove
+     * @return whether the context was removed
+     * @since 2.2.43
+     */
+    public boolean removeOpenApiContext(String id, OpenApiContext openApiContext) {
+        synchronized (accessOrder) {
+            Entry entry = map.get(id);
+            if (entry == null || entry.context != openApiContext) {
+                return false;
+            }
+            map.remove(id);
+            accessOrder.remove(id);
+        }
+        destroy(id, openApiContext);
+        return true;
+    }
+
+    /**
+     * @return the ids of the registered contexts
+     * @since 2.2.43
+     */
+    public Set<String> getOpenApiContextIds() {
+        return Collections.unmodifiableSet(map.keySet());
+    }
+
+    /**
+     * @return the sum of the {@link OpenApiContext#getMemoryFootprint() memory footprints} of the registered contexts
+     * reporting one
+     * @since 2.2.43
+     */
+    public long getMemoryFootprint() {
+        long footprint = 0;
+        for (Entry entry : map.values()) {
+            long contextFootprint = entry.context.getMemoryFootprint();
+            if (contextFootprint > 0) {
+                footprint += contextFootprint;
+            }
+        }
+        return footprint;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public int getMaxContexts() {
+        return maxContexts;
+    }
+
+    /**
+     * Sets the maximum number of registered contexts, unbounded by default. Registering a context past this number
+     * unregisters the least recently looked up ones, without destroying them; they are built again by their builder
+     * when looked up next.
+     *
+     * @since 2.2.43
+     */
+    public void setMaxContexts(int maxContexts) {
+        if (maxContexts < 1) {
+            throw new IllegalArgumentException("maxContexts must be positive: " + maxContexts);
+        }
+        synchronized (accessOrder) {
+            this.maxContexts = maxContexts;
+            evict(null);
+        }
+    }
+
+    // called holding the accessOrder lock
+    private void evict(String keptId) {
+        Iterator<String> ids = accessOrder.keySet().iterator();
+        while (accessOrder.size() > maxContexts && ids.hasNext()) {
+            String eldest = ids.next();
+            if (eldest.equals(keptId)) {
+                continue;
+            }
+            ids.remove();
+            map.remove(eldest);
+            LOGGER.debug("evicting OpenAPI context {}, more than {} contexts registered", eldest, maxContexts);
+        }
+    }
+
+    private static void destroy(String id, OpenApiContext context) {
+        try {
+            context.destroy();
+        } catch (RuntimeException e) {
+            LOGGER.warn("error destroying OpenAPI context " + id + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static class Entry {
+        final OpenApiContext context;
+        // only to limit the updates of the access order
+        volatile long lastAccess = System.nanoTime();
+
+        Entry(OpenApiContext context) {
+            this.context = context;
+        }
     }
 }
@@ -0,0 +1,263 @@
+package io.swagger.v3.oas.integration;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An OpenAPI document serialized in a given format, holding the UTF-8 bytes of the serialized document, its gzip
+ * compressed copy (computed on first access) and a strong entity tag for each of them.
+ *
+ * <p>Instances are immutable and are cached by {@link GenericOpenApiContext} along with the OpenAPI they are
+ * serialized from, so that endpoints can serve them without serializing the document on every request.</p>
+ *
+ * @since 2.2.43
+ */
+public class SerializedOpenApi {
+
+    public enum Format {
+        JSON("application/json"),
+        YAML("application/yaml");
+
+        private final String mediaType;
+
+        Format(String mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public String getMediaType() {
+            return mediaType;
+        }
+    }
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final Format format;
+    private final boolean pretty;
+    private final long version;
+    private final byte[] bytes;
+    private final String eTag;
+    private final String gzipETag;
+    private volatile byte[] gzippedBytes;
+
+    private SerializedOpenApi(Format format, boolean pretty, long version, byte[] bytes) {
+        this.format = format;
+        this.pretty = pretty;
+        this.version = version;
+        this.bytes = bytes;
+        String digest = digest(bytes);
+        this.eTag = "\"" + digest + "\"";
+        this.gzipETag = "\"" + digest + "-gzip\"";
+    }
+
+    /**
+     * Serializes the given OpenAPI with the given mapper.
+     *
+     * @param openAPI the OpenAPI to serialize
+     * @param mapper  the mapper matching the format, e.g. {@link GenericOpenApiContext#getOutputJsonMapper()}
+     * @param format  the format of the mapper
+     * @param pretty  whether to pretty print the output
+     * @param version the version of the document, see {@link #getVersion()}
+     * @return the serialized document, or null if openAPI is null
+     * @throws JsonProcessingException if serialization fails
+     */
+    public static SerializedOpenApi serialize(OpenAPI openAPI, ObjectMapper mapper, Format format, boolean pretty, long version) throws JsonProcessingException {
+        if (openAPI == null) {
+            return null;
+        }
+        byte[] bytes = writer(mapper, pretty).writeValueAsBytes(openAPI);
+        return new SerializedOpenApi(format, pretty, version, bytes);
+    }
+
+    /**
+     * Serializes the given OpenAPI with the given mapper straight to an output stream, without holding the
+     * serialized document in memory; the output is the same as the bytes of {@link #serialize(OpenAPI, ObjectMapper,
+     * Format, boolean, long)}, gzip compressed if requested. The output stream is not closed.
+     *
+     * @param openAPI the OpenAPI to serialize
+     * @param mapper  the mapper of the output format, e.g. {@link GenericOpenApiContext#getOutputJsonMapper()}
+     * @param pretty  whether to pretty print the output
+     * @param gzip    whether to gzip compress the output
+     * @param out     the output stream, e.g. the one of the response
+     * @throws IOException if serialization or writing fails
+     */
+    public static void write(OpenAPI openAPI, ObjectMapper mapper, boolean pretty, boolean gzip, OutputStream out) throws IOException {
+        ObjectWriter writer = writer(mapper, pretty);
+        OutputStream target = gzip ? new GZIPOutputStream(out, GZIP_BUFFER_SIZE) : out;
+        try (JsonGenerator generator = writer.createGenerator(target, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writer.writeValue(generator, openAPI);
+        }
+        if (gzip) {
+            ((GZIPOutputStream) target).finish();
+        }
+        out.flush();
+    }
+
+    private static ObjectWriter writer(ObjectMapper mapper, boolean pretty) {
+        return pretty ? mapper.writer(new DefaultPrettyPrinter()) : mapper.writer();
+    }
+
+    /**
+     * Checks whether a request accepts a gzip encoded response.
+     *
+     * @param acceptEncoding the value of the Accept-Encoding request header, possibly null
+     * @return true if gzip is accepted
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (StringUtils.isBlank(acceptEncoding)) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if ("gzip".equalsIgnoreCase(parts[0].trim()) && !isZeroQuality(parts)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) == 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    public boolean isPretty() {
+        return pretty;
+    }
+
+    /**
+     * @return the version of the cached OpenAPI this document was serialized from; it changes every time the
+     * context rebuilds the OpenAPI, and is 0 for documents which are not cached
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the UTF-8 bytes of the serialized document; the returned array is shared and must not be modified
+     */
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return the gzip compressed bytes of the serialized document; the returned array is shared and must not be
+     * modified
+     */
+    public byte[] getGzippedBytes() {
+        byte[] gzipped = gzippedBytes;
+        if (gzipped == null) {
+            gzipped = gzip(bytes);
+            gzippedBytes = gzipped;
+        }
+        return gzipped;
+    }
+
+    /**
+     * @return the number of bytes held by this document, counting the gzip compressed copy only if computed
+     */
+    long getRetainedSize() {
+        byte[] gzipped = gzippedBytes;
+        return bytes.length + (gzipped == null ? 0 : gzipped.length);
+    }
+
+    /**
+     * @return the serialized document as a string
+     */
+    public String getContent() {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the strong entity tag of the identity encoded document, including the surrounding quotes
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * @return the strong entity tag of the gzip encoded document, including the surrounding quotes
+     */
+    public String getGzipETag() {
+        return gzipETag;
+    }
+
+    /**
+     * Checks the value of an If-None-Match request header against the entity tags of this document, using the weak
+     * comparison defined for If-None-Match.
+     *
+     * @param ifNoneMatch the value of the If-None-Match request header, possibly null
+     * @return true if the client already has this document, i.e. a 304 response can be sent
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (StringUtils.isBlank(ifNoneMatch)) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if ("*".equals(candidate)) {
+                return true;
+            }
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(eTag) || candidate.equals(gzipETag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String digest(byte[] bytes) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+            char[] chars = new char[hash.length * 2];
+            for (int i = 0; i < hash.length; i++) {
+                chars[i * 2] = HEX[(hash[i] >> 4) & 0xf];
+                chars[i * 2 + 1] = HEX[hash[i] & 0xf];
+            }
+            return new String(chars);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,11 +1,15 @@
 package io.swagger.v3.oas.integration;
 
 import io.swagger.v3.core.util.Configuration;
+import io.swagger.v3.core.util.SchemaCloner;
 import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -50,6 +54,16 @@ public class SwaggerConfiguration implements OpenAPIConfiguration {
 
     private String validatorProcessorClass;
 
+    private Integer readParallelism;
+
+    private Boolean streamOutput;
+
+    private Boolean useScanIndex;
+
+    private Boolean warmUp;
+
+    private Long warmUpTimeout;
+
 
     @Override
     public String getDefaultResponseCode() {
@@ -487,4 +501,183 @@ public class SwaggerConfiguration implements OpenAPIConfiguration {
         return configuration;
     }
 
+    /**
+     * Returns a copy of this configuration whose collections, maps and OpenAPI can be changed without affecting this
+     * one; the maps and collections nested in the user defined options are copied as well, other option values are
+     * shared.
+     *
+     * @return the copy of this configuration
+     * @since 2.2.43
+     */
+    public SwaggerConfiguration copy() {
+        SwaggerConfiguration copy = new SwaggerConfiguration();
+        copy.userDefinedOptions = userDefinedOptions == null ? null : copyMap(userDefinedOptions);
+        copy.openAPI = openAPI == null ? null : SchemaCloner.clone(openAPI, false);
+        copy.id = id;
+        copy.resourcePackages = resourcePackages == null ? null : new LinkedHashSet<>(resourcePackages);
+        copy.resourceClasses = resourceClasses == null ? null : new LinkedHashSet<>(resourceClasses);
+        copy.filterClass = filterClass;
+        copy.readerClass = readerClass;
+        copy.scannerClass = scannerClass;
+        copy.prettyPrint = prettyPrint;
+        copy.readAllResources = readAllResources;
+        copy.ignoredRoutes = ignoredRoutes == null ? null : new ArrayList<>(ignoredRoutes);
+        copy.cacheTTL = cacheTTL;
+        copy.modelConverterClasses = modelConverterClasses == null ? null : new LinkedHashSet<>(modelConverterClasses);
+        copy.objectMapperProcessorClass = objectMapperProcessorClass;
+        copy.sortOutput = sortOutput;
+        copy.alwaysResolveAppPath = alwaysResolveAppPath;
+        copy.skipResolveAppPath = skipResolveAppPath;
+        copy.openAPI31 = openAPI31;
+        copy.convertToOpenAPI31 = convertToOpenAPI31;
+        copy.schemaResolution = schemaResolution;
+        copy.openAPIVersion = openAPIVersion;
+        copy.groupsValidationStrategy = groupsValidationStrategy;
+        copy.validatorProcessorClass = validatorProcessorClass;
+        copy.readParallelism = readParallelism;
+        copy.streamOutput = streamOutput;
+        copy.useScanIndex = useScanIndex;
+        copy.warmUp = warmUp;
+        copy.warmUpTimeout = warmUpTimeout;
+        copy.defaultResponseCode = defaultResponseCode;
+        return copy;
+    }
+
+    private static Map<String, Object> copyMap(Map<?, ?> map) {
+        Map<String, Object> copy = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            copy.put(String.valueOf(entry.getKey()), copyValue(entry.getValue()));
+        }
+        return copy;
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof Map) {
+            return copyMap((Map<?, ?>) value);
+        }
+        if (value instanceof Collection) {
+            Collection<Object> copy = value instanceof Set ? new LinkedHashSet<>() : new ArrayList<>();
+            for (Object element : (Collection<?>) value) {
+                copy.add(copyValue(element));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+
+    /**
+     * @since 2.2.43
+     */
+    @Override
+    public Integer getReadParallelism() {
+        return readParallelism;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public void setReadParallelism(Integer readParallelism) {
+        this.readParallelism = readParallelism;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public SwaggerConfiguration readParallelism(Integer readParallelism) {
+        this.readParallelism = readParallelism;
+        return this;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    @Override
+    public Boolean isStreamOutput() {
+        return streamOutput;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public void setStreamOutput(Boolean streamOutput) {
+        this.streamOutput = streamOutput;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public SwaggerConfiguration streamOutput(Boolean streamOutput) {
+        this.streamOutput = streamOutput;
+        return this;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    @Override
+    public Boolean isUseScanIndex() {
+        return useScanIndex;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public void setUseScanIndex(Boolean useScanIndex) {
+        this.useScanIndex = useScanIndex;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public SwaggerConfiguration useScanIndex(Boolean useScanIndex) {
+        this.useScanIndex = useScanIndex;
+        return this;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    @Override
+    public Boolean isWarmUp() {
+        return warmUp;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public void setWarmUp(Boolean warmUp) {
+        this.warmUp = warmUp;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public SwaggerConfiguration warmUp(Boolean warmUp) {
+        this.warmUp = warmUp;
+        return this;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    @Override
+    public Long getWarmUpTimeout() {
+        return warmUpTimeout;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public void setWarmUpTimeout(Long warmUpTimeout) {
+        this.warmUpTimeout = warmUpTimeout;
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public SwaggerConfiguration warmUpTimeout(Long warmUpTimeout) {
+        this.warmUpTimeout = warmUpTimeout;
+        return this;
+    }
 }
@@ -95,4 +95,52 @@ public interface OpenAPIConfiguration {
      * @since 2.2.29
      */
     public Configuration toConfiguration();
+
+    /**
+     * Number of resource classes the reader may scan concurrently; null or values lower than 2 scan them one at a time.
+     *
+     * @since 2.2.43
+     */
+    default Integer getReadParallelism() {
+        return null;
+    }
+
+    /**
+     * Whether endpoints serialize the document straight to the response output stream on each request, instead of
+     * serving a serialized copy held in memory along with its entity tag.
+     *
+     * @since 2.2.43
+     */
+    default Boolean isStreamOutput() {
+        return null;
+    }
+
+    /**
+     * Whether the scanner lists the resource classes from the scan index written at build time, instead of scanning
+     * the classpath; the index is only used if it covers all the configured resource packages.
+     *
+     * @since 2.2.43
+     */
+    default Boolean isUseScanIndex() {
+        return null;
+    }
+
+    /**
+     * Whether the context builds and serializes the document in the background once initialized, rather than on the
+     * first request; endpoints answer 503 until it is done, see {@link #getWarmUpTimeout()}.
+     *
+     * @since 2.2.43
+     */
+    default Boolean isWarmUp() {
+        return null;
+    }
+
+    /**
+     * Time in milliseconds a request waits for the warm up to be done before getting a 503; null or 0 doesn't wait.
+     *
+     * @since 2.2.43
+     */
+    default Long getWarmUpTimeout() {
+        return null;
+    }
 }
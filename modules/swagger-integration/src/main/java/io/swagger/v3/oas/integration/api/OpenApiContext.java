@@ -1,11 +1,19 @@
 package io.swagger.v3.oas.integration.api;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.core.converter.ModelConverter;
+import io.swagger.v3.core.filter.OpenAPISpecFilter;
+import io.swagger.v3.core.filter.SpecFilter;
 import io.swagger.v3.oas.integration.OpenApiConfigurationException;
+import io.swagger.v3.oas.integration.SerializedOpenApi;
 import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 public interface OpenApiContext {
 
@@ -13,12 +21,150 @@ public interface OpenApiContext {
     String OPENAPI_CONTEXT_ID_PREFIX = OPENAPI_CONTEXT_ID_KEY + ".";
     String OPENAPI_CONTEXT_ID_DEFAULT = OPENAPI_CONTEXT_ID_PREFIX + "default";
 
+    /**
+     * Seconds after which clients are told to retry while the context is not {@link #isReady() ready}.
+     *
+     * @since 2.2.43
+     */
+    int WARM_UP_RETRY_AFTER_SECONDS = 5;
+
     String getId();
 
     OpenApiContext init() throws OpenApiConfigurationException;
 
     OpenAPI read();
 
+    /**
+     * Returns the OpenAPI resolved by {@link #read()} serialized with the output mapper of the given format.
+     * Implementations caching the resolved OpenAPI are expected to cache the serialized document as well.
+     *
+     * @param format the output format
+     * @param pretty whether to pretty print the output
+     * @return the serialized document, or null if no OpenAPI is available
+     * @throws JsonProcessingException if serialization fails
+     * @since 2.2.43
+     */
+    default SerializedOpenApi readSerialized(SerializedOpenApi.Format format, boolean pretty) throws JsonProcessingException {
+        ObjectMapper mapper = format == SerializedOpenApi.Format.YAML ? getOutputYamlMapper() : getOutputJsonMapper();
+        return SerializedOpenApi.serialize(read(), mapper, format, pretty, 0);
+    }
+
+    /**
+     * Returns the OpenAPI resolved by {@link #read()}, filtered for the given request by the filter configured in
+     * {@link OpenAPIConfiguration#getFilterClass()} if any, and serialized with the output mapper of the given format.
+     * If the filter can't be loaded, the unfiltered document is returned.
+     *
+     * @param format  the output format
+     * @param pretty  whether to pretty print the output
+     * @param params  the query parameters of the request
+     * @param cookies the cookies of the request
+     * @param headers the headers of the request
+     * @return the serialized document, or null if no OpenAPI is available
+     * @throws JsonProcessingException if serialization fails
+     * @since 2.2.43
+     */
+    default SerializedOpenApi readSerialized(SerializedOpenApi.Format format,
+                                             boolean pretty,
+                                             Map<String, List<String>> params,
+                                             Map<String, String> cookies,
+                                             Map<String, List<String>> headers) throws JsonProcessingException {
+        if (getOpenApiConfiguration() == null || getOpenApiConfiguration().getFilterClass() == null) {
+            return readSerialized(format, pretty);
+        }
+        ObjectMapper mapper = format == SerializedOpenApi.Format.YAML ? getOutputYamlMapper() : getOutputJsonMapper();
+        return SerializedOpenApi.serialize(read(params, cookies, headers), mapper, format, pretty, 0);
+    }
+
+    /**
+     * Returns the OpenAPI resolved by {@link #read()}, filtered for the given request by the filter configured in
+     * {@link OpenAPIConfiguration#getFilterClass()} if any. If the filter can't be loaded, the unfiltered document is
+     * returned.
+     *
+     * @param params  the query parameters of the request
+     * @param cookies the cookies of the request
+     * @param headers the headers of the request
+     * @return the filtered OpenAPI, or null if no OpenAPI is available
+     * @since 2.2.43
+     */
+    default OpenAPI read(Map<String, List<String>> params,
+                         Map<String, String> cookies,
+                         Map<String, List<String>> headers) {
+        OpenAPI oas = read();
+        if (oas == null || getOpenApiConfiguration() == null || getOpenApiConfiguration().getFilterClass() == null) {
+            return oas;
+        }
+        try {
+            OpenAPISpecFilter filterImpl = (OpenAPISpecFilter) Class.forName(getOpenApiConfiguration().getFilterClass()).newInstance();
+            return new SpecFilter().filter(oas, filterImpl, params, cookies, headers);
+        } catch (Exception e) {
+            LoggerFactory.getLogger(OpenApiContext.class).error("failed to load filter", e);
+            return oas;
+        }
+    }
+
+    /**
+     * Releases the state held by the context, called once it is removed from
+     * {@link io.swagger.v3.oas.integration.OpenApiContextLocator}. A destroyed context may still be read, rebuilding
+     * what it released.
+     *
+     * @since 2.2.43
+     */
+    default void destroy() {
+    }
+
+    /**
+     * Returns an estimate of the heap retained by the documents the context caches, in bytes.
+     *
+     * @return the estimated footprint, or -1 if the context doesn't estimate it
+     * @since 2.2.43
+     */
+    default long getMemoryFootprint() {
+        return -1;
+    }
+
+    /**
+     * Whether the context serves its document without first building it: true unless the context
+     * {@link OpenAPIConfiguration#isWarmUp() warms up} and the warm up is still running.
+     *
+     * @since 2.2.43
+     */
+    default boolean isReady() {
+        return true;
+    }
+
+    /**
+     * Waits at most the given time for the context to be {@link #isReady() ready}.
+     *
+     * @return whether the context is ready
+     * @since 2.2.43
+     */
+    default boolean awaitReady(long timeout, TimeUnit unit) throws InterruptedException {
+        return isReady();
+    }
+
+    /**
+     * Waits at most {@link OpenAPIConfiguration#getWarmUpTimeout() the configured warm up timeout} for the context to
+     * be {@link #isReady() ready}. An interrupted wait returns false, with the interrupt status of the thread set.
+     *
+     * @return whether the context is ready
+     * @since 2.2.43
+     */
+    default boolean awaitReady() {
+        if (isReady()) {
+            return true;
+        }
+        Long timeout = getOpenApiConfiguration() != null ? getOpenApiConfiguration().getWarmUpTimeout() : null;
+        if (timeout == null || timeout <= 0) {
+            return false;
+        }
+        try {
+            return awaitReady(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     OpenAPIConfiguration getOpenApiConfiguration();
 
     String getConfigLocation();
@@ -1,5 +1,6 @@
 package io.swagger.v3.oas.integration.api;
 
+import io.swagger.v3.oas.integration.ClassContributions;
 import io.swagger.v3.oas.models.OpenAPI;
 
 import java.util.Map;
@@ -10,4 +11,14 @@ public interface OpenApiReader {
     void setConfiguration(OpenAPIConfiguration openApiConfiguration);
 
     OpenAPI read(Set<Class<?>> classes, Map<String, Object> resources);
+
+    /**
+     * Sets the contributions of the classes read by previous readers, which this reader may reuse instead of reading
+     * the classes again, and should update with the classes it reads. Readers not supporting it ignore them, which is
+     * the default.
+     *
+     * @since 2.2.43
+     */
+    default void setClassContributions(ClassContributions classContributions) {
+    }
 }
@@ -1,18 +1,43 @@
 package io.swagger.v3.oas.integration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.filter.AbstractSpecFilter;
+import io.swagger.v3.core.filter.SpecFilterInputs;
+import io.swagger.v3.core.jackson.ModelResolver;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
 import io.swagger.v3.oas.integration.api.OpenApiContext;
+import io.swagger.v3.oas.integration.api.OpenApiReader;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
 public class IntegrationTest {
 
@@ -34,4 +59,364 @@ public class IntegrationTest {
         assertNotNull(openApi);
     }
 
+    @Test(description = "serialized OpenAPI is cached along with the OpenAPI")
+    public void shouldCacheSerializedOpenAPI() throws Exception {
+
+        OpenAPIConfiguration config = new SwaggerConfiguration()
+                .resourcePackages(Stream.of("com.my.project.resources").collect(Collectors.toSet()))
+                .openAPI(new OpenAPI().info(new Info().description("TEST INFO DESC \u00e9")));
+
+        OpenApiContext ctx = new GenericOpenApiContext()
+                .openApiConfiguration(config)
+                .init();
+
+        SerializedOpenApi json = ctx.readSerialized(SerializedOpenApi.Format.JSON, false);
+        assertNotNull(json);
+        assertSame(ctx.readSerialized(SerializedOpenApi.Format.JSON, false), json);
+        assertEquals(json.getContent(), ctx.getOutputJsonMapper().writeValueAsString(ctx.read()));
+
+        SerializedOpenApi yaml = ctx.readSerialized(SerializedOpenApi.Format.YAML, true);
+        assertEquals(yaml.getContent(), ctx.getOutputYamlMapper().writerWithDefaultPrettyPrinter().writeValueAsString(ctx.read()));
+        assertEquals(yaml.getVersion(), json.getVersion());
+        assertNotEquals(yaml.getETag(), json.getETag());
+
+        assertTrue(json.matches(json.getETag()));
+        assertTrue(json.matches("\"other\", W/" + json.getGzipETag()));
+        assertFalse(json.matches(yaml.getETag()));
+        assertFalse(json.matches(null));
+
+        assertEquals(gunzip(json.getGzippedBytes()), json.getBytes());
+        assertTrue(SerializedOpenApi.acceptsGzip("deflate, gzip;q=0.5"));
+        assertFalse(SerializedOpenApi.acceptsGzip("gzip;q=0, deflate"));
+    }
+
+    @Test(description = "serialized OpenAPI is dropped when the output mappers change")
+    public void shouldSerializeAgainWithNewOutputMapper() throws Exception {
+
+        OpenAPIConfiguration config = new SwaggerConfiguration()
+                .resourcePackages(Stream.of("com.my.project.resources").collect(Collectors.toSet()))
+                .openAPI(new OpenAPI().info(new Info().description("TEST INFO DESC")));
+
+        GenericOpenApiContext<?> ctx = new GenericOpenApiContext<>()
+                .openApiConfiguration(config)
+                .init();
+
+        SerializedOpenApi json = ctx.readSerialized(SerializedOpenApi.Format.JSON, false);
+        SerializedOpenApi yaml = ctx.readSerialized(SerializedOpenApi.Format.YAML, false);
+        ctx.outputJsonMapper(ctx.getOutputJsonMapper().copy())
+                .outputYamlMapper(ctx.getOutputYamlMapper().copy());
+        assertNotSame(ctx.readSerialized(SerializedOpenApi.Format.JSON, false), json);
+        assertNotSame(ctx.readSerialized(SerializedOpenApi.Format.YAML, false), yaml);
+    }
+
+    @Test(description = "streamed OpenAPI is the same as the serialized one")
+    public void shouldStreamOpenAPI() throws Exception {
+
+        OpenAPIConfiguration config = new SwaggerConfiguration()
+                .resourcePackages(Stream.of("com.my.project.resources").collect(Collectors.toSet()))
+                .sortOutput(true)
+                .openAPI(new OpenAPI().info(new Info().description("TEST INFO DESC \u00e9")));
+
+        OpenApiContext ctx = new GenericOpenApiContext()
+                .openApiConfiguration(config)
+                .init();
+
+        for (SerializedOpenApi.Format format : SerializedOpenApi.Format.values()) {
+            ObjectMapper mapper = format == SerializedOpenApi.Format.YAML ? ctx.getOutputYamlMapper() : ctx.getOutputJsonMapper();
+            for (boolean pretty : new boolean[]{false, true}) {
+                SerializedOpenApi serialized = ctx.readSerialized(format, pretty);
+
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                SerializedOpenApi.write(ctx.read(), mapper, pretty, false, out);
+                assertEquals(out.toByteArray(), serialized.getBytes());
+
+                out = new ByteArrayOutputStream();
+                SerializedOpenApi.write(ctx.read(), mapper, pretty, true, out);
+                assertEquals(gunzip(out.toByteArray()), serialized.getBytes());
+            }
+        }
+    }
+
+    @Test(description = "stale OpenAPI is served while a single rebuild runs")
+    public void shouldRebuildStaleOpenAPIOnce() throws Exception {
+
+        OpenAPIConfiguration config = new SwaggerConfiguration()
+                .resourcePackages(Stream.of("com.my.project.resources").collect(Collectors.toSet()))
+                .openAPI(new OpenAPI().info(new Info().description("TEST INFO DESC")))
+                .cacheTTL(1L);
+
+        List<Runnable> rebuilds = new ArrayList<>();
+        GenericOpenApiContext ctx = new GenericOpenApiContext()
+                .openApiConfiguration(config)
+                .rebuildExecutor(rebuilds::add);
+        ctx.init();
+
+        OpenAPI first = ctx.read();
+        assertEquals(ctx.getRebuildCount(), 1);
+        Thread.sleep(10);
+
+        for (int i = 0; i < 5; i++) {
+            assertSame(ctx.read(), first);
+        }
+        assertEquals(rebuilds.size(), 1);
+        assertEquals(ctx.getStaleReadCount(), 5);
+        assertEquals(ctx.getRebuildCount(), 1);
+
+        rebuilds.get(0).run();
+        assertEquals(ctx.getRebuildCount(), 2);
+        ctx.setCacheTTL(-1);
+        OpenAPI rebuilt = ctx.read();
+        assertNotSame(rebuilt, first);
+        assertEquals(rebuilt, first);
+    }
+
+    @Test(description = "OpenAPI rebuilt while the context is destroyed is not published")
+    public void shouldNotPublishRebuildAfterDestroy() throws Exception {
+
+        OpenAPIConfiguration config = new SwaggerConfiguration()
+                .cacheTTL(1L);
+
+        List<Runnable> rebuilds = new ArrayList<>();
+        ChainReader reader = new ChainReader();
+        GenericOpenApiContext<?> ctx = new GenericOpenApiContext<>()
+                .openApiConfiguration(config)
+                .openApiReader(reader)
+                .rebuildExecutor(rebuilds::add);
+        ctx.init();
+
+        OpenAPI first = ctx.read();
+        Thread.sleep(10);
+        assertSame(ctx.read(), first);
+        assertEquals(rebuilds.size(), 1);
+
+        reader.onRead = ctx::destroy;
+        rebuilds.get(0).run();
+        assertEquals(ctx.getRebuildCount(), 2);
+        assertEquals(ctx.getMemoryFootprint(), 0);
+
+        reader.onRead = null;
+        assertNotSame(ctx.read(), first);
+        assertEquals(ctx.getRebuildCount(), 3);
+    }
+
+    @Test(description = "warmed up context is ready once the OpenAPI and its serialization are built")
+    public void shouldWarmUpOpenAPI() throws Exception {
+
+        OpenAPIConfiguration config = new SwaggerConfiguration()
+                .resourcePackages(Stream.of("com.my.project.resources").collect(Collectors.toSet()))
+                .openAPI(new OpenAPI().info(new Info().description("TEST INFO DESC")))
+                .warmUp(true)
+                .warmUpTimeout(10L);
+
+        List<Runnable> warmUps = new ArrayList<>();
+        GenericOpenApiContext ctx = new GenericOpenApiContext()
+                .openApiConfiguration(config)
+                .rebuildExecutor(warmUps::add);
+        ctx.init();
+
+        assertEquals(warmUps.size(), 1);
+        assertFalse(ctx.isReady());
+        assertFalse(ctx.awaitReady());
+        assertEquals(ctx.getRebuildCount(), 0);
+
+        warmUps.get(0).run();
+        assertTrue(ctx.isReady());
+        assertTrue(ctx.awaitReady());
+        assertEquals(ctx.getRebuildCount(), 1);
+        assertTrue(ctx.getMemoryFootprint() > 0);
+        SerializedOpenApi json = ctx.readSerialized(SerializedOpenApi.Format.JSON, false);
+        assertEquals(json.getContent(), ctx.getOutputJsonMapper().writeValueAsString(ctx.read()));
+        assertEquals(ctx.getRebuildCount(), 1);
+
+        OpenApiContext notWarmedUp = new GenericOpenApiContext()
+                .openApiConfiguration(new SwaggerConfiguration().resourcePackages(config.getResourcePackages()))
+                .init();
+        assertTrue(notWarmedUp.isReady());
+    }
+
+    @Test(description = "filtered OpenAPI is cached per value of the filter inputs")
+    public void shouldCacheFilteredOpenAPI() throws Exception {
+
+        OpenAPIConfiguration config = new SwaggerConfiguration()
+                .resourcePackages(Stream.of("com.my.project.resources").collect(Collectors.toSet()))
+                .openAPI(new OpenAPI().info(new Info().description("TEST INFO DESC")))
+                .filterClass(TenantFilter.class.getName());
+
+        GenericOpenApiContext ctx = new GenericOpenApiContext()
+                .openApiConfiguration(config)
+                .filteredCacheSize(1);
+        ctx.init();
+        TenantFilter.CALLS.set(0);
+
+        assertSame(ctx.getSpecFilter(), ctx.getSpecFilter());
+
+        SerializedOpenApi a = ctx.readSerialized(SerializedOpenApi.Format.JSON, false, null, null,
+                Collections.singletonMap("X-Tenant", Collections.singletonList("a")));
+        SerializedOpenApi a2 = ctx.readSerialized(SerializedOpenApi.Format.JSON, false, Collections.singletonMap("other", Collections.singletonList("1")), null,
+                Collections.singletonMap("x-tenant", Collections.singletonList("a")));
+        assertSame(a2, a);
+        assertTrue(a.getContent().contains("tenant a"));
+        assertEquals(TenantFilter.CALLS.get(), 1);
+
+        SerializedOpenApi b = ctx.readSerialized(SerializedOpenApi.Format.JSON, false, null, null,
+                Collections.singletonMap("X-Tenant", Collections.singletonList("b")));
+        assertTrue(b.getContent().contains("tenant b"));
+        assertEquals(TenantFilter.CALLS.get(), 2);
+
+        // evicted, cache size is 1
+        ctx.readSerialized(SerializedOpenApi.Format.JSON, false, null, null,
+                Collections.singletonMap("X-Tenant", Collections.singletonList("a")));
+        assertEquals(TenantFilter.CALLS.get(), 3);
+    }
+
+    @Test(description = "a filter not declaring its request inputs is created per request, as it may hold state")
+    public void shouldCreateStatefulFilterPerRequest() throws Exception {
+
+        OpenAPIConfiguration config = new SwaggerConfiguration()
+                .resourcePackages(Stream.of("com.my.project.resources").collect(Collectors.toSet()))
+                .openAPI(new OpenAPI().info(new Info().description("TEST INFO DESC")))
+                .filterClass(CountingFilter.class.getName());
+
+        GenericOpenApiContext ctx = new GenericOpenApiContext()
+                .openApiConfiguration(config);
+        ctx.init();
+
+        assertNotSame(ctx.getSpecFilter(), ctx.getSpecFilter());
+        for (int i = 0; i < 2; i++) {
+            SerializedOpenApi serialized = ctx.readSerialized(SerializedOpenApi.Format.JSON, false, null, null, null);
+            assertTrue(serialized.getContent().contains("call 1"));
+        }
+    }
+
+    @Test(description = "each context reads with its own model converters")
+    public void shouldReadWithContextConverters() throws Exception {
+        int globalConverters = ModelConverters.getInstance().getConverters().size();
+        ChainReader firstReader = new ChainReader();
+        GenericOpenApiContext<?> first = new GenericOpenApiContext<>()
+                .id("first")
+                .openApiReader(firstReader)
+                .modelConverters(Collections.singleton(new ModelResolver(Json.mapper())))
+                .cacheTTL(0L)
+                .init();
+        ChainReader secondReader = new ChainReader();
+        GenericOpenApiContext<?> second = new GenericOpenApiContext<>()
+                .id("second")
+                .openApiReader(secondReader)
+                .init();
+
+        assertEquals(ModelConverters.getInstance().getConverters().size(), globalConverters);
+        assertEquals(first.getModelConverterChain().getConverters().size(), globalConverters + 1);
+        assertEquals(second.getModelConverterChain().getConverters().size(), globalConverters);
+
+        first.read();
+        second.read();
+        assertSame(firstReader.chain, first.getModelConverterChain());
+        assertSame(secondReader.chain, second.getModelConverterChain());
+        assertNull(ModelConverters.current());
+    }
+
+    @Test(description = "context converters are not registered globally, and global converters registered later don't apply")
+    public void shouldIsolateContextChainFromGlobalChain() throws Exception {
+        ModelResolver contextConverter = new ModelResolver(Json.mapper());
+        GenericOpenApiContext<?> ctx = new GenericOpenApiContext<>()
+                .id("isolated")
+                .openApiReader(new ChainReader())
+                .modelConverters(Collections.singleton(contextConverter))
+                .init();
+        assertTrue(ctx.getModelConverterChain().getConverters().contains(contextConverter));
+        assertFalse(ModelConverters.getInstance().getConverters().contains(contextConverter));
+
+        ModelResolver globalConverter = new ModelResolver(Json.mapper());
+        ModelConverters.getInstance().addConverter(globalConverter);
+        try {
+            assertFalse(ctx.getModelConverterChain().getConverters().contains(globalConverter));
+            ctx.init();
+            assertTrue(ctx.getModelConverterChain().getConverters().contains(globalConverter));
+        } finally {
+            ModelConverters.getInstance().removeConverter(globalConverter);
+        }
+    }
+
+    @Test(description = "copied configuration doesn't share its collections, maps and OpenAPI")
+    public void shouldDeepCopyConfiguration() throws Exception {
+        Map<String, Object> options = new HashMap<>();
+        options.put("tenants", new ArrayList<>(Collections.singletonList("a")));
+        SwaggerConfiguration config = new SwaggerConfiguration()
+                .resourcePackages(new HashSet<>(Collections.singletonList("com.my.project.resources")))
+                .ignoredRoutes(new ArrayList<>(Collections.singletonList("/ignored")))
+                .userDefinedOptions(options)
+                .openAPI(new OpenAPI().info(new Info().title("copied")))
+                .readParallelism(2)
+                .cacheTTL(10L);
+
+        SwaggerConfiguration copy = (SwaggerConfiguration) ContextUtils.deepCopy(config);
+        assertEquals(Json.pretty(copy), Json.pretty(config));
+        assertNotSame(copy.getResourcePackages(), config.getResourcePackages());
+        assertNotSame(copy.getIgnoredRoutes(), config.getIgnoredRoutes());
+        assertNotSame(copy.getOpenAPI(), config.getOpenAPI());
+        assertNotSame(copy.getOpenAPI().getInfo(), config.getOpenAPI().getInfo());
+
+        ((List<Object>) copy.getUserDefinedOptions().get("tenants")).add("b");
+        copy.getUserDefinedOptions().put("other", "value");
+        assertEquals(options.get("tenants"), Collections.singletonList("a"));
+        assertFalse(options.containsKey("other"));
+    }
+
+    static class ChainReader implements OpenApiReader {
+        ModelConverters chain;
+        Runnable onRead;
+
+        @Override
+        public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
+        }
+
+        @Override
+        public OpenAPI read(Set<Class<?>> classes, Map<String, Object> resources) {
+            chain = ModelConverters.getInstance();
+            if (onRead != null) {
+                onRead.run();
+            }
+            return new OpenAPI();
+        }
+    }
+
+    public static class TenantFilter extends AbstractSpecFilter {
+
+        static final AtomicInteger CALLS = new AtomicInteger();
+
+        @Override
+        public Optional<OpenAPI> filterOpenAPI(OpenAPI openAPI, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+            CALLS.incrementAndGet();
+            openAPI.getInfo().setTitle("tenant " + headers.getOrDefault("X-Tenant", headers.get("x-tenant")).get(0));
+            return Optional.of(openAPI);
+        }
+
+        @Override
+        public SpecFilterInputs getRequestInputs() {
+            return SpecFilterInputs.none().header("X-Tenant");
+        }
+    }
+
+    public static class CountingFilter extends AbstractSpecFilter {
+
+        private int calls;
+
+        @Override
+        public Optional<OpenAPI> filterOpenAPI(OpenAPI openAPI, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+            openAPI.getInfo().setTitle("call " + ++calls);
+            return Optional.of(openAPI);
+        }
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws Exception {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
 }
@@ -0,0 +1,102 @@
+package io.swagger.v3.oas.integration;
+
+import io.swagger.v3.oas.integration.api.OpenApiContext;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class OpenApiContextLocatorTest {
+
+    private static final String PREFIX = OpenApiContext.OPENAPI_CONTEXT_ID_PREFIX + "locatorTest.";
+
+    private final OpenApiContextLocator locator = OpenApiContextLocator.getInstance();
+
+    @AfterMethod
+    public void tearDown() {
+        locator.setMaxContexts(Integer.MAX_VALUE);
+        for (String id : Arrays.asList("a", "b", "c")) {
+            locator.removeOpenApiContext(PREFIX + id);
+        }
+    }
+
+    @Test(description = "removed contexts are destroyed")
+    public void shouldRemoveAndDestroyContext() throws Exception {
+        DestroyCountingContext ctx = context("a");
+        assertSame(locator.getOpenApiContext(PREFIX + "a"), ctx);
+        assertTrue(locator.getOpenApiContextIds().contains(PREFIX + "a"));
+
+        assertFalse(locator.removeOpenApiContext(PREFIX + "a", new GenericOpenApiContext<>()));
+        assertSame(locator.getOpenApiContext(PREFIX + "a"), ctx);
+        assertEquals(ctx.destroyCount.get(), 0);
+
+        assertTrue(locator.removeOpenApiContext(PREFIX + "a", ctx));
+        assertNull(locator.getOpenApiContext(PREFIX + "a"));
+        assertEquals(ctx.destroyCount.get(), 1);
+        assertNull(locator.removeOpenApiContext(PREFIX + "a"));
+    }
+
+    @Test(description = "contexts past the maximum are evicted, least recently used first, without being destroyed")
+    public void shouldEvictContextsPastMaximum() throws Exception {
+        for (String id : locator.getOpenApiContextIds()) {
+            locator.removeOpenApiContext(id);
+        }
+        locator.setMaxContexts(2);
+
+        DestroyCountingContext a = context("a");
+        DestroyCountingContext b = context("b");
+        DestroyCountingContext c = context("c");
+
+        assertNull(locator.getOpenApiContext(PREFIX + "a"));
+        assertEquals(a.destroyCount.get(), 0);
+        assertSame(locator.getOpenApiContext(PREFIX + "b"), b);
+        assertSame(locator.getOpenApiContext(PREFIX + "c"), c);
+        assertEquals(locator.getOpenApiContextIds().size(), 2);
+    }
+
+    @Test(description = "destroyed contexts release their cached documents and build them again when read")
+    public void shouldReportMemoryFootprint() throws Exception {
+        DestroyCountingContext ctx = context("a");
+        assertEquals(ctx.getMemoryFootprint(), 0);
+
+        SerializedOpenApi json = ctx.readSerialized(SerializedOpenApi.Format.JSON, false);
+        long footprint = ctx.getMemoryFootprint();
+        assertEquals(footprint, 2L * json.getBytes().length);
+        SerializedOpenApi yaml = ctx.readSerialized(SerializedOpenApi.Format.YAML, true);
+        assertEquals(ctx.getMemoryFootprint(), footprint + yaml.getBytes().length);
+        assertTrue(locator.getMemoryFootprint() >= ctx.getMemoryFootprint());
+
+        locator.removeOpenApiContext(PREFIX + "a");
+        assertEquals(ctx.getMemoryFootprint(), 0);
+        assertNotNull(ctx.read());
+    }
+
+    private static DestroyCountingContext context(String id) throws Exception {
+        DestroyCountingContext ctx = new DestroyCountingContext();
+        ctx.openApiConfiguration(new SwaggerConfiguration()
+                        .openAPI(new OpenAPI().info(new Info().title("locator " + id))))
+                .id(PREFIX + id)
+                .init();
+        return ctx;
+    }
+
+    static class DestroyCountingContext extends GenericOpenApiContext<DestroyCountingContext> {
+        final AtomicInteger destroyCount = new AtomicInteger();
+
+        @Override
+        public void destroy() {
+            destroyCount.incrementAndGet();
+            super.destroy();
+        }
+    }
+}
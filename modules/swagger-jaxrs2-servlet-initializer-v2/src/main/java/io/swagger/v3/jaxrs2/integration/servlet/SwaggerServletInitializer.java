@@ -18,6 +18,11 @@ import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_WARM_UP_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_WARM_UP_TIMEOUT_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getBooleanInitParam;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getLongInitParam;
+
 /**
  *
  * @since 2.1.2
@@ -45,7 +50,9 @@ public class SwaggerServletInitializer implements ServletContainerInitializer {
                 // init context
                 try {
                     SwaggerConfiguration oasConfig = new SwaggerConfiguration()
-                            .resourceClasses(resources.stream().map(Class::getName).collect(Collectors.toSet()));
+                            .resourceClasses(resources.stream().map(Class::getName).collect(Collectors.toSet()))
+                            .warmUp(getBooleanInitParam(servletContext, OPENAPI_CONFIGURATION_WARM_UP_KEY))
+                            .warmUpTimeout(getLongInitParam(servletContext, OPENAPI_CONFIGURATION_WARM_UP_TIMEOUT_KEY));
 
                     new JaxrsOpenApiContextBuilder()
                             .openApiConfiguration(oasConfig)
@@ -56,5 +63,4 @@ public class SwaggerServletInitializer implements ServletContainerInitializer {
             }
         }
     }
-
 }
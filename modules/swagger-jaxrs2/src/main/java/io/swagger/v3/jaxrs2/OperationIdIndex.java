@@ -0,0 +1,133 @@
+package io.swagger.v3.jaxrs2;
+
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the operation ids used in a {@link Paths} object, used by {@link Reader} to find the next free operation
+ * id without scanning all paths.
+ *
+ * <p>The index counts, for each operation id, the path items using it, and remembers for each base operation id the
+ * highest suffix known to be taken, so that probing for {@code id_1}, {@code id_2}, ... resumes where it previously
+ * stopped. The index is updated by the reader as it adds operations, and is rebuilt when the paths object changes.</p>
+ *
+ * @since 2.2.43
+ */
+final class OperationIdIndex {
+
+    private final Paths paths;
+    private final Map<String, Integer> pathItemCounts = new HashMap<>();
+    private final Map<String, Integer> takenSuffixes = new HashMap<>();
+
+    /**
+     * @param paths the indexed paths, possibly null
+     */
+    OperationIdIndex(Paths paths) {
+        this.paths = paths;
+        if (paths != null) {
+            for (PathItem pathItem : paths.values()) {
+                add(operationIdsOf(pathItem));
+            }
+        }
+    }
+
+    /**
+     * @return the indexed paths object
+     */
+    Paths getPaths() {
+        return paths;
+    }
+
+    boolean contains(String operationId) {
+        return pathItemCounts.containsKey(operationId);
+    }
+
+    /**
+     * Returns the given operation id if it's not used, or the first of {@code operationId_1}, {@code operationId_2},
+     * ... which is not used.
+     */
+    String nextFree(String operationId) {
+        if (!contains(operationId)) {
+            return operationId;
+        }
+        Integer taken = takenSuffixes.get(operationId);
+        int counter = taken == null ? 0 : taken;
+        String candidate;
+        do {
+            candidate = String.format("%s_%d", operationId, ++counter);
+        } while (contains(candidate));
+        takenSuffixes.put(operationId, counter - 1);
+        return candidate;
+    }
+
+    /**
+     * Updates the index after the operations of a path item in the indexed paths have changed.
+     *
+     * @param previous the operation ids of the path item before the change, see {@link #operationIdsOf(PathItem)}
+     * @param current  the operation ids of the path item after the change
+     */
+    void update(Set<String> previous, Set<String> current) {
+        for (String operationId : previous) {
+            if (!current.contains(operationId)) {
+                remove(operationId);
+            }
+        }
+        for (String operationId : current) {
+            if (!previous.contains(operationId)) {
+                add(operationId);
+            }
+        }
+    }
+
+    void add(Set<String> operationIds) {
+        for (String operationId : operationIds) {
+            add(operationId);
+        }
+    }
+
+    private void add(String operationId) {
+        pathItemCounts.merge(operationId, 1, Integer::sum);
+    }
+
+    private void remove(String operationId) {
+        Integer count = pathItemCounts.get(operationId);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            pathItemCounts.put(operationId, count - 1);
+        } else {
+            pathItemCounts.remove(operationId);
+            // a freed suffix may be lower than the ones remembered
+            takenSuffixes.clear();
+        }
+    }
+
+    /**
+     * @return the distinct, non blank operation ids of the operations of a path item, except the trace operation
+     */
+    static Set<String> operationIdsOf(PathItem pathItem) {
+        Set<String> ids = new HashSet<>();
+        addOperationId(ids, pathItem.getGet());
+        addOperationId(ids, pathItem.getPost());
+        addOperationId(ids, pathItem.getPut());
+        addOperationId(ids, pathItem.getDelete());
+        addOperationId(ids, pathItem.getOptions());
+        addOperationId(ids, pathItem.getHead());
+        addOperationId(ids, pathItem.getPatch());
+        return ids;
+    }
+
+    private static void addOperationId(Set<String> ids, Operation operation) {
+        if (operation != null && StringUtils.isNotBlank(operation.getOperationId())) {
+            ids.add(operation.getOperationId());
+        }
+    }
+}
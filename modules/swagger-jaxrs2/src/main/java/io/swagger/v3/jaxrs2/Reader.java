@@ -9,6 +9,7 @@ import com.fasterxml.jackson.databind.type.TypeFactory;
 import io.swagger.v3.core.converter.AnnotatedType;
 import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.converter.ResolvedSchema;
+import io.swagger.v3.core.converter.SchemaResolutionScope;
 import io.swagger.v3.core.util.AnnotationsUtils;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Json31;
@@ -16,6 +17,7 @@ import io.swagger.v3.core.util.KotlinDetector;
 import io.swagger.v3.core.util.ParameterProcessor;
 import io.swagger.v3.core.util.PathUtils;
 import io.swagger.v3.core.util.ReflectionUtils;
+import io.swagger.v3.core.util.SchemaCloner;
 import io.swagger.v3.jaxrs2.ext.OpenAPIExtension;
 import io.swagger.v3.jaxrs2.ext.OpenAPIExtensions;
 import io.swagger.v3.jaxrs2.util.ReaderUtils;
@@ -23,11 +25,13 @@ import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.servers.Server;
+import io.swagger.v3.oas.integration.ClassContributions;
 import io.swagger.v3.oas.integration.ContextUtils;
 import io.swagger.v3.oas.integration.SwaggerConfiguration;
 import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
 import io.swagger.v3.oas.integration.api.OpenApiReader;
 import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.DeepCopier;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
@@ -53,7 +57,6 @@ import javax.ws.rs.ApplicationPath;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Application;
-import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -72,7 +75,14 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class Reader implements OpenApiReader {
@@ -91,6 +101,20 @@ public class Reader implements OpenApiReader {
 
     private String defaultResponseKey = ApiResponses.DEFAULT;
 
+    private SchemaResolutionScope schemaResolutionScope;
+
+    private Executor readExecutor;
+
+    private ClassContributions classContributions;
+    // classes of the models resolved by a partial reader, kept along with its contribution
+    private Set<Class<?>> resolvedClasses = Collections.emptySet();
+
+    // operation ids used in openAPI.getPaths(), kept up to date as operations are added during a scan
+    private OperationIdIndex operationIdIndex;
+
+    // pools scanning classes in parallel, by parallelism, shared by all readers; idle workers terminate on their own
+    private static final Map<Integer, ForkJoinPool> READ_POOLS = new ConcurrentHashMap<>();
+
     private static final String GET_METHOD = "get";
     private static final String POST_METHOD = "post";
     private static final String PUT_METHOD = "put";
@@ -125,6 +149,22 @@ public class Reader implements OpenApiReader {
 
     }
 
+    /**
+     * Creates a reader sharing the configuration and application of the given reader, with an empty OpenAPI, used to
+     * scan a single class when classes are read in parallel.
+     *
+     * @since 2.2.43
+     */
+    protected Reader(Reader parent) {
+        this.config = parent.config;
+        this.application = parent.application;
+        this.defaultResponseKey = parent.defaultResponseKey;
+        this.openAPI = new OpenAPI(parent.openAPI.getSpecVersion()).openapi(parent.openAPI.getOpenapi());
+        this.paths = new Paths();
+        this.openApiTags = new LinkedHashSet<>();
+        this.components = new Components();
+    }
+
 
     public OpenAPI getOpenAPI() {
         return openAPI;
@@ -133,10 +173,51 @@ public class Reader implements OpenApiReader {
     protected  Components getComponents() { return components; }
     protected Paths getPaths() { return paths; }
 
+    /**
+     * @return the schema resolution scope of the last {@link #read(Set)} pass, exposing cache hit and miss counters,
+     * or null if no pass has been run yet
+     */
+    public SchemaResolutionScope getSchemaResolutionScope() {
+        return schemaResolutionScope;
+    }
+
+    /**
+     * Sets the executor used by {@link #read(Set)} to scan classes in parallel, regardless of
+     * {@link OpenAPIConfiguration#getReadParallelism()}. The executor is not shut down by the reader.
+     *
+     * @since 2.2.43
+     */
+    public void setReadExecutor(Executor readExecutor) {
+        this.readExecutor = readExecutor;
+    }
+
+    public Executor getReadExecutor() {
+        return readExecutor;
+    }
+
+    /**
+     * Sets the contributions of the classes read by previous readers: {@link #read(Set)} reads only the classes
+     * without a contribution, on partial readers as when reading in parallel, and merges the partial readers of the
+     * others. Contributions are not used if the reader doesn't support partial readers, see
+     * {@link #createPartialReader()}, or if any of the classes is a {@link ReaderListener}, as listeners may change
+     * what classes contribute.
+     *
+     * @since 2.2.43
+     */
+    @Override
+    public void setClassContributions(ClassContributions classContributions) {
+        this.classContributions = classContributions;
+    }
+
+    public ClassContributions getClassContributions() {
+        return classContributions;
+    }
+
     /**
      * Scans a single class for Swagger annotations - does not invoke ReaderListeners
      */
     public OpenAPI read(Class<?> cls) {
+        operationIdIndex = null;
         return read(cls, resolveApplicationPath(), null, false, null, null, new LinkedHashSet<String>(), new ArrayList<Parameter>(), new HashSet<Class<?>>());
     }
 
@@ -196,9 +277,19 @@ public class Reader implements OpenApiReader {
             appPath = appPathRuntime;
         }
 
-        for (Class<?> cls : sortedClasses) {
-            read(cls, appPath, null, false, null, null, new LinkedHashSet<String>(), new ArrayList<Parameter>(), new HashSet<Class<?>>());
+        // listeners may have added operations
+        operationIdIndex = null;
+        schemaResolutionScope = SchemaResolutionScope.open();
+        try {
+            if (!readInParallel(sortedClasses, appPath, classContributions != null && listeners.isEmpty())) {
+                for (Class<?> cls : sortedClasses) {
+                    read(cls, appPath, null, false, null, null, new LinkedHashSet<String>(), new ArrayList<Parameter>(), new HashSet<Class<?>>());
+                }
+            }
+        } finally {
+            schemaResolutionScope.close();
         }
+        LOGGER.debug("schema resolution cache: {} hits, {} misses", schemaResolutionScope.getHits(), schemaResolutionScope.getMisses());
 
         for (ReaderListener listener : listeners.values()) {
             try {
@@ -210,6 +301,206 @@ public class Reader implements OpenApiReader {
         return openAPI;
     }
 
+    /**
+     * Scans the given classes in parallel on partial readers, see {@link #createPartialReader()}, and merges the
+     * partial results in the given order, producing the same definition a sequential scan does: a class whose paths
+     * or operation ids collide with the ones merged so far is scanned again on this reader once the preceding classes
+     * are merged, so that paths are merged and operation ids deduplicated exactly as in a sequential scan. The partial
+     * readers share the schema resolution scope of this reader, and run on the {@link #setReadExecutor(Executor) read
+     * executor} if set, or else on a pool shared by the readers with the same parallelism.
+     *
+     * <p>If incremental, the partial readers of the classes having a {@link #setClassContributions(ClassContributions)
+     * contribution} are merged instead of scanning the classes, and the partial readers merged are kept as the
+     * contributions of their classes, along with the classes of the models they resolved, so that changing a model
+     * invalidates the contributions using it; classes scanned again on this reader have no contribution.</p>
+     *
+     * @return false if neither parallel nor incremental scanning is enabled and supported, in which case nothing has
+     * been scanned
+     */
+    private boolean readInParallel(Set<Class<?>> classes, String appPath, boolean incremental) {
+        Integer parallelism = config == null ? null : config.getReadParallelism();
+        boolean parallel = classes.size() >= 2 && (readExecutor != null || (parallelism != null && parallelism >= 2));
+        if (!parallel && !incremental) {
+            return false;
+        }
+        // paths provided upfront in a separate object are merged into the scanned ones on each operation
+        if (openAPI.getPaths() == null ? !paths.isEmpty() : openAPI.getPaths() != paths) {
+            return false;
+        }
+        if (createPartialReader() == null) {
+            return false;
+        }
+        // the chain bound to this thread, e.g. by the context, is bound to the threads scanning the classes
+        ModelConverters converters = ModelConverters.current();
+        Executor executor = !parallel ? Runnable::run :
+                readExecutor != null ? readExecutor : READ_POOLS.computeIfAbsent(parallelism, ForkJoinPool::new);
+        List<CompletableFuture<Reader>> partials = new ArrayList<>(classes.size());
+        for (Class<?> cls : classes) {
+            Reader contribution = incremental ? classContributions.get(cls, Reader.class) : null;
+            partials.add(contribution != null ?
+                    CompletableFuture.completedFuture(contribution) :
+                    CompletableFuture.supplyAsync(() -> readPartial(cls, appPath, converters, schemaResolutionScope), executor));
+        }
+        Iterator<CompletableFuture<Reader>> iterator = partials.iterator();
+        int rescanned = 0;
+        for (Class<?> cls : classes) {
+            Reader partial;
+            try {
+                partial = iterator.next().join();
+            } catch (CompletionException e) {
+                LOGGER.debug("Failed to scan class {} in parallel, scanning it again", cls.getName(), e.getCause());
+                partial = null;
+            }
+            if (partial != null && canMerge(partial)) {
+                merge(cls, incremental ? partial.copyOfPartial() : partial);
+                if (incremental) {
+                    classContributions.put(cls, partial, partial.resolvedClasses);
+                }
+            } else {
+                if (incremental) {
+                    classContributions.invalidate(Collections.singleton(cls));
+                }
+                read(cls, appPath, null, false, null, null, new LinkedHashSet<String>(), new ArrayList<Parameter>(), new HashSet<Class<?>>());
+                rescanned++;
+            }
+        }
+        if (incremental) {
+            classContributions.retainAll(classes);
+        }
+        LOGGER.debug("scanned {} classes {}, {} scanned again", classes.size(), parallel ? "in parallel" : "incrementally", rescanned);
+        return true;
+    }
+
+    /**
+     * Creates the reader used to scan a single class when classes are scanned in parallel. The default implementation
+     * returns null, disabling parallel scanning, for subclasses of Reader, as their overrides may depend on state
+     * accumulated across classes; subclasses which don't can override this method, e.g. to return
+     * {@code new MyReader(this)}.
+     *
+     * @return a reader with an empty OpenAPI and the configuration of this reader, or null to scan classes sequentially
+     * @since 2.2.43
+     */
+    protected Reader createPartialReader() {
+        return getClass() == Reader.class ? new Reader(this) : null;
+    }
+
+    private Reader readPartial(Class<?> cls, String appPath, ModelConverters converters, SchemaResolutionScope scope) {
+        Reader partial = createPartialReader();
+        ModelConverters.Binding binding = converters != null ? converters.bind() : null;
+        SchemaResolutionScope.Binding scopeBinding = scope.join();
+        try {
+            partial.read(cls, appPath, null, false, null, null, new LinkedHashSet<String>(), new ArrayList<Parameter>(), new HashSet<Class<?>>());
+        } finally {
+            scopeBinding.close();
+            partial.resolvedClasses = scopeBinding.getResolvedClasses();
+            if (binding != null) {
+                binding.close();
+            }
+        }
+        return partial;
+    }
+
+    private boolean canMerge(Reader partial) {
+        OperationIdIndex operationIds = getOperationIdIndex();
+        for (Map.Entry<String, PathItem> entry : partial.paths.entrySet()) {
+            if (paths.containsKey(entry.getKey())) {
+                return false;
+            }
+            for (String operationId : OperationIdIndex.operationIdsOf(entry.getValue())) {
+                if (operationIds.contains(operationId)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a partial reader holding a deep copy of the models read by this partial reader, copied in a single pass
+     * so that the references they share are shared in the copy as well. A partial reader kept for later merges is
+     * merged through a copy, as the merged models end up in the served OpenAPI and may be changed afterwards, e.g. by
+     * this reader, a filter or a listener.
+     */
+    private Reader copyOfPartial() {
+        Object[] copy = DeepCopier.copy(new Object[]{openAPI, paths, openApiTags, components});
+        Reader reader = new Reader(this);
+        reader.openAPI = (OpenAPI) copy[0];
+        reader.paths = (Paths) copy[1];
+        reader.openApiTags = (Set<Tag>) copy[2];
+        reader.components = (Components) copy[3];
+        return reader;
+    }
+
+    /**
+     * Merges a partial reader into this reader; the maps and models of the partial reader are shared, not copied.
+     */
+    private void merge(Class<?> cls, Reader partial) {
+        OpenAPI partialOpenAPI = partial.openAPI;
+        if (!StringUtils.equals(partialOpenAPI.getOpenapi(), openAPI.getOpenapi())) {
+            openAPI.setOpenapi(partialOpenAPI.getOpenapi());
+        }
+        if (partialOpenAPI.getInfo() != null) {
+            openAPI.setInfo(partialOpenAPI.getInfo());
+        }
+        if (partialOpenAPI.getSecurity() != null) {
+            openAPI.setSecurity(partialOpenAPI.getSecurity());
+        }
+        if (partialOpenAPI.getExternalDocs() != null) {
+            openAPI.setExternalDocs(partialOpenAPI.getExternalDocs());
+        }
+        if (partialOpenAPI.getServers() != null) {
+            openAPI.setServers(partialOpenAPI.getServers());
+        }
+        if (partialOpenAPI.getExtensions() != null) {
+            openAPI.setExtensions(partialOpenAPI.getExtensions());
+        }
+        if (partialOpenAPI.getWebhooks() != null) {
+            openAPI.setWebhooks(partialOpenAPI.getWebhooks());
+        }
+
+        Components partialComponents = partial.components;
+        mergeComponents(partialComponents.getSchemas(), components::getSchemas, components::setSchemas);
+        mergeComponents(partialComponents.getResponses(), components::getResponses, components::setResponses);
+        mergeComponents(partialComponents.getParameters(), components::getParameters, components::setParameters);
+        mergeComponents(partialComponents.getExamples(), components::getExamples, components::setExamples);
+        mergeComponents(partialComponents.getRequestBodies(), components::getRequestBodies, components::setRequestBodies);
+        mergeComponents(partialComponents.getHeaders(), components::getHeaders, components::setHeaders);
+        mergeComponents(partialComponents.getSecuritySchemes(), components::getSecuritySchemes, components::setSecuritySchemes);
+        mergeComponents(partialComponents.getLinks(), components::getLinks, components::setLinks);
+        mergeComponents(partialComponents.getCallbacks(), components::getCallbacks, components::setCallbacks);
+        mergeComponents(partialComponents.getPathItems(), components::getPathItems, components::setPathItems);
+        mergeComponents(partialComponents.getExtensions(), components::getExtensions, components::setExtensions);
+
+        if (!partial.paths.isEmpty()) {
+            OperationIdIndex operationIds = getOperationIdIndex();
+            partial.paths.forEach((path, pathItem) -> paths.addPathItem(path, pathItem));
+            openAPI.setPaths(paths);
+            if (operationIds.getPaths() == paths) {
+                partial.paths.values().forEach(pathItem -> operationIds.add(OperationIdIndex.operationIdsOf(pathItem)));
+            }
+        }
+        if (cls.getAnnotation(Hidden.class) != null) {
+            return;
+        }
+        if (!isEmptyComponents(components) && openAPI.getComponents() == null) {
+            openAPI.setComponents(components);
+        }
+        openApiTags.addAll(partial.openApiTags);
+        setOpenAPITags();
+    }
+
+    private static <T> void mergeComponents(Map<String, T> source, Supplier<Map<String, T>> target, Consumer<Map<String, T>> setter) {
+        if (source == null) {
+            return;
+        }
+        Map<String, T> existing = target.get();
+        if (existing == null) {
+            setter.accept(source);
+        } else {
+            existing.putAll(source);
+        }
+    }
+
     @Override
     public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
         if (openApiConfiguration != null) {
@@ -676,6 +967,8 @@ public class Reader implements OpenApiReader {
                     if (StringUtils.isBlank(httpMethod)) {
                         continue;
                     }
+                    OperationIdIndex operationIds = openAPI.getPaths() == this.paths ? getOperationIdIndex() : null;
+                    Set<String> previousOperationIds = operationIds == null ? null : OperationIdIndex.operationIdsOf(pathItemObject);
                     setPathItemOperation(pathItemObject, httpMethod, operation);
                     applyPathParamsPatterns(operation, regexMap);
                     paths.addPathItem(operationPath, pathItemObject);
@@ -684,6 +977,12 @@ public class Reader implements OpenApiReader {
                     }
 
                     openAPI.setPaths(this.paths);
+                    if (operationIds != null) {
+                        operationIds.update(previousOperationIds, OperationIdIndex.operationIdsOf(pathItemObject));
+                    } else {
+                        // paths other than this.paths were merged in, or have been set for the first time
+                        operationIdIndex = null;
+                    }
 
                 }
             }
@@ -715,6 +1014,12 @@ public class Reader implements OpenApiReader {
         AnnotationsUtils
                 .getTags(apiTags, true).ifPresent(tags -> openApiTags.addAll(tags));
 
+        setOpenAPITags();
+
+        return openAPI;
+    }
+
+    private void setOpenAPITags() {
         if (!openApiTags.isEmpty()) {
             Set<Tag> tagsSet = new LinkedHashSet<>();
             if (openAPI.getTags() != null) {
@@ -731,8 +1036,6 @@ public class Reader implements OpenApiReader {
             }
             openAPI.setTags(new ArrayList<>(tagsSet));
         }
-
-        return openAPI;
     }
 
     protected void applyPathParamsPatterns(Operation operation, Map<String, String> patternsMap) {
@@ -1259,16 +1562,7 @@ public class Reader implements OpenApiReader {
     private MediaType clone(MediaType mediaType) {
         if(mediaType == null)
             return mediaType;
-        try {
-            if(config.isOpenAPI31()) {
-                mediaType = Json31.mapper().readValue(Json31.pretty(mediaType), MediaType.class);
-            } else {
-                mediaType = Json.mapper().readValue(Json.pretty(mediaType), MediaType.class);
-            }
-        } catch (IOException e) {
-            LOGGER.error("Could not clone mediaType", e);
-        }
-        return mediaType;
+        return SchemaCloner.clone(mediaType, config.isOpenAPI31());
     }
     private Schema<?> clone(Schema<?> schema) {
         return AnnotationsUtils.clone(schema, config.isOpenAPI31());
@@ -1479,33 +1773,15 @@ public class Reader implements OpenApiReader {
     }
 
     protected String getOperationId(String operationId) {
-        boolean operationIdUsed = existOperationId(operationId);
-        String operationIdToFind = null;
-        int counter = 0;
-        while (operationIdUsed) {
-            operationIdToFind = String.format("%s_%d", operationId, ++counter);
-            operationIdUsed = existOperationId(operationIdToFind);
-        }
-        if (operationIdToFind != null) {
-            operationId = operationIdToFind;
-        }
-        return operationId;
+        return getOperationIdIndex().nextFree(operationId);
     }
 
-    private boolean existOperationId(String operationId) {
-        if (openAPI == null) {
-            return false;
-        }
-        if (openAPI.getPaths() == null || openAPI.getPaths().isEmpty()) {
-            return false;
-        }
-        for (PathItem path : openAPI.getPaths().values()) {
-            Set<String> pathOperationIds = extractOperationIdFromPathItem(path);
-            if (pathOperationIds.contains(operationId)) {
-                return true;
-            }
+    private OperationIdIndex getOperationIdIndex() {
+        Paths currentPaths = openAPI == null ? null : openAPI.getPaths();
+        if (operationIdIndex == null || operationIdIndex.getPaths() != currentPaths) {
+            operationIdIndex = new OperationIdIndex(currentPaths);
         }
-        return false;
+        return operationIdIndex;
     }
 
     protected Optional<List<Parameter>> getParametersListFromAnnotation(io.swagger.v3.oas.annotations.Parameter[] parameters, Consumes classConsumes, Consumes methodConsumes, Operation operation, JsonView jsonViewAnnotation) {
@@ -1542,32 +1818,6 @@ public class Reader implements OpenApiReader {
         return resolvedParameter;
     }
 
-    private Set<String> extractOperationIdFromPathItem(PathItem path) {
-        Set<String> ids = new HashSet<>();
-        if (path.getGet() != null && StringUtils.isNotBlank(path.getGet().getOperationId())) {
-            ids.add(path.getGet().getOperationId());
-        }
-        if (path.getPost() != null && StringUtils.isNotBlank(path.getPost().getOperationId())) {
-            ids.add(path.getPost().getOperationId());
-        }
-        if (path.getPut() != null && StringUtils.isNotBlank(path.getPut().getOperationId())) {
-            ids.add(path.getPut().getOperationId());
-        }
-        if (path.getDelete() != null && StringUtils.isNotBlank(path.getDelete().getOperationId())) {
-            ids.add(path.getDelete().getOperationId());
-        }
-        if (path.getOptions() != null && StringUtils.isNotBlank(path.getOptions().getOperationId())) {
-            ids.add(path.getOptions().getOperationId());
-        }
-        if (path.getHead() != null && StringUtils.isNotBlank(path.getHead().getOperationId())) {
-            ids.add(path.getHead().getOperationId());
-        }
-        if (path.getPatch() != null && StringUtils.isNotBlank(path.getPatch().getOperationId())) {
-            ids.add(path.getPatch().getOperationId());
-        }
-        return ids;
-    }
-
     private boolean isEmptyComponents(Components components) {
         if (components == null) {
             return true;
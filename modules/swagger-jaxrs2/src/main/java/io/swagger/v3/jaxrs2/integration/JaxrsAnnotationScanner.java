@@ -18,6 +18,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
 
 public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> implements JaxrsOpenApiScanner {
 
@@ -31,6 +33,20 @@ public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> impleme
     protected Application application;
     protected static final Logger LOGGER = LoggerFactory.getLogger(JaxrsAnnotationScanner.class);
     protected boolean onlyConsiderResourcePackages = false;
+    /**
+     * Whether the scan index is used regardless of {@link OpenAPIConfiguration#isUseScanIndex()}.
+     *
+     * @since 2.2.43
+     */
+    protected boolean useScanIndex;
+    /**
+     * @since 2.2.43
+     */
+    protected ExecutorService scanExecutor;
+    /**
+     * @since 2.2.43
+     */
+    protected int scanParallelism;
 
     public JaxrsAnnotationScanner application(Application application) {
         this.application = application;
@@ -52,6 +68,49 @@ public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> impleme
         this.openApiConfiguration = openApiConfiguration;
     }
 
+    /**
+     * Sets whether the classes are listed from the scan index written at build time, see {@link JaxrsScanIndex},
+     * as {@link OpenAPIConfiguration#isUseScanIndex()} does.
+     *
+     * @since 2.2.43
+     */
+    public T useScanIndex(boolean useScanIndex) {
+        this.useScanIndex = useScanIndex;
+        return (T) this;
+    }
+
+    public void setUseScanIndex(boolean useScanIndex) {
+        this.useScanIndex = useScanIndex;
+    }
+
+    /**
+     * Sets the number of threads scanning the classpath, by default ClassGraph's default.
+     *
+     * @since 2.2.43
+     */
+    public T scanParallelism(int scanParallelism) {
+        this.scanParallelism = scanParallelism;
+        return (T) this;
+    }
+
+    public void setScanParallelism(int scanParallelism) {
+        this.scanParallelism = scanParallelism;
+    }
+
+    /**
+     * Sets the executor scanning the classpath, instead of one created for each scan.
+     *
+     * @since 2.2.43
+     */
+    public T scanExecutor(ExecutorService scanExecutor) {
+        this.scanExecutor = scanExecutor;
+        return (T) this;
+    }
+
+    public void setScanExecutor(ExecutorService scanExecutor) {
+        this.scanExecutor = scanExecutor;
+    }
+
     @Override
     public Set<Class<?>> classes() {
 
@@ -59,7 +118,11 @@ public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> impleme
             openApiConfiguration = new SwaggerConfiguration();
         }
 
-        ClassGraph graph = new ClassGraph().enableAllInfo();
+        // only class annotations are needed, field and method info is not collected
+        ClassGraph graph = new ClassGraph()
+                .enableClassInfo()
+                .enableAnnotationInfo()
+                .rejectPackages(ignored.toArray(new String[0]));
         Set<String> acceptablePackages = new HashSet<>();
         Set<Class<?>> output = new HashSet<>();
 
@@ -90,8 +153,15 @@ public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> impleme
                 allowAllPackages = true;
             }
         }
+        if (useScanIndex || Boolean.TRUE.equals(openApiConfiguration.isUseScanIndex())) {
+            Set<Class<?>> indexed = indexedClasses(acceptablePackages, allowAllPackages);
+            if (indexed != null) {
+                LOGGER.trace("classes() - output size {} from scan index", indexed.size());
+                return indexed;
+            }
+        }
         final Set<Class<?>> classes;
-        try (ScanResult scanResult = graph.scan()) {
+        try (ScanResult scanResult = scan(graph)) {
             classes = new HashSet<>(scanResult.getClassesWithAnnotation(javax.ws.rs.Path.class.getName()).loadClasses());
             classes.addAll(new HashSet<>(scanResult.getClassesWithAnnotation(OpenAPIDefinition.class.getName()).loadClasses()));
             classes.addAll(new HashSet<>(scanResult.getClassesWithAnnotation(Webhooks.class.getName()).loadClasses()));
@@ -101,20 +171,92 @@ public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> impleme
         }
 
         for (Class<?> cls : classes) {
-            if (allowAllPackages) {
+            if (allowAllPackages || isInPackages(cls.getName(), acceptablePackages)) {
                 output.add(cls);
-            } else {
-                for (String pkg : acceptablePackages) {
-                    if (cls.getPackage().getName().startsWith(pkg)) {
-                        output.add(cls);
-                    }
-                }
             }
         }
         LOGGER.trace("classes() - output size {}", output.size());
         return output;
     }
 
+    protected ScanResult scan(ClassGraph graph) {
+        int parallelism = scanParallelism > 0 ? scanParallelism : Math.max(2, Runtime.getRuntime().availableProcessors());
+        if (scanExecutor != null) {
+            return graph.scan(scanExecutor, parallelism);
+        }
+        if (scanParallelism > 0) {
+            return graph.scan(scanParallelism);
+        }
+        return graph.scan();
+    }
+
+    /**
+     * Loads the classes listed in the scan index written at build time, see {@link JaxrsScanIndex}. The index is only
+     * trusted if it {@link JaxrsScanIndex#covers(String) covers} each resource package, so that an index shipped by a
+     * dependency doesn't hide the resources of the application; without resource packages, the classpath is scanned.
+     *
+     * @return the classes in the acceptable packages, or null if there is no valid index covering them or a listed
+     * class can't be loaded, in which case the classpath is scanned
+     */
+    protected Set<Class<?>> indexedClasses(Set<String> acceptablePackages, boolean allowAllPackages) {
+        if (allowAllPackages || acceptablePackages.isEmpty()) {
+            LOGGER.info("Not using scan index: no resource packages configured to check it against, scanning classpath");
+            return null;
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = JaxrsAnnotationScanner.class.getClassLoader();
+        }
+        JaxrsScanIndex index = JaxrsScanIndex.load(classLoader);
+        if (index == null) {
+            LOGGER.info("Not using scan index: no valid index found, scanning classpath");
+            return null;
+        }
+        for (String pkg : acceptablePackages) {
+            if (!index.covers(pkg)) {
+                LOGGER.info("Not using scan index {}: resource package {} not covered, scanning classpath", index.getSources(), pkg);
+                return null;
+            }
+        }
+        Set<String> classNames = new TreeSet<>();
+        classNames.addAll(index.getClassNames(JaxrsScanIndex.Kind.PATH));
+        classNames.addAll(index.getClassNames(JaxrsScanIndex.Kind.OPENAPI_DEFINITION));
+        classNames.addAll(index.getClassNames(JaxrsScanIndex.Kind.WEBHOOKS));
+        if (Boolean.TRUE.equals(openApiConfiguration.isAlwaysResolveAppPath())) {
+            classNames.addAll(index.getClassNames(JaxrsScanIndex.Kind.APPLICATION_PATH));
+        }
+        Set<Class<?>> output = new HashSet<>();
+        for (String className : classNames) {
+            if (isIgnored(className)) {
+                continue;
+            }
+            if (isInPackages(className, acceptablePackages)) {
+                try {
+                    output.add(Class.forName(className, false, classLoader));
+                } catch (ClassNotFoundException | LinkageError e) {
+                    LOGGER.warn("Class {} listed in scan index can't be loaded, scanning classpath instead", className);
+                    return null;
+                }
+            }
+        }
+        LOGGER.info("Listed {} resource classes of packages {} from scan index {}, classpath not scanned", output.size(), acceptablePackages, index.getSources());
+        return output;
+    }
+
+    /**
+     * @return whether the class belongs to one of the packages or their subpackages, as filtered when scanning
+     */
+    private static boolean isInPackages(String className, Set<String> packages) {
+        int lastDot = className.lastIndexOf('.');
+        String packageName = lastDot < 0 ? "" : className.substring(0, lastDot);
+        for (String pkg : packages) {
+            if (packageName.equals(pkg) || packageName.startsWith(pkg + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected boolean isIgnored(String classOrPackageName) {
         if (StringUtils.isBlank(classOrPackageName)) {
             return true;
@@ -0,0 +1,399 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ScanResult;
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.Webhooks;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.ws.rs.ApplicationPath;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Index of the classes {@link JaxrsAnnotationScanner} looks for, written at build time by the Maven and Gradle
+ * plugins, so that the classpath doesn't need to be scanned at runtime.
+ *
+ * <p>The index is a UTF-8 text file located at {@value #LOCATION} listing, one per line, the classes annotated with
+ * {@code @Path}, {@code @OpenAPIDefinition}, {@code @Webhooks} or {@code @ApplicationPath}, each prefixed by the kind
+ * of annotation, then the packages of the indexed classpath and its elements, each with its number of files, size
+ * and last modification time, along with a SHA-256 checksum of these lines:</p>
+ *
+ * <pre>
+ * # OpenAPI JAX-RS scan index
+ * version=3
+ * checksum=...
+ * path com.example.PetResource
+ * application com.example.PetApplication
+ * package com.example
+ * package com.example.model
+ * input 42 81234 1700000000000 /home/me/project/target/classes
+ * </pre>
+ *
+ * <p>The packages tell which resource packages an index {@link #covers(String) covers}: an index shipped by a
+ * dependency doesn't cover the packages of the application, which are scanned instead.</p>
+ *
+ * <p>The inputs tell whether the index is stale: if an indexed classpath element still exists at its path and changed
+ * since the index was written, e.g. classes recompiled by an IDE without running the build, the index is ignored.
+ * Inputs missing at runtime, as in a packaged application, are not checked.</p>
+ *
+ * @since 2.2.43
+ */
+public class JaxrsScanIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JaxrsScanIndex.class);
+
+    public static final String LOCATION = "META-INF/swagger/jaxrs-scan.idx";
+
+    private static final String HEADER = "# OpenAPI JAX-RS scan index";
+    private static final String VERSION = "version=3";
+    private static final String PACKAGE_KEY = "package";
+    private static final String INPUT_KEY = "input";
+    private static final String CHECKSUM_PREFIX = "checksum=";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    public enum Kind {
+        PATH("path", javax.ws.rs.Path.class.getName()),
+        OPENAPI_DEFINITION("openapi", OpenAPIDefinition.class.getName()),
+        WEBHOOKS("webhooks", Webhooks.class.getName()),
+        APPLICATION_PATH("application", ApplicationPath.class.getName());
+
+        private final String key;
+        private final String annotation;
+
+        Kind(String key, String annotation) {
+            this.key = key;
+            this.annotation = annotation;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public String getAnnotation() {
+            return annotation;
+        }
+
+        static Kind fromKey(String key) {
+            for (Kind kind : values()) {
+                if (kind.key.equals(key)) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Map<Kind, Set<String>> classNames = new EnumMap<>(Kind.class);
+    private final Set<String> packages = new TreeSet<>();
+    private final Map<String, String> inputs = new TreeMap<>();
+    private final List<URL> sources = new ArrayList<>();
+
+    public JaxrsScanIndex() {
+        for (Kind kind : Kind.values()) {
+            classNames.put(kind, new TreeSet<>());
+        }
+    }
+
+    /**
+     * Builds the index of the given classpath.
+     *
+     * @param classpath the classpath elements, as accepted by {@link ClassGraph#overrideClasspath(Iterable)}
+     * @return the index
+     */
+    public static JaxrsScanIndex scan(Iterable<?> classpath) {
+        return scan(new ClassGraph().overrideClasspath(classpath));
+    }
+
+    /**
+     * Builds the index of the classpath of the given class loader, ignoring its parents.
+     *
+     * @param classLoader the class loader
+     * @return the index
+     */
+    public static JaxrsScanIndex scan(ClassLoader classLoader) {
+        return scan(new ClassGraph().overrideClassLoaders(classLoader).ignoreParentClassLoaders());
+    }
+
+    private static JaxrsScanIndex scan(ClassGraph graph) {
+        JaxrsScanIndex index = new JaxrsScanIndex();
+        for (File element : graph.getClasspathFiles()) {
+            index.addInput(element);
+        }
+        try (ScanResult scanResult = graph.enableClassInfo().enableAnnotationInfo().scan()) {
+            for (Kind kind : Kind.values()) {
+                for (ClassInfo classInfo : scanResult.getClassesWithAnnotation(kind.annotation)) {
+                    index.add(kind, classInfo.getName());
+                }
+            }
+            for (ClassInfo classInfo : scanResult.getAllClasses()) {
+                index.addPackage(classInfo.getPackageName());
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Loads and merges the indexes found on the classpath of the given class loader.
+     *
+     * @param classLoader the class loader
+     * @return the merged index, or null if no index was found or an index is invalid
+     */
+    public static JaxrsScanIndex load(ClassLoader classLoader) {
+        try {
+            Enumeration<URL> resources = classLoader.getResources(LOCATION);
+            if (!resources.hasMoreElements()) {
+                return null;
+            }
+            JaxrsScanIndex index = new JaxrsScanIndex();
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                try (InputStream in = resource.openStream()) {
+                    if (!index.read(in)) {
+                        LOGGER.warn("Ignoring scan index {}: unsupported version or checksum mismatch", resource);
+                        return null;
+                    }
+                }
+                index.sources.add(resource);
+            }
+            String changed = index.changedInput();
+            if (changed != null) {
+                LOGGER.info("Ignoring scan index {}: {} changed since it was written", index.sources, changed);
+                return null;
+            }
+            return index;
+        } catch (IOException e) {
+            LOGGER.warn("Failed to read scan index: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Adds a class with the given kind of annotation, and its package to the packages of the index.
+     */
+    public JaxrsScanIndex add(Kind kind, String className) {
+        classNames.get(kind).add(className);
+        int lastDot = className.lastIndexOf('.');
+        return addPackage(lastDot < 0 ? "" : className.substring(0, lastDot));
+    }
+
+    /**
+     * Adds a package of the indexed classpath.
+     */
+    public JaxrsScanIndex addPackage(String packageName) {
+        packages.add(packageName);
+        return this;
+    }
+
+    /**
+     * Adds an element of the indexed classpath, a directory or an archive, recording its state so that a later
+     * change makes the index stale.
+     */
+    public JaxrsScanIndex addInput(File element) {
+        String state = state(element.toPath());
+        if (state != null) {
+            inputs.put(element.getAbsolutePath(), state);
+        }
+        return this;
+    }
+
+    /**
+     * @return the first indexed classpath element which still exists and changed since it was indexed, or null
+     */
+    String changedInput() {
+        for (Map.Entry<String, String> input : inputs.entrySet()) {
+            String state = state(Paths.get(input.getKey()));
+            if (state != null && !state.equals(input.getValue())) {
+                return input.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of files, the size and the last modification time of the given classpath element, the
+     * index itself excluded, or null if it doesn't exist or can't be read
+     */
+    private static String state(Path element) {
+        if (Files.isRegularFile(element)) {
+            return 1 + " " + element.toFile().length() + " " + element.toFile().lastModified();
+        }
+        if (!Files.isDirectory(element)) {
+            return null;
+        }
+        Path index = element.resolve(LOCATION);
+        long[] state = new long[3];
+        try (Stream<Path> files = Files.walk(element)) {
+            files.filter(file -> Files.isRegularFile(file) && !file.equals(index)).forEach(file -> {
+                state[0]++;
+                state[1] += file.toFile().length();
+                state[2] = Math.max(state[2], file.toFile().lastModified());
+            });
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.debug("Failed to read classpath element {}: {}", element, e.getMessage());
+            return null;
+        }
+        return state[0] + " " + state[1] + " " + state[2];
+    }
+
+    /**
+     * @return the sorted packages of the indexed classpath
+     */
+    public Set<String> getPackages() {
+        return Collections.unmodifiableSet(packages);
+    }
+
+    /**
+     * @return whether the indexed classpath holds the given package or one of its subpackages
+     */
+    public boolean covers(String packageName) {
+        for (String indexed : packages) {
+            if (indexed.equals(packageName) || indexed.startsWith(packageName + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the locations of the index files merged into this index, if {@link #load(ClassLoader) loaded}
+     */
+    public List<URL> getSources() {
+        return Collections.unmodifiableList(sources);
+    }
+
+    /**
+     * @return the sorted names of the classes with the given kind of annotation
+     */
+    public Set<String> getClassNames(Kind kind) {
+        return Collections.unmodifiableSet(classNames.get(kind));
+    }
+
+    /**
+     * Writes the index to {@value #LOCATION} under the given directory.
+     *
+     * @param directory the root directory, typically the directory of the compiled classes
+     * @return the written file
+     * @throws IOException if writing fails
+     */
+    public Path writeTo(Path directory) throws IOException {
+        Path file = directory.resolve(LOCATION);
+        Files.createDirectories(file.getParent());
+        List<String> entries = entries();
+        List<String> lines = new ArrayList<>(entries.size() + 3);
+        lines.add(HEADER);
+        lines.add(VERSION);
+        lines.add(CHECKSUM_PREFIX + checksum(entries));
+        lines.addAll(entries);
+        Files.write(file, lines, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private boolean read(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String checksum = null;
+        boolean versionFound = false;
+        List<String> entries = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (StringUtils.isBlank(line) || line.startsWith("#")) {
+                continue;
+            }
+            if (line.startsWith("version=")) {
+                versionFound = VERSION.equals(line);
+                if (!versionFound) {
+                    return false;
+                }
+            } else if (line.startsWith(CHECKSUM_PREFIX)) {
+                checksum = line.substring(CHECKSUM_PREFIX.length());
+            } else {
+                entries.add(line);
+            }
+        }
+        if (!versionFound || !checksum(entries).equals(checksum)) {
+            return false;
+        }
+        for (String entry : entries) {
+            int separator = entry.indexOf(' ');
+            String key = separator < 0 ? null : entry.substring(0, separator);
+            if (PACKAGE_KEY.equals(key)) {
+                addPackage(entry.substring(separator + 1));
+                continue;
+            }
+            if (INPUT_KEY.equals(key)) {
+                // number of files, size and last modification time, then the path which may hold spaces
+                String[] input = entry.substring(separator + 1).split(" ", 4);
+                if (input.length < 4) {
+                    return false;
+                }
+                inputs.put(input[3], input[0] + " " + input[1] + " " + input[2]);
+                continue;
+            }
+            Kind kind = key == null ? null : Kind.fromKey(key);
+            if (kind == null) {
+                return false;
+            }
+            add(kind, entry.substring(separator + 1));
+        }
+        return true;
+    }
+
+    private List<String> entries() {
+        List<String> entries = new ArrayList<>();
+        for (Map.Entry<Kind, Set<String>> entry : classNames.entrySet()) {
+            for (String className : entry.getValue()) {
+                entries.add(entry.getKey().key + " " + className);
+            }
+        }
+        for (String packageName : packages) {
+            entries.add(PACKAGE_KEY + " " + packageName);
+        }
+        for (Map.Entry<String, String> input : inputs.entrySet()) {
+            entries.add(INPUT_KEY + " " + input.getValue() + " " + input.getKey());
+        }
+        return entries;
+    }
+
+    private static String checksum(List<String> entries) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String entry : entries) {
+                digest.update(entry.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            byte[] hash = digest.digest();
+            char[] chars = new char[hash.length * 2];
+            for (int i = 0; i < hash.length; i++) {
+                chars[i * 2] = HEX[(hash[i] >> 4) & 0xf];
+                chars[i * 2 + 1] = HEX[hash[i] & 0xf];
+            }
+            return new String(chars);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
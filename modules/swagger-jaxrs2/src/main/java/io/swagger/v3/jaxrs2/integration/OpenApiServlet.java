@@ -1,11 +1,10 @@
 package io.swagger.v3.jaxrs2.integration;
 
-import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
-import io.swagger.v3.core.filter.OpenAPISpecFilter;
-import io.swagger.v3.core.filter.SpecFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.jaxrs2.util.ServletUtils;
 import io.swagger.v3.oas.integration.OpenApiConfigurationException;
 import io.swagger.v3.oas.integration.OpenApiContextLocator;
+import io.swagger.v3.oas.integration.SerializedOpenApi;
 import io.swagger.v3.oas.integration.api.OpenApiContext;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.apache.commons.lang3.StringUtils;
@@ -18,7 +17,7 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.OutputStream;
 
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getContextIdFromServletConfig;
 
@@ -29,6 +28,16 @@ public class OpenApiServlet extends HttpServlet {
     public static final String APPLICATION_JSON = "application/json";
     public static final String APPLICATION_YAML = "application/yaml";
     public static final String ACCEPT_HEADER = "Accept";
+    public static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    public static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    public static final String ETAG_HEADER = "ETag";
+    public static final String VARY_HEADER = "Vary";
+    public static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    public static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    private volatile OpenApiContext openApiContext;
+    // whether openApiContext has been built by this servlet, rather than found registered with the same id
+    private volatile boolean openApiContextCreated;
 
     @Override
     public void init(ServletConfig config) throws ServletException {
@@ -36,35 +45,72 @@ public class OpenApiServlet extends HttpServlet {
         super.init(config);
         String ctxId = getContextIdFromServletConfig(config);
         try {
-            new ServletOpenApiContextBuilder()
-                    .servletConfig(config)
-                    .ctxId(ctxId)
-                    .buildContext(true);
+            buildOpenApiContext(config, ctxId);
         } catch (OpenApiConfigurationException e) {
             LOGGER.error("Failed to initialize OpenAPI servlet context", e);
         }
     }
 
+    /**
+     * Removes the context built by this servlet from {@link OpenApiContextLocator}, so that undeployed applications
+     * don't keep their OpenAPI in containers sharing the swagger classes across deployments. A context found
+     * registered, e.g. by another servlet or an initializer, is left registered.
+     */
+    @Override
+    public void destroy() {
+        OpenApiContext ctx = openApiContext;
+        if (ctx != null && openApiContextCreated) {
+            OpenApiContextLocator.getInstance().removeOpenApiContext(getContextIdFromServletConfig(getServletConfig()), ctx);
+        }
+        openApiContext = null;
+        openApiContextCreated = false;
+        super.destroy();
+    }
+
+    /**
+     * Returns the context registered with the given id, or else builds, initializes and registers a new one, recording
+     * whether it has been built by this servlet.
+     */
+    private OpenApiContext buildOpenApiContext(ServletConfig config, String ctxId) throws OpenApiConfigurationException {
+        OpenApiContext ctx = new ServletOpenApiContextBuilder()
+                .servletConfig(config)
+                .ctxId(ctxId)
+                .buildContext(false);
+        boolean created = OpenApiContextLocator.getInstance().getOpenApiContext(ctxId) != ctx;
+        if (created) {
+            ctx.init(); // includes registering itself with OpenApiContextLocator
+        }
+        openApiContext = ctx;
+        openApiContextCreated = created;
+        return ctx;
+    }
+
+    /**
+     * @return the context of this servlet, built again if it has been removed from {@link OpenApiContextLocator}
+     */
+    private OpenApiContext getOpenApiContext(String ctxId) throws ServletException {
+        OpenApiContext ctx = OpenApiContextLocator.getInstance().getOpenApiContext(ctxId);
+        if (ctx != null) {
+            return ctx;
+        }
+        try {
+            return buildOpenApiContext(getServletConfig(), ctxId);
+        } catch (OpenApiConfigurationException e) {
+            throw new ServletException("Failed to initialize OpenAPI servlet context", e);
+        }
+    }
+
     // TODO move to own servlet non jaxrs project and reference from there
     // TODO cleanup and errors
     @Override
     protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
 
         String ctxId = getContextIdFromServletConfig(getServletConfig());
-        OpenApiContext ctx = OpenApiContextLocator.getInstance().getOpenApiContext(ctxId);
-        OpenAPI oas = ctx.read();
-
-        if (oas != null && ctx.getOpenApiConfiguration() != null) {
-            if (ctx.getOpenApiConfiguration().getFilterClass() != null) {
-                try {
-                    OpenAPISpecFilter filterImpl = (OpenAPISpecFilter) Class.forName(ctx.getOpenApiConfiguration().getFilterClass()).newInstance();
-                    SpecFilter f = new SpecFilter();
-                    oas = f.filter(oas, filterImpl, ServletUtils.getQueryParams(req.getParameterMap()),
-                            ServletUtils.getCookies(req.getCookies()), ServletUtils.getHeaders(req));
-                } catch (Exception e) {
-                    LOGGER.error("failed to load filter", e);
-                }
-            }
+        OpenApiContext ctx = getOpenApiContext(ctxId);
+        if (!ctx.awaitReady()) {
+            resp.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            resp.setHeader(RETRY_AFTER_HEADER, String.valueOf(OpenApiContext.WARM_UP_RETRY_AFTER_SECONDS));
+            return;
         }
 
         String type = "json";
@@ -80,20 +126,77 @@ public class OpenApiServlet extends HttpServlet {
         }
 
         boolean pretty = ctx.getOpenApiConfiguration() != null && Boolean.TRUE.equals(ctx.getOpenApiConfiguration().isPrettyPrint());
+        SerializedOpenApi.Format format = type.equalsIgnoreCase("yaml") ? SerializedOpenApi.Format.YAML : SerializedOpenApi.Format.JSON;
+
+        if (ctx.getOpenApiConfiguration() != null && Boolean.TRUE.equals(ctx.getOpenApiConfiguration().isStreamOutput())) {
+            writeStreamed(ctx, format, pretty, req, resp);
+            return;
+        }
+
+        SerializedOpenApi document;
+        if (ctx.getOpenApiConfiguration() != null && ctx.getOpenApiConfiguration().getFilterClass() != null) {
+            document = ctx.readSerialized(format, pretty, ServletUtils.getQueryParams(req.getParameterMap()),
+                    ServletUtils.getCookies(req.getCookies()), ServletUtils.getHeaders(req));
+        } else {
+            document = ctx.readSerialized(format, pretty);
+        }
+
+        if (document == null) {
+            resp.setStatus(404);
+            return;
+        }
+
+        boolean gzip = SerializedOpenApi.acceptsGzip(req.getHeader(ACCEPT_ENCODING_HEADER));
+        resp.setHeader(ETAG_HEADER, gzip ? document.getGzipETag() : document.getETag());
+        resp.setHeader(VARY_HEADER, ACCEPT_ENCODING_HEADER);
+        if (document.matches(req.getHeader(IF_NONE_MATCH_HEADER))) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
 
         resp.setStatus(200);
+        resp.setContentType(format.getMediaType());
+        resp.setCharacterEncoding("UTF-8");
+        byte[] body = gzip ? document.getGzippedBytes() : document.getBytes();
+        if (gzip) {
+            resp.setHeader(CONTENT_ENCODING_HEADER, "gzip");
+        }
+        resp.setContentLength(body.length);
+        try (OutputStream out = resp.getOutputStream()) {
+            out.write(body);
+        }
+    }
 
-        if (type.equalsIgnoreCase("yaml")) {
-            resp.setContentType(APPLICATION_YAML);
-            try (PrintWriter pw = resp.getWriter()) {
-                pw.write(pretty ? ctx.getOutputYamlMapper().writer(new DefaultPrettyPrinter()).writeValueAsString(oas) : ctx.getOutputYamlMapper().writeValueAsString(oas));
-            }
+    /**
+     * Serializes the document straight to the response output stream, see
+     * {@link io.swagger.v3.oas.integration.api.OpenAPIConfiguration#isStreamOutput()}.
+     */
+    private void writeStreamed(OpenApiContext ctx, SerializedOpenApi.Format format, boolean pretty,
+                               HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        OpenAPI openAPI;
+        if (ctx.getOpenApiConfiguration().getFilterClass() != null) {
+            openAPI = ctx.read(ServletUtils.getQueryParams(req.getParameterMap()),
+                    ServletUtils.getCookies(req.getCookies()), ServletUtils.getHeaders(req));
         } else {
-            resp.setContentType(APPLICATION_JSON);
-            try (PrintWriter pw = resp.getWriter()) {
-                pw.write(pretty ? ctx.getOutputJsonMapper().writer(new DefaultPrettyPrinter()).writeValueAsString(oas) : ctx.getOutputJsonMapper().writeValueAsString(oas));
-            }
+            openAPI = ctx.read();
         }
 
+        if (openAPI == null) {
+            resp.setStatus(404);
+            return;
+        }
+
+        boolean gzip = SerializedOpenApi.acceptsGzip(req.getHeader(ACCEPT_ENCODING_HEADER));
+        resp.setStatus(200);
+        resp.setContentType(format.getMediaType());
+        resp.setCharacterEncoding("UTF-8");
+        resp.setHeader(VARY_HEADER, ACCEPT_ENCODING_HEADER);
+        if (gzip) {
+            resp.setHeader(CONTENT_ENCODING_HEADER, "gzip");
+        }
+        ObjectMapper mapper = format == SerializedOpenApi.Format.YAML ? ctx.getOutputYamlMapper() : ctx.getOutputJsonMapper();
+        try (OutputStream out = resp.getOutputStream()) {
+            SerializedOpenApi.write(openAPI, mapper, pretty, gzip, out);
+        }
     }
 }
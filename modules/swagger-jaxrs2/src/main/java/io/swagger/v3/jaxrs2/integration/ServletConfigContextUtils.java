@@ -2,15 +2,21 @@ package io.swagger.v3.jaxrs2.integration;
 
 import io.swagger.v3.oas.integration.api.OpenApiContext;
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.servlet.ServletConfig;
+import javax.servlet.ServletContext;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class ServletConfigContextUtils {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ServletConfigContextUtils.class);
+
     public static final String OPENAPI_CONFIGURATION_RESOURCEPACKAGE_KEY = "openApi.configuration.resourcePackages";
     public static final String OPENAPI_CONFIGURATION_LOCATION_KEY = "openApi.configuration.location";
     public static final String JERSEY1_PACKAGE_KEY = "com.sun.jersey.config.property.packages";
@@ -83,6 +89,31 @@ public class ServletConfigContextUtils {
      */
     public static final String OPENAPI_CONFIGURATION_OPENAPI_VERSION_KEY = "openApi.configuration.openAPIVersion";
 
+    /**
+     * @since 2.2.43
+     */
+    public static final String OPENAPI_CONFIGURATION_READ_PARALLELISM_KEY = "openApi.configuration.readParallelism";
+
+    /**
+     * @since 2.2.43
+     */
+    public static final String OPENAPI_CONFIGURATION_STREAM_OUTPUT_KEY = "openApi.configuration.streamOutput";
+
+    /**
+     * @since 2.2.43
+     */
+    public static final String OPENAPI_CONFIGURATION_USE_SCAN_INDEX_KEY = "openApi.configuration.useScanIndex";
+
+    /**
+     * @since 2.2.43
+     */
+    public static final String OPENAPI_CONFIGURATION_WARM_UP_KEY = "openApi.configuration.warmUp";
+
+    /**
+     * @since 2.2.43
+     */
+    public static final String OPENAPI_CONFIGURATION_WARM_UP_TIMEOUT_KEY = "openApi.configuration.warmUpTimeout";
+
 
     public static Set<String> resolveResourcePackages(ServletConfig servletConfig) {
         if (!isServletConfigAvailable(servletConfig)) {
@@ -155,25 +186,65 @@ public class ServletConfigContextUtils {
     }
 
     public static Boolean getBooleanInitParam(ServletConfig sc, String paramKey) {
-        String param = getInitParam(sc, paramKey);
+        return toBoolean(getInitParam(sc, paramKey));
+    }
+
+    public static Long getLongInitParam(ServletConfig sc, String paramKey) {
+        return toNumber(paramKey, getInitParam(sc, paramKey), Long::valueOf);
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public static String getInitParam(ServletContext sc, String paramKey) {
+        if (sc == null) {
+            return null;
+        }
+        return sc.getInitParameter(paramKey);
+    }
+
+    /**
+     * @since 2.2.43
+     */
+    public static Boolean getBooleanInitParam(ServletContext sc, String paramKey) {
+        return toBoolean(getInitParam(sc, paramKey));
+    }
+
+    /**
+     * @return the value of the parameter, or null if missing or not a number, in which case it is logged
+     * @since 2.2.43
+     */
+    public static Long getLongInitParam(ServletContext sc, String paramKey) {
+        return toNumber(paramKey, getInitParam(sc, paramKey), Long::valueOf);
+    }
+
+    private static Boolean toBoolean(String param) {
         if (StringUtils.isBlank(param)) {
             return null;
         }
-        return Boolean.parseBoolean(param);
+        return Boolean.parseBoolean(param.trim());
     }
 
-    public static Long getLongInitParam(ServletConfig sc, String paramKey) {
-        String param = getInitParam(sc, paramKey);
+    private static <N extends Number> N toNumber(String paramKey, String param, Function<String, N> parser) {
         if (StringUtils.isBlank(param)) {
             return null;
         }
         try {
-            return Long.parseLong(param);
+            return parser.apply(param.trim());
         } catch (NumberFormatException e) {
+            LOGGER.warn("ignoring invalid value '{}' of init parameter {}, expected a number", param, paramKey);
             return null;
         }
     }
 
+    /**
+     * @return the value of the parameter, or null if missing or not a number, in which case it is logged
+     * @since 2.2.43
+     */
+    public static Integer getIntegerInitParam(ServletConfig sc, String paramKey) {
+        return toNumber(paramKey, getInitParam(sc, paramKey), Integer::valueOf);
+    }
+
     public static String getContextIdFromServletConfig(ServletConfig config) {
 
         String ctxId = null;
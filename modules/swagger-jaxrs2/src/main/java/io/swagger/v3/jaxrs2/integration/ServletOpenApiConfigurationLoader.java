@@ -30,11 +30,17 @@ import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_SCANNER_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_SCHEMA_RESOLUTION_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_OPENAPI_VERSION_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_READ_PARALLELISM_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_STREAM_OUTPUT_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_USE_SCAN_INDEX_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_WARM_UP_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_WARM_UP_TIMEOUT_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_SKIPRESOLVEAPPPATH_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_SORTOUTPUT_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_ALWAYSRESOLVEAPPPATH_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getBooleanInitParam;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getInitParam;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getIntegerInitParam;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getLongInitParam;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.resolveModelConverterClasses;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.resolveResourceClasses;
@@ -76,6 +82,11 @@ public class ServletOpenApiConfigurationLoader implements OpenApiConfigurationLo
                     .validatorProcessorClass(getInitParam(servletConfig, OPENAPI_CONFIGURATION_VALIDATOR_PROCESSOR_CLASS))
                     .openAPI31(getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_OPENAPI_31_KEY))
                     .convertToOpenAPI31(getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_CONVERT_TO_OPENAPI_31_KEY))
+                    .readParallelism(getIntegerInitParam(servletConfig, OPENAPI_CONFIGURATION_READ_PARALLELISM_KEY))
+                    .streamOutput(getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_STREAM_OUTPUT_KEY))
+                    .useScanIndex(getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_USE_SCAN_INDEX_KEY))
+                    .warmUp(getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_WARM_UP_KEY))
+                    .warmUpTimeout(getLongInitParam(servletConfig, OPENAPI_CONFIGURATION_WARM_UP_TIMEOUT_KEY))
                     .modelConverterClasses(resolveModelConverterClasses(servletConfig));
             if (getInitParam(servletConfig, OPENAPI_CONFIGURATION_SCHEMA_RESOLUTION_KEY) != null) {
                 configuration.schemaResolution(Schema.SchemaResolution.valueOf(getInitParam(servletConfig, OPENAPI_CONFIGURATION_SCHEMA_RESOLUTION_KEY)));
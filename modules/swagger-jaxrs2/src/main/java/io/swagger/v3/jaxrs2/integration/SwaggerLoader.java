@@ -6,14 +6,15 @@ import io.swagger.v3.core.filter.SpecFilter;
 import io.swagger.v3.core.util.Configuration;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
-import io.swagger.v3.oas.integration.GenericOpenApiContextBuilder;
 import io.swagger.v3.oas.integration.OpenApiConfigurationException;
+import io.swagger.v3.oas.integration.OpenApiContextLocator;
 import io.swagger.v3.oas.integration.SwaggerConfiguration;
 import io.swagger.v3.oas.integration.api.OpenApiContext;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
 import org.apache.commons.lang3.StringUtils;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -59,6 +60,8 @@ public class SwaggerLoader {
 
     private String openAPIVersion;
 
+    private String scanIndexDirectory;
+
     /**
      * @since 2.0.6
      */
@@ -318,6 +321,23 @@ public class SwaggerLoader {
         this.openAPIVersion = openAPIVersion;
     }
 
+    /**
+     *  @since 2.2.43
+     */
+    public String getScanIndexDirectory() {
+        return scanIndexDirectory;
+    }
+
+    /**
+     * Sets the directory the scan index of the classpath of this loader is written to on {@link #resolve()}, see
+     * {@link JaxrsScanIndex}
+     *
+     *  @since 2.2.43
+     */
+    public void setScanIndexDirectory(String scanIndexDirectory) {
+        this.scanIndexDirectory = scanIndexDirectory;
+    }
+
     public Map<String, String> resolve() throws Exception{
 
         Set<String> ignoredRoutesSet = null;
@@ -378,13 +398,17 @@ public class SwaggerLoader {
             config.openAPIVersion(openAPIVersion);
         }
         try {
-            GenericOpenApiContextBuilder builder = new JaxrsOpenApiContextBuilder()
-                    .openApiConfiguration(config);
-            if (StringUtils.isNotBlank(contextId)) {
-                builder.ctxId(contextId);
-            }
-
-            OpenApiContext context = builder.buildContext(true);
+            // a new context rather than the one registered with the same id, which may have been built with another
+            // configuration when the class loader is reused across resolutions; the root context stays its parent,
+            // as with JaxrsOpenApiContextBuilder, unless it is the previous context of the same id
+            String ctxId = StringUtils.isNotBlank(contextId) ? contextId : OpenApiContext.OPENAPI_CONTEXT_ID_DEFAULT;
+            OpenApiContext rootCtx = OpenApiContext.OPENAPI_CONTEXT_ID_DEFAULT.equals(ctxId) ? null :
+                    OpenApiContextLocator.getInstance().getOpenApiContext(OpenApiContext.OPENAPI_CONTEXT_ID_DEFAULT);
+            OpenApiContext context = new XmlWebOpenApiContext()
+                    .openApiConfiguration(config)
+                    .id(ctxId)
+                    .parent(rootCtx)
+                    .init();
             OpenAPI openAPI = context.read();
             if (StringUtils.isNotBlank(filterClass)) {
                 try {
@@ -413,6 +437,9 @@ public class SwaggerLoader {
                     openapiYaml = context.getOutputYamlMapper().writeValueAsString(openAPI);
                 }
             }
+            if (StringUtils.isNotBlank(scanIndexDirectory)) {
+                JaxrsScanIndex.scan(getClass().getClassLoader()).writeTo(Paths.get(scanIndexDirectory));
+            }
             Map<String, String> map = new HashMap<>();
             map.put("JSON", openapiJson);
             map.put("YAML", openapiYaml);
@@ -1,15 +1,12 @@
 package io.swagger.v3.jaxrs2.integration.resources;
 
-import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
-import io.swagger.v3.core.filter.OpenAPISpecFilter;
-import io.swagger.v3.core.filter.SpecFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.jaxrs2.integration.JaxrsOpenApiContextBuilder;
+import io.swagger.v3.oas.integration.SerializedOpenApi;
 import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
 import io.swagger.v3.oas.integration.api.OpenApiContext;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.apache.commons.lang3.StringUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import javax.servlet.ServletConfig;
 import javax.ws.rs.core.Application;
@@ -17,6 +14,7 @@ import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import java.util.HashMap;
 import java.util.List;
@@ -27,8 +25,6 @@ import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getCont
 
 public abstract class BaseOpenApiResource {
 
-    private static Logger LOGGER = LoggerFactory.getLogger(BaseOpenApiResource.class);
-
     protected String getContextId(ServletConfig config) {
         return getContextIdFromServletConfig(config);
     }
@@ -48,41 +44,82 @@ public abstract class BaseOpenApiResource {
                 .openApiConfiguration(openApiConfiguration)
                 .ctxId(ctxId)
                 .buildContext(true);
-        OpenAPI oas = ctx.read();
+        if (!ctx.awaitReady()) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, OpenApiContext.WARM_UP_RETRY_AFTER_SECONDS)
+                    .build();
+        }
         boolean pretty = ctx.getOpenApiConfiguration() != null && Boolean.TRUE.equals(ctx.getOpenApiConfiguration().isPrettyPrint());
+        SerializedOpenApi.Format format = StringUtils.isNotBlank(type) && type.trim().equalsIgnoreCase("yaml") ?
+                SerializedOpenApi.Format.YAML :
+                SerializedOpenApi.Format.JSON;
+
+        if (ctx.getOpenApiConfiguration() != null && Boolean.TRUE.equals(ctx.getOpenApiConfiguration().isStreamOutput())) {
+            return getStreamedOpenApi(ctx, headers, uriInfo, format, pretty);
+        }
 
-        if (oas != null && ctx.getOpenApiConfiguration() != null) {
-            if (ctx.getOpenApiConfiguration().getFilterClass() != null) {
-                try {
-                    OpenAPISpecFilter filterImpl = (OpenAPISpecFilter) Class.forName(ctx.getOpenApiConfiguration().getFilterClass()).newInstance();
-                    SpecFilter f = new SpecFilter();
-                    oas = f.filter(oas, filterImpl, getQueryParams(uriInfo.getQueryParameters()), getCookies(headers),
-                            getHeaders(headers));
-                } catch (Exception e) {
-                    LOGGER.error("failed to load filter", e);
-                }
-            }
+        SerializedOpenApi document;
+        if (ctx.getOpenApiConfiguration() != null && ctx.getOpenApiConfiguration().getFilterClass() != null) {
+            document = ctx.readSerialized(format, pretty, getQueryParams(uriInfo.getQueryParameters()), getCookies(headers),
+                    getHeaders(headers));
+        } else {
+            document = ctx.readSerialized(format, pretty);
         }
 
-        if (oas == null) {
+        if (document == null) {
             return Response.status(404).build();
         }
 
-        if (StringUtils.isNotBlank(type) && type.trim().equalsIgnoreCase("yaml")) {
-            return Response.status(Response.Status.OK)
-                    .entity(pretty ?
-                            ctx.getOutputYamlMapper().writer(new DefaultPrettyPrinter()).writeValueAsString(oas) :
-                            ctx.getOutputYamlMapper().writeValueAsString(oas))
-                    .type("application/yaml")
+        boolean gzip = headers != null && SerializedOpenApi.acceptsGzip(headers.getHeaderString(HttpHeaders.ACCEPT_ENCODING));
+        String eTag = gzip ? document.getGzipETag() : document.getETag();
+        if (headers != null && document.matches(headers.getHeaderString(HttpHeaders.IF_NONE_MATCH))) {
+            return Response.notModified()
+                    .header(HttpHeaders.ETAG, eTag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
                     .build();
+        }
+        Response.ResponseBuilder response = Response.status(Response.Status.OK)
+                .entity(gzip ? document.getGzippedBytes() : document.getBytes())
+                .type(format == SerializedOpenApi.Format.YAML ? "application/yaml" : MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.ETAG, eTag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.build();
+    }
+
+    /**
+     * Returns a response serializing the document straight to the response output stream, see
+     * {@link OpenAPIConfiguration#isStreamOutput()}.
+     */
+    private Response getStreamedOpenApi(OpenApiContext ctx,
+                                        HttpHeaders headers,
+                                        UriInfo uriInfo,
+                                        SerializedOpenApi.Format format,
+                                        boolean pretty) {
+        OpenAPI openAPI;
+        if (ctx.getOpenApiConfiguration().getFilterClass() != null) {
+            openAPI = ctx.read(getQueryParams(uriInfo.getQueryParameters()), getCookies(headers), getHeaders(headers));
         } else {
-            return Response.status(Response.Status.OK)
-                    .entity(pretty ?
-                            ctx.getOutputJsonMapper().writer(new DefaultPrettyPrinter()).writeValueAsString(oas) :
-                            ctx.getOutputJsonMapper().writeValueAsString(oas))
-                    .type(MediaType.APPLICATION_JSON_TYPE)
-                    .build();
+            openAPI = ctx.read();
+        }
+
+        if (openAPI == null) {
+            return Response.status(404).build();
+        }
+
+        boolean gzip = headers != null && SerializedOpenApi.acceptsGzip(headers.getHeaderString(HttpHeaders.ACCEPT_ENCODING));
+        ObjectMapper mapper = format == SerializedOpenApi.Format.YAML ? ctx.getOutputYamlMapper() : ctx.getOutputJsonMapper();
+        StreamingOutput entity = out -> SerializedOpenApi.write(openAPI, mapper, pretty, gzip, out);
+        Response.ResponseBuilder response = Response.status(Response.Status.OK)
+                .entity(entity)
+                .type(format == SerializedOpenApi.Format.YAML ? "application/yaml" : MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
         }
+        return response.build();
     }
 
     private static Map<String, List<String>> getQueryParams(MultivaluedMap<String, String> params) {
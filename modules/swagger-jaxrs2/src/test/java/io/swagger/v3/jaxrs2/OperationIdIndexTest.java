@@ -0,0 +1,48 @@
+package io.swagger.v3.jaxrs2;
+
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import org.testng.annotations.Test;
+
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class OperationIdIndexTest {
+
+    @Test(description = "it should return the first free suffixed operation id")
+    public void nextFreeOperationId() {
+        Paths paths = new Paths()
+                .addPathItem("/a", new PathItem().get(new Operation().operationId("find")).post(new Operation().operationId("find_1")))
+                .addPathItem("/b", new PathItem().get(new Operation().operationId("find_3")).trace(new Operation().operationId("traced")));
+        OperationIdIndex index = new OperationIdIndex(paths);
+
+        assertEquals(index.nextFree("other"), "other");
+        assertEquals(index.nextFree("traced"), "traced");
+        assertEquals(index.nextFree("find"), "find_2");
+
+        PathItem pathItem = new PathItem().get(new Operation().operationId("find_2"));
+        paths.addPathItem("/c", pathItem);
+        index.add(OperationIdIndex.operationIdsOf(pathItem));
+        assertEquals(index.nextFree("find"), "find_4");
+    }
+
+    @Test(description = "it should reuse operation ids freed by replaced operations")
+    public void updateOperationIds() {
+        PathItem pathItem = new PathItem().get(new Operation().operationId("find")).post(new Operation().operationId("find_1"));
+        Paths paths = new Paths().addPathItem("/a", pathItem);
+        OperationIdIndex index = new OperationIdIndex(paths);
+        assertEquals(index.nextFree("find"), "find_2");
+
+        Set<String> previous = OperationIdIndex.operationIdsOf(pathItem);
+        pathItem.post(new Operation().operationId("create"));
+        index.update(previous, OperationIdIndex.operationIdsOf(pathItem));
+
+        assertFalse(index.contains("find_1"));
+        assertTrue(index.contains("create"));
+        assertEquals(index.nextFree("find"), "find_1");
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.core.converter.AnnotatedType;
 import io.swagger.v3.core.converter.ModelConverter;
+import io.swagger.v3.core.converter.ModelConverterContext;
 import io.swagger.v3.core.converter.ModelConverterContextImpl;
 import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.converter.ResolvedSchema;
@@ -15,6 +16,7 @@ import io.swagger.v3.core.model.ApiDescription;
 import io.swagger.v3.core.util.Configuration;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.PrimitiveType;
+import io.swagger.v3.jaxrs2.integration.JaxrsOpenApiContext;
 import io.swagger.v3.jaxrs2.matchers.SerializationMatchers;
 import io.swagger.v3.jaxrs2.petstore31.PetResource;
 import io.swagger.v3.jaxrs2.petstore31.TagResource;
@@ -87,6 +89,7 @@ import io.swagger.v3.jaxrs2.resources.Ticket4065Resource;
 import io.swagger.v3.jaxrs2.resources.Ticket4341Resource;
 import io.swagger.v3.jaxrs2.resources.Ticket4412Resource;
 import io.swagger.v3.jaxrs2.resources.Ticket4446Resource;
+import io.swagger.v3.jaxrs2.resources.RecursiveArrayResources;
 import io.swagger.v3.jaxrs2.resources.Ticket4483Resource;
 import io.swagger.v3.jaxrs2.resources.Ticket4804CustomClass;
 import io.swagger.v3.jaxrs2.resources.Ticket4804NotBlankResource;
@@ -114,7 +117,10 @@ import io.swagger.v3.jaxrs2.resources.generics.ticket3694.Ticket3694ResourceSimp
 import io.swagger.v3.jaxrs2.resources.rs.ProcessTokenRestService;
 import io.swagger.v3.jaxrs2.resources.ticket3624.Service;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.integration.OpenApiContextLocator;
 import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import io.swagger.v3.oas.integration.api.OpenApiContext;
+import io.swagger.v3.oas.integration.api.OpenApiReader;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.ExternalDocumentation;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -150,15 +156,23 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -308,6 +322,33 @@ public class ReaderTest {
 
     }
 
+    @Test(description = "Duplicated operation ids are resolved against the operations added by reader listeners")
+    public void testResolveDuplicatedOperationIdWithListenerOperations() {
+        Set<Class<?>> classes = new HashSet<>(Arrays.asList(DuplicatedOperationMethodNameResource.class, OperationsAddingListener.class));
+        Reader reader = new Reader(new OpenAPI());
+        OpenAPI openAPI = reader.read(classes);
+
+        Paths paths = openAPI.getPaths();
+        assertEquals(paths.get("/listener").getGet().getOperationId(), "getSummaryAndDescription3");
+        assertEquals(paths.get("/listener").getPost().getOperationId(), "getSummaryAndDescription3_1");
+        assertEquals(paths.get("/3").getGet().getOperationId(), "getSummaryAndDescription3_2");
+        assertEquals(paths.get("/4").getGet().getOperationId(), "getSummaryAndDescription3_3");
+        assertEquals(paths.get("/3").getPost().getOperationId(), "postSummaryAndDescription3_1");
+    }
+
+    public static class OperationsAddingListener implements ReaderListener {
+        @Override
+        public void beforeScan(OpenApiReader reader, OpenAPI openAPI) {
+            openAPI.path("/listener", new PathItem()
+                    .get(new Operation().operationId("getSummaryAndDescription3"))
+                    .post(new Operation().operationId("getSummaryAndDescription3_1")));
+        }
+
+        @Override
+        public void afterScan(OpenApiReader reader, OpenAPI openAPI) {
+        }
+    }
+
     @Test(description = "Test a Set of classes")
     public void testSetOfClasses() {
         Set<Class<?>> classes = new HashSet<>();
@@ -326,6 +367,89 @@ public class ReaderTest {
         assertEquals(SECURITY_SCHEMAS, securitySchemes.size());
     }
 
+    @Test(description = "Parallel read of a set of classes produces the same definition as the sequential read")
+    public void testParallelReadOfClasses() {
+        Set<Class<?>> classes = new HashSet<>(Arrays.asList(
+                SecurityResource.class, DuplicatedSecurityResource.class, DuplicatedOperationIdResource.class,
+                DuplicatedOperationMethodNameResource.class, SimpleMethods.class, TestResource.class,
+                TagsResource.class, ServersResource.class, WebHookResource.class, ResourceWithSubResource.class,
+                ClassPathParentResource.class, ResponsesResource.class, SimpleResponsesResource.class,
+                SimpleParameterResource.class, RefResponsesResource.class, RefParameterResource.class,
+                SimpleCallbackResource.class, CompleteFieldsResource.class, UploadResource.class,
+                Ticket2644ConcreteImplementation.class, Ticket2763Resource.class, Ticket4483Resource.class,
+                io.swagger.v3.jaxrs2.resources.ReaderListenerResource.class));
+
+        String sequential = Json.pretty(new Reader(new OpenAPI()).read(classes));
+
+        Reader parallel = new Reader(new SwaggerConfiguration().openAPI(new OpenAPI()).readParallelism(4));
+        assertEquals(Json.pretty(parallel.read(classes)), sequential);
+
+        Reader executorReader = new Reader(new OpenAPI());
+        executorReader.setReadExecutor(Runnable::run);
+        assertEquals(Json.pretty(executorReader.read(classes)), sequential);
+    }
+
+    @Test(description = "Parallel read resolves models with the converter chain bound to the reading thread")
+    public void testParallelReadWithBoundConverters() {
+        Set<Class<?>> classes = new HashSet<>(Arrays.asList(
+                io.swagger.v3.jaxrs2.resources.PetResource.class, io.swagger.v3.jaxrs2.resources.UserResource.class,
+                Ticket4804Resource.class, Ticket2763Resource.class));
+        ProbeConverter probe = new ProbeConverter();
+        ModelConverters chain = ModelConverters.getInstance().copy();
+        chain.addConverter(probe);
+
+        String sequential;
+        String parallel;
+        try (ModelConverters.Binding binding = chain.bind()) {
+            sequential = Json.pretty(new Reader(new OpenAPI()).read(classes));
+            int sequentialCount = probe.count.get();
+            assertTrue(sequentialCount > 0);
+
+            parallel = Json.pretty(new Reader(new SwaggerConfiguration().openAPI(new OpenAPI()).readParallelism(4)).read(classes));
+            assertTrue(probe.count.get() > sequentialCount);
+        }
+        assertEquals(parallel, sequential);
+        assertTrue(sequential.contains("x-probe"));
+    }
+
+    @Test(description = "Concurrent parallel reads of recursive array models produce the sequential definition")
+    public void testParallelReadOfRecursiveArrayModels() throws Exception {
+        Set<Class<?>> classes = new HashSet<>(Arrays.asList(
+                RecursiveArrayResources.TreeResource.class, RecursiveArrayResources.ForestResource.class,
+                RecursiveArrayResources.NodeResource.class, RecursiveArrayResources.GroveResource.class));
+        String sequential = Json.pretty(new Reader(new OpenAPI()).read(classes));
+        assertTrue(sequential.contains("TreeNode"));
+        assertTrue(sequential.contains("Forest"));
+
+        ExecutorService readers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                results.add(readers.submit(() -> Json.pretty(
+                        new Reader(new SwaggerConfiguration().openAPI(new OpenAPI()).readParallelism(4)).read(classes))));
+            }
+            for (Future<String> result : results) {
+                assertEquals(result.get(), sequential);
+            }
+        } finally {
+            readers.shutdown();
+        }
+    }
+
+    static class ProbeConverter implements ModelConverter {
+        final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Schema resolve(AnnotatedType type, ModelConverterContext context, Iterator<ModelConverter> chain) {
+            count.incrementAndGet();
+            Schema schema = chain.hasNext() ? chain.next().resolve(type, context, chain) : null;
+            if (schema != null && schema.get$ref() == null) {
+                schema.addExtension("x-probe", true);
+            }
+            return schema;
+        }
+    }
+
     @Test(description = "Deprecated Method")
     public void testDeprecatedMethod() {
         Reader reader = new Reader(new OpenAPI());
@@ -4843,6 +4967,30 @@ public class ReaderTest {
         ModelConverters.reset();
     }
 
+    @Test(description = "Constraints annotations with groups - Never, read through a context")
+    public void testTicket4804NeverThroughContext() throws Exception {
+        ModelConverters.reset();
+        // the JVM wide chain is created with the default strategy before the context copies it
+        ModelConverters.getInstance(false);
+        SwaggerConfiguration config = new SwaggerConfiguration()
+                .resourceClasses(Collections.singleton(Ticket4804Resource.class.getName()))
+                .groupsValidationStrategy(Configuration.GroupsValidationStrategy.NEVER);
+        OpenApiContext ctx = new JaxrsOpenApiContext<>()
+                .id("ticket4804-never")
+                .openApiConfiguration(config)
+                .init();
+        try {
+            OpenAPI openAPI = ctx.read();
+            assertNull(openAPI.getComponents().getSchemas().get("Cart").getRequired());
+            assertNull(openAPI.getComponents().getSchemas().get("CartDetails").getRequired());
+            ModelConverters.reset();
+            assertEquals(openAPI, new Reader(config).read(Ticket4804Resource.class));
+        } finally {
+            OpenApiContextLocator.getInstance().removeOpenApiContext("ticket4804-never");
+            ModelConverters.reset();
+        }
+    }
+
     @Test(description = "Constraints annotations with groups - NeverNoContext")
     public void testTicket4804NeverNoContext() {
         ModelConverters.reset();
@@ -5608,4 +5756,36 @@ public class ReaderTest {
                 "Items format should come from schema.format"
         );
     }
+
+    @Test(description = "schema resolution is memoized across operations within one read pass")
+    public void testSchemaResolutionScope() {
+        Set<Class<?>> classes = new HashSet<>();
+        classes.add(PetResource.class);
+        classes.add(TagResource.class);
+
+        Reader reader = new Reader(new OpenAPI());
+        OpenAPI openAPI = reader.read(classes);
+        assertNotNull(reader.getSchemaResolutionScope());
+        assertTrue(reader.getSchemaResolutionScope().getHits() > 0);
+        assertTrue(reader.getSchemaResolutionScope().getMisses() > 0);
+
+        Reader uncachedReader = new Reader(new OpenAPI());
+        uncachedReader.read(PetResource.class);
+        OpenAPI uncached = uncachedReader.read(TagResource.class);
+        assertEquals(Json.pretty(openAPI), Json.pretty(uncached));
+    }
+
+    @Test(description = "schema resolution is memoized across the partial readers of a parallel read")
+    public void testSchemaResolutionScopeOfParallelRead() {
+        Set<Class<?>> classes = new LinkedHashSet<>(Arrays.asList(
+                RecursiveArrayResources.TreeResource.class, RecursiveArrayResources.ForestResource.class));
+        Reader sequential = new Reader(new OpenAPI());
+        String expected = Json.pretty(sequential.read(classes));
+
+        Reader parallel = new Reader(new OpenAPI());
+        parallel.setReadExecutor(Runnable::run);
+        assertEquals(Json.pretty(parallel.read(classes)), expected);
+        assertEquals(parallel.getSchemaResolutionScope().getHits(), sequential.getSchemaResolutionScope().getHits());
+        assertEquals(parallel.getSchemaResolutionScope().getMisses(), sequential.getSchemaResolutionScope().getMisses());
+    }
 }
@@ -0,0 +1,169 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.ModelConverter;
+import io.swagger.v3.core.converter.ModelConverterContext;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.jaxrs2.Reader;
+import io.swagger.v3.jaxrs2.resources.ClassPathParentResource;
+import io.swagger.v3.jaxrs2.resources.DuplicatedOperationIdResource;
+import io.swagger.v3.jaxrs2.resources.ResponsesResource;
+import io.swagger.v3.jaxrs2.resources.SimpleMethods;
+import io.swagger.v3.jaxrs2.resources.TagsResource;
+import io.swagger.v3.jaxrs2.resources.TestResource;
+import io.swagger.v3.jaxrs2.resources.Ticket2763Resource;
+import io.swagger.v3.jaxrs2.resources.UploadResource;
+import io.swagger.v3.jaxrs2.resources.model.Pet;
+import io.swagger.v3.oas.integration.ClassContributions;
+import io.swagger.v3.oas.integration.SerializedOpenApi;
+import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
+import io.swagger.v3.oas.integration.api.OpenApiScanner;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+public class IncrementalRebuildTest {
+
+    @Test(description = "it should rebuild the changed classes only, producing the same definition as a full read")
+    public void shouldRebuildChangedClasses() throws Exception {
+        Set<Class<?>> classes = new LinkedHashSet<>(Arrays.asList(
+                TestResource.class, SimpleMethods.class, TagsResource.class, Ticket2763Resource.class,
+                ClassPathParentResource.class));
+        JaxrsOpenApiContext<?> context = context(classes, true);
+        ClassContributions contributions = context.getClassContributions();
+
+        assertEquals(Json.pretty(context.read()), fullRead(classes));
+        assertEquals(contributions.size(), classes.size());
+        assertEquals(contributions.getReuseCount(), 0);
+
+        context.invalidate(Collections.singleton(TagsResource.class));
+        assertEquals(Json.pretty(context.read()), fullRead(classes));
+        assertEquals(contributions.size(), classes.size());
+        assertEquals(contributions.getReuseCount(), classes.size() - 1);
+
+        classes.add(UploadResource.class);
+        classes.remove(SimpleMethods.class);
+        context.invalidate(Collections.<Class<?>>emptySet());
+        assertEquals(Json.pretty(context.read()), fullRead(classes));
+        assertEquals(contributions.size(), classes.size());
+    }
+
+    @Test(description = "it should merge the new output of a class read again, unaffected by changes to the served definition")
+    public void shouldMergeChangedOutput() throws Exception {
+        Set<Class<?>> classes = new LinkedHashSet<>(Arrays.asList(TestResource.class, SimpleMethods.class, TagsResource.class));
+        DescriptionConverter converter = new DescriptionConverter("first");
+        JaxrsOpenApiContext<?> context = context(classes, true, converter);
+        OpenAPI first = context.read();
+        assertEquals(first.getComponents().getSchemas().get("TestBean").getDescription(), "first");
+
+        // the contributions merged again are not those changed in the served definition
+        first.getPaths().values().forEach(pathItem -> pathItem.readOperations().forEach(operation -> operation.setSummary("changed")));
+        first.getComponents().getSchemas().values().forEach(schema -> schema.setTitle("changed"));
+        first.getTags().forEach(tag -> tag.setDescription("changed"));
+
+        converter.description = "second";
+        context.invalidate(Collections.singleton(SimpleMethods.class));
+        OpenAPI rebuilt = context.read();
+        assertEquals(rebuilt.getComponents().getSchemas().get("TestBean").getDescription(), "second");
+        assertEquals(Json.pretty(rebuilt), fullRead(classes, converter));
+        assertEquals(context.getClassContributions().getReuseCount(), classes.size() - 1);
+    }
+
+    @Test(description = "it should read again the classes whose models changed")
+    public void shouldRebuildClassesOfChangedModels() throws Exception {
+        Set<Class<?>> classes = new LinkedHashSet<>(Arrays.asList(TestResource.class, SimpleMethods.class, TagsResource.class));
+        JaxrsOpenApiContext<?> context = context(classes, true);
+        ClassContributions contributions = context.getClassContributions();
+        assertNotNull(context.read().getComponents().getSchemas().get("Pet"));
+
+        context.invalidate(Collections.singleton(Pet.class));
+        assertEquals(Json.pretty(context.read()), fullRead(classes));
+        assertEquals(contributions.getReuseCount(), classes.size() - 1);
+    }
+
+    @Test(description = "it should read again the classes colliding with the classes merged before")
+    public void shouldRebuildCollidingClasses() throws Exception {
+        Set<Class<?>> classes = new LinkedHashSet<>(Arrays.asList(
+                TagsResource.class, ResponsesResource.class, DuplicatedOperationIdResource.class, TestResource.class));
+        JaxrsOpenApiContext<?> context = context(classes, true);
+        assertEquals(Json.pretty(context.read()), fullRead(classes));
+
+        context.invalidate(Collections.singleton(TagsResource.class));
+        assertEquals(Json.pretty(context.read()), fullRead(classes));
+        assertNull(context.getClassContributions().get(ResponsesResource.class, Reader.class));
+    }
+
+    @Test(description = "it should serialize the cached documents again on rebuild")
+    public void shouldSerializeRebuiltDocuments() throws Exception {
+        Set<Class<?>> classes = new LinkedHashSet<>(Arrays.asList(TestResource.class, SimpleMethods.class));
+        JaxrsOpenApiContext<?> context = context(classes, true);
+        context.read();
+        String before = new String(context.readSerialized(SerializedOpenApi.Format.JSON, true).getBytes(), "UTF-8");
+
+        classes.add(TagsResource.class);
+        context.invalidate(Collections.<Class<?>>emptySet());
+        String after = new String(context.readSerialized(SerializedOpenApi.Format.JSON, true).getBytes(), "UTF-8");
+        assertNotEquals(after, before);
+        assertEquals(Json.mapper().readTree(after), Json.mapper().readTree(fullRead(classes)));
+    }
+
+    private static String fullRead(Set<Class<?>> classes, ModelConverter... converters) throws Exception {
+        return Json.pretty(context(classes, false, converters).read());
+    }
+
+    private static JaxrsOpenApiContext<?> context(Set<Class<?>> classes, boolean incremental, ModelConverter... converters) throws Exception {
+        JaxrsOpenApiContext<?> context = new JaxrsOpenApiContext<>();
+        context.setModelConverters(new LinkedHashSet<>(Arrays.asList(converters)));
+        context.setOpenApiConfiguration(new SwaggerConfiguration().openAPI(new OpenAPI()));
+        context.setIncrementalRebuild(incremental);
+        context.setOpenApiScanner(new OpenApiScanner() {
+            @Override
+            public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
+            }
+
+            @Override
+            public Set<Class<?>> classes() {
+                return new LinkedHashSet<>(classes);
+            }
+
+            @Override
+            public Map<String, Object> resources() {
+                return new HashMap<>();
+            }
+        });
+        context.init();
+        return context;
+    }
+
+    static class DescriptionConverter implements ModelConverter {
+        volatile String description;
+
+        DescriptionConverter(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public Schema resolve(AnnotatedType type, ModelConverterContext context, Iterator<ModelConverter> chain) {
+            Schema schema = chain.hasNext() ? chain.next().resolve(type, context, chain) : null;
+            Schema model = context.getDefinedModels().get("TestBean");
+            if (model != null) {
+                model.setDescription(description);
+            }
+            return schema;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.Webhooks;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import javax.ws.rs.ApplicationPath;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures the startup cost of {@link JaxrsAnnotationScanner#classes()} on a synthetic classpath of many jars, each
+ * holding a resource class and a few model classes with fields and methods, against the previous scan collecting
+ * all class, field, method and annotation info.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.swagger.v3.jaxrs2.integration.JaxrsAnnotationScannerBenchmark} from the swagger-jaxrs2
+ * module.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class JaxrsAnnotationScannerBenchmark {
+
+    @Param({"500"})
+    public int jarCount;
+
+    @Param({"10"})
+    public int modelsPerJar;
+
+    private Path directory;
+    private URLClassLoader classLoader;
+    private ClassLoader contextClassLoader;
+
+    @Setup(Level.Trial)
+    public void createClasspath() throws IOException {
+        directory = Files.createTempDirectory("scanner-benchmark");
+        Path sources = Files.createDirectories(directory.resolve("src"));
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        List<String> files = new ArrayList<>();
+        for (int i = 0; i < jarCount; i++) {
+            Path pkg = Files.createDirectories(sources.resolve("bench/jar" + i));
+            files.add(write(pkg.resolve("Resource" + i + ".java"), "package bench.jar" + i + ";\n"
+                    + "@javax.ws.rs.Path(\"/r" + i + "\")\n"
+                    + "public class Resource" + i + " {\n"
+                    + "    @javax.ws.rs.GET @javax.ws.rs.Produces(\"application/json\")\n"
+                    + "    public Model" + i + "_0 get(@javax.ws.rs.QueryParam(\"q\") String q) { return null; }\n"
+                    + "}\n"));
+            for (int m = 0; m < modelsPerJar; m++) {
+                String name = "Model" + i + "_" + m;
+                files.add(write(pkg.resolve(name + ".java"), "package bench.jar" + i + ";\n"
+                        + "@Deprecated\n"
+                        + "public class " + name + " {\n"
+                        + "    @Deprecated private String name;\n"
+                        + "    private int count;\n"
+                        + "    private java.util.List<String> tags;\n"
+                        + "    @Deprecated public String getName() { return name; }\n"
+                        + "    public void setName(String name) { this.name = name; }\n"
+                        + "    public int getCount() { return count; }\n"
+                        + "    public java.util.List<String> getTags() { return tags; }\n"
+                        + "}\n"));
+            }
+        }
+        List<String> arguments = new ArrayList<>();
+        arguments.add("-nowarn");
+        arguments.add("-classpath");
+        arguments.add(System.getProperty("java.class.path"));
+        arguments.add("-d");
+        arguments.add(classes.toString());
+        arguments.addAll(files);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler.run(null, null, null, arguments.toArray(new String[0])) != 0) {
+            throw new IllegalStateException("Failed to compile benchmark classes");
+        }
+
+        URL[] jars = new URL[jarCount];
+        for (int i = 0; i < jarCount; i++) {
+            Path jar = directory.resolve("jar" + i + ".jar");
+            Path pkg = classes.resolve("bench/jar" + i);
+            try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+                 Stream<Path> classFiles = Files.list(pkg)) {
+                for (Path classFile : classFiles.sorted().collect(Collectors.toList())) {
+                    out.putNextEntry(new JarEntry("bench/jar" + i + "/" + classFile.getFileName()));
+                    Files.copy(classFile, out);
+                    out.closeEntry();
+                }
+            }
+            jars[i] = jar.toUri().toURL();
+        }
+        classLoader = new URLClassLoader(jars, getClass().getClassLoader());
+        contextClassLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(classLoader);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteClasspath() throws IOException {
+        Thread.currentThread().setContextClassLoader(contextClassLoader);
+        classLoader.close();
+        FileUtils.deleteDirectory(directory.toFile());
+    }
+
+    @Benchmark
+    public Set<Class<?>> narrowedScan() {
+        JaxrsAnnotationScanner<?> scanner = new JaxrsAnnotationScanner<>();
+        return scanner.classes();
+    }
+
+    @Benchmark
+    public Set<Class<?>> allInfoScan() {
+        Set<Class<?>> classes;
+        try (ScanResult scanResult = new ClassGraph().enableAllInfo().scan()) {
+            classes = new HashSet<>(scanResult.getClassesWithAnnotation(javax.ws.rs.Path.class.getName()).loadClasses());
+            classes.addAll(scanResult.getClassesWithAnnotation(OpenAPIDefinition.class.getName()).loadClasses());
+            classes.addAll(scanResult.getClassesWithAnnotation(Webhooks.class.getName()).loadClasses());
+            classes.addAll(scanResult.getClassesWithAnnotation(ApplicationPath.class.getName()).loadClasses());
+        }
+        return classes;
+    }
+
+    private static String write(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JaxrsAnnotationScannerBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
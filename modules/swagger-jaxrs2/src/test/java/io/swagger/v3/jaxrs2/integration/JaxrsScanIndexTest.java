@@ -0,0 +1,133 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import com.my.project.resources.ResourceInPackageA;
+import com.my.sorted.resources.SortedThing;
+import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import org.my.project.resources.ResourceInPackageB;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class JaxrsScanIndexTest {
+
+    @Test(description = "it should write and read back the index of a classpath")
+    public void shouldWriteAndLoadIndex() throws Exception {
+        File testClasses = new File(ResourceInPackageA.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        JaxrsScanIndex index = JaxrsScanIndex.scan(Collections.singletonList(testClasses));
+        assertTrue(index.getClassNames(JaxrsScanIndex.Kind.PATH).contains(ResourceInPackageA.class.getName()));
+        assertTrue(index.covers("com.my.project"));
+        assertTrue(index.covers(JaxrsScanIndexTest.class.getPackage().getName()));
+        assertFalse(index.covers("com.other"));
+
+        Path directory = Files.createTempDirectory("scan-index");
+        index.writeTo(directory);
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, null)) {
+            JaxrsScanIndex loaded = JaxrsScanIndex.load(classLoader);
+            assertNotNull(loaded);
+            for (JaxrsScanIndex.Kind kind : JaxrsScanIndex.Kind.values()) {
+                assertEquals(loaded.getClassNames(kind), index.getClassNames(kind));
+            }
+            assertEquals(loaded.getPackages(), index.getPackages());
+            assertEquals(loaded.getSources().size(), 1);
+        }
+    }
+
+    @Test(description = "it should load classes from the index if enabled, and scan the classpath if the index is invalid")
+    public void shouldLoadClassesFromIndex() throws Exception {
+        // the index lists a single class of com.my, where the classpath holds two resources
+        Path directory = Files.createTempDirectory("scan-index");
+        Path file = new JaxrsScanIndex()
+                .add(JaxrsScanIndex.Kind.PATH, ResourceInPackageA.class.getName())
+                .add(JaxrsScanIndex.Kind.PATH, ResourceInPackageB.class.getName())
+                .writeTo(directory);
+        SwaggerConfiguration config = new SwaggerConfiguration()
+                .resourcePackages(Collections.singleton("com.my"));
+        Set<Class<?>> scanned = new HashSet<>(Arrays.asList(ResourceInPackageA.class, SortedThing.class));
+
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, contextClassLoader)) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+
+            assertEquals(new JaxrsAnnotationScanner<>().openApiConfiguration(config).classes(), scanned);
+
+            config.useScanIndex(true);
+            assertEquals(new JaxrsAnnotationScanner<>().openApiConfiguration(config).classes(), Collections.singleton(ResourceInPackageA.class));
+            assertEquals(new JaxrsAnnotationScanner<>().useScanIndex(true)
+                    .openApiConfiguration(new SwaggerConfiguration().resourcePackages(Collections.singleton("com.my")))
+                    .classes(), Collections.singleton(ResourceInPackageA.class));
+
+            Files.write(file, "path com.my.project.Missing\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            assertNull(JaxrsScanIndex.load(classLoader));
+            assertEquals(new JaxrsAnnotationScanner<>().openApiConfiguration(config).classes(), scanned);
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    @Test(description = "it should ignore the index if an indexed classpath element changed")
+    public void shouldIgnoreStaleIndex() throws Exception {
+        // the index is written to the indexed classes directory, as the build plugins do
+        Path classes = Files.createTempDirectory("scan-index-classes");
+        Files.write(classes.resolve("Resource.class"), new byte[]{1, 2, 3});
+        new JaxrsScanIndex()
+                .add(JaxrsScanIndex.Kind.PATH, ResourceInPackageA.class.getName())
+                .addInput(classes.toFile())
+                .addInput(new File(classes.toFile(), "missing.jar"))
+                .writeTo(classes);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, null)) {
+            assertNotNull(JaxrsScanIndex.load(classLoader));
+
+            // classes compiled again without writing the index
+            Files.write(classes.resolve("Resource.class"), new byte[]{1, 2, 3, 4});
+            assertNull(JaxrsScanIndex.load(classLoader));
+        }
+    }
+
+    @Test(description = "it should scan the classpath if the index doesn't cover the resource packages")
+    public void shouldScanPackagesNotCoveredByIndex() throws Exception {
+        // an index shipped by a dependency, listing its own resources only
+        Path directory = Files.createTempDirectory("scan-index");
+        new JaxrsScanIndex()
+                .add(JaxrsScanIndex.Kind.PATH, ResourceInPackageB.class.getName())
+                .writeTo(directory);
+
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, contextClassLoader)) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+
+            SwaggerConfiguration config = new SwaggerConfiguration()
+                    .resourcePackages(new HashSet<>(Arrays.asList("com.my.project", "org.my.project")))
+                    .useScanIndex(true);
+            assertEquals(new JaxrsAnnotationScanner<>().openApiConfiguration(config).classes(),
+                    new HashSet<>(Arrays.asList(ResourceInPackageA.class, ResourceInPackageB.class)));
+
+            config.setResourcePackages(Collections.singleton("org.my.project"));
+            assertEquals(new JaxrsAnnotationScanner<>().openApiConfiguration(config).classes(),
+                    Collections.singleton(ResourceInPackageB.class));
+
+            // without resource packages, the index can't be checked
+            Set<Class<?>> all = new JaxrsAnnotationScanner<>().openApiConfiguration(new SwaggerConfiguration().useScanIndex(true)).classes();
+            assertTrue(all.contains(ResourceInPackageA.class));
+            assertTrue(all.contains(SortedThing.class));
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.integration.GenericOpenApiContext;
+import io.swagger.v3.oas.integration.SerializedOpenApi;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the allocation of serving a large, uncached document by serializing it to a string (as endpoints did
+ * before serialized documents were introduced), to a {@link SerializedOpenApi}, or straight to the response output
+ * stream with {@link SerializedOpenApi#write(OpenAPI, ObjectMapper, boolean, boolean, OutputStream)}.
+ *
+ * <p>Allocation per operation is reported by the GC profiler as {@code gc.alloc.rate.norm}; the peak heap needed by a
+ * request follows the same trend, since the buffered paths hold the whole document at once.</p>
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.swagger.v3.jaxrs2.integration.OpenApiOutputBenchmark} from the swagger-jaxrs2 module.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OpenApiOutputBenchmark {
+
+    @Param({"2000"})
+    public int pathCount;
+
+    private OpenAPI openAPI;
+    private ObjectMapper mapper;
+
+    @Setup(Level.Trial)
+    public void createOpenAPI() throws Exception {
+        GenericOpenApiContext<?> context = new GenericOpenApiContext<>();
+        context.init();
+        mapper = context.getOutputJsonMapper();
+
+        Paths paths = new Paths();
+        Components components = new Components();
+        for (int i = 0; i < pathCount; i++) {
+            Schema model = new ObjectSchema()
+                    .description("Model number " + i)
+                    .addProperty("id", new StringSchema().format("uuid"))
+                    .addProperty("name", new StringSchema().maxLength(64))
+                    .addProperty("parent", new Schema().$ref("#/components/schemas/Model" + (i / 2)));
+            components.addSchemas("Model" + i, model);
+            Operation get = new Operation()
+                    .operationId("getModel" + i)
+                    .summary("Returns the model number " + i)
+                    .addParametersItem(new QueryParameter().name("filter").schema(new StringSchema()))
+                    .responses(new ApiResponses().addApiResponse("200", new ApiResponse()
+                            .description("the model")
+                            .content(new Content().addMediaType("application/json",
+                                    new MediaType().schema(new Schema().$ref("#/components/schemas/Model" + i))))));
+            paths.addPathItem("/models/" + i, new PathItem().get(get));
+        }
+        openAPI = new OpenAPI()
+                .info(new Info().title("Benchmark").version("1.0"))
+                .paths(paths)
+                .components(components);
+    }
+
+    @Benchmark
+    public long writeValueAsString() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        String json = mapper.writer(new DefaultPrettyPrinter()).writeValueAsString(openAPI);
+        try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            writer.write(json);
+        }
+        return out.count;
+    }
+
+    @Benchmark
+    public long serializedDocument() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        SerializedOpenApi document = SerializedOpenApi.serialize(openAPI, mapper, SerializedOpenApi.Format.JSON, true, 0);
+        out.write(document.getBytes());
+        return out.count;
+    }
+
+    @Benchmark
+    public long streamed() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        SerializedOpenApi.write(openAPI, mapper, true, false, out);
+        return out.count;
+    }
+
+    @Benchmark
+    public long streamedGzip() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        SerializedOpenApi.write(openAPI, mapper, true, true, out);
+        return out.count;
+    }
+
+    /**
+     * Stands for the response output stream, discarding the bytes written.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OpenApiOutputBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,74 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import io.swagger.v3.oas.integration.GenericOpenApiContext;
+import io.swagger.v3.oas.integration.OpenApiContextLocator;
+import io.swagger.v3.oas.integration.api.OpenApiContext;
+import org.testng.annotations.Test;
+
+import javax.servlet.ServletConfig;
+import javax.servlet.ServletContext;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Enumeration;
+
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class OpenApiServletTest {
+
+    @Test(description = "it should remove the context it built on destroy")
+    public void shouldRemoveCreatedContext() throws Exception {
+        String ctxId = OpenApiContext.OPENAPI_CONTEXT_ID_PREFIX + "servlet.created";
+        OpenApiServlet servlet = new OpenApiServlet();
+        servlet.init(new TestServletConfig("created"));
+        assertNotNull(OpenApiContextLocator.getInstance().getOpenApiContext(ctxId));
+
+        servlet.destroy();
+        assertNull(OpenApiContextLocator.getInstance().getOpenApiContext(ctxId));
+    }
+
+    @Test(description = "it should leave a context registered by someone else on destroy")
+    public void shouldKeepExistingContext() throws Exception {
+        String ctxId = OpenApiContext.OPENAPI_CONTEXT_ID_PREFIX + "servlet.existing";
+        OpenApiContext existing = new GenericOpenApiContext<>().id(ctxId).init();
+        try {
+            OpenApiServlet servlet = new OpenApiServlet();
+            servlet.init(new TestServletConfig("existing"));
+            servlet.destroy();
+            assertSame(OpenApiContextLocator.getInstance().getOpenApiContext(ctxId), existing);
+        } finally {
+            OpenApiContextLocator.getInstance().removeOpenApiContext(ctxId, existing);
+        }
+    }
+
+    private static class TestServletConfig implements ServletConfig {
+        private final String servletName;
+
+        TestServletConfig(String servletName) {
+            this.servletName = servletName;
+        }
+
+        @Override
+        public String getServletName() {
+            return servletName;
+        }
+
+        @Override
+        public ServletContext getServletContext() {
+            // no resources nor init parameters
+            return (ServletContext) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ServletContext.class},
+                    (proxy, method, args) -> null);
+        }
+
+        @Override
+        public String getInitParameter(String name) {
+            return null;
+        }
+
+        @Override
+        public Enumeration<String> getInitParameterNames() {
+            return Collections.emptyEnumeration();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.swagger.v3.jaxrs2.resources;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import java.util.List;
+
+/**
+ * Resources sharing models whose array properties refer to themselves or each other, resolved through the cycle guard
+ * of the model resolver.
+ */
+public class RecursiveArrayResources {
+
+    public static class TreeNode {
+        public String name;
+
+        @ArraySchema(schema = @Schema(implementation = TreeNode.class))
+        public List<TreeNode> children;
+
+        @ArraySchema(schema = @Schema(implementation = Forest.class))
+        public List<Forest> forests;
+    }
+
+    public static class Forest {
+        @ArraySchema(schema = @Schema(implementation = TreeNode.class))
+        public List<TreeNode> roots;
+
+        @ArraySchema(schema = @Schema(implementation = Forest.class))
+        public List<Forest> neighbours;
+    }
+
+    @Path("/trees")
+    @Produces(MediaType.APPLICATION_JSON)
+    public static class TreeResource {
+        @GET
+        public TreeNode getTree() {
+            return null;
+        }
+
+        @POST
+        public Forest plant(TreeNode tree) {
+            return null;
+        }
+    }
+
+    @Path("/forests")
+    @Produces(MediaType.APPLICATION_JSON)
+    public static class ForestResource {
+        @GET
+        public Forest getForest() {
+            return null;
+        }
+
+        @POST
+        public TreeNode clear(Forest forest) {
+            return null;
+        }
+    }
+
+    @Path("/nodes")
+    @Produces(MediaType.APPLICATION_JSON)
+    public static class NodeResource {
+        @GET
+        public List<TreeNode> getNodes() {
+            return null;
+        }
+    }
+
+    @Path("/groves")
+    @Produces(MediaType.APPLICATION_JSON)
+    public static class GroveResource {
+        @GET
+        public List<Forest> getGroves() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.swagger.v3.plugin.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * SHA-256 digest of the inputs of a resolution, used to skip resolving when they didn't change since the last run.
+ *
+ * <p>Classpath directories and archives are fingerprinted by the path, size and modification time of their files
+ * rather than by content, which is enough to detect recompiled classes and updated dependencies without reading
+ * them.</p>
+ */
+final class Fingerprint {
+
+    private final MessageDigest digest;
+
+    Fingerprint() {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    Fingerprint add(String value) {
+        byte[] bytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        digest.update(bytes);
+        return this;
+    }
+
+    /**
+     * Adds the given classpath elements, directories being walked in a stable order.
+     */
+    Fingerprint addClasspath(Collection<String> elements) throws IOException {
+        for (String element : elements) {
+            Path path = new File(element).toPath();
+            add(element);
+            if (Files.isDirectory(path)) {
+                List<Path> files;
+                try (Stream<Path> walk = Files.walk(path)) {
+                    files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+                }
+                for (Path file : files) {
+                    addFile(path.relativize(file).toString().replace(File.separatorChar, '/'), file);
+                }
+            } else if (Files.isRegularFile(path)) {
+                addFile("", path);
+            } else {
+                add("missing");
+            }
+        }
+        return this;
+    }
+
+    private void addFile(String name, Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        add(name);
+        add(Long.toString(attributes.size()));
+        add(Long.toString(attributes.lastModifiedTime().toMillis()));
+    }
+
+    String toHex() {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * @return the code sources of the given classes, which resolve the specification along with the classpath
+     */
+    static List<String> codeSources(Class<?>... classes) {
+        List<String> sources = new ArrayList<>();
+        for (Class<?> cls : classes) {
+            try {
+                String source = new File(cls.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+                if (!sources.contains(source)) {
+                    sources.add(source);
+                }
+            } catch (Exception e) {
+                sources.add(cls.getName());
+            }
+        }
+        return Collections.unmodifiableList(sources);
+    }
+}
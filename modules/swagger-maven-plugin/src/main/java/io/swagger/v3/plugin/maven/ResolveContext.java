@@ -0,0 +1,86 @@
+package io.swagger.v3.plugin.maven;
+
+import java.util.Set;
+
+/**
+ * One of the OpenAPI contexts resolved by an execution of {@link SwaggerMojo}, configured by a {@code <context>}
+ * element of the {@code contexts} parameter. Settings not set here are taken from the plugin configuration, except
+ * the output file name which defaults to the context id.
+ *
+ * @since 2.2.43
+ */
+public class ResolveContext {
+
+    private String contextId;
+    private String outputFileName;
+    private String outputPath;
+    private Set<String> resourcePackages;
+    private Set<String> resourceClasses;
+    private String filterClass;
+    private String openapiFilePath;
+    private String configurationFilePath;
+
+    public String getContextId() {
+        return contextId;
+    }
+
+    public void setContextId(String contextId) {
+        this.contextId = contextId;
+    }
+
+    public String getOutputFileName() {
+        return outputFileName;
+    }
+
+    public void setOutputFileName(String outputFileName) {
+        this.outputFileName = outputFileName;
+    }
+
+    public String getOutputPath() {
+        return outputPath;
+    }
+
+    public void setOutputPath(String outputPath) {
+        this.outputPath = outputPath;
+    }
+
+    public Set<String> getResourcePackages() {
+        return resourcePackages;
+    }
+
+    public void setResourcePackages(Set<String> resourcePackages) {
+        this.resourcePackages = resourcePackages;
+    }
+
+    public Set<String> getResourceClasses() {
+        return resourceClasses;
+    }
+
+    public void setResourceClasses(Set<String> resourceClasses) {
+        this.resourceClasses = resourceClasses;
+    }
+
+    public String getFilterClass() {
+        return filterClass;
+    }
+
+    public void setFilterClass(String filterClass) {
+        this.filterClass = filterClass;
+    }
+
+    public String getOpenapiFilePath() {
+        return openapiFilePath;
+    }
+
+    public void setOpenapiFilePath(String openapiFilePath) {
+        this.openapiFilePath = openapiFilePath;
+    }
+
+    public String getConfigurationFilePath() {
+        return configurationFilePath;
+    }
+
+    public void setConfigurationFilePath(String configurationFilePath) {
+        this.configurationFilePath = configurationFilePath;
+    }
+}
@@ -1,18 +1,25 @@
 package io.swagger.v3.plugin.maven;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.filter.OpenAPISpecFilter;
 import io.swagger.v3.core.filter.SpecFilter;
 import io.swagger.v3.core.util.Configuration;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.jaxrs2.Reader;
 import io.swagger.v3.jaxrs2.integration.JaxrsOpenApiContextBuilder;
+import io.swagger.v3.jaxrs2.integration.JaxrsScanIndex;
+import io.swagger.v3.jaxrs2.integration.XmlWebOpenApiContext;
 import io.swagger.v3.oas.integration.GenericOpenApiContextBuilder;
 import io.swagger.v3.oas.integration.OpenApiConfigurationException;
 import io.swagger.v3.oas.integration.SwaggerConfiguration;
 import io.swagger.v3.oas.integration.api.OpenApiContext;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -27,10 +34,17 @@ import org.codehaus.plexus.util.StringUtils;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 
 import static java.lang.String.format;
@@ -63,7 +77,179 @@ public class SwaggerMojo extends AbstractMojo {
         if (StringUtils.isBlank(encoding)) {
             encoding = projectEncoding;
         }
+        classpathFingerprint = Boolean.TRUE.equals(skipIfUpToDate) ? classpathFingerprint() : null;
 
+        if (contexts == null || contexts.isEmpty()) {
+            config = readConfig(configurationFilePath, openapiFilePath);
+            resolve(contextId, config, outputPath, outputFileName, false);
+        } else {
+            resolveContexts();
+        }
+
+        if (Boolean.TRUE.equals(writeScanIndex)) {
+            try {
+                writeScanIndex();
+            } catch (IOException e) {
+                getLog().error( "Error writing scan index" , e);
+                throw new MojoExecutionException("Failed to write scan index", e);
+            }
+        }
+    }
+
+    /**
+     * Resolves the configured {@link ResolveContext contexts}, up to {@code parallelism} at the same time. The
+     * configurations are all read before resolving any context, and each context is created anew rather than looked up
+     * in the {@link io.swagger.v3.oas.integration.OpenApiContextLocator}, with its own model converters, so that
+     * contexts resolved at the same time don't share state and produce the same output as when resolved one by one.
+     * These contexts are not registered in the locator either, which is left unchanged.
+     */
+    private void resolveContexts() throws MojoExecutionException, MojoFailureException {
+        Map<String, SwaggerConfiguration> configs = new LinkedHashMap<>();
+        Set<Path> outputs = new HashSet<>();
+        for (ResolveContext context : contexts) {
+            String id = context.getContextId();
+            if (StringUtils.isBlank(id)) {
+                throw new MojoFailureException("contextId is required for each context");
+            }
+            if (configs.containsKey(id)) {
+                throw new MojoFailureException(format("duplicated contextId '%s'", id));
+            }
+            if (!outputs.add(Paths.get(outputPath(context), outputFileName(context)).toAbsolutePath().normalize())) {
+                throw new MojoFailureException(format("context '%s' has the same output as a previous context", id));
+            }
+            SwaggerConfiguration contextConfig = readConfig(
+                    StringUtils.isNotBlank(context.getConfigurationFilePath()) ? context.getConfigurationFilePath() : configurationFilePath,
+                    StringUtils.isNotBlank(context.getOpenapiFilePath()) ? context.getOpenapiFilePath() : openapiFilePath);
+            if (isCollectionNotBlank(context.getResourcePackages())) {
+                contextConfig.resourcePackages(context.getResourcePackages());
+            }
+            if (isCollectionNotBlank(context.getResourceClasses())) {
+                contextConfig.resourceClasses(context.getResourceClasses());
+            }
+            if (StringUtils.isNotBlank(context.getFilterClass())) {
+                contextConfig.filterClass(context.getFilterClass());
+            }
+            configs.put(id, contextConfig);
+        }
+        contextConfigs = configs;
+
+        int threads = Math.max(1, Math.min(contexts.size(),
+                parallelism == null ? Runtime.getRuntime().availableProcessors() : parallelism));
+        long start = System.nanoTime();
+        if (threads == 1) {
+            for (ResolveContext context : contexts) {
+                resolve(context.getContextId(), configs.get(context.getContextId()), outputPath(context), outputFileName(context), true);
+            }
+        } else {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            AtomicInteger threadCount = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "swagger-resolve-" + threadCount.incrementAndGet());
+                thread.setContextClassLoader(classLoader);
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                List<Future<?>> futures = new ArrayList<>(contexts.size());
+                for (ResolveContext context : contexts) {
+                    futures.add(executor.submit(() -> {
+                        resolve(context.getContextId(), configs.get(context.getContextId()), outputPath(context), outputFileName(context), true);
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof MojoFailureException) {
+                    throw (MojoFailureException) e.getCause();
+                }
+                if (e.getCause() instanceof MojoExecutionException) {
+                    throw (MojoExecutionException) e.getCause();
+                }
+                throw new MojoExecutionException(e.getCause().getMessage(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MojoExecutionException("Interrupted while resolving API specifications", e);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        getLog().info(format("Resolved %d contexts in %d ms using %d threads", contexts.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), threads));
+    }
+
+    /**
+     * @return the fingerprint of the runtime classpath the classes are scanned in and of the plugin classes resolving the specification, or null
+     * if the classpath can't be fingerprinted, in which case contexts are always resolved
+     */
+    private String classpathFingerprint() {
+        if (project == null) {
+            return null;
+        }
+        try {
+            return new Fingerprint()
+                    .addClasspath(project.getRuntimeClasspathElements())
+                    .addClasspath(Fingerprint.codeSources(SwaggerMojo.class, Reader.class, ModelConverters.class))
+                    .toHex();
+        } catch (DependencyResolutionRequiredException | IOException e) {
+            getLog().debug("Could not fingerprint the classpath, resolving the specification anyway", e);
+            return null;
+        }
+    }
+
+    private Path fingerprintFile(String outputPath, String outputFileName) {
+        String directory = StringUtils.isNotBlank(fingerprintDirectory) ? fingerprintDirectory : outputPath;
+        String output = new Fingerprint().add(Paths.get(outputPath).toAbsolutePath().normalize().toString()).toHex();
+        return Paths.get(directory, outputFileName + "-" + output.substring(0, 12) + ".fingerprint");
+    }
+
+    private String fingerprint(SwaggerConfiguration config, String outputPath, String outputFileName) throws JsonProcessingException {
+        return new Fingerprint()
+                .add(classpathFingerprint)
+                .add(Json.mapper().writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS).writeValueAsString(config))
+                .add(outputFormat.name())
+                .add(encoding)
+                .add(Paths.get(outputPath).toAbsolutePath().normalize().toString())
+                .add(outputFileName)
+                .toHex();
+    }
+
+    private boolean isUpToDate(Path fingerprintFile, String fingerprint, List<Path> outputs) throws IOException {
+        if (!Files.isRegularFile(fingerprintFile)) {
+            return false;
+        }
+        for (Path output : outputs) {
+            if (!Files.isRegularFile(output)) {
+                return false;
+            }
+        }
+        return fingerprint.equals(new String(Files.readAllBytes(fingerprintFile), StandardCharsets.UTF_8).trim());
+    }
+
+    /**
+     * Writes the given content, unless the file already has it, so that the file isn't seen as changed by the goals
+     * depending on it.
+     *
+     * @return true if the file has been written
+     */
+    private static boolean writeIfChanged(Path path, byte[] content) throws IOException {
+        if (Files.isRegularFile(path) && Files.size(path) == content.length && Arrays.equals(Files.readAllBytes(path), content)) {
+            return false;
+        }
+        Files.write(path, content);
+        return true;
+    }
+
+    private String outputPath(ResolveContext context) {
+        return StringUtils.isNotBlank(context.getOutputPath()) ? context.getOutputPath() : outputPath;
+    }
+
+    private String outputFileName(ResolveContext context) {
+        return StringUtils.isNotBlank(context.getOutputFileName()) ? context.getOutputFileName() : context.getContextId();
+    }
+
+    private SwaggerConfiguration readConfig(String configurationFilePath, String openapiFilePath) throws MojoFailureException {
         // read swagger configuration if one was provided
         Optional<SwaggerConfiguration> swaggerConfiguration =
                 readStructuredDataFromFile(configurationFilePath, SwaggerConfiguration.class, "configurationFilePath");
@@ -72,17 +258,54 @@ public class SwaggerMojo extends AbstractMojo {
         Optional<OpenAPI> openAPIInput =
                 readStructuredDataFromFile(openapiFilePath, OpenAPI.class, "openapiFilePath");
 
-        config = mergeConfig(openAPIInput.orElse(null), swaggerConfiguration.orElse(new SwaggerConfiguration()));
+        SwaggerConfiguration config = mergeConfig(openAPIInput.orElse(null), swaggerConfiguration.orElse(new SwaggerConfiguration()));
 
         setDefaultsIfMissing(config);
+        return config;
+    }
 
+    /**
+     * Resolves the specification of a context and writes it to the output files, logging the time taken.
+     *
+     * @param isolated whether to create a new, unregistered context rather than reusing the context with the same id
+     */
+    private void resolve(String contextId, SwaggerConfiguration config, String outputPath, String outputFileName, boolean isolated)
+            throws MojoExecutionException, MojoFailureException {
+        long start = System.nanoTime();
         try {
-            GenericOpenApiContextBuilder builder = new JaxrsOpenApiContextBuilder()
-                    .openApiConfiguration(config);
-            if (StringUtils.isNotBlank(contextId)) {
-                builder.ctxId(contextId);
+            List<Path> outputs = new ArrayList<>(2);
+            if (Format.JSON.equals(outputFormat) || Format.JSONANDYAML.equals(outputFormat)) {
+                outputs.add(Paths.get(outputPath, outputFileName + ".json"));
+            }
+            if (Format.YAML.equals(outputFormat) || Format.JSONANDYAML.equals(outputFormat)) {
+                outputs.add(Paths.get(outputPath, outputFileName + ".yaml"));
+            }
+            Path fingerprintFile = null;
+            String fingerprint = null;
+            if (classpathFingerprint != null) {
+                fingerprintFile = fingerprintFile(outputPath, outputFileName);
+                fingerprint = fingerprint(config, outputPath, outputFileName);
+                if (isUpToDate(fingerprintFile, fingerprint, outputs)) {
+                    upToDateContexts.add(contextId);
+                    getLog().info(format("OpenAPI specification of context '%s' is up to date", contextId));
+                    return;
+                }
+            }
+
+            OpenApiContext context;
+            if (isolated) {
+                context = new IsolatedOpenApiContext()
+                        .openApiConfiguration(config)
+                        .id(contextId)
+                        .init();
+            } else {
+                GenericOpenApiContextBuilder builder = new JaxrsOpenApiContextBuilder()
+                        .openApiConfiguration(config);
+                if (StringUtils.isNotBlank(contextId)) {
+                    builder.ctxId(contextId);
+                }
+                context = builder.buildContext(true);
             }
-            OpenApiContext context = builder.buildContext(true);
             OpenAPI openAPI = context.read();
 
             if (StringUtils.isNotBlank(config.getFilterClass())) {
@@ -121,13 +344,17 @@ public class SwaggerMojo extends AbstractMojo {
 
             if (openapiJson != null) {
                 path = Paths.get(outputPath, outputFileName + ".json");
-                Files.write(path, openapiJson.getBytes(Charset.forName(encoding)));
-                getLog().info( "JSON output: " + path.toFile().getCanonicalPath());
+                boolean written = writeIfChanged(path, openapiJson.getBytes(Charset.forName(encoding)));
+                getLog().info( "JSON output: " + path.toFile().getCanonicalPath() + (written ? "" : " (unchanged)"));
             }
             if (openapiYaml != null) {
                 path = Paths.get(outputPath, outputFileName + ".yaml");
-                Files.write(path, openapiYaml.getBytes(Charset.forName(encoding)));
-                getLog().info( "YAML output: " + path.toFile().getCanonicalPath());
+                boolean written = writeIfChanged(path, openapiYaml.getBytes(Charset.forName(encoding)));
+                getLog().info( "YAML output: " + path.toFile().getCanonicalPath() + (written ? "" : " (unchanged)"));
+            }
+            if (fingerprintFile != null) {
+                Files.createDirectories(fingerprintFile.toAbsolutePath().getParent());
+                Files.write(fingerprintFile, fingerprint.getBytes(StandardCharsets.UTF_8));
             }
 
         } catch (OpenApiConfigurationException e) {
@@ -136,10 +363,38 @@ public class SwaggerMojo extends AbstractMojo {
         } catch (IOException e) {
             getLog().error( "Error writing API specification" , e);
             throw new MojoExecutionException("Failed to write API definition", e);
+        } catch (MojoExecutionException e) {
+            throw e;
         } catch (Exception e) {
             getLog().error( "Error resolving API specification" , e);
             throw new MojoExecutionException(e.getMessage(), e);
         }
+        getLog().info(format("Resolved context '%s' in %d ms", contextId,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+    }
+
+    private void writeScanIndex() throws IOException {
+        if (StringUtils.isBlank(scanIndexDirectory)) {
+            getLog().warn("No scan index directory set, skipping scan index");
+            return;
+        }
+        List<String> classpath = new ArrayList<>();
+        if (project != null) {
+            try {
+                for (String element : project.getRuntimeClasspathElements()) {
+                    if (new File(element).exists()) {
+                        classpath.add(element);
+                    }
+                }
+            } catch (DependencyResolutionRequiredException e) {
+                getLog().debug("Runtime classpath not resolved, indexing the plugin class loader", e);
+            }
+        }
+        JaxrsScanIndex index = classpath.isEmpty() ?
+                JaxrsScanIndex.scan(Thread.currentThread().getContextClassLoader()) :
+                JaxrsScanIndex.scan(classpath);
+        Path file = index.writeTo(Paths.get(scanIndexDirectory));
+        getLog().info( "Scan index: " + file.toFile().getCanonicalPath());
     }
 
     private void setDefaultsIfMissing(SwaggerConfiguration config) {
@@ -499,8 +754,63 @@ public class SwaggerMojo extends AbstractMojo {
     @Parameter(property = "resolve.openAPIVersion")
     private String openAPIVersion;
 
+    /**
+     * Writes an index of the annotated resource classes found on the runtime classpath, which the runtime scanner
+     * uses instead of scanning the classpath, see io.swagger.v3.jaxrs2.integration.JaxrsScanIndex
+     *
+     * @since 2.2.43
+     */
+    @Parameter(property = "resolve.writeScanIndex")
+    private Boolean writeScanIndex;
+
+    /**
+     * @since 2.2.43
+     */
+    @Parameter(property = "resolve.scanIndexDirectory", defaultValue = "${project.build.outputDirectory}")
+    private String scanIndexDirectory;
+
+    /**
+     * OpenAPI contexts to resolve instead of the single context configured by the other parameters, each writing its
+     * own output files; settings not set on a context are taken from the other parameters.
+     *
+     * @since 2.2.43
+     */
+    @Parameter
+    private List<ResolveContext> contexts;
+
+    /**
+     * Maximum number of {@code contexts} resolved at the same time, defaults to the number of available processors;
+     * 1 resolves them one by one.
+     *
+     * @since 2.2.43
+     */
+    @Parameter(property = "resolve.parallelism")
+    private Integer parallelism;
+
+    /**
+     * Skips resolving a context when its inputs (runtime classpath, configuration, input files and output settings)
+     * didn't change since its last resolution and its output files exist; opt-in, as a change the fingerprint doesn't
+     * cover, e.g. a system property read by a model converter, would leave a stale specification.
+     *
+     * @since 2.2.43
+     */
+    @Parameter(property = "resolve.skipIfUpToDate", defaultValue = "false")
+    private Boolean skipIfUpToDate = Boolean.FALSE;
+
+    /**
+     * Directory the fingerprints of the inputs of the resolved contexts are written to, defaults to the output path
+     * if blank.
+     *
+     * @since 2.2.43
+     */
+    @Parameter(property = "resolve.fingerprintDirectory", defaultValue = "${project.build.directory}/swagger-maven-plugin")
+    private String fingerprintDirectory;
+
     private String projectEncoding = "UTF-8";
+    private String classpathFingerprint;
+    private final List<String> upToDateContexts = Collections.synchronizedList(new ArrayList<>());
     private SwaggerConfiguration config;
+    private Map<String, SwaggerConfiguration> contextConfigs = Collections.emptyMap();
 
     public String getOutputPath() {
         return outputPath;
@@ -521,4 +831,33 @@ public class SwaggerMojo extends AbstractMojo {
     SwaggerConfiguration getInternalConfiguration() {
         return config;
     }
+
+    SwaggerConfiguration getInternalConfiguration(String contextId) {
+        return contextConfigs.get(contextId);
+    }
+
+    List<ResolveContext> getContexts() {
+        return contexts;
+    }
+
+    void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    void setFingerprintDirectory(String fingerprintDirectory) {
+        this.fingerprintDirectory = fingerprintDirectory;
+    }
+
+    List<String> getUpToDateContexts() {
+        return upToDateContexts;
+    }
+
+    /**
+     * Context which is not registered in the {@link io.swagger.v3.oas.integration.OpenApiContextLocator} on init.
+     */
+    private static class IsolatedOpenApiContext extends XmlWebOpenApiContext<IsolatedOpenApiContext> {
+        @Override
+        protected void register() {
+        }
+    }
 }
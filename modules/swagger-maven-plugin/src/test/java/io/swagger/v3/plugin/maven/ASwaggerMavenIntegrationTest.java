@@ -17,6 +17,8 @@ import java.util.function.Consumer;
 
 public abstract class ASwaggerMavenIntegrationTest extends BetterAbstractMojoTestCase {
 
+    static final String FINGERPRINT_DIRECTORY = "target/generatedtest/fingerprints";
+
     protected void setUp() throws Exception {
         // required for mojo lookups to work
         super.setUp();
@@ -38,6 +40,7 @@ public abstract class ASwaggerMavenIntegrationTest extends BetterAbstractMojoTes
         // set random context id to not mix states with multiple tests
         swaggerMojo.setContextId(RandomStringUtils.randomAscii(32));
         assertNotNull(swaggerMojo);
+        swaggerMojo.setFingerprintDirectory(FINGERPRINT_DIRECTORY);
 
         swaggerMojo.execute();
 
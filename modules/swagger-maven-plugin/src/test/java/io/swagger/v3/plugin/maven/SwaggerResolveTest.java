@@ -1,10 +1,26 @@
 package io.swagger.v3.plugin.maven;
 
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.jaxrs2.integration.JaxrsScanIndex;
+import io.swagger.v3.oas.integration.GenericOpenApiContext;
+import io.swagger.v3.oas.integration.OpenApiContextLocator;
+import io.swagger.v3.oas.integration.api.OpenApiContext;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.plugin.maven.petstore.petstore.PetResource;
+import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 public class SwaggerResolveTest extends ASwaggerMavenIntegrationTest {
 
@@ -55,6 +71,106 @@ public class SwaggerResolveTest extends ASwaggerMavenIntegrationTest {
         checkOutput(runTest(pom));
     }
 
+    public void testResolveWithScanIndex() throws Exception {
+        File pom = getTestFile("src/test/resources/pom.resolveToFileWithScanIndex.xml");
+        SwaggerMojo mojo = runTest(pom);
+        checkOutput(mojo);
+
+        File indexDirectory = new File(new File(mojo.getOutputPath()), "scanindex");
+        File indexFile = new File(indexDirectory, JaxrsScanIndex.LOCATION);
+        assertTrue(indexFile.isFile());
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{indexDirectory.toURI().toURL()}, null)) {
+            JaxrsScanIndex index = JaxrsScanIndex.load(classLoader);
+            assertNotNull(index);
+            assertTrue(index.getClassNames(JaxrsScanIndex.Kind.PATH).contains(PetResource.class.getName()));
+        }
+    }
+
+    public void testResolveUpToDate() throws Exception {
+        File pom = getTestFile("src/test/resources/pom.resolveUpToDate.xml");
+        SwaggerMojo mojo = runTest(pom);
+        File json = new File(mojo.getOutputPath(), "openapi.json");
+        File yaml = new File(mojo.getOutputPath(), "openapi.yaml");
+        long lastModified = 1_000_000_000_000L;
+        assertTrue(json.setLastModified(lastModified));
+        assertTrue(yaml.setLastModified(lastModified));
+
+        // same inputs: not resolved again
+        mojo = runTest(pom);
+        assertEquals(1, mojo.getUpToDateContexts().size());
+        assertEquals(lastModified, json.lastModified());
+
+        // changed inputs, same output: resolved again, output files not written
+        File mojoClass = new File(SwaggerMojo.class.getResource("SwaggerMojo.class").toURI());
+        long mojoLastModified = mojoClass.lastModified();
+        try {
+            assertTrue(mojoClass.setLastModified(mojoLastModified + 10_000));
+            mojo = runTest(pom);
+        } finally {
+            mojoClass.setLastModified(mojoLastModified);
+        }
+        assertTrue(mojo.getUpToDateContexts().isEmpty());
+        assertEquals(lastModified, json.lastModified());
+        assertEquals(lastModified, yaml.lastModified());
+
+        // missing output: resolved again
+        assertTrue(yaml.delete());
+        mojo = runTest(pom);
+        assertTrue(mojo.getUpToDateContexts().isEmpty());
+        assertTrue(yaml.isFile());
+    }
+
+    public void testResolveContexts() throws Exception {
+        File pom = getTestFile("src/test/resources/pom.resolveContexts.xml");
+        Map<String, byte[]> sequential = resolveContexts(pom, 1);
+        assertEquals(3, sequential.size());
+        Map<String, byte[]> parallel = resolveContexts(pom, 3);
+        assertEquals(sequential.keySet(), parallel.keySet());
+        for (String file : sequential.keySet()) {
+            assertTrue(file, Arrays.equals(sequential.get(file), parallel.get(file)));
+        }
+
+        OpenAPI pets = Json.mapper().readValue(sequential.get("pets.json"), OpenAPI.class);
+        OpenAPI security = Json.mapper().readValue(sequential.get("security.json"), OpenAPI.class);
+        OpenAPI petstore = Json.mapper().readValue(sequential.get("openapi.json"), OpenAPI.class);
+        validateOpenApiContent(petstore);
+        assertTrue(pets.getPaths().containsKey("/pet"));
+        assertFalse(pets.getPaths().containsKey("/security"));
+        assertEquals(Collections.singleton("/security"), security.getPaths().keySet());
+        assertTrue(petstore.getPaths().keySet().containsAll(pets.getPaths().keySet()));
+        assertTrue(petstore.getPaths().keySet().containsAll(security.getPaths().keySet()));
+    }
+
+    public void testResolveContextsLeavesLocatorUnchanged() throws Exception {
+        OpenApiContextLocator locator = OpenApiContextLocator.getInstance();
+        OpenApiContext pets = new GenericOpenApiContext<>().id("pets").init();
+        try {
+            Set<String> ids = new HashSet<>(locator.getOpenApiContextIds());
+            resolveContexts(getTestFile("src/test/resources/pom.resolveContexts.xml"), 3);
+            assertEquals(ids, locator.getOpenApiContextIds());
+            assertSame(pets, locator.getOpenApiContext("pets"));
+        } finally {
+            locator.removeOpenApiContext("pets", pets);
+        }
+    }
+
+    private Map<String, byte[]> resolveContexts(File pom, int parallelism) throws Exception {
+        SwaggerMojo mojo = (SwaggerMojo) lookupConfiguredMojo(pom, "resolve");
+        mojo.setParallelism(parallelism);
+        mojo.setFingerprintDirectory(FINGERPRINT_DIRECTORY);
+        File outputPath = new File(mojo.getOutputPath());
+        FileUtils.deleteDirectory(outputPath);
+        mojo.execute();
+
+        Map<String, byte[]> files = new TreeMap<>();
+        for (ResolveContext context : mojo.getContexts()) {
+            assertNotNull(mojo.getInternalConfiguration(context.getContextId()));
+            String name = (context.getOutputFileName() == null ? context.getContextId() : context.getOutputFileName()) + ".json";
+            files.put(name, Files.readAllBytes(new File(outputPath, name).toPath()));
+        }
+        return files;
+    }
+
     private void checkOutput(SwaggerMojo mojo) {
         assertNull(mojo.getConfigurationFilePath());
     }
@@ -0,0 +1,281 @@
+package io.swagger.v3.oas.models;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+/**
+ * Structural deep copy of swagger-models objects.
+ *
+ * <p>Objects are copied field by field, walking the class hierarchy up to the first JDK class, so that
+ * subclasses (e.g. all {@link io.swagger.v3.oas.models.media.Schema} types) are copied with their concrete type.
+ * Model classes extending a JDK map (e.g. {@link Paths}, {@link io.swagger.v3.oas.models.media.Content}) get their
+ * entries copied as well. Collections, maps and arrays are copied recursively; objects already copied in the same
+ * invocation are reused, so shared references and cycles are preserved in the copy.</p>
+ *
+ * <p>Values which are neither models, collections, maps nor arrays (strings, numbers, enums, and arbitrary objects
+ * e.g. used as examples) are shared between source and copy. Transient fields are not copied.</p>
+ *
+ * @since 2.2.43
+ */
+public final class DeepCopier {
+
+    private static final String MODELS_PACKAGE = "io.swagger.v3.oas.models.";
+
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            Class<?> cls = type;
+            while (cls != null && !isJdkClass(cls)) {
+                for (Field field : cls.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+                cls = cls.getSuperclass();
+            }
+            return fields.toArray(new Field[0]);
+        }
+    };
+
+    private static final ClassValue<Constructor<?>> CONSTRUCTORS = new ClassValue<Constructor<?>>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type) {
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return constructor;
+            } catch (NoSuchMethodException | RuntimeException e) {
+                return null;
+            }
+        }
+    };
+
+    private final Map<Object, Object> copies = new IdentityHashMap<>();
+    private final UnaryOperator<Object> postProcessor;
+
+    private DeepCopier(UnaryOperator<Object> postProcessor) {
+        this.postProcessor = postProcessor;
+    }
+
+    /**
+     * Returns a deep copy of the given object; the object itself is copied field by field even if it is not a
+     * swagger-models class, e.g. a configuration object holding models.
+     *
+     * @param source the object to copy
+     * @param <T>    the type of the object
+     * @return the copy, or null if source is null
+     */
+    public static <T> T copy(T source) {
+        return copy(source, null);
+    }
+
+    /**
+     * Returns a deep copy of the given object, applying the given post processor to each copied model object once its
+     * fields have been copied; the post processor can return a replacement for the copied object, e.g. to change
+     * its concrete type.
+     *
+     * @param source        the object to copy
+     * @param postProcessor the post processor, or null
+     * @param <T>           the type of the object
+     * @return the copy, or null if source is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T copy(T source, UnaryOperator<Object> postProcessor) {
+        if (source == null) {
+            return null;
+        }
+        return (T) new DeepCopier(postProcessor).copyValue(source, true);
+    }
+
+    private Object copyValue(Object value, boolean root) {
+        if (value == null || isImmutable(value)) {
+            return value;
+        }
+        Object existing = copies.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        Class<?> cls = value.getClass();
+        if (isModelClass(cls)) {
+            return copyObject(value);
+        }
+        if (value instanceof Map) {
+            return copyMap((Map<?, ?>) value);
+        }
+        if (value instanceof Collection) {
+            return copyCollection((Collection<?>) value);
+        }
+        if (cls.isArray()) {
+            return copyArray(value);
+        }
+        return root ? copyObject(value) : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object copyObject(Object source) {
+        Class<?> cls = source.getClass();
+        Constructor<?> constructor = CONSTRUCTORS.get(cls);
+        if (constructor == null) {
+            throw new IllegalArgumentException("Cannot copy instance of " + cls.getName() + ": no default constructor");
+        }
+        Object target;
+        try {
+            target = constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot copy instance of " + cls.getName(), e);
+        }
+        copies.put(source, target);
+        if (source instanceof Map) {
+            Map<Object, Object> targetMap = (Map<Object, Object>) target;
+            targetMap.clear();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) source).entrySet()) {
+                targetMap.put(copyValue(entry.getKey(), false), copyValue(entry.getValue(), false));
+            }
+        } else if (source instanceof Collection) {
+            Collection<Object> targetCollection = (Collection<Object>) target;
+            targetCollection.clear();
+            for (Object item : (Collection<?>) source) {
+                targetCollection.add(copyValue(item, false));
+            }
+        }
+        try {
+            for (Field field : FIELDS.get(cls)) {
+                field.set(target, copyValue(field.get(source), false));
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot copy instance of " + cls.getName(), e);
+        }
+        if (postProcessor != null) {
+            Object processed = postProcessor.apply(target);
+            if (processed != target) {
+                copies.put(source, processed);
+            }
+            return processed;
+        }
+        return target;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Map<Object, Object> copyMap(Map<?, ?> source) {
+        Map<Object, Object> target;
+        if (source instanceof SortedMap) {
+            target = new TreeMap<>(((SortedMap) source).comparator());
+        } else {
+            target = (Map<Object, Object>) newJdkInstance(source.getClass());
+            if (target == null) {
+                target = new LinkedHashMap<>();
+            }
+        }
+        copies.put(source, target);
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            target.put(copyValue(entry.getKey(), false), copyValue(entry.getValue(), false));
+        }
+        return target;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Collection<Object> copyCollection(Collection<?> source) {
+        Collection<Object> target;
+        if (source instanceof SortedSet) {
+            target = new TreeSet<>(((SortedSet) source).comparator());
+        } else {
+            target = (Collection<Object>) newJdkInstance(source.getClass());
+            if (target == null) {
+                target = source instanceof Set ? new LinkedHashSet<>() : new ArrayList<>();
+            }
+        }
+        copies.put(source, target);
+        for (Object item : source) {
+            target.add(copyValue(item, false));
+        }
+        return target;
+    }
+
+    private Object copyArray(Object source) {
+        int length = Array.getLength(source);
+        Object target = Array.newInstance(source.getClass().getComponentType(), length);
+        copies.put(source, target);
+        if (source.getClass().getComponentType().isPrimitive()) {
+            System.arraycopy(source, 0, target, 0, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                Array.set(target, i, copyValue(Array.get(source, i), false));
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Instantiates public JDK collection types (e.g. ArrayList, HashSet) through their default constructor;
+     * returns null for other types, e.g. unmodifiable or fixed size views.
+     */
+    private static Object newJdkInstance(Class<?> cls) {
+        if (!cls.getName().startsWith("java.util.") || !Modifier.isPublic(cls.getModifiers())) {
+            return null;
+        }
+        Constructor<?> constructor = CONSTRUCTORS.get(cls);
+        if (constructor == null || !Modifier.isPublic(constructor.getModifiers())) {
+            return null;
+        }
+        try {
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static boolean isModelClass(Class<?> cls) {
+        Class<?> current = cls;
+        while (current != null && !isJdkClass(current)) {
+            if (current.getName().startsWith(MODELS_PACKAGE)) {
+                return true;
+            }
+            current = current.getSuperclass();
+        }
+        return false;
+    }
+
+    private static boolean isJdkClass(Class<?> cls) {
+        String name = cls.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.") || name.startsWith("sun.");
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value instanceof String ||
+                value instanceof Boolean ||
+                value instanceof Character ||
+                value instanceof Enum ||
+                value instanceof Integer ||
+                value instanceof Long ||
+                value instanceof Short ||
+                value instanceof Byte ||
+                value instanceof Double ||
+                value instanceof Float ||
+                value instanceof BigDecimal ||
+                value instanceof BigInteger ||
+                value instanceof UUID ||
+                value instanceof Class;
+    }
+}
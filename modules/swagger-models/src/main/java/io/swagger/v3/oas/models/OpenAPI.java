@@ -323,6 +323,17 @@ public class OpenAPI {
     }
 
 
+    /**
+     * Returns a deep copy of this definition, copying fields directly rather than serializing it.
+     *
+     * @return the copy
+     * @see DeepCopier
+     * @since 2.2.43
+     */
+    public OpenAPI copy() {
+        return DeepCopier.copy(this);
+    }
+
     @Override
     public boolean equals(java.lang.Object o) {
         if (this == o) {
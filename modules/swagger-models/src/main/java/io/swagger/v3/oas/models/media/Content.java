@@ -1,5 +1,7 @@
 package io.swagger.v3.oas.models.media;
 
+import io.swagger.v3.oas.models.DeepCopier;
+
 import java.util.LinkedHashMap;
 import java.util.Objects;
 
@@ -18,6 +20,17 @@ public class Content extends LinkedHashMap<String, MediaType> {
         return this;
     }
 
+    /**
+     * Returns a deep copy of this content, copying fields directly rather than serializing it.
+     *
+     * @return the copy
+     * @see DeepCopier
+     * @since 2.2.43
+     */
+    public Content copy() {
+        return DeepCopier.copy(this);
+    }
+
     @Override
     public boolean equals(java.lang.Object o) {
         if (this == o) {